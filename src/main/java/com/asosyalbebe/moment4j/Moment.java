@@ -1,12 +1,26 @@
 package com.asosyalbebe.moment4j;
 
 import com.asosyalbebe.moment4j.fault.MomentException;
+import com.asosyalbebe.moment4j.format.CompiledPattern;
+import com.asosyalbebe.moment4j.format.RelativeTime;
+import com.asosyalbebe.moment4j.metrics.Factory;
+import com.asosyalbebe.moment4j.metrics.MetricsListener;
+import com.asosyalbebe.moment4j.metrics.MomentMetrics;
+import com.asosyalbebe.moment4j.metrics.Operation;
+import com.asosyalbebe.moment4j.metrics.TimingListener;
+import com.asosyalbebe.moment4j.util.CivilCalendar;
 
 import java.io.Serializable;
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.RandomAccess;
+import java.util.TimeZone;
 
+import static com.asosyalbebe.moment4j.util.CalendarFieldUtils.MILLIS_PER_DAY;
 import static com.asosyalbebe.moment4j.util.FormatUtils.toThreeDigitsString;
 import static com.asosyalbebe.moment4j.util.FormatUtils.toTwoDigitsString;
 
@@ -22,6 +36,59 @@ import static com.asosyalbebe.moment4j.util.FormatUtils.toTwoDigitsString;
 public class Moment implements Cloneable, Serializable, Comparable<Moment> {
     private static final long serialVersionUID = 1L;
 
+    private static final int MAX_CIVIL_YEAR = 100000;
+
+    // GregorianCalendar skips from October 4 to October 15 of this year, and has Julian leap years before it
+    private static final int GREGORIAN_CUTOVER_YEAR = 1582;
+
+    /**
+     * Returned by {@link #validate(int[])} when all the values are in range.
+     */
+    public static final int VALID = -1;
+
+    /**
+     * The ISO 8601 week of the week-based year, from 1 to 53, and the week from Monday to Sunday as a unit of time.
+     * <p>
+     * It is not a <code>Calendar</code> field, and does not depend on the first day of week of the locale.
+     * It can be used with {@link #get(int)}, {@link #set(int, int)}, {@link #add(int, int)}, {@link #subtract(int, int)},
+     * {@link #startOf(int)} and {@link #endOf(int)}.
+     *
+     * @see #isoWeek()
+     */
+    public static final int ISO_WEEK = 100;
+
+    /**
+     * The ISO 8601 week-based year, and the weeks from its first Monday to its last Sunday as a unit of time.
+     * Like {@link #ISO_WEEK}, it is not a <code>Calendar</code> field.
+     *
+     * @see #isoWeekYear()
+     */
+    public static final int ISO_WEEK_YEAR = 101;
+
+    /**
+     * The ISO 8601 day of week, from 1 for Monday to 7 for Sunday, and the day as a unit of time.
+     * Like {@link #ISO_WEEK}, it is not a <code>Calendar</code> field.
+     *
+     * @see #isoWeekday()
+     */
+    public static final int ISO_DAY_OF_WEEK = 102;
+
+    /**
+     * The last year of <code>GregorianCalendar</code> in the AD era.
+     */
+    private static final int MAX_YEAR = 292278994;
+
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    /**
+     * Calendar fields and names of the values of <code>int[]</code> arrays, in the same order.
+     */
+    private static final int[] ARRAY_FIELDS = {
+            Calendar.YEAR, Calendar.MONTH, Calendar.DAY_OF_MONTH,
+            Calendar.HOUR_OF_DAY, Calendar.MINUTE, Calendar.SECOND, Calendar.MILLISECOND
+    };
+    private static final String[] FIELD_NAMES = {"years", "months", "dates", "hours", "minutes", "seconds", "milliseconds"};
+
     /**
      * Internal state of the moment instance is hold on this calendar instance.
      * Moment does not expose this calendar instance outside.
@@ -29,11 +96,34 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      */
     private final Calendar calendar;
 
+    /**
+     * Date and time fields of the calendar, computed together by {@link #computeFields()} on the first read.
+     * They are valid while <code>fieldsComputed</code> is true, which every change of the calendar resets.
+     */
+    private transient boolean fieldsComputed;
+    private transient int year;
+    private transient int month;
+    private transient int dayOfMonth;
+    private transient int hourOfDay;
+    private transient int minute;
+    private transient int second;
+    private transient int millisecond;
+    private transient int dayOfWeek;
+    private transient int dayOfYear;
+    private transient long epochDay;
+
+    /**
+     * True if the calendar is a <code>GregorianCalendar</code> with the default cutover, whose fields
+     * can be computed arithmetically. Null until first needed.
+     */
+    private transient Boolean civilCalendar;
+
     /**
      * Creates a moment instance for current time
      */
     private Moment() {
         this.calendar = Calendar.getInstance();
+        onCalendar();
     }
 
     /**
@@ -43,15 +133,38 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @param pattern    pattern to be used to parse the dateString
      */
     private Moment(String dateString, String pattern) {
-        Date date;
+        this(dateString, pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Creates a moment instance for given date as string which will be parsed with given pattern in given locale
+     *
+     * @param dateString date as string to be parsed and encapsulated
+     * @param pattern    pattern to be used to parse the dateString
+     * @param locale     locale of the month and day names in the dateString
+     */
+    private Moment(String dateString, String pattern, Locale locale) {
+        this.calendar = Calendar.getInstance();
+        MetricsListener listener = MomentMetrics.listener();
+        if (listener != null) {
+            listener.onCalendar();
+            listener.onParse(pattern);
+        }
+
+        TimingListener timing = MomentMetrics.timing();
+        if (timing == null) {
+            this.calendar.setTimeInMillis(parse(dateString, pattern, locale, listener));
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean success = false;
         try {
-            SimpleDateFormat format = new SimpleDateFormat(pattern);
-            date = format.parse(dateString);
-        } catch (Exception e) {
-            throw new MomentException("Parse error occurred while parsing [" + dateString + "] with SimpleDateFormat [" + pattern + "]", e);
+            this.calendar.setTimeInMillis(parse(dateString, pattern, locale, listener));
+            success = true;
+        } finally {
+            timing.onOperation(Operation.PARSE, pattern, dateString == null ? 0 : dateString.length(), System.nanoTime() - start, success);
         }
-        this.calendar = Calendar.getInstance();
-        this.calendar.setTime(date);
     }
 
     /**
@@ -62,6 +175,7 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      */
     private Moment(Calendar calendar) {
         this.calendar = (Calendar) calendar.clone();
+        onCalendar();
     }
 
     /**
@@ -85,6 +199,18 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
         this.calendar.setTimeInMillis(timeInMillis);
     }
 
+    /**
+     * Creates a moment instance by using the given unix timestamp in the given time zone
+     *
+     * @param timeInMillis time in milliseconds
+     * @param zone         time zone of the calendar, which is not modified
+     */
+    private Moment(long timeInMillis, TimeZone zone) {
+        this.calendar = Calendar.getInstance(zone);
+        this.calendar.setTimeInMillis(timeInMillis);
+        onCalendar();
+    }
+
     /**
      * Creates a moment instance by using the given array of values.
      * <p>
@@ -101,26 +227,50 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * <p>
      * Note that the first month in Java(January) is represented by 0.
      *
-     * @param array array of 7 integers containing years, months, days, hours, minutes, seconds, and milliseconds
+     * @param array  array of 7 integers containing years, months, days, hours, minutes, seconds, and milliseconds
+     * @param strict true to reject out of range values instead of bubbling them into the next fields
      */
-    private Moment(int[] array) {
+    private Moment(int[] array, boolean strict) {
         this();
 
-        if (array == null) {
-            throw new MomentException("int[] array parameter cannot be null!");
+        if (strict) {
+            int field = validate(array);
+            if (field != VALID) {
+                int index = indexOfField(field);
+                throw new MomentException("int[] array has invalid " + FIELD_NAMES[index] + "! You provided " + array[index]);
+            }
+        } else {
+            checkArray(array);
         }
 
-        if (array.length != 7) {
-            throw new MomentException("int[] array must have exactly 7 elements! You provided " + array.length);
-        }
+        updateAllFields(array[0], array[1], array[2], array[3], array[4], array[5], array[6]);
+    }
 
-        this.calendar.set(Calendar.YEAR, array[0]);
-        this.calendar.set(Calendar.MONTH, array[1]);
-        this.calendar.set(Calendar.DAY_OF_MONTH, array[2]);
-        this.calendar.set(Calendar.HOUR_OF_DAY, array[3]);
-        this.calendar.set(Calendar.MINUTE, array[4]);
-        this.calendar.set(Calendar.SECOND, array[5]);
-        this.calendar.set(Calendar.MILLISECOND, array[6]);
+    /**
+     * Sets all the date and time fields at once, and computes the time value a single time.
+     * <p>
+     * This is equivalent to the chain <code>years(year).months(month).dates(date)...</code>, including the
+     * bubbling of out of range values, but avoids recomputing the calendar after every field.
+     *
+     * <pre>
+     * {@code
+     * Moment moment = Moment.moment().with(2015, 0, 31, 13, 32, 25, 125);
+     * }
+     * </pre>
+     * <p>
+     * Note that the first month in Java(January) is represented by 0.
+     *
+     * @param year        year to set.
+     * @param month       month to set, from 0 to 11.
+     * @param date        day of month to set, from 1 to 31.
+     * @param hour        hour of day to set, from 0 to 23.
+     * @param minute      minutes to set, from 0 to 59.
+     * @param second      seconds to set, from 0 to 59.
+     * @param millisecond milliseconds to set, from 0 to 999.
+     * @return this Moment instance for chainability.
+     */
+    public Moment with(int year, int month, int date, int hour, int minute, int second, int millisecond) {
+        return updateAllFields(year, month, date, hour, minute, second, millisecond);
     }
 
     /**
@@ -141,7 +291,7 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return The milliseconds. The returned value is always in range from 0 to 999.
      */
     public int milliseconds() {
-        return this.calendar.get(Calendar.MILLISECOND);
+        return computeFields() ? this.millisecond : this.calendar.get(Calendar.MILLISECOND);
     }
 
     /**
@@ -162,7 +312,7 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return The seconds. The returned value is always in range from 0 to 59.
      */
     public int seconds() {
-        return this.calendar.get(Calendar.SECOND);
+        return computeFields() ? this.second : this.calendar.get(Calendar.SECOND);
     }
 
     /**
@@ -183,7 +333,7 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return The minutes. The returned value is always in range from 0 to 59.
      */
     public int minutes() {
-        return this.calendar.get(Calendar.MINUTE);
+        return computeFields() ? this.minute : this.calendar.get(Calendar.MINUTE);
     }
 
     /**
@@ -204,7 +354,7 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return The hour of day. The returned value is always in range from 0 to 23.
      */
     public int hours() {
-        return this.calendar.get(Calendar.HOUR_OF_DAY);
+        return computeFields() ? this.hourOfDay : this.calendar.get(Calendar.HOUR_OF_DAY);
     }
 
     /**
@@ -225,7 +375,7 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return The day of month. The returned value is always in range from 0 to 31.
      */
     public int dates() {
-        return this.calendar.get(Calendar.DAY_OF_MONTH);
+        return computeFields() ? this.dayOfMonth : this.calendar.get(Calendar.DAY_OF_MONTH);
     }
 
     /**
@@ -246,7 +396,7 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return The day of week. The returned value is always in range from 1 to 7.
      */
     public int days() {
-        return this.calendar.get(Calendar.DAY_OF_WEEK);
+        return computeFields() ? this.dayOfWeek : this.calendar.get(Calendar.DAY_OF_WEEK);
     }
 
     /**
@@ -271,7 +421,7 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return The months. The returned value is always in range from 0 to 11.
      */
     public int months() {
-        return this.calendar.get(Calendar.MONTH);
+        return computeFields() ? this.month : this.calendar.get(Calendar.MONTH);
     }
 
     /**
@@ -290,7 +440,7 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return The years.
      */
     public int years() {
-        return this.calendar.get(Calendar.YEAR);
+        return computeFields() ? this.year : this.calendar.get(Calendar.YEAR);
     }
 
     /**
@@ -311,7 +461,91 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return The returned value is always in range from 1 to 366.
      */
     public int dayOfYear() {
-        return this.calendar.get(Calendar.DAY_OF_YEAR);
+        return computeFields() ? this.dayOfYear : this.calendar.get(Calendar.DAY_OF_YEAR);
+    }
+
+    /**
+     * Sets the ISO 8601 day of week, keeping the ISO week.
+     * <p>
+     * Accepts numbers from 1 to 7. Monday is 1, Sunday is 7. If the range is exceeded, it will bubble up to the weeks,
+     * so 0 is the Sunday of the previous week and 8 is the Monday of the next week.
+     *
+     * @param isoWeekday ISO day of week to set.
+     * @return this Moment instance for chainability.
+     */
+    public Moment isoWeekday(int isoWeekday) {
+        return shiftDays(isoWeekday - (long) isoWeekday());
+    }
+
+    /**
+     * Returns the ISO 8601 day of week. The returned value is always in range from 1 for Monday to 7 for Sunday,
+     * regardless of the first day of week of the locale.
+     *
+     * @return The ISO day of week, from 1 to 7.
+     */
+    public int isoWeekday() {
+        return CivilCalendar.isoDayOfWeek(epochDay());
+    }
+
+    /**
+     * Sets the ISO 8601 week of the week-based year, keeping the day of week.
+     * <p>
+     * Accepts numbers from 1 to 53. If the range is exceeded, it will bubble up to the week-based years.
+     *
+     * @param isoWeek ISO week to set.
+     * @return this Moment instance for chainability.
+     */
+    public Moment isoWeek(int isoWeek) {
+        return shiftDays((isoWeek - (long) isoWeek()) * 7);
+    }
+
+    /**
+     * Returns the ISO 8601 week of the week-based year. The returned value is always in range from 1 to 53.
+     * <p>
+     * ISO weeks start on Monday, and the first week of a year is the week with January 4,
+     * so the first days of January may be in the last week of the previous year.
+     * The week is computed arithmetically from the day, regardless of the first day of week and
+     * the minimal days in the first week of the calendar, unlike <code>Calendar.WEEK_OF_YEAR</code>.
+     *
+     * @return The ISO week, from 1 to 53.
+     * @see #isoWeekYear()
+     */
+    public int isoWeek() {
+        return (int) (CivilCalendar.floorMod(CivilCalendar.isoWeekDate(epochDay()), 1000) / 10);
+    }
+
+    /**
+     * Sets the ISO 8601 week-based year, keeping the ISO week and the day of week.
+     * <p>
+     * Week 53 becomes week 52 in the years which have no week 53.
+     *
+     * @param isoWeekYear ISO week-based year to set.
+     * @return this Moment instance for chainability.
+     */
+    public Moment isoWeekYear(int isoWeekYear) {
+        long days = epochDay();
+        long weekDate = CivilCalendar.isoWeekDate(days);
+        int week = (int) Math.min(CivilCalendar.floorMod(weekDate, 1000) / 10, CivilCalendar.isoWeeksInYear(isoWeekYear));
+        return shiftDays(CivilCalendar.daysFromIsoWeekDate(isoWeekYear, week, (int) CivilCalendar.floorMod(weekDate, 10)) - days);
+    }
+
+    /**
+     * Returns the ISO 8601 week-based year, which is the year of the Thursday of the ISO week.
+     * It differs from {@link #years()} in the first and last days of some years.
+     *
+     * @return The ISO week-based year.
+     */
+    public int isoWeekYear() {
+        return (int) CivilCalendar.floorDiv(CivilCalendar.isoWeekDate(epochDay()), 1000);
+    }
+
+    /**
+     * Returns the number of ISO 8601 weeks in the week-based year of this moment.
+     *
+     * @return 52 or 53.
+     */
+    public int isoWeeksInYear() {
+        return CivilCalendar.isoWeeksInYear(isoWeekYear());
     }
 
     /**
@@ -328,7 +562,16 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return this Moment instance for chainability.
      */
     public Moment set(int calendarField, int value) {
-        return updateCalendarField(calendarField, value);
+        switch (calendarField) {
+            case ISO_WEEK:
+                return isoWeek(value);
+            case ISO_WEEK_YEAR:
+                return isoWeekYear(value);
+            case ISO_DAY_OF_WEEK:
+                return isoWeekday(value);
+            default:
+                return updateCalendarField(calendarField, value);
+        }
     }
 
     /**
@@ -338,7 +581,34 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return the value of the given Calendar field.
      */
     public int get(int calendarField) {
-        return this.calendar.get(calendarField);
+        switch (calendarField) {
+            case Calendar.MILLISECOND:
+                return milliseconds();
+            case Calendar.SECOND:
+                return seconds();
+            case Calendar.MINUTE:
+                return minutes();
+            case Calendar.HOUR_OF_DAY:
+                return hours();
+            case Calendar.DAY_OF_MONTH:
+                return dates();
+            case Calendar.DAY_OF_WEEK:
+                return days();
+            case Calendar.MONTH:
+                return months();
+            case Calendar.YEAR:
+                return years();
+            case Calendar.DAY_OF_YEAR:
+                return dayOfYear();
+            case ISO_WEEK:
+                return isoWeek();
+            case ISO_WEEK_YEAR:
+                return isoWeekYear();
+            case ISO_DAY_OF_WEEK:
+                return isoWeekday();
+            default:
+                return this.calendar.get(calendarField);
+        }
     }
 
     /**
@@ -384,10 +654,33 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * moment().minutes(0).seconds(0).milliseconds(0);
      * </pre>
      *
+     * <p><code>Calendar.WEEK_OF_YEAR</code> and <code>Calendar.WEEK_OF_MONTH</code> start on the first day of week
+     * of the locale, such as Sunday in the US and Monday in Germany. {@link #ISO_WEEK} starts on Monday in every locale,
+     * and {@link #ISO_WEEK_YEAR} on the Monday of ISO week 1.</p>
+     *
      * @param calendarField unit of time whose start time will be set to this moment instance.
      * @return this Moment instance for chainability.
      */
     public Moment startOf(int calendarField) {
+        // The first day of a week is computed arithmetically before the fields are changed
+        int firstDate = 0;
+        switch (calendarField) {
+            case Calendar.WEEK_OF_YEAR:
+            case Calendar.WEEK_OF_MONTH:
+                firstDate = dates() - CivilCalendar.daysIntoWeek(epochDay(), this.calendar.getFirstDayOfWeek());
+                break;
+            case ISO_WEEK:
+                firstDate = dates() - isoWeekday() + 1;
+                break;
+            case ISO_WEEK_YEAR:
+                long days = epochDay();
+                long firstDay = CivilCalendar.daysFromIsoWeekDate(CivilCalendar.floorDiv(CivilCalendar.isoWeekDate(days), 1000), 1, 1);
+                firstDate = (int) (dates() - (days - firstDay));
+                break;
+            default:
+                break;
+        }
+
         switch (calendarField) {
             case Calendar.YEAR:
                 this.months(0);
@@ -395,6 +688,9 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
                 this.dates(1);
             case Calendar.WEEK_OF_YEAR:
             case Calendar.WEEK_OF_MONTH:
+            case ISO_WEEK_YEAR:
+            case ISO_WEEK:
+            case ISO_DAY_OF_WEEK:
             case Calendar.DAY_OF_MONTH:
             case Calendar.DAY_OF_WEEK:
             case Calendar.DAY_OF_WEEK_IN_MONTH:
@@ -413,14 +709,15 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
                 throw new MomentException("Unknown calendarField: " + calendarField);
         }
 
-        if (calendarField == Calendar.WEEK_OF_MONTH || calendarField == Calendar.WEEK_OF_YEAR) {
-            this.days(1);
+        if (calendarField == Calendar.WEEK_OF_MONTH || calendarField == Calendar.WEEK_OF_YEAR
+                || calendarField == ISO_WEEK || calendarField == ISO_WEEK_YEAR) {
+            this.dates(firstDate);
         }
 
         if (calendarField == Calendar.DAY_OF_WEEK_IN_MONTH) {
             int dayOfWeekInMonth = this.calendar.get(Calendar.DAY_OF_WEEK_IN_MONTH);
             this.dates(0);
-            this.calendar.set(Calendar.DAY_OF_WEEK_IN_MONTH, dayOfWeekInMonth);
+            updateCalendarField(Calendar.DAY_OF_WEEK_IN_MONTH, dayOfWeekInMonth);
         }
 
         return this;
@@ -467,14 +764,177 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return the String representation of this moment instance in given date pattern.
      */
     public String format(String pattern) {
+        return format(pattern, defaultLocale());
+    }
+
+    /**
+     * Returns the String representation of this moment instance in given date pattern and locale.
+     * The pattern must obey java.text.SimpleDateFormat's rules.
+     * <p>
+     * Common patterns are formatted without creating a SimpleDateFormat,
+     * with the month and day names of the locale which are loaded once per locale.
+     *
+     * <pre>
+     * moment().format("dd MMMM yyyy, EEEE", new Locale("tr")); // 16 Mart 2016, Çarşamba
+     * </pre>
+     *
+     * @param pattern the pattern which will be used to format the date
+     * @param locale  the locale of the month and day names
+     * @return the String representation of this moment instance in given date pattern and locale.
+     */
+    public String format(String pattern, Locale locale) {
+        MetricsListener listener = MomentMetrics.listener();
+        if (listener != null) {
+            listener.onFormat(pattern);
+        }
+
+        TimingListener timing = MomentMetrics.timing();
+        if (timing == null) {
+            return formatWithPattern(pattern, locale);
+        }
+
+        long start = System.nanoTime();
+        String text = null;
         try {
-            SimpleDateFormat format = new SimpleDateFormat(pattern);
-            return format.format(calendar.getTime());
+            text = formatWithPattern(pattern, locale);
+            return text;
+        } finally {
+            timing.onOperation(Operation.FORMAT, pattern, text == null ? 0 : text.length(), System.nanoTime() - start, text != null);
+        }
+    }
+
+    private String formatWithPattern(String pattern, Locale locale) {
+        try {
+            return CompiledPattern.of(pattern).format(valueOf(), TimeZone.getDefault(), locale);
         } catch (Exception e) {
             throw new MomentException("Parse error occurred while formatting [" + calendar + "] with SimpleDateFormat [" + pattern + "]", e);
         }
     }
 
+    /**
+     * Returns the time from now, like <code>"3 minutes ago"</code> or <code>"in 2 hours"</code>, in the default locale.
+     * The thresholds and strings are the same as the <code>fromNow()</code> function of moment.js.
+     *
+     * <pre>
+     * moment().subtract(3, Calendar.MINUTE).fromNow(); // 3 minutes ago
+     * </pre>
+     *
+     * @return the time from now as a human readable string.
+     * @see RelativeTime
+     */
+    public String fromNow() {
+        return fromNow(false);
+    }
+
+    /**
+     * Returns the time from now, like <code>"3 minutes ago"</code>, in the default locale.
+     * If <code>withoutSuffix</code> is true, the string is <code>"3 minutes"</code>.
+     *
+     * @param withoutSuffix true to omit the "in" and "ago" parts of the string
+     * @return the time from now as a human readable string.
+     * @see RelativeTime
+     */
+    public String fromNow(boolean withoutSuffix) {
+        return RelativeTime.humanize(valueOf(), System.currentTimeMillis(), withoutSuffix, defaultLocale());
+    }
+
+    /**
+     * Returns the time from the given moment, like <code>"a day ago"</code> or <code>"in a day"</code>, in the default locale.
+     *
+     * @param moment the reference moment
+     * @return the time from the given moment as a human readable string.
+     * @see RelativeTime
+     */
+    public String from(Moment moment) {
+        return from(moment, false);
+    }
+
+    /**
+     * Returns the time from the given moment, like <code>"a day ago"</code>, in the default locale.
+     * If <code>withoutSuffix</code> is true, the string is <code>"a day"</code>.
+     *
+     * @param moment        the reference moment
+     * @param withoutSuffix true to omit the "in" and "ago" parts of the string
+     * @return the time from the given moment as a human readable string.
+     * @see RelativeTime
+     */
+    public String from(Moment moment, boolean withoutSuffix) {
+        return RelativeTime.humanize(valueOf(), moment.valueOf(), withoutSuffix, defaultLocale());
+    }
+
+    /**
+     * Returns the time to now, which is the opposite of {@link #fromNow()}.
+     * For a moment 3 minutes ago, <code>"in 3 minutes"</code> is returned.
+     *
+     * @return the time to now as a human readable string.
+     * @see RelativeTime
+     */
+    public String toNow() {
+        return toNow(false);
+    }
+
+    /**
+     * Returns the time to now, which is the opposite of {@link #fromNow(boolean)}.
+     *
+     * @param withoutSuffix true to omit the "in" and "ago" parts of the string
+     * @return the time to now as a human readable string.
+     * @see RelativeTime
+     */
+    public String toNow(boolean withoutSuffix) {
+        return RelativeTime.humanize(System.currentTimeMillis(), valueOf(), withoutSuffix, defaultLocale());
+    }
+
+    /**
+     * Returns the time to the given moment, which is the opposite of {@link #from(Moment)}.
+     *
+     * @param moment the reference moment
+     * @return the time to the given moment as a human readable string.
+     * @see RelativeTime
+     */
+    public String to(Moment moment) {
+        return to(moment, false);
+    }
+
+    /**
+     * Returns the time to the given moment, which is the opposite of {@link #from(Moment, boolean)}.
+     *
+     * @param moment        the reference moment
+     * @param withoutSuffix true to omit the "in" and "ago" parts of the string
+     * @return the time to the given moment as a human readable string.
+     * @see RelativeTime
+     */
+    public String to(Moment moment, boolean withoutSuffix) {
+        return RelativeTime.humanize(moment.valueOf(), valueOf(), withoutSuffix, defaultLocale());
+    }
+
+    /**
+     * Returns this moment relative to today, like <code>"Yesterday at 2:30 PM"</code> or <code>"Last Monday at 9:00 AM"</code>,
+     * in the time zone of this moment and the default locale. Moments a week or more away from today are shown as dates.
+     * The strings are the same as the <code>calendar()</code> function of moment.js.
+     *
+     * @return this moment as a human readable calendar time.
+     * @see RelativeTime
+     */
+    public String calendar() {
+        return RelativeTime.calendar(valueOf(), System.currentTimeMillis(), calendar.getTimeZone(), defaultLocale());
+    }
+
+    /**
+     * Returns this moment relative to the day of the given moment, like <code>"Tomorrow at 2:30 PM"</code>,
+     * in the time zone of this moment and the default locale.
+     *
+     * @param reference the reference moment
+     * @return this moment as a human readable calendar time.
+     * @see #calendar()
+     */
+    public String calendar(Moment reference) {
+        return RelativeTime.calendar(valueOf(), reference.valueOf(), calendar.getTimeZone(), defaultLocale());
+    }
+
+    private static Locale defaultLocale() {
+        return Locale.getDefault(Locale.Category.FORMAT);
+    }
+
     /**
      * Returns a Date object which is created by using date and time of this moment instance
      *
@@ -493,6 +953,7 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @see java.util.Calendar
      */
     public Calendar toCalendar() {
+        onCalendar();
         return (Calendar) this.calendar.clone();
     }
 
@@ -501,16 +962,47 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      */
     public int[] toArray() {
         int[] array = new int[7];
-        array[0] = this.calendar.get(Calendar.YEAR);
-        array[1] = this.calendar.get(Calendar.MONTH);
-        array[2] = this.calendar.get(Calendar.DAY_OF_MONTH);
-        array[3] = this.calendar.get(Calendar.HOUR_OF_DAY);
-        array[4] = this.calendar.get(Calendar.MINUTE);
-        array[5] = this.calendar.get(Calendar.SECOND);
-        array[6] = this.calendar.get(Calendar.MILLISECOND);
+        array[0] = years();
+        array[1] = months();
+        array[2] = dates();
+        array[3] = hours();
+        array[4] = minutes();
+        array[5] = seconds();
+        array[6] = milliseconds();
         return array;
     }
 
+    /**
+     * Returns the time zone of the calendar without copying it, for the java.time bridge.
+     */
+    TimeZone timeZone() {
+        return this.calendar.getTimeZone();
+    }
+
+    /**
+     * Sets this moment to the given time value, so that the instance can be reused instead of creating a new one.
+     * <p>
+     * Creating a moment creates a new <code>Calendar</code>, so loops handling many timestamps can reset a single
+     * moment instead. See {@link MomentPool} for a pool of reusable moments.
+     *
+     * <pre>
+     * {@code
+     * Moment moment = Moment.moment();
+     * for (long timestamp : timestamps) {
+     *     int hour = moment.reset(timestamp).hours();
+     * }
+     * }
+     * </pre>
+     *
+     * @param timeInMillis the time as UTC milliseconds from the epoch.
+     * @return this Moment instance for chainability.
+     */
+    public Moment reset(long timeInMillis) {
+        this.calendar.setTimeInMillis(timeInMillis);
+        this.fieldsComputed = false;
+        return this;
+    }
+
     /**
      * Returns this Moment's time value in milliseconds.
      *
@@ -543,7 +1035,11 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      */
     @Override
     public Moment clone() {
-        return new Moment((Calendar) this.calendar.clone());
+        MetricsListener listener = MomentMetrics.listener();
+        if (listener != null) {
+            listener.onClone();
+        }
+        return new Moment(this.calendar);
     }
 
     /**
@@ -1256,33 +1752,137 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
 
     @Override
     public int hashCode() {
-        Long value = valueOf();
-        return value.hashCode();
+        // Same as Long#hashCode, without boxing
+        long value = valueOf();
+        return (int) (value ^ (value >>> 32));
     }
 
     @Override
     public boolean equals(Object obj) {
         if (this == obj)
             return true;
-        if (obj == null)
+        // Moment cannot be subclassed, so instanceof is equivalent to comparing the classes
+        if (!(obj instanceof Moment))
             return false;
-        if (getClass() != obj.getClass())
-            return false;
-        Moment other = (Moment) obj;
 
-        return isSame(other);
+        return valueOf() == ((Moment) obj).valueOf();
     }
 
     private Moment updateCalendarField(int field, int value) {
         this.calendar.set(field, value);
+        this.fieldsComputed = false;
         return this;
     }
 
     private Moment addCalendarField(int field, int value) {
+        switch (field) {
+            case ISO_WEEK:
+                // Adding weeks does not depend on the week rules of the calendar
+                field = Calendar.WEEK_OF_YEAR;
+                break;
+            case ISO_DAY_OF_WEEK:
+                field = Calendar.DAY_OF_MONTH;
+                break;
+            case ISO_WEEK_YEAR:
+                return isoWeekYear(isoWeekYear() + value);
+            default:
+                break;
+        }
         this.calendar.add(field, value);
+        this.fieldsComputed = false;
         return this;
     }
 
+    private Moment updateAllFields(int year, int month, int date, int hour, int minute, int second, int millisecond) {
+        this.fieldsComputed = false;
+
+        // Larger years may overflow the arithmetic, and are left to the calendar. Earlier years are left to it as well,
+        // because lenient fields may carry them over the cutover, where the Julian and Gregorian dates differ
+        if (isCivilCalendar() && year > GREGORIAN_CUTOVER_YEAR && year < MAX_CIVIL_YEAR) {
+            long local = CivilCalendar.localMillis(year, month, date, hour, minute, second, millisecond);
+            long millis = CivilCalendar.localToUtc(local, this.calendar.getTimeZone());
+            if (millis != CivilCalendar.UNRESOLVED) {
+                this.calendar.setTimeInMillis(millis);
+                return this;
+            }
+        }
+
+        this.calendar.set(year, month, date, hour, minute, second);
+        this.calendar.set(Calendar.MILLISECOND, millisecond);
+        return this;
+    }
+
+    /**
+     * Moves the moment by the given number of days, keeping the wall clock time like {@link #dates(int)}.
+     */
+    private Moment shiftDays(long days) {
+        long date = dates() + days;
+        if (date != (int) date) {
+            throw new MomentException("Cannot move the moment by " + days + " days!");
+        }
+        return updateCalendarField(Calendar.DAY_OF_MONTH, (int) date);
+    }
+
+    /**
+     * Returns the local day of the moment as the number of days since 1970-01-01, in the proleptic Gregorian calendar.
+     */
+    private long epochDay() {
+        if (computeFields()) {
+            return this.epochDay;
+        }
+        long millis = this.calendar.getTimeInMillis();
+        return CivilCalendar.floorDiv(millis + CivilCalendar.getOffset(this.calendar.getTimeZone(), millis), MILLIS_PER_DAY);
+    }
+
+    private boolean isCivilCalendar() {
+        if (this.civilCalendar == null) {
+            this.civilCalendar = this.calendar.getClass() == GregorianCalendar.class
+                    && ((GregorianCalendar) this.calendar).getGregorianChange().getTime() == CivilCalendar.GREGORIAN_CUTOVER_MILLIS;
+        }
+        return this.civilCalendar;
+    }
+
+    /**
+     * Computes all the date and time fields at once from the time value, instead of letting
+     * <code>Calendar</code> recompute its fields after every change.
+     * <p>
+     * Only the proleptic Gregorian dates after the cutover are computed arithmetically. For other calendar systems
+     * and dates, this method returns false and the fields must be read from the calendar.
+     *
+     * @return true if the cached fields are valid.
+     */
+    private boolean computeFields() {
+        if (this.fieldsComputed) {
+            return true;
+        }
+        if (!isCivilCalendar()) {
+            return false;
+        }
+
+        long millis = this.calendar.getTimeInMillis();
+        long local = millis + CivilCalendar.getOffset(this.calendar.getTimeZone(), millis);
+        if (!CivilCalendar.isGregorian(local) || local > CivilCalendar.MAX_MILLIS) {
+            return false;
+        }
+
+        long days = CivilCalendar.floorDiv(local, MILLIS_PER_DAY);
+        int millisOfDay = (int) (local - days * MILLIS_PER_DAY);
+        long date = CivilCalendar.civilFromDays(days);
+        this.year = (int) (date / 10000);
+        this.month = (int) (date / 100 % 100) - 1;
+        this.dayOfMonth = (int) (date % 100);
+        this.hourOfDay = millisOfDay / 3600000;
+        this.minute = millisOfDay / 60000 % 60;
+        this.second = millisOfDay / 1000 % 60;
+        this.millisecond = millisOfDay % 1000;
+        // 1970-01-01 was a Thursday, day 5 of Calendar.DAY_OF_WEEK
+        this.dayOfWeek = (int) CivilCalendar.floorMod(days + 4, 7) + 1;
+        this.dayOfYear = (int) (days - CivilCalendar.daysFromCivil(this.year, 1, 1)) + 1;
+        this.epochDay = days;
+        this.fieldsComputed = true;
+        return true;
+    }
+
     /**
      * Returns the maximum (most distant future) of the given moment instances.
      *
@@ -1298,12 +1898,92 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
         }
 
         Moment max = moments[0];
+        long maxValue = max.valueOf();
         for (int i = 1; i < moments.length; i++) {
-            if (moments[i].valueOf() > max.valueOf()) {
+            long value = moments[i].valueOf();
+            if (value > maxValue) {
                 max = moments[i];
+                maxValue = value;
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * Returns the maximum (most distant future) of the given moment instances.
+     * If more than one moment is the maximum, the first of them is returned.
+     * <p>
+     * Note: since this overload exists, an untyped <code>Moment.max(null)</code> no longer compiles, because it is
+     * ambiguous with {@link #max(Moment...)}. Cast the null to <code>Moment[]</code> or to a collection.
+     *
+     * @param moments moment instances to compare in order to find the maximum (most distant future) one.
+     * @return the maximum (most distant future) of the given moment instances.
+     * If the given <code>moments</code> parameter is null or empty, returns the current date, like {@link #max(Moment...)}.
+     * @see Moment#max(Moment...)
+     */
+    public static Moment max(Collection<? extends Moment> moments) {
+        if (moments instanceof List && moments instanceof RandomAccess) {
+            List<? extends Moment> list = (List<? extends Moment>) moments;
+            Moment max = null;
+            long maxValue = Long.MIN_VALUE;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                Moment moment = list.get(i);
+                long value = moment.valueOf();
+                if (max == null || value > maxValue) {
+                    max = moment;
+                    maxValue = value;
+                }
+            }
+            return max != null ? max : moment();
+        }
+        return max((Iterable<? extends Moment>) moments);
+    }
+
+    /**
+     * Returns the maximum (most distant future) of the given moment instances.
+     * If more than one moment is the maximum, the first of them is returned.
+     *
+     * @param moments moment instances to compare in order to find the maximum (most distant future) one.
+     * @return the maximum (most distant future) of the given moment instances.
+     * If the given <code>moments</code> parameter is null or empty, returns the current date, like {@link #max(Moment...)}.
+     * @see Moment#max(Moment...)
+     */
+    public static Moment max(Iterable<? extends Moment> moments) {
+        if (moments == null) {
+            return moment();
+        }
+
+        Moment max = null;
+        long maxValue = Long.MIN_VALUE;
+        for (Moment moment : moments) {
+            long value = moment.valueOf();
+            if (max == null || value > maxValue) {
+                max = moment;
+                maxValue = value;
             }
         }
+        return max != null ? max : moment();
+    }
 
+    /**
+     * Returns the maximum of the given time values.
+     * <p>
+     * Unlike {@link #max(Moment...)}, there is no sensible result for no values, because every <code>long</code>
+     * is a valid time value, so an empty array is rejected.
+     *
+     * @param millis times as UTC milliseconds from the epoch
+     * @return the maximum of the given time values.
+     * @throws MomentException if the array is null or empty
+     */
+    public static long maxValue(long[] millis) {
+        if (millis == null || millis.length == 0) {
+            throw new MomentException("long[] array parameter cannot be null or empty!");
+        }
+        long max = millis[0];
+        for (int i = 1; i < millis.length; i++) {
+            max = Math.max(max, millis[i]);
+        }
         return max;
     }
 
@@ -1322,12 +2002,92 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
         }
 
         Moment min = moments[0];
+        long minValue = min.valueOf();
         for (int i = 1; i < moments.length; i++) {
-            if (moments[i].valueOf() < min.valueOf()) {
+            long value = moments[i].valueOf();
+            if (value < minValue) {
                 min = moments[i];
+                minValue = value;
+            }
+        }
+
+        return min;
+    }
+
+    /**
+     * Returns the minimum (most distant past) of the given moment instances.
+     * If more than one moment is the minimum, the first of them is returned.
+     * <p>
+     * Note: since this overload exists, an untyped <code>Moment.min(null)</code> no longer compiles, because it is
+     * ambiguous with {@link #min(Moment...)}. Cast the null to <code>Moment[]</code> or to a collection.
+     *
+     * @param moments moment instances to compare in order to find the minimum (most distant past) one.
+     * @return the minimum (most distant past) of the given moment instances.
+     * If the given <code>moments</code> parameter is null or empty, returns the current date, like {@link #min(Moment...)}.
+     * @see Moment#min(Moment...)
+     */
+    public static Moment min(Collection<? extends Moment> moments) {
+        if (moments instanceof List && moments instanceof RandomAccess) {
+            List<? extends Moment> list = (List<? extends Moment>) moments;
+            Moment min = null;
+            long minValue = Long.MAX_VALUE;
+            for (int i = 0, size = list.size(); i < size; i++) {
+                Moment moment = list.get(i);
+                long value = moment.valueOf();
+                if (min == null || value < minValue) {
+                    min = moment;
+                    minValue = value;
+                }
+            }
+            return min != null ? min : moment();
+        }
+        return min((Iterable<? extends Moment>) moments);
+    }
+
+    /**
+     * Returns the minimum (most distant past) of the given moment instances.
+     * If more than one moment is the minimum, the first of them is returned.
+     *
+     * @param moments moment instances to compare in order to find the minimum (most distant past) one.
+     * @return the minimum (most distant past) of the given moment instances.
+     * If the given <code>moments</code> parameter is null or empty, returns the current date, like {@link #min(Moment...)}.
+     * @see Moment#min(Moment...)
+     */
+    public static Moment min(Iterable<? extends Moment> moments) {
+        if (moments == null) {
+            return moment();
+        }
+
+        Moment min = null;
+        long minValue = Long.MAX_VALUE;
+        for (Moment moment : moments) {
+            long value = moment.valueOf();
+            if (min == null || value < minValue) {
+                min = moment;
+                minValue = value;
             }
         }
+        return min != null ? min : moment();
+    }
 
+    /**
+     * Returns the minimum of the given time values.
+     * <p>
+     * Unlike {@link #min(Moment...)}, there is no sensible result for no values, because every <code>long</code>
+     * is a valid time value, so an empty array is rejected.
+     *
+     * @param millis times as UTC milliseconds from the epoch
+     * @return the minimum of the given time values.
+     * @throws MomentException if the array is null or empty
+     */
+    public static long minValue(long[] millis) {
+        if (millis == null || millis.length == 0) {
+            throw new MomentException("long[] array parameter cannot be null or empty!");
+        }
+        long min = millis[0];
+        for (int i = 1; i < millis.length; i++) {
+            min = Math.min(min, millis[i]);
+        }
         return min;
     }
 
@@ -1341,13 +2101,118 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
         return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
     }
 
+    /**
+     * Returns true if the given array of values is a valid date and time, which {@link #moment(int[])} creates
+     * without bubbling any value into the next fields.
+     * <p>
+     * The values are checked arithmetically, without creating a calendar or throwing an exception.
+     *
+     * @param array array of 7 integers containing years, months, days, hours, minutes, seconds, and milliseconds
+     * @return true if the array has 7 values and all of them are in range, false if it is null or has another length.
+     * @see #validate(int[])
+     */
+    public static boolean isValid(int[] array) {
+        return array != null && array.length == 7
+                && validate(array[0], array[1], array[2], array[3], array[4], array[5], array[6]) == VALID;
+    }
+
+    /**
+     * Returns the first out of range value of the given array of values, or {@link #VALID} if all the values are in range.
+     * <p>
+     * Years must be from 1 to 292278994, months from 0 to 11, dates from 1 to the length of the month,
+     * hours from 0 to 23, minutes and seconds from 0 to 59, and milliseconds from 0 to 999. The values are checked
+     * arithmetically, without creating a calendar or throwing an exception.
+     * <p>
+     * Dates follow <code>GregorianCalendar</code>: February 29 is valid in leap years as in {@link #isLeapYear(int)}
+     * from 1583, and in every fourth year of the Julian calendar before, while October 5 to 14, 1582 do not exist.
+     *
+     * <pre>
+     * {@code
+     * Moment.validate(new int[] {2016, 1, 29, 13, 32, 25, 125}); // Moment.VALID
+     * Moment.validate(new int[] {2015, 1, 29, 13, 32, 25, 125}); // Calendar.DAY_OF_MONTH
+     * }
+     * </pre>
+     *
+     * @param array array of 7 integers containing years, months, days, hours, minutes, seconds, and milliseconds
+     * @return the calendar field of the first out of range value, such as <code>Calendar.MONTH</code>,
+     * or {@link #VALID} if all the values are in range.
+     * @throws MomentException if the array is null or does not have exactly 7 elements
+     */
+    public static int validate(int[] array) {
+        checkArray(array);
+        return validate(array[0], array[1], array[2], array[3], array[4], array[5], array[6]);
+    }
+
+    /**
+     * Returns the first out of range value of the given date and time, or {@link #VALID} if all the values are in range.
+     *
+     * @param year        year, from 1 to 292278994.
+     * @param month       month, from 0 to 11.
+     * @param date        day of month, from 1 to the length of the month.
+     * @param hour        hour of day, from 0 to 23.
+     * @param minute      minutes, from 0 to 59.
+     * @param second      seconds, from 0 to 59.
+     * @param millisecond milliseconds, from 0 to 999.
+     * @return the calendar field of the first out of range value, such as <code>Calendar.MONTH</code>,
+     * or {@link #VALID} if all the values are in range.
+     * @see #validate(int[])
+     */
+    public static int validate(int year, int month, int date, int hour, int minute, int second, int millisecond) {
+        if (year < 1 || year > MAX_YEAR) {
+            return Calendar.YEAR;
+        }
+        if (month < 0 || month > 11) {
+            return Calendar.MONTH;
+        }
+        boolean leapYear = year > GREGORIAN_CUTOVER_YEAR ? isLeapYear(year) : year % 4 == 0;
+        int daysInMonth = month == Calendar.FEBRUARY && leapYear ? 29 : DAYS_IN_MONTH[month];
+        if (date < 1 || date > daysInMonth) {
+            return Calendar.DAY_OF_MONTH;
+        }
+        if (year == GREGORIAN_CUTOVER_YEAR && month == Calendar.OCTOBER && date > 4 && date < 15) {
+            return Calendar.DAY_OF_MONTH;
+        }
+        if (hour < 0 || hour > 23) {
+            return Calendar.HOUR_OF_DAY;
+        }
+        if (minute < 0 || minute > 59) {
+            return Calendar.MINUTE;
+        }
+        if (second < 0 || second > 59) {
+            return Calendar.SECOND;
+        }
+        if (millisecond < 0 || millisecond > 999) {
+            return Calendar.MILLISECOND;
+        }
+        return VALID;
+    }
+
+    private static void checkArray(int[] array) {
+        if (array == null) {
+            throw new MomentException("int[] array parameter cannot be null!");
+        }
+
+        if (array.length != 7) {
+            throw new MomentException("int[] array must have exactly 7 elements! You provided " + array.length);
+        }
+    }
+
+    private static int indexOfField(int field) {
+        for (int i = 0; i < ARRAY_FIELDS.length; i++) {
+            if (ARRAY_FIELDS[i] == field) {
+                return i;
+            }
+        }
+        throw new MomentException("Unsupported calendar field! You provided " + field);
+    }
+
     /**
      * Creates a moment instance for current time
      *
      * @return a new moment instance for current time
      */
     public static Moment moment() {
-        return new Moment();
+        return created(new Moment(), Factory.NOW);
     }
 
     /**
@@ -1358,7 +2223,19 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return a new moment instance for given date as string which will be parsed with given pattern
      */
     public static Moment moment(String dateString, String pattern) {
-        return new Moment(dateString, pattern);
+        return created(new Moment(dateString, pattern), Factory.STRING);
+    }
+
+    /**
+     * Creates a moment instance for given date as string which will be parsed with given pattern in given locale
+     *
+     * @param dateString date as string to be parsed and encapsulated
+     * @param pattern    pattern to be used to parse the dateString
+     * @param locale     locale of the month and day names in the dateString
+     * @return a new moment instance for given date as string which will be parsed with given pattern
+     */
+    public static Moment moment(String dateString, String pattern, Locale locale) {
+        return created(new Moment(dateString, pattern, locale), Factory.STRING);
     }
 
     /**
@@ -1369,7 +2246,7 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return a new moment instance created by encapsulating the given calendar instance.
      */
     public static Moment moment(Calendar calendar) {
-        return new Moment(calendar);
+        return created(new Moment(calendar), Factory.CALENDAR);
     }
 
     /**
@@ -1380,7 +2257,15 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return a new moment instance created by using the given date. The date parameter is copied.
      */
     public static Moment moment(Date date) {
-        return new Moment(date);
+        return created(new Moment(date), Factory.DATE);
+    }
+
+    /**
+     * Creates a moment instance by using the given time in the given time zone, for the java.time bridge.
+     * The zone instance is shared rather than copied, and must not be modified.
+     */
+    static Moment moment(long timeInMillis, TimeZone zone) {
+        return created(new Moment(timeInMillis, zone), Factory.MILLIS);
     }
 
     /**
@@ -1390,7 +2275,7 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return a new moment instance created by using the given time as UTC milliseconds from the epoch.
      */
     public static Moment moment(long timeInMillis) {
-        return new Moment(timeInMillis);
+        return created(new Moment(timeInMillis), Factory.MILLIS);
     }
 
     /**
@@ -1413,7 +2298,29 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @return a new moment instance created by using the given array of values.
      */
     public static Moment moment(int[] array) {
-        return new Moment(array);
+        return created(new Moment(array, false), Factory.ARRAY);
+    }
+
+    /**
+     * Creates a moment instance by using the given array of values, optionally rejecting out of range values.
+     * <p>
+     * In strict mode, every value must be in its range, as checked by {@link #validate(int[])}.
+     * Otherwise, out of range values bubble into the next fields, as in {@link #moment(int[])}.
+     *
+     * <pre>
+     * {@code
+     * Moment.moment(new int[] {2015, 1, 29, 0, 0, 0, 0}, false); // 01/03/2015
+     * Moment.moment(new int[] {2015, 1, 29, 0, 0, 0, 0}, true); // throws MomentException
+     * }
+     * </pre>
+     *
+     * @param array  array of values. The array must contain exactly 7 integers, which represents years, months, days, hours, minutes, seconds, and milliseconds.
+     * @param strict true to reject out of range values
+     * @return a new moment instance created by using the given array of values.
+     * @throws MomentException if strict is true and a value is out of range
+     */
+    public static Moment moment(int[] array, boolean strict) {
+        return created(new Moment(array, strict), Factory.ARRAY);
     }
 
     /**
@@ -1424,7 +2331,50 @@ public class Moment implements Cloneable, Serializable, Comparable<Moment> {
      * @see Moment#clone()
      */
     public static Moment moment(Moment source) {
-        return new Moment(source.valueOf());
+        return created(new Moment(source.valueOf()), Factory.MOMENT);
+    }
+
+    /**
+     * Parses the given date string in the time zone of the calendar.
+     */
+    private long parse(String dateString, String pattern, Locale locale, MetricsListener listener) {
+        // Common patterns are parsed without SimpleDateFormat, anything else falls back to it
+        if (dateString != null && pattern != null && locale != null) {
+            long millis = CompiledPattern.of(pattern).tryParse(dateString, 0, dateString.length(), calendar.getTimeZone(), locale);
+            if (millis != CompiledPattern.UNRESOLVED) {
+                return millis;
+            }
+        }
+
+        try {
+            return CompiledPattern.of(pattern).simpleDateFormat(locale, calendar.getTimeZone()).parse(dateString).getTime();
+        } catch (Exception e) {
+            if (listener != null) {
+                listener.onParseFailure(pattern);
+            }
+            throw new MomentException("Parse error occurred while parsing [" + dateString + "] with SimpleDateFormat [" + pattern + "]", e);
+        }
+    }
+
+    /**
+     * Tells the installed metrics listener, if any, that the given moment was created by the given factory.
+     */
+    private static Moment created(Moment moment, Factory factory) {
+        MetricsListener listener = MomentMetrics.listener();
+        if (listener != null) {
+            listener.onCreate(factory);
+        }
+        return moment;
+    }
+
+    /**
+     * Tells the installed metrics listener, if any, that a calendar was allocated.
+     */
+    private static void onCalendar() {
+        MetricsListener listener = MomentMetrics.listener();
+        if (listener != null) {
+            listener.onCalendar();
+        }
     }
 
     @Override
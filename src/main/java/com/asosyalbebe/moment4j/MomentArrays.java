@@ -0,0 +1,622 @@
+package com.asosyalbebe.moment4j;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import com.asosyalbebe.moment4j.util.CalendarFieldUtils;
+import com.asosyalbebe.moment4j.util.CivilCalendar;
+
+import java.nio.LongBuffer;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static com.asosyalbebe.moment4j.util.CalendarFieldUtils.MILLIS_PER_DAY;
+import static com.asosyalbebe.moment4j.util.CivilCalendar.floorDiv;
+import static com.asosyalbebe.moment4j.util.CivilCalendar.getOffset;
+
+/**
+ * Applies the same operation to many times at once, with the same results as a moment per time.
+ * For example, <code>MomentArrays.add(in, 3, Calendar.DAY_OF_MONTH, zone, out)</code> writes
+ * <code>moment(in[i]).add(3, Calendar.DAY_OF_MONTH).valueOf()</code> into <code>out[i]</code>,
+ * for a moment in the given time zone.
+ * <p>
+ * Times are UTC milliseconds from the epoch, in <code>long[]</code> arrays or <code>LongBuffer</code>s.
+ * The operations which do not depend on the time zone, such as adding hours, and all the operations
+ * in the zones of a fixed offset, are a single loop of a few instructions per time, which the JIT compiler
+ * can unroll and vectorize. In the other zones, the times are split into runs within the same period between two
+ * offset transitions, and every run is computed like a fixed offset zone. The times near a transition are computed
+ * with the civil calendar arithmetic, with the rules of <code>Calendar</code>, and only the times
+ * this arithmetic cannot handle fall back to a moment.
+ * <p>
+ * Sorted times, such as the timestamps of a backfill, make long runs. The output may be the input itself.
+ *
+ * <pre>
+ * {@code
+ * TimeZone zone = TimeZone.getTimeZone("Europe/Istanbul");
+ * MomentArrays.startOf(timestamps, Calendar.HOUR_OF_DAY, zone, hours);
+ * MomentArrays.add(timestamps, 1, Calendar.DAY_OF_MONTH, zone, timestamps);
+ * }
+ * </pre>
+ *
+ * @author Serdar Kuzucu
+ */
+public class MomentArrays {
+    private static final int ADD = 0;
+    private static final int START_OF = 1;
+    private static final int TO_LOCAL = 2;
+    private static final int FROM_LOCAL = 3;
+
+    /**
+     * Times kept away from the offset transitions by the runs, longer than any offset change,
+     * so that no wall clock time of a run is skipped or repeated.
+     */
+    private static final long MARGIN = MILLIS_PER_DAY;
+
+    /**
+     * The range of times computed by the civil calendar arithmetic.
+     */
+    private static final long MIN_CIVIL = CivilCalendar.GREGORIAN_CUTOVER_MILLIS + MILLIS_PER_DAY;
+    private static final long MAX_CIVIL = CivilCalendar.MAX_MILLIS;
+
+    /**
+     * Number of times copied at once from and to the buffers without an accessible array.
+     */
+    private static final int CHUNK = 1024;
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private MomentArrays() {
+        // Prevent new instances of utility class
+    }
+
+    /**
+     * Adds the specified amount of time to the given calendar field of every time,
+     * like <code>moment.add(value, calendarField)</code>.
+     *
+     * @param in            times as UTC milliseconds from the epoch
+     * @param value         the amount of date or time to be added to the field
+     * @param calendarField the calendar field
+     * @param zone          time zone of the moments
+     * @param out           array to write the resulting times, at the same indexes; may be the input array
+     * @see Moment#add(int, int)
+     */
+    public static void add(long[] in, int value, int calendarField, TimeZone zone, long[] out) {
+        check(in, zone, out);
+        run(ADD, value, calendarField, zone, in, 0, out, 0, in.length);
+    }
+
+    /**
+     * Adds the specified amount of time to the given calendar field of every remaining time of the input buffer,
+     * and writes the resulting times into the output buffer. The positions of both buffers are advanced.
+     *
+     * @param in            times as UTC milliseconds from the epoch
+     * @param value         the amount of date or time to be added to the field
+     * @param calendarField the calendar field
+     * @param zone          time zone of the moments
+     * @param out           buffer to write the resulting times; may be the input buffer
+     * @see #add(long[], int, int, TimeZone, long[])
+     */
+    public static void add(LongBuffer in, int value, int calendarField, TimeZone zone, LongBuffer out) {
+        run(ADD, value, calendarField, zone, in, out);
+    }
+
+    /**
+     * Subtracts the specified amount of time from the given calendar field of every time,
+     * like <code>moment.subtract(value, calendarField)</code>.
+     *
+     * @param in            times as UTC milliseconds from the epoch
+     * @param value         the amount of date or time to be subtracted from the field
+     * @param calendarField the calendar field
+     * @param zone          time zone of the moments
+     * @param out           array to write the resulting times, at the same indexes; may be the input array
+     * @see Moment#subtract(int, int)
+     */
+    public static void subtract(long[] in, int value, int calendarField, TimeZone zone, long[] out) {
+        add(in, -value, calendarField, zone, out);
+    }
+
+    /**
+     * Subtracts the specified amount of time from the given calendar field of every remaining time of the input buffer,
+     * and writes the resulting times into the output buffer. The positions of both buffers are advanced.
+     *
+     * @param in            times as UTC milliseconds from the epoch
+     * @param value         the amount of date or time to be subtracted from the field
+     * @param calendarField the calendar field
+     * @param zone          time zone of the moments
+     * @param out           buffer to write the resulting times; may be the input buffer
+     * @see #subtract(long[], int, int, TimeZone, long[])
+     */
+    public static void subtract(LongBuffer in, int value, int calendarField, TimeZone zone, LongBuffer out) {
+        add(in, -value, calendarField, zone, out);
+    }
+
+    /**
+     * Sets every time to the start of its unit of time, like <code>moment.startOf(calendarField)</code>.
+     *
+     * @param in            times as UTC milliseconds from the epoch
+     * @param calendarField unit of time whose start time will be set
+     * @param zone          time zone of the moments
+     * @param out           array to write the resulting times, at the same indexes; may be the input array
+     * @see Moment#startOf(int)
+     */
+    public static void startOf(long[] in, int calendarField, TimeZone zone, long[] out) {
+        check(in, zone, out);
+        checkStartOf(calendarField);
+        run(START_OF, 0, calendarField, zone, in, 0, out, 0, in.length);
+    }
+
+    /**
+     * Sets every remaining time of the input buffer to the start of its unit of time,
+     * and writes the resulting times into the output buffer. The positions of both buffers are advanced.
+     *
+     * @param in            times as UTC milliseconds from the epoch
+     * @param calendarField unit of time whose start time will be set
+     * @param zone          time zone of the moments
+     * @param out           buffer to write the resulting times; may be the input buffer
+     * @see #startOf(long[], int, TimeZone, long[])
+     */
+    public static void startOf(LongBuffer in, int calendarField, TimeZone zone, LongBuffer out) {
+        checkStartOf(calendarField);
+        run(START_OF, 0, calendarField, zone, in, out);
+    }
+
+    /**
+     * Converts every time to the wall clock time of the given time zone, as milliseconds from 1970-01-01 00:00
+     * in the same wall clock. For example, 1970-01-01 00:00 UTC is 7200000 in <code>Europe/Istanbul</code>.
+     *
+     * @param in   times as UTC milliseconds from the epoch
+     * @param zone the time zone of the wall clock
+     * @param out  array to write the wall clock times, at the same indexes; may be the input array
+     */
+    public static void toLocal(long[] in, TimeZone zone, long[] out) {
+        check(in, zone, out);
+        run(TO_LOCAL, 0, 0, zone, in, 0, out, 0, in.length);
+    }
+
+    /**
+     * Converts every remaining time of the input buffer to the wall clock time of the given time zone,
+     * and writes the wall clock times into the output buffer. The positions of both buffers are advanced.
+     *
+     * @param in   times as UTC milliseconds from the epoch
+     * @param zone the time zone of the wall clock
+     * @param out  buffer to write the wall clock times; may be the input buffer
+     * @see #toLocal(long[], TimeZone, long[])
+     */
+    public static void toLocal(LongBuffer in, TimeZone zone, LongBuffer out) {
+        run(TO_LOCAL, 0, 0, zone, in, out);
+    }
+
+    /**
+     * Converts every wall clock time of the given time zone to UTC milliseconds from the epoch,
+     * like <code>moment.with(...)</code> with the fields of the wall clock time. The skipped and repeated
+     * wall clock times of the offset transitions are resolved with the rules of <code>Calendar</code>.
+     * Converting the times with {@link #toLocal(long[], TimeZone, long[])} and back to another zone
+     * keeps their wall clock times, and changes their zone.
+     *
+     * @param in   wall clock times as milliseconds from 1970-01-01 00:00 in the same wall clock
+     * @param zone the time zone of the wall clock
+     * @param out  array to write the times as UTC milliseconds from the epoch, at the same indexes; may be the input array
+     */
+    public static void fromLocal(long[] in, TimeZone zone, long[] out) {
+        check(in, zone, out);
+        run(FROM_LOCAL, 0, 0, zone, in, 0, out, 0, in.length);
+    }
+
+    /**
+     * Converts every remaining wall clock time of the input buffer to UTC milliseconds from the epoch,
+     * and writes the times into the output buffer. The positions of both buffers are advanced.
+     *
+     * @param in   wall clock times as milliseconds from 1970-01-01 00:00 in the same wall clock
+     * @param zone the time zone of the wall clock
+     * @param out  buffer to write the times as UTC milliseconds from the epoch; may be the input buffer
+     * @see #fromLocal(long[], TimeZone, long[])
+     */
+    public static void fromLocal(LongBuffer in, TimeZone zone, LongBuffer out) {
+        run(FROM_LOCAL, 0, 0, zone, in, out);
+    }
+
+    /**
+     * Adds the specified amount of time to the given calendar field of a single time, like {@link #add(long[], int, int, TimeZone, long[])}.
+     */
+    static long add(long millis, int value, int calendarField, TimeZone zone) {
+        long unit = CalendarFieldUtils.fixedMillis(calendarField);
+        if (unit > 0) {
+            return millis + value * unit;
+        }
+        if (value == 0) {
+            return millis;
+        }
+        if (!CivilCalendar.isGregorian(Locale.getDefault(Locale.Category.FORMAT))) {
+            return fallback(ADD, value, calendarField, zone, millis);
+        }
+        return civil(ADD, value, calendarField, zone, millis);
+    }
+
+    private static void check(long[] in, TimeZone zone, long[] out) {
+        if (in == null || out == null) {
+            throw new MomentException("long[] array parameters cannot be null!");
+        }
+        if (zone == null) {
+            throw new MomentException("TimeZone parameter cannot be null!");
+        }
+        if (out.length < in.length) {
+            throw new MomentException("Output array is shorter than the input! " + out.length + " < " + in.length);
+        }
+    }
+
+    private static void checkStartOf(int calendarField) {
+        switch (calendarField) {
+            case Calendar.YEAR:
+            case Calendar.MONTH:
+            case Calendar.WEEK_OF_YEAR:
+            case Calendar.WEEK_OF_MONTH:
+            case Moment.ISO_WEEK_YEAR:
+            case Moment.ISO_WEEK:
+            case Moment.ISO_DAY_OF_WEEK:
+            case Calendar.DAY_OF_MONTH:
+            case Calendar.DAY_OF_WEEK:
+            case Calendar.DAY_OF_WEEK_IN_MONTH:
+            case Calendar.DAY_OF_YEAR:
+            case Calendar.HOUR:
+            case Calendar.HOUR_OF_DAY:
+            case Calendar.MINUTE:
+            case Calendar.SECOND:
+            case Calendar.MILLISECOND:
+                return;
+            default:
+                throw new MomentException("Unknown calendarField: " + calendarField);
+        }
+    }
+
+    private static void run(int operation, int value, int field, TimeZone zone, LongBuffer in, LongBuffer out) {
+        if (in == null || out == null) {
+            throw new MomentException("LongBuffer parameters cannot be null!");
+        }
+        if (zone == null) {
+            throw new MomentException("TimeZone parameter cannot be null!");
+        }
+        int length = in.remaining();
+        if (out.remaining() < length) {
+            throw new MomentException("Output buffer is shorter than the input! " + out.remaining() + " < " + length);
+        }
+
+        // The input and the output may be the same buffer, so positions are set after the operation
+        int inPosition = in.position();
+        int outPosition = out.position();
+        if (in.hasArray() && out.hasArray()) {
+            run(operation, value, field, zone, in.array(), in.arrayOffset() + inPosition,
+                    out.array(), out.arrayOffset() + outPosition, length);
+        } else {
+            LongBuffer source = in.duplicate();
+            LongBuffer target = out.duplicate();
+            long[] chunk = new long[Math.min(length, CHUNK)];
+            while (source.hasRemaining()) {
+                int count = Math.min(source.remaining(), chunk.length);
+                source.get(chunk, 0, count);
+                run(operation, value, field, zone, chunk, 0, chunk, 0, count);
+                target.put(chunk, 0, count);
+            }
+        }
+        in.position(inPosition + length);
+        out.position(outPosition + length);
+    }
+
+    private static void run(int operation, int value, int field, TimeZone zone,
+                            long[] in, int from, long[] out, int to, int length) {
+        if (operation == ADD && CalendarFieldUtils.fixedMillis(field) > 0) {
+            // Calendar adds the time fields as elapsed time, in every zone and calendar system
+            shift(in, from, out, to, length, value * CalendarFieldUtils.fixedMillis(field));
+            return;
+        }
+        if (operation == START_OF && field == Calendar.MILLISECOND || operation == ADD && value == 0) {
+            System.arraycopy(in, from, out, to, length);
+            return;
+        }
+        if (!CivilCalendar.isGregorian(Locale.getDefault(Locale.Category.FORMAT))) {
+            for (int i = 0; i < length; i++) {
+                out[to + i] = fallback(operation, value, field, zone, in[from + i]);
+            }
+            return;
+        }
+
+        long unit = unit(operation, value, field);
+        if (unit == 0) {
+            for (int i = 0; i < length; i++) {
+                out[to + i] = civil(operation, value, field, zone, in[from + i]);
+            }
+            return;
+        }
+
+        // Weeks are truncated from a first day of week rather than from the epoch
+        int origin = operation == START_OF ? weekOrigin(field) : 0;
+        if (CivilCalendar.isFixedOffset(zone) && isCivil(in, from, length)) {
+            runFixed(operation, unit, getOffset(zone, 0) - origin, in, from, out, to, length);
+            return;
+        }
+
+        int i = 0;
+        while (i < length) {
+            long millis = in[from + i];
+            int end = i;
+            if (millis >= MIN_CIVIL && millis <= MAX_CIVIL) {
+                // For FROM_LOCAL, the period of the time with the offset at the wall clock time
+                long utc = operation == FROM_LOCAL ? millis - getOffset(zone, millis) : millis;
+                int offset = getOffset(zone, utc);
+                long periodStart = Math.max(CivilCalendar.offsetPeriodStart(zone, utc), MIN_CIVIL);
+                long periodEnd = Math.min(CivilCalendar.offsetPeriodEnd(zone, utc), MAX_CIVIL);
+
+                long low;
+                long high;
+                if (operation == ADD) {
+                    // The times and the results must be in the period
+                    low = Math.max(periodStart, periodStart - unit);
+                    high = Math.min(periodEnd, periodEnd - unit);
+                } else if (operation == START_OF) {
+                    low = periodStart + MARGIN + unit;
+                    high = periodEnd - MARGIN;
+                } else if (operation == TO_LOCAL) {
+                    low = periodStart;
+                    high = periodEnd;
+                } else {
+                    low = periodStart + MARGIN + offset;
+                    high = periodEnd - MARGIN + offset;
+                }
+
+                end = endOfRun(in, from, i, length, low, high);
+                if (end > i) {
+                    runFixed(operation, unit, offset - origin, in, from + i, out, to + i, end - i);
+                }
+            }
+            if (end == i) {
+                out[to + i] = civil(operation, value, field, zone, millis);
+                end++;
+            }
+            i = end;
+        }
+    }
+
+    /**
+     * Returns the times added for {@link #ADD}, the unit of time truncated for {@link #START_OF}, or 1 for the
+     * zone conversions, if all the times of a period with a single offset are computed alike; otherwise 0.
+     */
+    private static long unit(int operation, int value, int field) {
+        if (operation == ADD) {
+            switch (field) {
+                case Calendar.DAY_OF_MONTH:
+                case Calendar.DAY_OF_YEAR:
+                case Calendar.DAY_OF_WEEK:
+                case Moment.ISO_DAY_OF_WEEK:
+                    return value * MILLIS_PER_DAY;
+                case Calendar.WEEK_OF_YEAR:
+                case Calendar.WEEK_OF_MONTH:
+                case Calendar.DAY_OF_WEEK_IN_MONTH:
+                case Moment.ISO_WEEK:
+                    return value * 7 * MILLIS_PER_DAY;
+                default:
+                    return 0;
+            }
+        }
+        if (operation == START_OF) {
+            switch (field) {
+                case Calendar.DAY_OF_MONTH:
+                case Calendar.DAY_OF_YEAR:
+                case Calendar.DAY_OF_WEEK:
+                case Moment.ISO_DAY_OF_WEEK:
+                    return MILLIS_PER_DAY;
+                case Calendar.WEEK_OF_YEAR:
+                case Calendar.WEEK_OF_MONTH:
+                case Moment.ISO_WEEK:
+                    return 7 * MILLIS_PER_DAY;
+                default:
+                    return Math.max(CalendarFieldUtils.fixedMillis(field), 0);
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Returns the local time of a start of week for the weeks of the given field, which are truncated
+     * like the other units after subtracting it; otherwise 0.
+     */
+    private static int weekOrigin(int field) {
+        switch (field) {
+            case Calendar.WEEK_OF_YEAR:
+            case Calendar.WEEK_OF_MONTH:
+                int firstDayOfWeek = CivilCalendar.firstDayOfWeek(Locale.getDefault(Locale.Category.FORMAT));
+                return (int) (CivilCalendar.daysIntoWeek(0, firstDayOfWeek) * -MILLIS_PER_DAY);
+            case Moment.ISO_WEEK:
+                return (int) (CivilCalendar.daysIntoWeek(0, Calendar.MONDAY) * -MILLIS_PER_DAY);
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Computes the given times in a single offset.
+     */
+    private static void runFixed(int operation, long unit, int offset, long[] in, int from, long[] out, int to, int length) {
+        switch (operation) {
+            case ADD:
+                shift(in, from, out, to, length, unit);
+                break;
+            case START_OF:
+                for (int i = 0; i < length; i++) {
+                    long local = in[from + i] + offset;
+                    long remainder = local % unit;
+                    out[to + i] = local - remainder - offset - (remainder < 0 ? unit : 0);
+                }
+                break;
+            case TO_LOCAL:
+                shift(in, from, out, to, length, offset);
+                break;
+            default:
+                shift(in, from, out, to, length, -offset);
+                break;
+        }
+    }
+
+    /**
+     * Returns the index after the times from the given index which are in the given range.
+     */
+    private static int endOfRun(long[] in, int from, int start, int length, long low, long high) {
+        int end = start;
+        while (end < length && in[from + end] >= low && in[from + end] < high) {
+            end++;
+        }
+        return end;
+    }
+
+    private static void shift(long[] in, int from, long[] out, int to, int length, long delta) {
+        for (int i = 0; i < length; i++) {
+            out[to + i] = in[from + i] + delta;
+        }
+    }
+
+    private static boolean isCivil(long[] in, int from, int length) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            min = Math.min(min, in[from + i]);
+            max = Math.max(max, in[from + i]);
+        }
+        return min >= MIN_CIVIL && max <= MAX_CIVIL;
+    }
+
+    /**
+     * Computes a single time with the civil calendar arithmetic, or with a moment if it cannot.
+     */
+    private static long civil(int operation, int value, int field, TimeZone zone, long millis) {
+        long result = CivilCalendar.UNRESOLVED;
+        if (millis >= MIN_CIVIL && millis <= MAX_CIVIL) {
+            switch (operation) {
+                case ADD:
+                    long days = unit(ADD, value, field) / MILLIS_PER_DAY;
+                    result = days != 0 ? addDays(millis, days, zone) : addMonths(millis, months(value, field), zone);
+                    break;
+                case START_OF:
+                    result = startOf(millis, field, zone);
+                    break;
+                case TO_LOCAL:
+                    result = millis + getOffset(zone, millis);
+                    break;
+                default:
+                    result = CivilCalendar.localToUtc(millis, zone);
+                    break;
+            }
+        }
+        return result != CivilCalendar.UNRESOLVED ? result : fallback(operation, value, field, zone, millis);
+    }
+
+    /**
+     * Adds days like <code>GregorianCalendar#add</code>: the wall clock time is kept, unless the new offset
+     * moves the time to another day.
+     */
+    private static long addDays(long millis, long days, TimeZone zone) {
+        int offset = getOffset(zone, millis);
+        long target = millis + offset + days * MILLIS_PER_DAY;
+        if (target < MIN_CIVIL || target > MAX_CIVIL) {
+            return CivilCalendar.UNRESOLVED;
+        }
+        long result = target - offset;
+        int change = offset - getOffset(zone, result);
+        if (change != 0) {
+            long adjusted = result + change;
+            if (floorDiv(adjusted + getOffset(zone, adjusted), MILLIS_PER_DAY) == floorDiv(target, MILLIS_PER_DAY)) {
+                result = adjusted;
+            }
+        }
+        return result;
+    }
+
+    private static long months(int value, int field) {
+        if (field == Calendar.MONTH) {
+            return value;
+        }
+        if (field == Calendar.YEAR) {
+            return value * 12L;
+        }
+        return 0;
+    }
+
+    /**
+     * Adds months like <code>GregorianCalendar#add</code>: the day of month is pinned to the length of the new month.
+     */
+    private static long addMonths(long millis, long months, TimeZone zone) {
+        if (months == 0) {
+            return CivilCalendar.UNRESOLVED;
+        }
+        long local = millis + getOffset(zone, millis);
+        long days = floorDiv(local, MILLIS_PER_DAY);
+        long timeOfDay = local - days * MILLIS_PER_DAY;
+        long date = CivilCalendar.civilFromDays(days);
+
+        long month = date / 10000 * 12 + date / 100 % 100 - 1 + months;
+        long year = floorDiv(month, 12);
+        int monthOfYear = (int) CivilCalendar.floorMod(month, 12) + 1;
+        if (year < 1 || year > MAX_CIVIL / MILLIS_PER_DAY / 365) {
+            return CivilCalendar.UNRESOLVED;
+        }
+        long firstDay = CivilCalendar.daysFromCivil(year, monthOfYear, 1);
+        long lengthOfMonth = (monthOfYear == 12
+                ? CivilCalendar.daysFromCivil(year + 1, 1, 1)
+                : CivilCalendar.daysFromCivil(year, monthOfYear + 1, 1)) - firstDay;
+        long target = (firstDay + Math.min(date % 100, lengthOfMonth) - 1) * MILLIS_PER_DAY + timeOfDay;
+        return target < MIN_CIVIL || target > MAX_CIVIL ? CivilCalendar.UNRESOLVED : CivilCalendar.localToUtc(target, zone);
+    }
+
+    private static long startOf(long millis, int field, TimeZone zone) {
+        long local = millis + getOffset(zone, millis);
+        long days = floorDiv(local, MILLIS_PER_DAY);
+        long target;
+        switch (field) {
+            case Calendar.YEAR:
+                target = CivilCalendar.daysFromCivil(CivilCalendar.civilFromDays(days) / 10000, 1, 1) * MILLIS_PER_DAY;
+                break;
+            case Calendar.MONTH:
+                target = (days - CivilCalendar.civilFromDays(days) % 100 + 1) * MILLIS_PER_DAY;
+                break;
+            case Moment.ISO_WEEK_YEAR:
+                long weekYear = floorDiv(CivilCalendar.isoWeekDate(days), 1000);
+                target = CivilCalendar.daysFromIsoWeekDate(weekYear, 1, 1) * MILLIS_PER_DAY;
+                break;
+            default:
+                long unit = unit(START_OF, 0, field);
+                if (unit == 0) {
+                    return CivilCalendar.UNRESOLVED;
+                }
+                int origin = weekOrigin(field);
+                target = floorDiv(local - origin, unit) * unit + origin;
+                break;
+        }
+        return target < MIN_CIVIL ? CivilCalendar.UNRESOLVED : CivilCalendar.localToUtc(target, zone);
+    }
+
+    private static long fallback(int operation, int value, int field, TimeZone zone, long millis) {
+        switch (operation) {
+            case ADD:
+                return Moment.moment(millis, zone).add(value, field).valueOf();
+            case START_OF:
+                return Moment.moment(millis, zone).startOf(field).valueOf();
+            case TO_LOCAL:
+                return millis + getOffset(zone, millis);
+            default:
+                // The wall clock time is proleptic Gregorian, like the times of the civil calendar arithmetic
+                long days = floorDiv(millis, MILLIS_PER_DAY);
+                GregorianCalendar local = prolepticCalendar(UTC);
+                local.setTimeInMillis(days * MILLIS_PER_DAY);
+                GregorianCalendar calendar = prolepticCalendar(zone);
+                calendar.clear();
+                calendar.set(Calendar.ERA, local.get(Calendar.ERA));
+                calendar.set(local.get(Calendar.YEAR), local.get(Calendar.MONTH), local.get(Calendar.DAY_OF_MONTH));
+                calendar.set(Calendar.MILLISECOND, (int) (millis - days * MILLIS_PER_DAY));
+                return calendar.getTimeInMillis();
+        }
+    }
+
+    private static GregorianCalendar prolepticCalendar(TimeZone zone) {
+        GregorianCalendar calendar = new GregorianCalendar(zone);
+        calendar.setGregorianChange(new Date(Long.MIN_VALUE));
+        return calendar;
+    }
+}
@@ -0,0 +1,101 @@
+package com.asosyalbebe.moment4j;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+
+/**
+ * A pool of reusable moments, which avoids creating a new <code>Calendar</code> for every handled timestamp.
+ * <p>
+ * A pool is not thread-safe, and must be confined to a single thread. {@link #forCurrentThread()} returns
+ * a pool of the calling thread. Only the moments acquired from a pool should be released to it, and a moment
+ * must not be used after it has been released.
+ *
+ * <pre>
+ * {@code
+ * MomentPool pool = MomentPool.forCurrentThread();
+ * Moment moment = pool.acquire(event.getTimestamp());
+ * try {
+ *     handle(moment.startOf(Calendar.HOUR_OF_DAY));
+ * } finally {
+ *     pool.release(moment);
+ * }
+ * }
+ * </pre>
+ *
+ * @author Serdar Kuzucu
+ */
+public final class MomentPool {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final ThreadLocal<MomentPool> POOLS = new ThreadLocal<MomentPool>() {
+        @Override
+        protected MomentPool initialValue() {
+            return new MomentPool();
+        }
+    };
+
+    private final Moment[] moments;
+    private int size;
+
+    /**
+     * Creates a pool keeping at most 16 released moments.
+     */
+    public MomentPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a pool keeping at most the given number of released moments.
+     *
+     * @param capacity maximum number of moments kept for reuse
+     */
+    public MomentPool(int capacity) {
+        if (capacity < 1) {
+            throw new MomentException("Pool capacity must be positive! You provided " + capacity);
+        }
+        this.moments = new Moment[capacity];
+    }
+
+    /**
+     * Returns the pool of the calling thread.
+     *
+     * @return the pool of the calling thread, which must not be shared with other threads.
+     */
+    public static MomentPool forCurrentThread() {
+        return POOLS.get();
+    }
+
+    /**
+     * Returns a moment for the given time value, reusing a released moment if there is one.
+     *
+     * @param timeInMillis the time as UTC milliseconds from the epoch.
+     * @return a moment for the given time value.
+     */
+    public Moment acquire(long timeInMillis) {
+        if (size == 0) {
+            return Moment.moment(timeInMillis);
+        }
+        Moment moment = moments[--size];
+        moments[size] = null;
+        return moment.reset(timeInMillis);
+    }
+
+    /**
+     * Returns the given moment to the pool for reuse. The moment is dropped if the pool is full.
+     *
+     * @param moment a moment acquired from this pool, which is not used afterwards.
+     */
+    public void release(Moment moment) {
+        if (moment != null && size < moments.length) {
+            moments[size++] = moment;
+        }
+    }
+
+    /**
+     * Returns the number of released moments waiting for reuse.
+     *
+     * @return the number of moments in the pool.
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,248 @@
+package com.asosyalbebe.moment4j;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import com.asosyalbebe.moment4j.util.CalendarFieldUtils;
+
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.TimeZone;
+
+import static com.asosyalbebe.moment4j.util.CalendarFieldUtils.MILLIS_PER_DAY;
+
+/**
+ * The moments from a start to an end, exclusive, by a step of a calendar field, such as every 5 minutes of a day.
+ * <p>
+ * The moment at an index is computed from the start, as <code>moment(start).add(index * step, calendarField)</code>,
+ * rather than from the previous moment. Any moment of the range can be computed in constant time, so the range
+ * can be split at any index, for example to process its parts in parallel. This also keeps the wall clock time and
+ * the day of month of the start, where stepping one moment at a time would drift after a daylight saving time
+ * gap or a short month.
+ *
+ * <pre>
+ * {@code
+ * MomentRange minutes = MomentRange.of(moment("2016-01-01", "yyyy-MM-dd"), moment("2017-01-01", "yyyy-MM-dd"), 1, Calendar.MINUTE);
+ * for (Moment minute : minutes) {
+ *     // 527040 minutes of 2016
+ * }
+ * }
+ * </pre>
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @author Serdar Kuzucu
+ */
+public final class MomentRange implements Iterable<Moment> {
+    private final long start;
+    private final long end;
+    private final int step;
+    private final int calendarField;
+    private final TimeZone zone;
+
+    /**
+     * Length of a step in milliseconds if it is fixed, otherwise 0.
+     */
+    private final long stepMillis;
+    private final long size;
+
+    private MomentRange(long start, long end, int step, int calendarField, TimeZone zone) {
+        if (step <= 0) {
+            throw new MomentException("Step of a range must be positive! You provided " + step);
+        }
+        if (zone == null) {
+            throw new MomentException("TimeZone parameter cannot be null!");
+        }
+        long averageMillis = averageMillis(calendarField);
+        if (averageMillis < 0) {
+            throw new MomentException("Unsupported calendarField: " + calendarField);
+        }
+        this.start = start;
+        this.end = end;
+        this.step = step;
+        this.calendarField = calendarField;
+        this.zone = (TimeZone) zone.clone();
+        this.stepMillis = CalendarFieldUtils.fixedMillis(calendarField) > 0 ? step * CalendarFieldUtils.fixedMillis(calendarField) : 0;
+        this.size = computeSize(step * averageMillis);
+    }
+
+    /**
+     * Creates a range of moments from the given start to the given end, exclusive, in the time zone of the default calendar.
+     *
+     * @param start         the first moment of the range
+     * @param end           the end of the range, exclusive
+     * @param step          the amount of the calendar field between two moments, which must be positive
+     * @param calendarField the calendar field of the step, from <code>Calendar.MILLISECOND</code> to <code>Calendar.YEAR</code>
+     * @return a new range.
+     * @throws MomentException if the step is not positive or the calendar field is not supported
+     */
+    public static MomentRange of(Moment start, Moment end, int step, int calendarField) {
+        if (start == null || end == null) {
+            throw new MomentException("Moment parameters cannot be null!");
+        }
+        return new MomentRange(start.valueOf(), end.valueOf(), step, calendarField, TimeZone.getDefault());
+    }
+
+    /**
+     * Creates a range of moments from the given start to the given end, exclusive, in the given time zone.
+     *
+     * @param start         the first time of the range as UTC milliseconds from the epoch
+     * @param end           the end of the range as UTC milliseconds from the epoch, exclusive
+     * @param step          the amount of the calendar field between two moments, which must be positive
+     * @param calendarField the calendar field of the step, from <code>Calendar.MILLISECOND</code> to <code>Calendar.YEAR</code>
+     * @param zone          the time zone of the days, months and years of the steps
+     * @return a new range.
+     * @throws MomentException if the step is not positive or the calendar field is not supported
+     */
+    public static MomentRange of(long start, long end, int step, int calendarField, TimeZone zone) {
+        return new MomentRange(start, end, step, calendarField, zone);
+    }
+
+    /**
+     * @return number of moments in the range.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return true if the range has no moments, because its end is not after its start.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the time of the moment at the given index of the range.
+     *
+     * @param index index of the moment, from 0 to <code>size() - 1</code>
+     * @return the time as UTC milliseconds from the epoch.
+     * @throws MomentException if the index is out of bounds
+     */
+    public long valueAt(long index) {
+        if (index < 0 || index >= size) {
+            throw new MomentException("Index " + index + " is out of bounds for a range of size " + size);
+        }
+        return compute(index);
+    }
+
+    /**
+     * Returns the moment at the given index of the range.
+     *
+     * @param index index of the moment, from 0 to <code>size() - 1</code>
+     * @return a new moment in the time zone of the range.
+     * @throws MomentException if the index is out of bounds
+     */
+    public Moment get(long index) {
+        return Moment.moment(valueAt(index), zone);
+    }
+
+    /**
+     * Returns the times of all the moments of the range.
+     *
+     * @return a new array of the times as UTC milliseconds from the epoch.
+     * @throws MomentException if the range has more moments than an array can hold
+     */
+    public long[] toArray() {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new MomentException("Range is too large for an array: " + size + " moments");
+        }
+        long[] array = new long[(int) size];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = compute(i);
+        }
+        return array;
+    }
+
+    /**
+     * @return the time zone of the range.
+     */
+    public TimeZone zone() {
+        return (TimeZone) zone.clone();
+    }
+
+    @Override
+    public Iterator<Moment> iterator() {
+        return new Iterator<Moment>() {
+            private long index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Moment next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return Moment.moment(compute(index++), zone);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("Moment ranges are immutable!");
+            }
+        };
+    }
+
+    private long compute(long index) {
+        if (stepMillis > 0) {
+            return start + index * stepMillis;
+        }
+        long amount = index * step;
+        if (amount > Integer.MAX_VALUE) {
+            throw new MomentException("Range is too long to compute the moment at index " + index);
+        }
+        return MomentArrays.add(start, (int) amount, calendarField, zone);
+    }
+
+    /**
+     * Counts the moments before the end. The count is estimated with the average length of a step,
+     * and corrected by computing the moments around the estimate.
+     */
+    private long computeSize(long averageStepMillis) {
+        if (end <= start) {
+            return 0;
+        }
+        if (stepMillis > 0) {
+            return (end - start - 1) / stepMillis + 1;
+        }
+        long count = (end - start) / averageStepMillis;
+        while (count > 0 && compute(count - 1) >= end) {
+            count--;
+        }
+        while (compute(count) < end) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the average length of one unit of the given calendar field, or -1 for the fields which cannot be steps.
+     */
+    private static long averageMillis(int calendarField) {
+        switch (calendarField) {
+            case Calendar.DAY_OF_MONTH:
+            case Calendar.DAY_OF_YEAR:
+            case Calendar.DAY_OF_WEEK:
+            case Moment.ISO_DAY_OF_WEEK:
+                return MILLIS_PER_DAY;
+            case Calendar.WEEK_OF_YEAR:
+            case Calendar.WEEK_OF_MONTH:
+            case Moment.ISO_WEEK:
+                return 7 * MILLIS_PER_DAY;
+            case Calendar.MONTH:
+                return 146097 * MILLIS_PER_DAY / 4800;
+            case Calendar.YEAR:
+            case Moment.ISO_WEEK_YEAR:
+                return 146097 * MILLIS_PER_DAY / 400;
+            default:
+                return CalendarFieldUtils.fixedMillis(calendarField);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MomentRange[" + start + ", " + end + ") by " + step + " of field " + calendarField + " in " + zone.getID();
+    }
+}
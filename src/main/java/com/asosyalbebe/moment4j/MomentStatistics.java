@@ -0,0 +1,199 @@
+package com.asosyalbebe.moment4j;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+
+/**
+ * Summary statistics of a set of times: their count, minimum, maximum, span, mean and spread.
+ * <p>
+ * Every time is read once. The mean and the standard deviation are updated incrementally with Welford's method,
+ * relative to the first time, so the sum of the times never overflows and the mean keeps its precision. Two statistics can be combined, for example the statistics of the
+ * parts of a parallel computation.
+ *
+ * <pre>
+ * {@code
+ * MomentStatistics statistics = MomentStatistics.of(timestamps);
+ * long span = statistics.span();
+ * double spread = statistics.standardDeviation();
+ * }
+ * </pre>
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @author Serdar Kuzucu
+ */
+public class MomentStatistics {
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    private long origin;
+    private double mean;
+    private double squaredDeviations;
+
+    /**
+     * Returns the statistics of the given times.
+     *
+     * @param millis times as UTC milliseconds from the epoch
+     * @return the statistics of the given times.
+     */
+    public static MomentStatistics of(long[] millis) {
+        MomentStatistics statistics = new MomentStatistics();
+        for (long value : millis) {
+            statistics.add(value);
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the statistics of the given moments.
+     *
+     * @param moments the moments
+     * @return the statistics of the given moments.
+     */
+    public static MomentStatistics of(Iterable<? extends Moment> moments) {
+        MomentStatistics statistics = new MomentStatistics();
+        for (Moment moment : moments) {
+            statistics.add(moment.valueOf());
+        }
+        return statistics;
+    }
+
+    /**
+     * Adds the given time to the statistics.
+     *
+     * @param millis time as UTC milliseconds from the epoch.
+     * @return this MomentStatistics instance for chainability.
+     */
+    public MomentStatistics add(long millis) {
+        if (count == 0) {
+            origin = millis;
+        }
+        count++;
+        min = Math.min(min, millis);
+        max = Math.max(max, millis);
+        double value = millis - origin;
+        double deviation = value - mean;
+        mean += deviation / count;
+        squaredDeviations += deviation * (value - mean);
+        return this;
+    }
+
+    /**
+     * Adds the time of the given moment to the statistics.
+     *
+     * @param moment the moment
+     * @return this MomentStatistics instance for chainability.
+     */
+    public MomentStatistics add(Moment moment) {
+        return add(moment.valueOf());
+    }
+
+    /**
+     * Adds the times of the given statistics to these statistics.
+     *
+     * @param other the statistics to combine with
+     * @return this MomentStatistics instance for chainability.
+     */
+    public MomentStatistics combine(MomentStatistics other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            count = other.count;
+            min = other.min;
+            max = other.max;
+            origin = other.origin;
+            mean = other.mean;
+            squaredDeviations = other.squaredDeviations;
+            return this;
+        }
+
+        long total = count + other.count;
+        double deviation = (other.origin - origin) + other.mean - mean;
+        mean += deviation * other.count / total;
+        squaredDeviations += other.squaredDeviations + deviation * deviation * count * other.count / total;
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    /**
+     * @return number of the times.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return true if there is no time in the statistics.
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the earliest time.
+     *
+     * @return time as UTC milliseconds from the epoch.
+     * @throws MomentException if the statistics are empty
+     */
+    public long min() {
+        checkNotEmpty();
+        return min;
+    }
+
+    /**
+     * Returns the latest time.
+     *
+     * @return time as UTC milliseconds from the epoch.
+     * @throws MomentException if the statistics are empty
+     */
+    public long max() {
+        checkNotEmpty();
+        return max;
+    }
+
+    /**
+     * Returns the duration from the earliest time to the latest time.
+     *
+     * @return the span in milliseconds; 0 if the statistics are empty.
+     */
+    public long span() {
+        return count == 0 ? 0L : max - min;
+    }
+
+    /**
+     * Returns the mean of the times.
+     *
+     * @return time as UTC milliseconds from the epoch.
+     * @throws MomentException if the statistics are empty
+     */
+    public double mean() {
+        checkNotEmpty();
+        return origin + mean;
+    }
+
+    /**
+     * Returns the population standard deviation of the times, which is the spread of the times around their mean.
+     *
+     * @return the standard deviation in milliseconds; 0 if the statistics are empty.
+     */
+    public double standardDeviation() {
+        return count == 0 ? 0d : Math.sqrt(squaredDeviations / count);
+    }
+
+    private void checkNotEmpty() {
+        if (count == 0) {
+            throw new MomentException("Statistics are empty!");
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (count == 0) {
+            return "MomentStatistics{ count=0 }";
+        }
+        return "MomentStatistics{ count=" + count + ", min=" + min + ", max=" + max + ", mean=" + mean()
+                + ", standardDeviation=" + standardDeviation() + " }";
+    }
+}
@@ -0,0 +1,423 @@
+package com.asosyalbebe.moment4j;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import com.asosyalbebe.moment4j.format.CompiledPattern;
+import com.asosyalbebe.moment4j.metrics.MetricsListener;
+import com.asosyalbebe.moment4j.metrics.MomentMetrics;
+import com.asosyalbebe.moment4j.util.CivilCalendar;
+
+import java.io.Serializable;
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import static com.asosyalbebe.moment4j.util.FormatUtils.toThreeDigitsString;
+
+/**
+ * The class <code>PreciseMoment</code> represents a specific instant in time, with nanosecond precision.
+ * <p>
+ * A precise moment is a {@link Moment} of the millisecond, plus the nanoseconds after that millisecond.
+ * The calendar operations, such as {@link #add(int, int)} and {@link #startOf(int)}, are done by the moment,
+ * so they behave exactly like those of <code>Moment</code>. Durations below the millisecond are added with
+ * {@link #add(long, TimeUnit)}.
+ * <p>
+ * For columnar storage, a precise moment can be packed into a single <code>long</code> of microseconds from the epoch,
+ * which covers about 292,000 years around 1970, with {@link #toEpochMicros()} and {@link #ofEpochMicros(long)}.
+ *
+ * <pre>
+ * {@code
+ * PreciseMoment moment = PreciseMoment.ofEpochSecond(1458000000L, 123456789);
+ * moment.add(250, TimeUnit.MICROSECONDS);
+ * String text = moment.format("yyyy-MM-dd HH:mm:ss.SSSSSSSSS");
+ * }
+ * </pre>
+ *
+ * @author Serdar Kuzucu
+ */
+@SuppressWarnings({"WeakerAccess", "UnusedReturnValue"})
+public class PreciseMoment implements Cloneable, Serializable, Comparable<PreciseMoment> {
+    private static final long serialVersionUID = 1L;
+
+    private static final int NANOS_PER_MICRO = 1000;
+    private static final int NANOS_PER_MILLI = 1000000;
+    private static final int MICROS_PER_MILLI = 1000;
+
+    /**
+     * The instant truncated to the millisecond.
+     */
+    private final Moment moment;
+
+    /**
+     * Nanoseconds after the millisecond of the moment, from 0 to 999,999.
+     */
+    private int nanoOfMilli;
+
+    private PreciseMoment(Moment moment, int nanoOfMilli) {
+        this.moment = moment;
+        this.nanoOfMilli = nanoOfMilli;
+    }
+
+    /**
+     * Creates a precise moment for the given seconds and nanoseconds from the epoch.
+     * The nanoseconds may be out of the range of a second, and bubble up to the seconds.
+     *
+     * @param epochSecond    seconds from the epoch of 1970-01-01T00:00:00Z
+     * @param nanoAdjustment nanoseconds to add to the seconds
+     * @return a new precise moment.
+     */
+    public static PreciseMoment ofEpochSecond(long epochSecond, long nanoAdjustment) {
+        long nanoOfSecond = CivilCalendar.floorMod(nanoAdjustment, 1000000000L);
+        long seconds = epochSecond + CivilCalendar.floorDiv(nanoAdjustment, 1000000000L);
+        return new PreciseMoment(Moment.moment(seconds * 1000 + nanoOfSecond / NANOS_PER_MILLI), (int) (nanoOfSecond % NANOS_PER_MILLI));
+    }
+
+    /**
+     * Creates a precise moment for the given microseconds from the epoch.
+     *
+     * @param epochMicros microseconds from the epoch of 1970-01-01T00:00:00Z
+     * @return a new precise moment.
+     * @see #toEpochMicros()
+     */
+    public static PreciseMoment ofEpochMicros(long epochMicros) {
+        long millis = CivilCalendar.floorDiv(epochMicros, MICROS_PER_MILLI);
+        int microOfMilli = (int) (epochMicros - millis * MICROS_PER_MILLI);
+        return new PreciseMoment(Moment.moment(millis), microOfMilli * NANOS_PER_MICRO);
+    }
+
+    /**
+     * Creates a precise moment for the given nanoseconds from the epoch, which covers the years from 1677 to 2262.
+     *
+     * @param epochNanos nanoseconds from the epoch of 1970-01-01T00:00:00Z
+     * @return a new precise moment.
+     * @see #toEpochNanos()
+     */
+    public static PreciseMoment ofEpochNanos(long epochNanos) {
+        long millis = CivilCalendar.floorDiv(epochNanos, NANOS_PER_MILLI);
+        return new PreciseMoment(Moment.moment(millis), (int) (epochNanos - millis * NANOS_PER_MILLI));
+    }
+
+    /**
+     * Creates a precise moment for the given moment, with no nanoseconds after its millisecond.
+     * The moment is copied. The operations on the precise moment have no effect on the given moment.
+     *
+     * @param moment the moment to copy
+     * @return a new precise moment.
+     */
+    public static PreciseMoment of(Moment moment) {
+        if (moment == null) {
+            throw new MomentException("Moment parameter cannot be null!");
+        }
+        return new PreciseMoment(moment.clone(), 0);
+    }
+
+    /**
+     * Returns the milliseconds. The returned value is always in range from 0 to 999.
+     *
+     * @return the milliseconds of the second.
+     */
+    public int milliseconds() {
+        return moment.milliseconds();
+    }
+
+    /**
+     * Returns the microseconds after the millisecond. The returned value is always in range from 0 to 999.
+     *
+     * @return the microseconds of the millisecond.
+     */
+    public int microseconds() {
+        return nanoOfMilli / NANOS_PER_MICRO;
+    }
+
+    /**
+     * Returns the nanoseconds after the microsecond. The returned value is always in range from 0 to 999.
+     *
+     * @return the nanoseconds of the microsecond.
+     */
+    public int nanoseconds() {
+        return nanoOfMilli % NANOS_PER_MICRO;
+    }
+
+    /**
+     * Returns the nanoseconds after the second. The returned value is always in range from 0 to 999,999,999.
+     *
+     * @return the nanoseconds of the second.
+     */
+    public int nanoOfSecond() {
+        return (int) CivilCalendar.floorMod(moment.valueOf(), 1000) * NANOS_PER_MILLI + nanoOfMilli;
+    }
+
+    /**
+     * Returns the seconds from the epoch of 1970-01-01T00:00:00Z, rounded down.
+     *
+     * @return the seconds from the epoch.
+     */
+    public long epochSecond() {
+        return CivilCalendar.floorDiv(moment.valueOf(), 1000);
+    }
+
+    /**
+     * Returns the time value truncated to the millisecond, like {@link Moment#valueOf()}.
+     *
+     * @return the time as UTC milliseconds from the epoch.
+     */
+    public long valueOf() {
+        return moment.valueOf();
+    }
+
+    /**
+     * Returns the microseconds from the epoch, rounded down. This packs the precise moment into a single number,
+     * for example to store it in a column of <code>long</code> values.
+     *
+     * @return the microseconds from the epoch.
+     * @throws MomentException if the result does not fit in a <code>long</code>.
+     */
+    public long toEpochMicros() {
+        return multiplyAndAdd(moment.valueOf(), MICROS_PER_MILLI, nanoOfMilli / NANOS_PER_MICRO);
+    }
+
+    /**
+     * Returns the nanoseconds from the epoch.
+     *
+     * @return the nanoseconds from the epoch.
+     * @throws MomentException if the result does not fit in a <code>long</code>, that is out of the years 1677 to 2262.
+     */
+    public long toEpochNanos() {
+        return multiplyAndAdd(moment.valueOf(), NANOS_PER_MILLI, nanoOfMilli);
+    }
+
+    /**
+     * Returns a copy of the moment, truncated to the millisecond.
+     *
+     * @return a new moment instance.
+     */
+    public Moment toMoment() {
+        return moment.clone();
+    }
+
+    /**
+     * Adds the given duration. Durations below the millisecond are added exactly; the larger units are fixed lengths
+     * of time, so <code>TimeUnit.DAYS</code> is always 24 hours. Use {@link #add(int, int)} for calendar days.
+     *
+     * @param amount amount of time to add, may be negative
+     * @param unit   unit of the amount
+     * @return this PreciseMoment instance for chainability.
+     */
+    public PreciseMoment add(long amount, TimeUnit unit) {
+        long millis;
+        long nanos;
+        switch (unit) {
+            case NANOSECONDS:
+                millis = CivilCalendar.floorDiv(amount, NANOS_PER_MILLI);
+                nanos = amount - millis * NANOS_PER_MILLI;
+                break;
+            case MICROSECONDS:
+                millis = CivilCalendar.floorDiv(amount, MICROS_PER_MILLI);
+                nanos = (amount - millis * MICROS_PER_MILLI) * NANOS_PER_MICRO;
+                break;
+            default:
+                millis = unit.toMillis(amount);
+                nanos = 0;
+                break;
+        }
+
+        nanos += nanoOfMilli;
+        if (nanos >= NANOS_PER_MILLI) {
+            nanos -= NANOS_PER_MILLI;
+            millis++;
+        }
+        this.nanoOfMilli = (int) nanos;
+        if (millis != 0) {
+            moment.reset(moment.valueOf() + millis);
+        }
+        return this;
+    }
+
+    /**
+     * Subtracts the given duration.
+     *
+     * @param amount amount of time to subtract, may be negative
+     * @param unit   unit of the amount
+     * @return this PreciseMoment instance for chainability.
+     * @see #add(long, TimeUnit)
+     */
+    public PreciseMoment subtract(long amount, TimeUnit unit) {
+        if (amount == Long.MIN_VALUE) {
+            return add(Long.MAX_VALUE, unit).add(1, unit);
+        }
+        return add(-amount, unit);
+    }
+
+    /**
+     * Adds the specified amount of time to the given calendar field, like {@link Moment#add(int, int)}.
+     * The nanoseconds after the millisecond are kept.
+     *
+     * @param value         amount of time to add
+     * @param calendarField calendar field, such as Calendar.MONTH
+     * @return this PreciseMoment instance for chainability.
+     */
+    public PreciseMoment add(int value, int calendarField) {
+        moment.add(value, calendarField);
+        return this;
+    }
+
+    /**
+     * Subtracts the specified amount of time from the given calendar field, like {@link Moment#subtract(int, int)}.
+     *
+     * @param value         amount of time to subtract
+     * @param calendarField calendar field, such as Calendar.MONTH
+     * @return this PreciseMoment instance for chainability.
+     */
+    public PreciseMoment subtract(int value, int calendarField) {
+        moment.subtract(value, calendarField);
+        return this;
+    }
+
+    /**
+     * Sets to the start of the given calendar field, like {@link Moment#startOf(int)}.
+     * The nanoseconds after the millisecond are cleared.
+     *
+     * @param calendarField calendar field, such as Calendar.DATE
+     * @return this PreciseMoment instance for chainability.
+     */
+    public PreciseMoment startOf(int calendarField) {
+        moment.startOf(calendarField);
+        this.nanoOfMilli = 0;
+        return this;
+    }
+
+    /**
+     * Sets to the start of the given unit of time. For example, <code>TimeUnit.MICROSECONDS</code> clears
+     * the nanoseconds after the microsecond, and <code>TimeUnit.DAYS</code> is the start of the day.
+     *
+     * @param unit unit of time
+     * @return this PreciseMoment instance for chainability.
+     */
+    public PreciseMoment startOf(TimeUnit unit) {
+        switch (unit) {
+            case NANOSECONDS:
+                return this;
+            case MICROSECONDS:
+                this.nanoOfMilli -= nanoOfMilli % NANOS_PER_MICRO;
+                return this;
+            case MILLISECONDS:
+                this.nanoOfMilli = 0;
+                return this;
+            case SECONDS:
+                return startOf(Calendar.SECOND);
+            case MINUTES:
+                return startOf(Calendar.MINUTE);
+            case HOURS:
+                return startOf(Calendar.HOUR_OF_DAY);
+            default:
+                return startOf(Calendar.DATE);
+        }
+    }
+
+    /**
+     * Formats this precise moment with the given pattern, in the default time zone and locale.
+     * The <code>S</code> fields of more than three letters print the fraction of the second with as many digits,
+     * such as <code>SSSSSS</code> for microseconds; all other letters are those of <code>SimpleDateFormat</code>.
+     *
+     * @param pattern the pattern
+     * @return the formatted string.
+     * @see CompiledPattern#format(long, int, TimeZone, Locale)
+     */
+    public String format(String pattern) {
+        return format(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Formats this precise moment with the given pattern, in the default time zone and the given locale.
+     *
+     * @param pattern the pattern
+     * @param locale  locale of the month and day names
+     * @return the formatted string.
+     * @see #format(String)
+     */
+    public String format(String pattern, Locale locale) {
+        MetricsListener listener = MomentMetrics.listener();
+        if (listener != null) {
+            listener.onFormat(pattern);
+        }
+        try {
+            return CompiledPattern.of(pattern).format(moment.valueOf(), nanoOfMilli, TimeZone.getDefault(), locale);
+        } catch (Exception e) {
+            throw new MomentException("Format error occurred while formatting with SimpleDateFormat [" + pattern + "]", e);
+        }
+    }
+
+    /**
+     * @param other the precise moment to compare
+     * @return true if this precise moment is before the given one.
+     */
+    public boolean isBefore(PreciseMoment other) {
+        return compareTo(other) < 0;
+    }
+
+    /**
+     * @param other the precise moment to compare
+     * @return true if this precise moment is after the given one.
+     */
+    public boolean isAfter(PreciseMoment other) {
+        return compareTo(other) > 0;
+    }
+
+    /**
+     * @param other the precise moment to compare
+     * @return true if this precise moment is the same nanosecond as the given one.
+     */
+    public boolean isSame(PreciseMoment other) {
+        return compareTo(other) == 0;
+    }
+
+    @Override
+    public int compareTo(PreciseMoment other) {
+        long millis = moment.valueOf();
+        long otherMillis = other.moment.valueOf();
+        if (millis != otherMillis) {
+            return millis < otherMillis ? -1 : 1;
+        }
+        return nanoOfMilli < other.nanoOfMilli ? -1 : nanoOfMilli == other.nanoOfMilli ? 0 : 1;
+    }
+
+    @Override
+    @SuppressWarnings("CloneDoesntCallSuperClone")
+    public PreciseMoment clone() {
+        return new PreciseMoment(moment.clone(), nanoOfMilli);
+    }
+
+    @Override
+    public int hashCode() {
+        long millis = moment.valueOf();
+        return 31 * (int) (millis ^ (millis >>> 32)) + nanoOfMilli;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        return isSame((PreciseMoment) obj);
+    }
+
+    @Override
+    public String toString() {
+        String text = moment.toString();
+        return "Precise" + text.substring(0, text.length() - 2)
+                + toThreeDigitsString(microseconds()) + toThreeDigitsString(nanoseconds()) + " }";
+    }
+
+    /**
+     * Returns <code>value * factor + addend</code>, for an addend from 0 to the factor.
+     */
+    private static long multiplyAndAdd(long value, long factor, long addend) {
+        if (value > (Long.MAX_VALUE - addend) / factor || value < Long.MIN_VALUE / factor) {
+            throw new MomentException("Time value " + value + " is out of range with a precision of 1/" + factor + " milliseconds!");
+        }
+        return value * factor + addend;
+    }
+}
@@ -0,0 +1,63 @@
+package com.asosyalbebe.moment4j.codec;
+
+import java.util.Arrays;
+
+/**
+ * Packs bits into a growable array of longs, most significant bit first.
+ *
+ * @author Serdar Kuzucu
+ */
+final class BitWriter {
+    private long[] words;
+    private long bitLength;
+
+    BitWriter(int initialWords) {
+        this.words = new long[Math.max(1, initialWords)];
+    }
+
+    /**
+     * Appends the lowest <code>bits</code> bits of the given value.
+     *
+     * @param value value whose lowest bits will be written
+     * @param bits  number of bits to write, in range from 1 to 64
+     */
+    void write(long value, int bits) {
+        int index = (int) (bitLength >>> 6);
+        if (index + 1 >= words.length) {
+            words = Arrays.copyOf(words, words.length << 1);
+        }
+        if (bits < 64) {
+            value &= (1L << bits) - 1;
+        }
+        int free = 64 - (int) (bitLength & 63);
+        if (bits <= free) {
+            words[index] |= value << (free - bits);
+        } else {
+            int rest = bits - free;
+            words[index] |= value >>> rest;
+            words[index + 1] |= value << (64 - rest);
+        }
+        bitLength += bits;
+    }
+
+    long bitLength() {
+        return bitLength;
+    }
+
+    int wordLength() {
+        return (int) ((bitLength + 63) >>> 6);
+    }
+
+    long word(int index) {
+        return words[index];
+    }
+
+    long[] toWords() {
+        return Arrays.copyOf(words, wordLength());
+    }
+
+    void clear() {
+        Arrays.fill(words, 0, Math.min(words.length, wordLength() + 1), 0L);
+        bitLength = 0;
+    }
+}
@@ -0,0 +1,50 @@
+package com.asosyalbebe.moment4j.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes blocks of time values (UTC milliseconds from the epoch) to and from bytes.
+ * <p>
+ * Implementations are stateless and thread-safe. Every codec has a unique id,
+ * which is stored in on-disk formats to find the codec back with {@link BlockCodecs#byId(int)}.
+ *
+ * @author Serdar Kuzucu
+ */
+public interface BlockCodec {
+
+    /**
+     * @return the unique id of this codec, in range from 1 to 127.
+     */
+    int id();
+
+    /**
+     * Returns the maximum number of bytes {@link #encode(long[], int, int, ByteBuffer)} may write for the given number of values.
+     *
+     * @param count number of values in the block
+     * @return the maximum number of bytes an encoded block of <code>count</code> values may have.
+     */
+    int maxEncodedLength(int count);
+
+    /**
+     * Encodes the given values to the given buffer, starting at its current position.
+     * The position of the buffer is advanced by the number of bytes written.
+     *
+     * @param values array containing the values to encode
+     * @param offset index of the first value to encode
+     * @param count  number of values to encode
+     * @param out    buffer with at least {@link #maxEncodedLength(int)} bytes remaining
+     */
+    void encode(long[] values, int offset, int count, ByteBuffer out);
+
+    /**
+     * Decodes a block of values which starts at the given absolute position of the given buffer.
+     * The position of the buffer is not changed.
+     *
+     * @param in       buffer containing the encoded block
+     * @param position absolute position of the first byte of the encoded block
+     * @param out      array to write the decoded values into
+     * @param offset   index of <code>out</code> to write the first value
+     * @param count    number of values in the block
+     */
+    void decode(ByteBuffer in, int position, long[] out, int offset, int count);
+}
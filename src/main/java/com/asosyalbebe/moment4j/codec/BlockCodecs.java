@@ -0,0 +1,32 @@
+package com.asosyalbebe.moment4j.codec;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+
+/**
+ * Static helper methods to find the block codecs shipped with moment4j
+ *
+ * @author Serdar Kuzucu
+ */
+public class BlockCodecs {
+    private BlockCodecs() {
+        // Prevent new instances of utility class
+    }
+
+    /**
+     * Returns the block codec with the given id.
+     *
+     * @param id id of the codec, as returned by {@link BlockCodec#id()}
+     * @return the block codec with the given id.
+     * @throws MomentException if there is no codec with the given id
+     */
+    public static BlockCodec byId(int id) {
+        switch (id) {
+            case DeltaVarintCodec.ID:
+                return DeltaVarintCodec.INSTANCE;
+            case DeltaOfDeltaCodec.ID:
+                return DeltaOfDeltaCodec.INSTANCE;
+            default:
+                throw new MomentException("Unknown block codec id: " + id);
+        }
+    }
+}
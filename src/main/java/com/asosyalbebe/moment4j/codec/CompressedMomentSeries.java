@@ -0,0 +1,66 @@
+package com.asosyalbebe.moment4j.codec;
+
+import java.nio.LongBuffer;
+
+/**
+ * An immutable in-memory sequence of time values compressed with delta-of-delta encoding.
+ * <p>
+ * A series is created by {@link DeltaOfDeltaEncoder#toSeries()}, and read sequentially with {@link #iterator()}.
+ * One second metrics take a single bit per value, instead of eight bytes of a <code>long</code>
+ * or a few dozen bytes of a <code>Moment</code>.
+ *
+ * @author Serdar Kuzucu
+ * @see DeltaOfDeltaEncoder
+ */
+public final class CompressedMomentSeries {
+    private final long[] words;
+    private final int count;
+    private final long bitLength;
+
+    CompressedMomentSeries(long[] words, int count, long bitLength) {
+        this.words = words;
+        this.count = count;
+        this.bitLength = bitLength;
+    }
+
+    /**
+     * @return number of values in the series.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return number of bytes used to keep the compressed values.
+     */
+    public long sizeInBytes() {
+        return words.length * 8L;
+    }
+
+    /**
+     * @return number of bits of the compressed values.
+     */
+    public long bitLength() {
+        return bitLength;
+    }
+
+    /**
+     * Returns a new decoder which iterates over the values of this series without boxing.
+     *
+     * @return a new decoder positioned at the first value of this series.
+     */
+    public DeltaOfDeltaDecoder iterator() {
+        return new DeltaOfDeltaDecoder(LongBuffer.wrap(words).asReadOnlyBuffer(), 0, count);
+    }
+
+    /**
+     * Decodes all values of this series into a new array.
+     *
+     * @return a new array containing the values of this series.
+     */
+    public long[] toArray() {
+        long[] values = new long[count];
+        iterator().drainTo(values, 0);
+        return values;
+    }
+}
@@ -0,0 +1,69 @@
+package com.asosyalbebe.moment4j.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Block codec which stores the values with delta-of-delta encoding.
+ * <p>
+ * This codec is the best choice for on-disk columns of timestamps which have a regular interval.
+ * Every block is padded to a multiple of eight bytes.
+ *
+ * @author Serdar Kuzucu
+ * @see DeltaOfDeltaEncoder
+ */
+public final class DeltaOfDeltaCodec implements BlockCodec {
+    public static final int ID = 2;
+
+    public static final DeltaOfDeltaCodec INSTANCE = new DeltaOfDeltaCodec();
+
+    private static final int MAX_BITS_PER_VALUE = 5 + 64;
+
+    private final ThreadLocal<DeltaOfDeltaEncoder> encoders = new ThreadLocal<DeltaOfDeltaEncoder>() {
+        @Override
+        protected DeltaOfDeltaEncoder initialValue() {
+            return new DeltaOfDeltaEncoder(1024);
+        }
+    };
+
+    private DeltaOfDeltaCodec() {
+    }
+
+    @Override
+    public int id() {
+        return ID;
+    }
+
+    @Override
+    public int maxEncodedLength(int count) {
+        if (count == 0) {
+            return 0;
+        }
+        long bits = 64L + (count - 1) * (long) MAX_BITS_PER_VALUE;
+        return (int) ((bits + 63) >>> 6) * 8;
+    }
+
+    @Override
+    public void encode(long[] values, int offset, int count, ByteBuffer out) {
+        if (count == 0) {
+            return;
+        }
+        DeltaOfDeltaEncoder encoder = encoders.get();
+        encoder.reset();
+        for (int i = offset; i < offset + count; i++) {
+            encoder.add(values[i]);
+        }
+        encoder.writeTo(out);
+    }
+
+    @Override
+    public void decode(ByteBuffer in, int position, long[] out, int offset, int count) {
+        if (count == 0) {
+            return;
+        }
+        ByteBuffer block = in.duplicate();
+        block.position(position);
+        LongBuffer words = block.order(in.order()).asLongBuffer();
+        new DeltaOfDeltaDecoder(words, 0, count).drainTo(out, offset);
+    }
+}
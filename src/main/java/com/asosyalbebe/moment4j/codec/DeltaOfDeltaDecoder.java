@@ -0,0 +1,129 @@
+package com.asosyalbebe.moment4j.codec;
+
+import java.nio.LongBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * Decodes a sequence of time values written by {@link DeltaOfDeltaEncoder}, one value at a time.
+ * <p>
+ * The decoder reads the packed bits in place, directly from the given buffer, and returns primitive longs,
+ * so iterating over a compressed sequence neither copies nor boxes the values.
+ *
+ * <pre>
+ * {@code
+ * DeltaOfDeltaDecoder decoder = series.iterator();
+ * while (decoder.hasNext()) {
+ *     long millis = decoder.next();
+ * }
+ * }
+ * </pre>
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @author Serdar Kuzucu
+ */
+public class DeltaOfDeltaDecoder {
+    private final LongBuffer words;
+    private final int base;
+    private final int count;
+
+    private long bitPosition;
+    private int index;
+    private long value;
+    private long delta;
+
+    /**
+     * Creates a decoder which reads <code>count</code> values from the given buffer, starting at the given absolute index.
+     *
+     * @param words buffer of the packed bits, as written by the encoder
+     * @param base  absolute index of the first word of the sequence in the buffer
+     * @param count number of values in the sequence
+     */
+    public DeltaOfDeltaDecoder(LongBuffer words, int base, int count) {
+        this.words = words;
+        this.base = base;
+        this.count = count;
+    }
+
+    /**
+     * @return true if there are more values in the sequence.
+     */
+    public boolean hasNext() {
+        return index < count;
+    }
+
+    /**
+     * Decodes and returns the next value of the sequence.
+     *
+     * @return the next value as UTC milliseconds from the epoch.
+     * @throws NoSuchElementException if there are no more values
+     */
+    public long next() {
+        if (index >= count) {
+            throw new NoSuchElementException();
+        }
+        if (index == 0) {
+            value = read(64);
+        } else {
+            int prefix = 0;
+            while (prefix < 5 && read(1) == 1) {
+                prefix++;
+            }
+            long zigZag;
+            switch (prefix) {
+                case 0:
+                    zigZag = 0;
+                    break;
+                case 1:
+                    zigZag = read(7);
+                    break;
+                case 2:
+                    zigZag = read(9);
+                    break;
+                case 3:
+                    zigZag = read(12);
+                    break;
+                case 4:
+                    zigZag = read(32);
+                    break;
+                default:
+                    zigZag = read(64);
+                    break;
+            }
+            delta += (zigZag >>> 1) ^ -(zigZag & 1);
+            value += delta;
+        }
+        index++;
+        return value;
+    }
+
+    /**
+     * Decodes the remaining values into the given array.
+     *
+     * @param out    array to write the values into
+     * @param offset index of <code>out</code> to write the first value
+     * @return number of values decoded
+     */
+    public int drainTo(long[] out, int offset) {
+        int start = index;
+        while (index < count) {
+            out[offset + index - start] = next();
+        }
+        return index - start;
+    }
+
+    private long read(int bits) {
+        int wordIndex = (int) (bitPosition >>> 6);
+        int used = (int) (bitPosition & 63);
+        long high = words.get(base + wordIndex) << used;
+        long result;
+        if (bits <= 64 - used) {
+            result = high >>> (64 - bits);
+        } else {
+            int rest = bits - (64 - used);
+            result = (high >>> (64 - bits)) | (words.get(base + wordIndex + 1) >>> (64 - rest));
+        }
+        bitPosition += bits;
+        return result;
+    }
+}
@@ -0,0 +1,142 @@
+package com.asosyalbebe.moment4j.codec;
+
+import com.asosyalbebe.moment4j.Moment;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compresses a sequence of time values with delta-of-delta encoding, as described in the Gorilla paper.
+ * <p>
+ * The first value is written as is. For every following value, the difference between its delta and
+ * the previous delta is zig-zag encoded and written with a variable-length prefix:
+ * <pre>
+ * 0                      delta of delta is zero
+ * 10    +  7 bits        delta of delta fits into 7 bits
+ * 110   +  9 bits
+ * 1110  + 12 bits
+ * 11110 + 32 bits
+ * 11111 + 64 bits
+ * </pre>
+ * Values with a regular interval, like metrics which are collected every second, take a single bit each.
+ * Any sequence can be encoded, but sorted sequences with regular intervals compress best.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @author Serdar Kuzucu
+ * @see DeltaOfDeltaDecoder
+ */
+public class DeltaOfDeltaEncoder {
+    private final BitWriter out;
+    private int count;
+    private long previous;
+    private long previousDelta;
+
+    /**
+     * Creates an encoder with a small initial buffer.
+     */
+    public DeltaOfDeltaEncoder() {
+        this(16);
+    }
+
+    /**
+     * Creates an encoder whose buffer can hold the given number of values without growing, if they have a regular interval.
+     *
+     * @param expectedCount expected number of values
+     */
+    public DeltaOfDeltaEncoder(int expectedCount) {
+        this.out = new BitWriter(2 + expectedCount / 64);
+    }
+
+    /**
+     * Appends the given time value to the sequence.
+     *
+     * @param millis time as UTC milliseconds from the epoch.
+     * @return this encoder instance for chainability.
+     */
+    public DeltaOfDeltaEncoder add(long millis) {
+        if (count == 0) {
+            out.write(millis, 64);
+        } else {
+            long delta = millis - previous;
+            long deltaOfDelta = delta - previousDelta;
+            long zigZag = (deltaOfDelta << 1) ^ (deltaOfDelta >> 63);
+            if (zigZag == 0) {
+                out.write(0, 1);
+            } else if ((zigZag >>> 7) == 0) {
+                out.write(0b10, 2);
+                out.write(zigZag, 7);
+            } else if ((zigZag >>> 9) == 0) {
+                out.write(0b110, 3);
+                out.write(zigZag, 9);
+            } else if ((zigZag >>> 12) == 0) {
+                out.write(0b1110, 4);
+                out.write(zigZag, 12);
+            } else if ((zigZag >>> 32) == 0) {
+                out.write(0b11110, 5);
+                out.write(zigZag, 32);
+            } else {
+                out.write(0b11111, 5);
+                out.write(zigZag, 64);
+            }
+            previousDelta = delta;
+        }
+        previous = millis;
+        count++;
+        return this;
+    }
+
+    /**
+     * Appends the time value of the given moment to the sequence.
+     *
+     * @param moment moment to be encoded
+     * @return this encoder instance for chainability.
+     */
+    public DeltaOfDeltaEncoder add(Moment moment) {
+        return add(moment.valueOf());
+    }
+
+    /**
+     * @return number of values encoded so far.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * @return number of bits written so far.
+     */
+    public long bitLength() {
+        return out.bitLength();
+    }
+
+    /**
+     * Returns an immutable series of the values encoded so far. The encoder can be used further.
+     *
+     * @return a new series containing the values encoded so far.
+     */
+    public CompressedMomentSeries toSeries() {
+        return new CompressedMomentSeries(out.toWords(), count, out.bitLength());
+    }
+
+    /**
+     * Writes the encoded bits to the given buffer as big-endian longs, starting at its current position.
+     *
+     * @param buffer buffer with at least <code>8 * ceil(bitLength() / 64)</code> bytes remaining
+     */
+    public void writeTo(ByteBuffer buffer) {
+        int words = out.wordLength();
+        for (int i = 0; i < words; i++) {
+            buffer.putLong(out.word(i));
+        }
+    }
+
+    /**
+     * Discards the values encoded so far, so that the encoder can be reused without allocating.
+     */
+    public void reset() {
+        out.clear();
+        count = 0;
+        previous = 0;
+        previousDelta = 0;
+    }
+}
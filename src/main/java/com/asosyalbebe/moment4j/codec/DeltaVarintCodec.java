@@ -0,0 +1,73 @@
+package com.asosyalbebe.moment4j.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Block codec which stores the first value as is, and every following value as the
+ * zig-zag encoded variable-length difference from the previous value.
+ * <p>
+ * Sorted timestamps which are close to each other take one to three bytes per value instead of eight.
+ *
+ * @author Serdar Kuzucu
+ */
+public final class DeltaVarintCodec implements BlockCodec {
+    public static final int ID = 1;
+
+    public static final DeltaVarintCodec INSTANCE = new DeltaVarintCodec();
+
+    private static final int MAX_VARINT_LENGTH = 10;
+
+    private DeltaVarintCodec() {
+    }
+
+    @Override
+    public int id() {
+        return ID;
+    }
+
+    @Override
+    public int maxEncodedLength(int count) {
+        return count == 0 ? 0 : 8 + (count - 1) * MAX_VARINT_LENGTH;
+    }
+
+    @Override
+    public void encode(long[] values, int offset, int count, ByteBuffer out) {
+        if (count == 0) {
+            return;
+        }
+        long previous = values[offset];
+        out.putLong(previous);
+        for (int i = offset + 1; i < offset + count; i++) {
+            long delta = values[i] - previous;
+            long zigZag = (delta << 1) ^ (delta >> 63);
+            while ((zigZag & ~0x7FL) != 0) {
+                out.put((byte) ((zigZag & 0x7F) | 0x80));
+                zigZag >>>= 7;
+            }
+            out.put((byte) zigZag);
+            previous = values[i];
+        }
+    }
+
+    @Override
+    public void decode(ByteBuffer in, int position, long[] out, int offset, int count) {
+        if (count == 0) {
+            return;
+        }
+        long previous = in.getLong(position);
+        int pos = position + 8;
+        out[offset] = previous;
+        for (int i = offset + 1; i < offset + count; i++) {
+            long zigZag = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = in.get(pos++);
+                zigZag |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            previous += (zigZag >>> 1) ^ -(zigZag & 1);
+            out[i] = previous;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.asosyalbebe.moment4j.collection;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+
+import java.util.Arrays;
+
+/**
+ * An open addressing hash table of <code>long</code> keys with linear probing, and optional values.
+ * <p>
+ * Keys are stored in a primitive array, where 0 marks a free slot. The key 0 itself is kept out of the array,
+ * and its value is stored in the extra last slot of the values, so {@link #find(long)} returns
+ * <code>keys.length</code> for it. Slots are chosen with Fibonacci hashing, which spreads timestamps
+ * that are multiples of a second or a minute. Removed keys are filled by shifting the following keys back,
+ * so there are no tombstones.
+ *
+ * @author Serdar Kuzucu
+ */
+final class LongHashTable {
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    long[] keys;
+    Object[] values;
+    private final boolean withValues;
+    private boolean containsZero;
+    private int size;
+    private int mask;
+    private int shift;
+    private int threshold;
+
+    LongHashTable(int expectedSize, boolean withValues) {
+        if (expectedSize < 0) {
+            throw new MomentException("Expected size cannot be negative! You provided " + expectedSize);
+        }
+        this.withValues = withValues;
+        int capacity = MIN_CAPACITY;
+        while (capacity < MAX_CAPACITY && capacity * 3L / 4 < expectedSize) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot of the given key, or -1 if the key is not in the table.
+     */
+    int find(long key) {
+        if (key == 0) {
+            return containsZero ? keys.length : -1;
+        }
+        long[] keys = this.keys;
+        int index = slot(key);
+        long current;
+        while ((current = keys[index]) != 0) {
+            if (current == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts the given key if it is not in the table.
+     *
+     * @return the slot of the key if it was already in the table; the complement <code>~slot</code> of its new slot otherwise.
+     */
+    int insert(long key) {
+        if (key == 0) {
+            if (containsZero) {
+                return keys.length;
+            }
+            containsZero = true;
+            size++;
+            return ~keys.length;
+        }
+        if (size >= threshold) {
+            rehash(keys.length << 1);
+        }
+        long[] keys = this.keys;
+        int index = slot(key);
+        long current;
+        while ((current = keys[index]) != 0) {
+            if (current == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        size++;
+        return ~index;
+    }
+
+    /**
+     * Removes the key of the given slot, and shifts the following keys of the same cluster back into the gap.
+     */
+    void removeAt(int index) {
+        size--;
+        if (index == keys.length) {
+            containsZero = false;
+            if (withValues) {
+                values[index] = null;
+            }
+            return;
+        }
+
+        long[] keys = this.keys;
+        int gap = index;
+        int next = index;
+        long key;
+        while ((key = keys[next = (next + 1) & mask]) != 0) {
+            // The key may move back to the gap only if its home slot is not between the gap and its current slot
+            if (((next - slot(key)) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = key;
+                if (withValues) {
+                    values[gap] = values[next];
+                }
+                gap = next;
+            }
+        }
+        keys[gap] = 0;
+        if (withValues) {
+            values[gap] = null;
+        }
+    }
+
+    /**
+     * Returns the keys in the table, in no particular order.
+     */
+    long[] keys() {
+        long[] result = new long[size];
+        int position = 0;
+        if (containsZero) {
+            position++;
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                result[position++] = key;
+            }
+        }
+        return result;
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0L);
+        if (withValues) {
+            Arrays.fill(values, null);
+        }
+        containsZero = false;
+        size = 0;
+    }
+
+    private int slot(long key) {
+        return (int) ((key * GOLDEN_RATIO) >>> shift);
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = withValues ? new Object[capacity + 1] : null;
+        this.mask = capacity - 1;
+        this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        this.threshold = capacity == MAX_CAPACITY ? capacity - 1 : capacity / 4 * 3;
+    }
+
+    private void rehash(int capacity) {
+        if (keys.length == MAX_CAPACITY) {
+            throw new MomentException("Hash table is full!");
+        }
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        if (withValues) {
+            values[capacity] = oldValues[oldKeys.length];
+        }
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int index = slot(key);
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                if (withValues) {
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.asosyalbebe.moment4j.collection;
+
+import com.asosyalbebe.moment4j.Moment;
+
+/**
+ * A map with moments as keys, stored as UTC milliseconds from the epoch in a primitive array.
+ * <p>
+ * Unlike a <code>HashMap&lt;Moment, V&gt;</code>, putting a value allocates no entry or boxed key.
+ * Keys are compared by their instant, like {@link Moment#equals(Object)}; their time zones are not kept.
+ * Values may be null, in which case {@link #containsKey(long)} tells a missing key from a null value.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <V> type of the values
+ * @author Serdar Kuzucu
+ */
+public class MomentMap<V> {
+    private final LongHashTable table;
+
+    /**
+     * Creates an empty map.
+     */
+    public MomentMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map, which holds the given number of keys without resizing.
+     *
+     * @param expectedSize expected number of keys
+     */
+    public MomentMap(int expectedSize) {
+        this.table = new LongHashTable(expectedSize, true);
+    }
+
+    /**
+     * Associates the given value with the given time.
+     *
+     * @param millis time as UTC milliseconds from the epoch
+     * @param value  value of the time
+     * @return the previous value of the time, or null if it had none.
+     */
+    public V put(long millis, V value) {
+        int index = table.insert(millis);
+        if (index < 0) {
+            table.values[~index] = value;
+            return null;
+        }
+        V previous = valueAt(index);
+        table.values[index] = value;
+        return previous;
+    }
+
+    /**
+     * Associates the given value with the instant of the given moment.
+     *
+     * @param moment moment of the key
+     * @param value  value of the instant
+     * @return the previous value of the instant, or null if it had none.
+     */
+    public V put(Moment moment, V value) {
+        return put(moment.valueOf(), value);
+    }
+
+    /**
+     * Returns the value of the given time.
+     *
+     * @param millis time as UTC milliseconds from the epoch
+     * @return the value of the time, or null if it has none.
+     */
+    public V get(long millis) {
+        int index = table.find(millis);
+        return index < 0 ? null : valueAt(index);
+    }
+
+    /**
+     * Returns the value of the instant of the given moment.
+     *
+     * @param moment moment of the key
+     * @return the value of the instant, or null if it has none.
+     */
+    public V get(Moment moment) {
+        return get(moment.valueOf());
+    }
+
+    /**
+     * Returns true if the map has a value for the given time.
+     *
+     * @param millis time as UTC milliseconds from the epoch
+     * @return true if the time is a key of the map.
+     */
+    public boolean containsKey(long millis) {
+        return table.find(millis) >= 0;
+    }
+
+    /**
+     * Returns true if the map has a value for the instant of the given moment.
+     *
+     * @param moment moment of the key
+     * @return true if the instant is a key of the map.
+     */
+    public boolean containsKey(Moment moment) {
+        return containsKey(moment.valueOf());
+    }
+
+    /**
+     * Removes the given time and its value from the map.
+     *
+     * @param millis time as UTC milliseconds from the epoch
+     * @return the removed value, or null if the time had none.
+     */
+    public V remove(long millis) {
+        int index = table.find(millis);
+        if (index < 0) {
+            return null;
+        }
+        V previous = valueAt(index);
+        table.removeAt(index);
+        return previous;
+    }
+
+    /**
+     * Removes the instant of the given moment and its value from the map.
+     *
+     * @param moment moment of the key
+     * @return the removed value, or null if the instant had none.
+     */
+    public V remove(Moment moment) {
+        return remove(moment.valueOf());
+    }
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * @return the number of keys in the map.
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * Returns true if the map has no keys.
+     *
+     * @return true if the map has no keys.
+     */
+    public boolean isEmpty() {
+        return table.size() == 0;
+    }
+
+    /**
+     * Removes all the keys and values of the map, keeping its capacity.
+     */
+    public void clear() {
+        table.clear();
+    }
+
+    /**
+     * Returns the keys of the map in no particular order.
+     *
+     * @return a new array of the keys as UTC milliseconds from the epoch.
+     */
+    public long[] keys() {
+        return table.keys();
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V) table.values[index];
+    }
+}
@@ -0,0 +1,133 @@
+package com.asosyalbebe.moment4j.collection;
+
+import com.asosyalbebe.moment4j.Moment;
+
+/**
+ * A set of moments, stored as UTC milliseconds from the epoch in a primitive array.
+ * <p>
+ * Unlike a <code>HashSet&lt;Moment&gt;</code>, adding a time allocates no entry or boxed key, so removing the duplicates
+ * of millions of timestamps allocates only the array of the set. Moments are compared by their instant,
+ * like {@link Moment#equals(Object)}; their time zones are not kept.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Serdar Kuzucu
+ */
+public class MomentSet {
+    private final LongHashTable table;
+
+    /**
+     * Creates an empty set.
+     */
+    public MomentSet() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty set, which holds the given number of times without resizing.
+     *
+     * @param expectedSize expected number of times
+     */
+    public MomentSet(int expectedSize) {
+        this.table = new LongHashTable(expectedSize, false);
+    }
+
+    /**
+     * Adds the given time to the set.
+     *
+     * @param millis time as UTC milliseconds from the epoch
+     * @return true if the time was not in the set.
+     */
+    public boolean add(long millis) {
+        return table.insert(millis) < 0;
+    }
+
+    /**
+     * Adds the instant of the given moment to the set.
+     *
+     * @param moment moment to add
+     * @return true if the instant was not in the set.
+     */
+    public boolean add(Moment moment) {
+        return add(moment.valueOf());
+    }
+
+    /**
+     * Returns true if the given time is in the set.
+     *
+     * @param millis time as UTC milliseconds from the epoch
+     * @return true if the time is in the set.
+     */
+    public boolean contains(long millis) {
+        return table.find(millis) >= 0;
+    }
+
+    /**
+     * Returns true if the instant of the given moment is in the set.
+     *
+     * @param moment moment to look up
+     * @return true if the instant is in the set.
+     */
+    public boolean contains(Moment moment) {
+        return contains(moment.valueOf());
+    }
+
+    /**
+     * Removes the given time from the set.
+     *
+     * @param millis time as UTC milliseconds from the epoch
+     * @return true if the time was in the set.
+     */
+    public boolean remove(long millis) {
+        int index = table.find(millis);
+        if (index < 0) {
+            return false;
+        }
+        table.removeAt(index);
+        return true;
+    }
+
+    /**
+     * Removes the instant of the given moment from the set.
+     *
+     * @param moment moment to remove
+     * @return true if the instant was in the set.
+     */
+    public boolean remove(Moment moment) {
+        return remove(moment.valueOf());
+    }
+
+    /**
+     * Returns the number of times in the set.
+     *
+     * @return the number of times in the set.
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * Returns true if the set has no times.
+     *
+     * @return true if the set has no times.
+     */
+    public boolean isEmpty() {
+        return table.size() == 0;
+    }
+
+    /**
+     * Removes all the times of the set, keeping its capacity.
+     */
+    public void clear() {
+        table.clear();
+    }
+
+    /**
+     * Returns the times of the set in no particular order.
+     *
+     * @return a new array of the times as UTC milliseconds from the epoch.
+     */
+    public long[] toArray() {
+        return table.keys();
+    }
+}
@@ -0,0 +1,235 @@
+package com.asosyalbebe.moment4j.format;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import com.asosyalbebe.moment4j.util.CivilCalendar;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.RandomAccess;
+import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parses large batches of date strings into time values, in parallel.
+ * <p>
+ * Every string is parsed with the same result as <code>Moment.moment(string, pattern).valueOf()</code>,
+ * but the strings are split into chunks which are parsed on a <code>ForkJoinPool</code>,
+ * each chunk with the {@link CompiledPattern} fast path and its own <code>SimpleDateFormat</code> for the rest.
+ * <p>
+ * Invalid strings do not stop the batch. Their indexes are reported in the returned failure bitmap,
+ * and <code>0</code> is written to their places in the output array.
+ *
+ * <pre>
+ * {@code
+ * long[] millis = new long[dates.length];
+ * BitSet failures = BulkParser.parse(dates, "yyyy-MM-dd HH:mm:ss", millis);
+ * for (int i = failures.nextSetBit(0); i >= 0; i = failures.nextSetBit(i + 1)) {
+ *     // dates[i] is invalid
+ * }
+ * }
+ * </pre>
+ *
+ * @author Serdar Kuzucu
+ */
+public class BulkParser {
+    /**
+     * Number of strings parsed by a single task. A multiple of 64, so that every task owns whole words of the failure bitmap.
+     */
+    private static final int CHUNK_SIZE = 4096;
+
+    /**
+     * Number of strings buffered from an iterable input before they are parsed in parallel.
+     */
+    private static final int BUFFER_SIZE = 64 * CHUNK_SIZE;
+
+    private BulkParser() {
+        // Prevent new instances of utility class
+    }
+
+    /**
+     * Parses the given strings with the given pattern into the given array, on a shared <code>ForkJoinPool</code>.
+     *
+     * @param input   strings to parse. Null elements are reported as failures.
+     * @param pattern pattern to be used to parse the strings
+     * @param out     array to write the parsed times as UTC milliseconds from the epoch, at the same indexes
+     * @return a bitmap whose set bits are the indexes of the strings which could not be parsed.
+     * @throws MomentException if the pattern is invalid, or the output array is shorter than the input
+     */
+    public static BitSet parse(CharSequence[] input, String pattern, long[] out) {
+        return parse(Arrays.asList(input), pattern, out, PoolHolder.POOL);
+    }
+
+    /**
+     * Parses the given strings with the given pattern into the given array, on a shared <code>ForkJoinPool</code>.
+     *
+     * @param input   strings to parse. Null elements are reported as failures.
+     * @param pattern pattern to be used to parse the strings
+     * @param out     array to write the parsed times as UTC milliseconds from the epoch, at the same indexes
+     * @return a bitmap whose set bits are the indexes of the strings which could not be parsed.
+     * @throws MomentException if the pattern is invalid, or the output array is shorter than the input
+     */
+    public static BitSet parse(List<? extends CharSequence> input, String pattern, long[] out) {
+        return parse(input, pattern, out, PoolHolder.POOL);
+    }
+
+    /**
+     * Parses the given strings with the given pattern into the given array, on the given <code>ForkJoinPool</code>.
+     *
+     * @param input   strings to parse. Null elements are reported as failures.
+     * @param pattern pattern to be used to parse the strings
+     * @param out     array to write the parsed times as UTC milliseconds from the epoch, at the same indexes
+     * @param pool    pool to run the parse tasks
+     * @return a bitmap whose set bits are the indexes of the strings which could not be parsed.
+     * @throws MomentException if the pattern is invalid, or the output array is shorter than the input
+     */
+    public static BitSet parse(List<? extends CharSequence> input, String pattern, long[] out, ForkJoinPool pool) {
+        if (out.length < input.size()) {
+            throw new MomentException("Output array is shorter than the input! " + out.length + " < " + input.size());
+        }
+        List<? extends CharSequence> rows = input instanceof RandomAccess ? input : new ArrayList<>(input);
+        long[] failures = new long[(rows.size() + 63) >>> 6];
+        run(rows, 0, rows.size(), compile(pattern), out, 0, failures, pool);
+        return BitSet.valueOf(failures);
+    }
+
+    /**
+     * Parses the strings of the given iterable with the given pattern into the given array.
+     * The strings are read in large chunks, and every chunk is parsed in parallel on a shared <code>ForkJoinPool</code>,
+     * so the iterable may produce its strings lazily, for example while reading a file.
+     *
+     * @param input   strings to parse. Null elements are reported as failures.
+     * @param pattern pattern to be used to parse the strings
+     * @param out     array to write the parsed times as UTC milliseconds from the epoch, at the same indexes
+     * @return a bitmap whose set bits are the indexes of the strings which could not be parsed.
+     * @throws MomentException if the pattern is invalid, or the output array is shorter than the input
+     */
+    public static BitSet parse(Iterable<? extends CharSequence> input, String pattern, long[] out) {
+        if (input instanceof List) {
+            return parse((List<? extends CharSequence>) input, pattern, out, PoolHolder.POOL);
+        }
+        CompiledPattern compiledPattern = compile(pattern);
+        CharSequence[] buffer = new CharSequence[BUFFER_SIZE];
+        List<CharSequence> rows = Arrays.asList(buffer);
+        long[] failures = new long[(out.length + 63) >>> 6];
+        int offset = 0;
+        Iterator<? extends CharSequence> iterator = input.iterator();
+        while (iterator.hasNext()) {
+            int length = 0;
+            while (length < BUFFER_SIZE && iterator.hasNext()) {
+                if (offset + length == out.length) {
+                    throw new MomentException("Output array is shorter than the input! " + out.length);
+                }
+                buffer[length++] = iterator.next();
+            }
+            run(rows, 0, length, compiledPattern, out, offset, failures, PoolHolder.POOL);
+            offset += length;
+        }
+        return BitSet.valueOf(failures);
+    }
+
+    private static CompiledPattern compile(String pattern) {
+        CompiledPattern compiledPattern = CompiledPattern.of(pattern);
+        try {
+            compiledPattern.newSimpleDateFormat();
+        } catch (Exception e) {
+            throw new MomentException("Invalid SimpleDateFormat pattern [" + pattern + "]", e);
+        }
+        return compiledPattern;
+    }
+
+    private static void run(List<? extends CharSequence> rows, int from, int to, CompiledPattern pattern,
+                            long[] out, int outOffset, long[] failures, ForkJoinPool pool) {
+        boolean fastPath = pattern.isCompiled() && CivilCalendar.isGregorian(Locale.getDefault(Locale.Category.FORMAT));
+        ParseTask task = new ParseTask(rows, from, to, pattern, fastPath, TimeZone.getDefault(), out, outOffset, failures);
+        if (to - from <= CHUNK_SIZE) {
+            task.parseChunk();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    private static class ParseTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends CharSequence> rows;
+        private final int from;
+        private final int to;
+        private final CompiledPattern pattern;
+        private final boolean fastPath;
+        private final TimeZone zone;
+        private final long[] out;
+        private final int outOffset;
+        private final long[] failures;
+
+        ParseTask(List<? extends CharSequence> rows, int from, int to, CompiledPattern pattern, boolean fastPath,
+                  TimeZone zone, long[] out, int outOffset, long[] failures) {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+            this.pattern = pattern;
+            this.fastPath = fastPath;
+            this.zone = zone;
+            this.out = out;
+            this.outOffset = outOffset;
+            this.failures = failures;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                parseChunk();
+                return;
+            }
+            // Split at a multiple of CHUNK_SIZE, so that two tasks never write into the same word of the failure bitmap
+            int middle = from + ((to - from) / 2 / CHUNK_SIZE) * CHUNK_SIZE;
+            if (middle == from) {
+                middle = from + CHUNK_SIZE;
+            }
+            invokeAll(new ParseTask(rows, from, middle, pattern, fastPath, zone, out, outOffset, failures),
+                    new ParseTask(rows, middle, to, pattern, fastPath, zone, out, outOffset, failures));
+        }
+
+        void parseChunk() {
+            TimeZone chunkZone = (TimeZone) zone.clone();
+            SimpleDateFormat format = null;
+            for (int i = from; i < to; i++) {
+                CharSequence text = rows.get(i);
+                int index = outOffset + i;
+                if (text == null) {
+                    fail(index);
+                    continue;
+                }
+                long millis = fastPath ? pattern.tryParse(text, chunkZone) : CompiledPattern.UNRESOLVED;
+                if (millis == CompiledPattern.UNRESOLVED) {
+                    if (format == null) {
+                        format = pattern.newSimpleDateFormat();
+                        format.setTimeZone(chunkZone);
+                    }
+                    try {
+                        millis = format.parse(text.toString()).getTime();
+                    } catch (ParseException e) {
+                        fail(index);
+                        continue;
+                    }
+                }
+                out[index] = millis;
+            }
+        }
+
+        private void fail(int index) {
+            out[index] = 0L;
+            failures[index >>> 6] |= 1L << index;
+        }
+    }
+
+    private static class PoolHolder {
+        static final ForkJoinPool POOL = new ForkJoinPool();
+    }
+}
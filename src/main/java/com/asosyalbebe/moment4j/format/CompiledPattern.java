@@ -0,0 +1,695 @@
+package com.asosyalbebe.moment4j.format;
+
+import com.asosyalbebe.moment4j.util.CivilCalendar;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.asosyalbebe.moment4j.util.CalendarFieldUtils.*;
+
+/**
+ * A <code>java.text.SimpleDateFormat</code> pattern, compiled once into a list of tokens,
+ * which can parse and format dates without creating <code>SimpleDateFormat</code> or <code>Calendar</code> instances.
+ * <p>
+ * The parser supports years with at least three letters (<code>yyyy</code>), numeric months (<code>MM</code>),
+ * month names (<code>MMM</code>, <code>MMMM</code>), days of month (<code>dd</code>), hours (<code>HH</code>,
+ * <code>kk</code>), minutes, seconds, milliseconds and literal text. For any other pattern, {@link #isCompiled()} returns false.
+ * The formatter supports the same letters, all years, eras, 12-hour clocks, AM/PM markers, weekday names,
+ * days of year and ISO day numbers of week; everything but the time zone and week-of-year letters.
+ * <p>
+ * Names are read from the {@link LocaleSymbols} of the locale, which are loaded once per locale.
+ * <p>
+ * The compiled parser is a fast path, not a replacement of <code>SimpleDateFormat</code>:
+ * whenever the input is not exactly what the fast path expects, including invalid input,
+ * {@link #UNRESOLVED} is returned and the caller must parse the input with <code>SimpleDateFormat</code>.
+ * The formatter falls back to <code>SimpleDateFormat</code> by itself, for locales which do not use
+ * the Gregorian calendar and ASCII digits, and for dates before the Gregorian cutover.
+ * The parser leaves the years up to the cutover to <code>SimpleDateFormat</code> as well.
+ * This keeps the results and the error messages identical to <code>SimpleDateFormat</code>.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @author Serdar Kuzucu
+ */
+public final class CompiledPattern {
+    /**
+     * Returned by the parse methods when the input has to be parsed by <code>SimpleDateFormat</code>.
+     */
+    public static final long UNRESOLVED = CivilCalendar.UNRESOLVED;
+
+    private static final int MAX_CACHE_SIZE = 512;
+    private static final int MAX_DIGITS = 9;
+    private static final int GREGORIAN_CUTOVER_YEAR = 1582;
+    private static final int NANOS_PER_MILLI = 1000000;
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000};
+    private static final ConcurrentMap<String, CompiledPattern> CACHE = new ConcurrentHashMap<>();
+
+    private final String pattern;
+    private final boolean compiled;
+    private final boolean formatCompiled;
+    private final char[] letters;
+    private final int[] counts;
+    private final String[] literals;
+    private final boolean[] abutting;
+
+    /**
+     * True if the only field of the pattern is a month name, which <code>SimpleDateFormat</code> formats in its standalone form.
+     */
+    private final boolean standalone;
+
+    /**
+     * True if the pattern has a fraction of second, that is an <code>S</code> field of more than three letters.
+     */
+    private final boolean fractional;
+
+    /**
+     * True if the pattern formats names, so that the names of the locale must be loaded.
+     */
+    private final boolean named;
+
+    /**
+     * The <code>SimpleDateFormat</code> of the last locale used by every thread, for the inputs the compiled
+     * parser and formatter cannot handle. <code>SimpleDateFormat</code> is not thread-safe, so it is confined
+     * to a thread instead of shared.
+     */
+    private final ThreadLocal<LocalizedFormat> fallbackFormat = new ThreadLocal<>();
+
+    private CompiledPattern(String pattern) {
+        this.pattern = pattern;
+        PatternTokenizer tokenizer = new PatternTokenizer(pattern);
+        this.letters = tokenizer.letters;
+        this.counts = tokenizer.counts;
+        this.literals = tokenizer.literals;
+        this.abutting = new boolean[letters.length];
+        boolean parseable = tokenizer.valid;
+        boolean formattable = tokenizer.valid;
+        int fields = 0;
+        int monthNames = 0;
+        boolean fraction = false;
+        boolean names = false;
+        for (int i = 0; i < letters.length; i++) {
+            if (letters[i] == 0) {
+                continue;
+            }
+            fields++;
+            if (letters[i] == 'M' && counts[i] >= 3) {
+                monthNames++;
+            }
+            if (letters[i] == 'M' && counts[i] >= 3 || letters[i] == 'G' || letters[i] == 'E' || letters[i] == 'a') {
+                names = true;
+            }
+            if (letters[i] == 'S' && counts[i] > 3) {
+                fraction = true;
+            }
+            // Like SimpleDateFormat, a field reads exactly its number of digits when a numeric field follows it
+            abutting[i] = i + 1 < letters.length && isNumeric(letters[i + 1], counts[i + 1]);
+            if (!isParseable(letters[i], counts[i])) {
+                parseable = false;
+            }
+            if (!isFormattable(letters[i])) {
+                formattable = false;
+            }
+        }
+        this.compiled = parseable;
+        this.formatCompiled = formattable;
+        this.standalone = fields == 1 && monthNames == 1;
+        this.fractional = fraction && tokenizer.valid;
+        this.named = names;
+    }
+
+    /**
+     * Returns the compiled form of the given pattern. Compiled patterns are cached, so that
+     * the same pattern is compiled only once.
+     *
+     * @param pattern a <code>SimpleDateFormat</code> pattern
+     * @return the compiled pattern.
+     */
+    public static CompiledPattern of(String pattern) {
+        CompiledPattern compiledPattern = CACHE.get(pattern);
+        if (compiledPattern == null) {
+            compiledPattern = new CompiledPattern(pattern);
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                CACHE.putIfAbsent(pattern, compiledPattern);
+            }
+        }
+        return compiledPattern;
+    }
+
+    /**
+     * @return whether the given pattern is in the cache, for tests.
+     */
+    static boolean isCached(String pattern) {
+        return CACHE.containsKey(pattern);
+    }
+
+    /**
+     * @return the <code>SimpleDateFormat</code> pattern of this compiled pattern.
+     */
+    public String pattern() {
+        return pattern;
+    }
+
+    /**
+     * @return true if this pattern has a compiled parser; false if all input must be parsed by <code>SimpleDateFormat</code>.
+     */
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * @return true if this pattern has a compiled formatter; false if {@link #format(long, TimeZone, Locale)}
+     * always uses <code>SimpleDateFormat</code>.
+     */
+    public boolean isFormatCompiled() {
+        return formatCompiled;
+    }
+
+    /**
+     * Creates a new <code>SimpleDateFormat</code> instance of this pattern in the default locale,
+     * to be used when the fast path cannot parse an input.
+     *
+     * @return a new <code>SimpleDateFormat</code> instance.
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public SimpleDateFormat newSimpleDateFormat() {
+        return new SimpleDateFormat(pattern);
+    }
+
+    /**
+     * Creates a new <code>SimpleDateFormat</code> instance of this pattern in the given locale,
+     * to be used when the fast path cannot parse an input.
+     *
+     * @param locale locale of the format
+     * @return a new <code>SimpleDateFormat</code> instance.
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public SimpleDateFormat newSimpleDateFormat(Locale locale) {
+        return new SimpleDateFormat(pattern, locale);
+    }
+
+    /**
+     * Returns the <code>SimpleDateFormat</code> of this pattern in the given locale and time zone, which belongs to
+     * the current thread and is reused by the following calls of the thread.
+     * <p>
+     * The instance must not be kept, shared with other threads or modified, other than its time zone.
+     *
+     * @param locale locale of the format
+     * @param zone   time zone of the format
+     * @return the <code>SimpleDateFormat</code> instance of the current thread.
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public SimpleDateFormat simpleDateFormat(Locale locale, TimeZone zone) {
+        LocalizedFormat localized = fallbackFormat.get();
+        if (localized == null || !localized.locale.equals(locale)) {
+            localized = new LocalizedFormat(locale, new SimpleDateFormat(pattern, locale));
+            fallbackFormat.set(localized);
+        }
+        localized.format.setTimeZone(zone);
+        return localized.format;
+    }
+
+    /**
+     * Parses the given text with the compiled parser, in the given time zone and the default locale.
+     *
+     * @param text text to parse
+     * @param zone time zone of the parsed wall clock time
+     * @return the parsed time as UTC milliseconds from the epoch, or {@link #UNRESOLVED}.
+     * @see #tryParse(CharSequence, int, int, TimeZone, Locale)
+     */
+    public long tryParse(CharSequence text, TimeZone zone) {
+        return tryParse(text, 0, text.length(), zone, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Parses the given region of the given text with the compiled parser, in the given time zone and the default locale.
+     *
+     * @param text  text to parse
+     * @param start index of the first character to parse
+     * @param end   index after the last character to parse
+     * @param zone  time zone of the parsed wall clock time
+     * @return the parsed time as UTC milliseconds from the epoch, or {@link #UNRESOLVED}.
+     * @see #tryParse(CharSequence, int, int, TimeZone, Locale)
+     */
+    public long tryParse(CharSequence text, int start, int end, TimeZone zone) {
+        return tryParse(text, start, end, zone, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Parses the given region of the given text with the compiled parser, in the given time zone and locale.
+     * Like <code>SimpleDateFormat#parse(String)</code>, the text after the last field of the pattern is ignored,
+     * and month names are matched ignoring case.
+     *
+     * @param text   text to parse
+     * @param start  index of the first character to parse
+     * @param end    index after the last character to parse
+     * @param zone   time zone of the parsed wall clock time
+     * @param locale locale of the month names
+     * @return the parsed time as UTC milliseconds from the epoch, or {@link #UNRESOLVED}
+     * if the text has to be parsed by <code>SimpleDateFormat</code>.
+     */
+    public long tryParse(CharSequence text, int start, int end, TimeZone zone, Locale locale) {
+        return parse(text, start, end, zone, locale, false);
+    }
+
+    /**
+     * Parses the whole given text with the compiled parser, in the given time zone and locale.
+     * Unlike {@link #tryParse(CharSequence, int, int, TimeZone, Locale)}, {@link #UNRESOLVED} is returned
+     * if there is text after the last field of the pattern.
+     */
+    long tryParseExact(CharSequence text, TimeZone zone, Locale locale) {
+        return parse(text, 0, text.length(), zone, locale, true);
+    }
+
+    private long parse(CharSequence text, int start, int end, TimeZone zone, Locale locale, boolean exact) {
+        if (!compiled) {
+            return UNRESOLVED;
+        }
+        LocaleSymbols symbols = LocaleSymbols.of(locale);
+        if (!symbols.compatible) {
+            return UNRESOLVED;
+        }
+
+        int year = 1970;
+        int month = 0;
+        int day = 1;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int millis = 0;
+
+        int position = start;
+        for (int i = 0; i < letters.length; i++) {
+            if (letters[i] == 0) {
+                String literal = literals[i];
+                int length = literal.length();
+                if (position + length > end) {
+                    return UNRESOLVED;
+                }
+                for (int j = 0; j < length; j++) {
+                    if (text.charAt(position + j) != literal.charAt(j)) {
+                        return UNRESOLVED;
+                    }
+                }
+                position += length;
+                continue;
+            }
+
+            if (letters[i] == 'M' && counts[i] >= 3) {
+                // Like SimpleDateFormat, long names are tried before short names
+                LocaleSymbols.Names names = symbols.names();
+                int match = matchName(text, position, end, names.parseMonths);
+                if (match < 0) {
+                    match = matchName(text, position, end, names.parseShortMonths);
+                }
+                if (match < 0) {
+                    return UNRESOLVED;
+                }
+                month = match & 0xFF;
+                position += match >>> 8;
+                continue;
+            }
+
+            int limit = end;
+            if (abutting[i]) {
+                limit = position + counts[i];
+                if (limit > end) {
+                    return UNRESOLVED;
+                }
+            }
+            int digitsStart = position;
+            int value = 0;
+            while (position < limit) {
+                char c = text.charAt(position);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                if (position - digitsStart == MAX_DIGITS) {
+                    return UNRESOLVED;
+                }
+                value = value * 10 + (c - '0');
+                position++;
+            }
+            if (position == digitsStart || (abutting[i] && position != limit)
+                    || (position < end && Character.isDigit(text.charAt(position)) && !abutting[i])) {
+                return UNRESOLVED;
+            }
+
+            switch (letters[i]) {
+                case 'y':
+                    year = value;
+                    break;
+                case 'M':
+                    month = value - 1;
+                    break;
+                case 'd':
+                    day = value;
+                    break;
+                case 'H':
+                    hour = value;
+                    break;
+                case 'k':
+                    hour = value == 24 ? 0 : value;
+                    break;
+                case 'm':
+                    minute = value;
+                    break;
+                case 's':
+                    second = value;
+                    break;
+                default:
+                    millis = value;
+                    break;
+            }
+        }
+
+        if (position == start || exact && position != end) {
+            return UNRESOLVED;
+        }
+        // Lenient fields may carry earlier years over the cutover, where the Julian and Gregorian dates differ
+        if (year <= GREGORIAN_CUTOVER_YEAR) {
+            return UNRESOLVED;
+        }
+        return CivilCalendar.localToUtc(CivilCalendar.localMillis(year, month, day, hour, minute, second, millis), zone);
+    }
+
+    /**
+     * Formats the given time in the given time zone and locale, with the same result as
+     * <code>SimpleDateFormat</code> of this pattern in the same time zone and locale.
+     *
+     * @param millis time as UTC milliseconds from the epoch
+     * @param zone   time zone of the formatted wall clock time
+     * @param locale locale of the names and digits
+     * @return the formatted time.
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public String format(long millis, TimeZone zone, Locale locale) {
+        if (formatCompiled) {
+            LocaleSymbols symbols = LocaleSymbols.of(locale);
+            long localMillis = millis + CivilCalendar.getOffset(zone, millis);
+            if (symbols.compatible && CivilCalendar.isGregorian(localMillis) && localMillis <= CivilCalendar.MAX_MILLIS) {
+                StringBuilder builder = new StringBuilder(pattern.length() + 16);
+                formatLocal(builder, localMillis, -1, named ? symbols.names() : null);
+                return builder.toString();
+            }
+        }
+        return simpleDateFormat(locale, zone).format(new Date(millis));
+    }
+
+    /**
+     * Formats the given time with sub-millisecond precision, in the given time zone and locale.
+     * <p>
+     * The <code>S</code> fields of more than three letters print the fraction of the second with as many digits,
+     * such as <code>SSSSSS</code> for microseconds and <code>SSSSSSSSS</code> for nanoseconds.
+     * <code>SimpleDateFormat</code> would print the milliseconds padded with zeros instead.
+     * All other fields are formatted like {@link #format(long, TimeZone, Locale)}.
+     *
+     * @param millis      time as UTC milliseconds from the epoch
+     * @param nanoOfMilli nanoseconds after the given millisecond, from 0 to 999,999
+     * @param zone        time zone of the formatted wall clock time
+     * @param locale      locale of the names and digits
+     * @return the formatted time.
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public String format(long millis, int nanoOfMilli, TimeZone zone, Locale locale) {
+        if (!fractional) {
+            return format(millis, zone, locale);
+        }
+        if (formatCompiled) {
+            LocaleSymbols symbols = LocaleSymbols.of(locale);
+            long localMillis = millis + CivilCalendar.getOffset(zone, millis);
+            if (symbols.compatible && CivilCalendar.isGregorian(localMillis) && localMillis <= CivilCalendar.MAX_MILLIS) {
+                StringBuilder builder = new StringBuilder(pattern.length() + 16);
+                formatLocal(builder, localMillis, nanoOfMilli, named ? symbols.names() : null);
+                return builder.toString();
+            }
+        }
+
+        // The fraction is written into the pattern as quoted text
+        int nanoOfSecond = (int) CivilCalendar.floorMod(millis, 1000) * NANOS_PER_MILLI + nanoOfMilli;
+        StringBuilder fractionPattern = new StringBuilder(pattern.length() + 16);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i <= letters.length; i++) {
+            if (i < letters.length && letters[i] == 0) {
+                text.append(literals[i]);
+            } else if (i < letters.length && letters[i] == 'S' && counts[i] > 3) {
+                appendFraction(text, nanoOfSecond, counts[i]);
+            } else {
+                if (text.length() > 0) {
+                    fractionPattern.append('\'').append(text.toString().replace("'", "''")).append('\'');
+                    text.setLength(0);
+                }
+                for (int j = 0; i < letters.length && j < counts[i]; j++) {
+                    fractionPattern.append(letters[i]);
+                }
+            }
+        }
+        SimpleDateFormat format = new SimpleDateFormat(fractionPattern.toString(), locale);
+        format.setTimeZone(zone);
+        return format.format(new Date(millis));
+    }
+
+    /**
+     * @param nanoOfMilli nanoseconds after the millisecond for the fraction of second, or -1 to format
+     *                    all <code>S</code> fields as milliseconds like <code>SimpleDateFormat</code>
+     * @param names       names of the locale, or null if the pattern has no names
+     */
+    private void formatLocal(StringBuilder builder, long localMillis, int nanoOfMilli, LocaleSymbols.Names names) {
+        long days = CivilCalendar.floorDiv(localMillis, MILLIS_PER_DAY);
+        int millisOfDay = (int) (localMillis - days * MILLIS_PER_DAY);
+        long date = CivilCalendar.civilFromDays(days);
+        int year = (int) (date / 10000);
+        int month = (int) (date / 100 % 100);
+        int day = (int) (date % 100);
+        int hour = millisOfDay / (int) MILLIS_PER_HOUR;
+        // 1970-01-01 was a Thursday, day 5 of Calendar.DAY_OF_WEEK
+        int dayOfWeek = (int) CivilCalendar.floorMod(days + 4, 7) + 1;
+
+        for (int i = 0; i < letters.length; i++) {
+            int count = counts[i];
+            switch (letters[i]) {
+                case 0:
+                    builder.append(literals[i]);
+                    break;
+                case 'G':
+                    builder.append(names.era);
+                    break;
+                case 'y':
+                    if (count == 2) {
+                        appendNumber(builder, year % 100, 2);
+                    } else {
+                        appendNumber(builder, year, count);
+                    }
+                    break;
+                case 'M':
+                    if (count >= 4) {
+                        builder.append(standalone ? names.standaloneMonths[month - 1] : names.months[month - 1]);
+                    } else if (count == 3) {
+                        builder.append(standalone ? names.standaloneShortMonths[month - 1] : names.shortMonths[month - 1]);
+                    } else {
+                        appendNumber(builder, month, count);
+                    }
+                    break;
+                case 'd':
+                    appendNumber(builder, day, count);
+                    break;
+                case 'H':
+                    appendNumber(builder, hour, count);
+                    break;
+                case 'k':
+                    appendNumber(builder, hour == 0 ? 24 : hour, count);
+                    break;
+                case 'K':
+                    appendNumber(builder, hour % 12, count);
+                    break;
+                case 'h':
+                    appendNumber(builder, hour % 12 == 0 ? 12 : hour % 12, count);
+                    break;
+                case 'm':
+                    appendNumber(builder, millisOfDay / (int) MILLIS_PER_MINUTE % 60, count);
+                    break;
+                case 's':
+                    appendNumber(builder, millisOfDay / (int) MILLIS_PER_SECOND % 60, count);
+                    break;
+                case 'S':
+                    if (nanoOfMilli >= 0 && count > 3) {
+                        appendFraction(builder, millisOfDay % 1000 * NANOS_PER_MILLI + nanoOfMilli, count);
+                    } else {
+                        appendNumber(builder, millisOfDay % 1000, count);
+                    }
+                    break;
+                case 'E':
+                    builder.append(count >= 4 ? names.weekdays[dayOfWeek] : names.shortWeekdays[dayOfWeek]);
+                    break;
+                case 'D':
+                    appendNumber(builder, (int) (days - CivilCalendar.daysFromCivil(year, 1, 1)) + 1, count);
+                    break;
+                case 'F':
+                    appendNumber(builder, (day - 1) / 7 + 1, count);
+                    break;
+                case 'u':
+                    appendNumber(builder, dayOfWeek == 1 ? 7 : dayOfWeek - 1, count);
+                    break;
+                default:
+                    builder.append(names.amPmStrings[hour >= 12 ? 1 : 0]);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Finds the longest name at the given position of the text, ignoring case, like <code>SimpleDateFormat</code>.
+     * A name ending with a period also matches without the period.
+     *
+     * @return the length of the matched text shifted left by 8 bits, plus the index of the name; or -1 if no name matches.
+     */
+    private static int matchName(CharSequence text, int position, int end, String[] names) {
+        int bestLength = 0;
+        int matchedIndex = -1;
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            int length = name.length();
+            if (length == 0) {
+                continue;
+            }
+            if (length > bestLength && regionMatches(text, position, end, name, length)) {
+                bestLength = length;
+                matchedIndex = i;
+            }
+            if (name.charAt(length - 1) == '.' && length - 1 > bestLength && regionMatches(text, position, end, name, length - 1)) {
+                bestLength = length - 1;
+                matchedIndex = i;
+            }
+        }
+        return matchedIndex < 0 ? -1 : bestLength << 8 | matchedIndex;
+    }
+
+    private static boolean regionMatches(CharSequence text, int position, int end, String name, int length) {
+        if (position + length > end) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c1 = text.charAt(position + i);
+            char c2 = name.charAt(i);
+            if (c1 == c2) {
+                continue;
+            }
+            char u1 = Character.toUpperCase(c1);
+            char u2 = Character.toUpperCase(c2);
+            if (u1 != u2 && Character.toLowerCase(u1) != Character.toLowerCase(u2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void appendNumber(StringBuilder builder, int value, int minDigits) {
+        int digits = 1;
+        for (int limit = 10; digits < 10 && value >= limit; limit *= 10) {
+            digits++;
+        }
+        for (int i = digits; i < minDigits; i++) {
+            builder.append('0');
+        }
+        builder.append(value);
+    }
+
+    /**
+     * Appends the first digits of the given fraction of second, followed by zeros beyond the nanoseconds.
+     */
+    private static void appendFraction(StringBuilder builder, int nanoOfSecond, int digits) {
+        int precision = Math.min(digits, MAX_DIGITS);
+        appendNumber(builder, nanoOfSecond / POWERS_OF_TEN[MAX_DIGITS - precision], precision);
+        for (int i = precision; i < digits; i++) {
+            builder.append('0');
+        }
+    }
+
+    private static boolean isParseable(char letter, int count) {
+        switch (letter) {
+            case 'y':
+                return count >= 3;
+            case 'M':
+            case 'd':
+            case 'H':
+            case 'k':
+            case 'm':
+            case 's':
+            case 'S':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isFormattable(char letter) {
+        switch (letter) {
+            case 'G':
+            case 'y':
+            case 'M':
+            case 'd':
+            case 'H':
+            case 'k':
+            case 'K':
+            case 'h':
+            case 'm':
+            case 's':
+            case 'S':
+            case 'E':
+            case 'D':
+            case 'F':
+            case 'u':
+            case 'a':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns true if <code>SimpleDateFormat</code> parses the given field as a number.
+     */
+    private static boolean isNumeric(char letter, int count) {
+        switch (letter) {
+            case 'M':
+            case 'L':
+                return count <= 2;
+            case 'y':
+            case 'Y':
+            case 'd':
+            case 'k':
+            case 'H':
+            case 'm':
+            case 's':
+            case 'S':
+            case 'D':
+            case 'F':
+            case 'w':
+            case 'W':
+            case 'K':
+            case 'h':
+            case 'u':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledPattern{ " + pattern + " }";
+    }
+
+    private static final class LocalizedFormat {
+        final Locale locale;
+        final SimpleDateFormat format;
+
+        LocalizedFormat(Locale locale, SimpleDateFormat format) {
+            this.locale = locale;
+            this.format = format;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.asosyalbebe.moment4j.format;
+
+import com.asosyalbebe.moment4j.util.CivilCalendar;
+
+import java.text.DateFormatSymbols;
+import java.text.DecimalFormatSymbols;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The month, weekday, AM/PM and era names of a locale, loaded once and shared by all compiled patterns.
+ * <p>
+ * <code>DateFormatSymbols.getInstance</code> returns a new copy of the names on every call,
+ * and every <code>SimpleDateFormat</code> makes one. These arrays are loaded once per locale instead,
+ * and must never be modified.
+ * <p>
+ * Depending on the JDK, <code>SimpleDateFormat</code> takes some names from <code>Calendar#getDisplayName</code>
+ * rather than <code>DateFormatSymbols</code>, and uses the standalone month names for patterns with a single month field.
+ * The formatting names are therefore taken from the output of <code>SimpleDateFormat</code> itself,
+ * so that compiled patterns produce exactly the same text.
+ *
+ * @author Serdar Kuzucu
+ */
+final class LocaleSymbols {
+    private static final ConcurrentMap<Locale, LocaleSymbols> CACHE = new ConcurrentHashMap<>();
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+    private static final char SEPARATOR = '\u0001';
+
+    private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
+
+    /**
+     * 2016-03-13 00:00 UTC, which is a Sunday.
+     */
+    private static final long SUNDAY = 16873L * MILLIS_PER_DAY;
+
+    /**
+     * True if <code>SimpleDateFormat</code> uses the Gregorian calendar and ASCII digits in this locale,
+     * so compiled patterns produce the same text.
+     */
+    final boolean compatible;
+
+    private final Locale locale;
+    private volatile Names names;
+
+    private LocaleSymbols(Locale locale) {
+        this.locale = locale;
+        this.compatible = CivilCalendar.isGregorian(locale) && DecimalFormatSymbols.getInstance(locale).getZeroDigit() == '0';
+    }
+
+    static LocaleSymbols of(Locale locale) {
+        LocaleSymbols symbols = CACHE.get(locale);
+        if (symbols == null) {
+            symbols = new LocaleSymbols(locale);
+            LocaleSymbols previous = CACHE.putIfAbsent(locale, symbols);
+            if (previous != null) {
+                symbols = previous;
+            }
+        }
+        return symbols;
+    }
+
+    /**
+     * @return whether the names of the given locale are in the cache, for tests.
+     */
+    static boolean isCached(Locale locale) {
+        LocaleSymbols symbols = CACHE.get(locale);
+        return symbols != null && symbols.names != null;
+    }
+
+    /**
+     * Returns the names of this locale, which are loaded on first use, so that numeric patterns never load them.
+     * Names are immutable, so two threads may load them at the same time, and either of them is kept.
+     */
+    Names names() {
+        Names current = names;
+        if (current == null) {
+            current = new Names(locale);
+            names = current;
+        }
+        return current;
+    }
+
+    /**
+     * Formats the given time with the given pattern in UTC, and returns the text before the separator.
+     */
+    private static String name(Locale locale, String pattern, long millis) {
+        SimpleDateFormat format = new SimpleDateFormat(pattern, locale);
+        format.setTimeZone(UTC);
+        String text = format.format(new Date(millis));
+        int separator = text.indexOf(SEPARATOR);
+        return separator < 0 ? text : text.substring(0, separator);
+    }
+
+    static final class Names {
+        final String[] months;
+        final String[] shortMonths;
+        final String[] standaloneMonths;
+        final String[] standaloneShortMonths;
+        final String[] weekdays;
+        final String[] shortWeekdays;
+        final String[] amPmStrings;
+        final String era;
+
+        /**
+         * Month names of <code>DateFormatSymbols</code>, which <code>SimpleDateFormat</code> accepts while parsing.
+         */
+        final String[] parseMonths;
+        final String[] parseShortMonths;
+
+        private Names(Locale locale) {
+            DateFormatSymbols symbols = DateFormatSymbols.getInstance(locale);
+            this.parseMonths = symbols.getMonths();
+            this.parseShortMonths = symbols.getShortMonths();
+
+            this.months = new String[12];
+            this.shortMonths = new String[12];
+            this.standaloneMonths = new String[12];
+            this.standaloneShortMonths = new String[12];
+            for (int month = 0; month < 12; month++) {
+                long millis = CivilCalendar.daysFromCivil(2016, month + 1, 10) * MILLIS_PER_DAY;
+                months[month] = name(locale, "MMMM'" + SEPARATOR + "'d", millis);
+                shortMonths[month] = name(locale, "MMM'" + SEPARATOR + "'d", millis);
+                standaloneMonths[month] = name(locale, "MMMM", millis);
+                standaloneShortMonths[month] = name(locale, "MMM", millis);
+            }
+
+            // Indexed like Calendar.DAY_OF_WEEK
+            this.weekdays = new String[8];
+            this.shortWeekdays = new String[8];
+            for (int day = 0; day < 7; day++) {
+                weekdays[day + 1] = name(locale, "EEEE", SUNDAY + day * MILLIS_PER_DAY);
+                shortWeekdays[day + 1] = name(locale, "EEE", SUNDAY + day * MILLIS_PER_DAY);
+            }
+
+            this.amPmStrings = new String[]{name(locale, "a", SUNDAY), name(locale, "a", SUNDAY + MILLIS_PER_DAY / 2)};
+            this.era = name(locale, "G", SUNDAY);
+        }
+    }
+}
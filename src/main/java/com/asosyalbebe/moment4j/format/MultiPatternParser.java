@@ -0,0 +1,353 @@
+package com.asosyalbebe.moment4j.format;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Parses date strings in any of several patterns, without trying every pattern and catching the exceptions.
+ * <p>
+ * A text matches a pattern if the pattern parses the whole text. The patterns of fixed width, with only numeric
+ * fields of two or more letters and literal text, are indexed by the length of their texts, and checked against the
+ * separators and digits at every position of the text. This way a text is parsed by the pattern it has the shape of,
+ * with a single probe. The texts without such a pattern are tried with the patterns of variable width, and finally with
+ * the other patterns, in the given order.
+ * <p>
+ * A {@link Source} remembers the pattern of the last text it parsed, and tries it first, so that a feed
+ * with a single format needs a single probe per text even when its pattern has a variable width.
+ * <p>
+ * Texts are parsed in the default time zone, like <code>Moment.moment(String, String)</code>.
+ * Instances are immutable and thread-safe; sources are not.
+ *
+ * <pre>
+ * {@code
+ * MultiPatternParser parser = new MultiPatternParser("yyyy-MM-dd HH:mm:ss", "dd/MM/yyyy", "MMM d, yyyy");
+ * MultiPatternParser.Source feed = parser.source();
+ * long millis = feed.parse(line);
+ * }
+ * </pre>
+ *
+ * @author Serdar Kuzucu
+ */
+public class MultiPatternParser {
+    /**
+     * Marks the positions of digits in the shape of a fixed width pattern.
+     */
+    private static final char DIGIT = 0;
+
+    private static final int[] NONE = new int[0];
+
+    private final Locale locale;
+    private final CompiledPattern[] patterns;
+
+    /**
+     * Shapes of the fixed width patterns, with the literal characters and {@link #DIGIT}; null for the other patterns.
+     */
+    private final char[][] shapes;
+
+    /**
+     * Indexes of the fixed width patterns, by the length of their texts, in the given order.
+     */
+    private final int[][] byLength;
+
+    /**
+     * Indexes of the patterns of variable width, in the given order.
+     */
+    private final int[] variable;
+
+    /**
+     * Creates a parser of the given patterns, with the names of the default locale.
+     *
+     * @param patterns <code>SimpleDateFormat</code> patterns, in the order they are tried
+     * @throws MomentException if there are no patterns, or a pattern is invalid
+     */
+    public MultiPatternParser(String... patterns) {
+        this(Locale.getDefault(Locale.Category.FORMAT), patterns);
+    }
+
+    /**
+     * Creates a parser of the given patterns, with the names of the given locale.
+     *
+     * @param locale   locale of the month names in the texts
+     * @param patterns <code>SimpleDateFormat</code> patterns, in the order they are tried
+     * @throws MomentException if there are no patterns, or a pattern is invalid
+     */
+    public MultiPatternParser(Locale locale, String... patterns) {
+        if (locale == null) {
+            throw new MomentException("Locale parameter cannot be null!");
+        }
+        if (patterns == null || patterns.length == 0) {
+            throw new MomentException("At least one pattern is required!");
+        }
+        this.locale = locale;
+        this.patterns = new CompiledPattern[patterns.length];
+        this.shapes = new char[patterns.length][];
+
+        int maxLength = 0;
+        List<Integer> variableList = new ArrayList<>();
+        for (int i = 0; i < patterns.length; i++) {
+            CompiledPattern compiledPattern = CompiledPattern.of(patterns[i]);
+            try {
+                compiledPattern.newSimpleDateFormat(locale);
+            } catch (Exception e) {
+                throw new MomentException("Invalid SimpleDateFormat pattern [" + patterns[i] + "]", e);
+            }
+            this.patterns[i] = compiledPattern;
+            shapes[i] = shape(new PatternTokenizer(patterns[i]));
+            if (shapes[i] == null) {
+                variableList.add(i);
+            } else {
+                maxLength = Math.max(maxLength, shapes[i].length);
+            }
+        }
+
+        this.byLength = new int[maxLength + 1][];
+        Arrays.fill(byLength, NONE);
+        for (int i = 0; i < patterns.length; i++) {
+            if (shapes[i] != null) {
+                int[] indexes = byLength[shapes[i].length];
+                indexes = Arrays.copyOf(indexes, indexes.length + 1);
+                indexes[indexes.length - 1] = i;
+                byLength[shapes[i].length] = indexes;
+            }
+        }
+        this.variable = new int[variableList.size()];
+        for (int i = 0; i < variable.length; i++) {
+            variable[i] = variableList.get(i);
+        }
+    }
+
+    /**
+     * @return the patterns of this parser, in the order they are tried.
+     */
+    public List<String> patterns() {
+        List<String> list = new ArrayList<>(patterns.length);
+        for (CompiledPattern pattern : patterns) {
+            list.add(pattern.pattern());
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Creates a source which remembers the pattern of the last parsed text, for a single feed of texts.
+     *
+     * @return a new source.
+     */
+    public Source source() {
+        return new Source();
+    }
+
+    /**
+     * Parses the given text with the pattern it matches.
+     *
+     * @param text text to parse
+     * @return the parsed time as UTC milliseconds from the epoch.
+     * @throws MomentException if the text matches none of the patterns
+     */
+    public long parse(CharSequence text) {
+        return checked(text, parse(text, null));
+    }
+
+    /**
+     * Parses the given text with the pattern it matches.
+     *
+     * @param text text to parse
+     * @return the parsed time as UTC milliseconds from the epoch, or {@link CompiledPattern#UNRESOLVED}
+     * if the text matches none of the patterns.
+     */
+    public long tryParse(CharSequence text) {
+        return parse(text, null);
+    }
+
+    private long checked(CharSequence text, long millis) {
+        if (millis == CompiledPattern.UNRESOLVED) {
+            throw new MomentException("Text [" + text + "] does not match any of the patterns " + patterns());
+        }
+        return millis;
+    }
+
+    private long parse(CharSequence text, Source source) {
+        if (text == null) {
+            return CompiledPattern.UNRESOLVED;
+        }
+        TimeZone zone = TimeZone.getDefault();
+        int last = source == null ? -1 : source.last;
+        if (last >= 0 && (shapes[last] == null || hasShape(text, shapes[last]))) {
+            long millis = parse(last, text, zone);
+            if (millis != CompiledPattern.UNRESOLVED) {
+                return millis;
+            }
+        }
+
+        int length = text.length();
+        int[] candidates = length < byLength.length ? byLength[length] : NONE;
+        for (int i : candidates) {
+            if (i != last && hasShape(text, shapes[i])) {
+                long millis = parse(i, text, zone);
+                if (millis != CompiledPattern.UNRESOLVED) {
+                    return remember(source, i, millis);
+                }
+            }
+        }
+
+        for (int i : variable) {
+            if (i != last) {
+                long millis = parse(i, text, zone);
+                if (millis != CompiledPattern.UNRESOLVED) {
+                    return remember(source, i, millis);
+                }
+            }
+        }
+
+        // SimpleDateFormat is lenient, and may parse texts of another shape, such as single digit days
+        for (int i = 0; i < patterns.length; i++) {
+            if (shapes[i] != null && i != last && (shapes[i].length != length || !hasShape(text, shapes[i]))) {
+                long millis = parse(i, text, zone);
+                if (millis != CompiledPattern.UNRESOLVED) {
+                    return remember(source, i, millis);
+                }
+            }
+        }
+        return CompiledPattern.UNRESOLVED;
+    }
+
+    private static long remember(Source source, int index, long millis) {
+        if (source != null) {
+            source.last = index;
+        }
+        return millis;
+    }
+
+    /**
+     * Parses the whole text with the pattern of the given index, or returns {@link CompiledPattern#UNRESOLVED}.
+     */
+    private long parse(int index, CharSequence text, TimeZone zone) {
+        CompiledPattern pattern = patterns[index];
+        long millis = pattern.tryParseExact(text, zone, locale);
+        if (millis != CompiledPattern.UNRESOLVED) {
+            return millis;
+        }
+
+        String string = text.toString();
+        ParsePosition position = new ParsePosition(0);
+        Date date = pattern.simpleDateFormat(locale, zone).parse(string, position);
+        if (date == null || position.getIndex() != string.length()) {
+            return CompiledPattern.UNRESOLVED;
+        }
+        return date.getTime();
+    }
+
+    private static boolean hasShape(CharSequence text, char[] shape) {
+        if (text.length() != shape.length) {
+            return false;
+        }
+        for (int i = 0; i < shape.length; i++) {
+            char c = text.charAt(i);
+            if (shape[i] == DIGIT ? c < '0' || c > '9' : c != shape[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the shape of the texts of the given pattern, or null if its texts do not have a fixed width.
+     */
+    private static char[] shape(PatternTokenizer tokenizer) {
+        if (!tokenizer.valid) {
+            return null;
+        }
+        StringBuilder shape = new StringBuilder();
+        for (int i = 0; i < tokenizer.letters.length; i++) {
+            char letter = tokenizer.letters[i];
+            int count = tokenizer.counts[i];
+            if (letter == 0) {
+                String literal = tokenizer.literals[i];
+                if (literal.indexOf(DIGIT) >= 0) {
+                    return null;
+                }
+                shape.append(literal);
+            } else if (isFixedWidth(letter, count)) {
+                for (int j = 0; j < count; j++) {
+                    shape.append(DIGIT);
+                }
+            } else {
+                return null;
+            }
+        }
+        return shape.length() == 0 ? null : shape.toString().toCharArray();
+    }
+
+    /**
+     * Returns true if <code>SimpleDateFormat</code> formats the given field with exactly as many digits as letters,
+     * for the years 1000 to 9999.
+     */
+    private static boolean isFixedWidth(char letter, int count) {
+        switch (letter) {
+            case 'y':
+                return count == 2 || count == 4;
+            case 'M':
+                return count == 2;
+            case 'd':
+            case 'H':
+            case 'k':
+            case 'K':
+            case 'h':
+            case 'm':
+            case 's':
+                return count == 2;
+            case 'S':
+                return count == 3;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Parses the texts of a single feed, trying the pattern of the last parsed text first.
+     * <p>
+     * A source is not thread-safe, and should be used by a single thread.
+     */
+    public final class Source {
+        private int last = -1;
+
+        private Source() {
+        }
+
+        /**
+         * Parses the given text with the pattern it matches, trying the pattern of the last text first.
+         *
+         * @param text text to parse
+         * @return the parsed time as UTC milliseconds from the epoch.
+         * @throws MomentException if the text matches none of the patterns
+         */
+        public long parse(CharSequence text) {
+            return checked(text, MultiPatternParser.this.parse(text, this));
+        }
+
+        /**
+         * Parses the given text with the pattern it matches, trying the pattern of the last text first.
+         *
+         * @param text text to parse
+         * @return the parsed time as UTC milliseconds from the epoch, or {@link CompiledPattern#UNRESOLVED}
+         * if the text matches none of the patterns.
+         */
+        public long tryParse(CharSequence text) {
+            return MultiPatternParser.this.parse(text, this);
+        }
+
+        /**
+         * @return the pattern of the last parsed text, or null if no text was parsed yet.
+         */
+        public String lastPattern() {
+            return last < 0 ? null : patterns[last].pattern();
+        }
+    }
+}
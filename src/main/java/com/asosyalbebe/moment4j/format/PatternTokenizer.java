@@ -0,0 +1,76 @@
+package com.asosyalbebe.moment4j.format;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a <code>SimpleDateFormat</code> pattern into fields and literal text, with the same quoting rules.
+ * <p>
+ * Every token is either a field, with its pattern letter and the number of repetitions,
+ * or literal text, with the letter <code>0</code>. Adjacent literal characters are merged into one token.
+ *
+ * @author Serdar Kuzucu
+ */
+final class PatternTokenizer {
+    final char[] letters;
+    final int[] counts;
+    final String[] literals;
+    final boolean valid;
+
+    PatternTokenizer(String pattern) {
+        List<Character> letterList = new ArrayList<>();
+        List<Integer> countList = new ArrayList<>();
+        List<String> literalList = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean inQuote = false;
+        int length = pattern.length();
+
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i += 2;
+                } else {
+                    inQuote = !inQuote;
+                    i++;
+                }
+            } else if (!inQuote && ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) {
+                if (literal.length() > 0) {
+                    addLiteral(letterList, countList, literalList, literal);
+                }
+                int count = 1;
+                while (i + count < length && pattern.charAt(i + count) == c) {
+                    count++;
+                }
+                letterList.add(c);
+                countList.add(count);
+                literalList.add(null);
+                i += count;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        if (literal.length() > 0) {
+            addLiteral(letterList, countList, literalList, literal);
+        }
+
+        this.valid = !inQuote;
+        this.letters = new char[letterList.size()];
+        this.counts = new int[letterList.size()];
+        this.literals = literalList.toArray(new String[literalList.size()]);
+        for (int j = 0; j < letters.length; j++) {
+            letters[j] = letterList.get(j);
+            counts[j] = countList.get(j);
+        }
+    }
+
+    private static void addLiteral(List<Character> letters, List<Integer> counts, List<String> literals, StringBuilder literal) {
+        letters.add((char) 0);
+        counts.add(literal.length());
+        literals.add(literal.toString());
+        literal.setLength(0);
+    }
+}
@@ -0,0 +1,66 @@
+package com.asosyalbebe.moment4j.format;
+
+import com.asosyalbebe.moment4j.util.CivilCalendar;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Fills the caches of compiled patterns, locale names and time zone rules ahead of the first use,
+ * so that the first <code>format</code> or <code>parse</code> of a request does not pay for loading them.
+ * <p>
+ * For a GraalVM native image, call these methods from the static initializer of a class initialized at build time,
+ * and initialize the <code>com.asosyalbebe.moment4j.format</code> and <code>com.asosyalbebe.moment4j.util</code>
+ * packages at build time as well. The filled caches are then part of the image heap:
+ *
+ * <pre>
+ * --initialize-at-build-time=com.asosyalbebe.moment4j.format,com.asosyalbebe.moment4j.util,com.example.MomentTables
+ * </pre>
+ * <p>
+ * The zone engine reads the <code>moment4j.engine</code> system property when its class is initialized,
+ * so such an image uses the value of the property at build time.
+ *
+ * @author Serdar Kuzucu
+ */
+public final class Preload {
+
+    private Preload() {
+        // Prevent new instances of utility class
+    }
+
+    /**
+     * Compiles the given patterns.
+     *
+     * @param patterns <code>SimpleDateFormat</code> patterns
+     */
+    public static void patterns(String... patterns) {
+        for (String pattern : patterns) {
+            CompiledPattern.of(pattern);
+        }
+    }
+
+    /**
+     * Loads the month, weekday and relative time strings of the given locales.
+     *
+     * @param locales the locales
+     */
+    public static void locales(Locale... locales) {
+        for (Locale locale : locales) {
+            LocaleSymbols.of(locale).names();
+            RelativeTimeStrings.of(locale);
+            CivilCalendar.isGregorian(locale);
+        }
+    }
+
+    /**
+     * Loads the rules of the given time zones.
+     *
+     * @param zoneIds time zone IDs, such as <code>"Europe/Istanbul"</code>
+     */
+    public static void zones(String... zoneIds) {
+        long now = System.currentTimeMillis();
+        for (String zoneId : zoneIds) {
+            CivilCalendar.getOffset(TimeZone.getTimeZone(zoneId), now);
+        }
+    }
+}
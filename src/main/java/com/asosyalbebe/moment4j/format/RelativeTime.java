@@ -0,0 +1,196 @@
+package com.asosyalbebe.moment4j.format;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static com.asosyalbebe.moment4j.format.RelativeTimeStrings.*;
+import static com.asosyalbebe.moment4j.util.CivilCalendar.floorDiv;
+import static com.asosyalbebe.moment4j.util.CivilCalendar.floorMod;
+import static com.asosyalbebe.moment4j.util.CivilCalendar.getOffset;
+
+/**
+ * Formats times relative to a reference time, such as <code>"3 minutes ago"</code> or <code>"Tomorrow at 2:30 PM"</code>,
+ * with the same thresholds and strings as moment.js.
+ * <p>
+ * The moment.js thresholds are rounded durations, such as "less than 45 minutes". They are precomputed as
+ * durations in milliseconds, so choosing a string takes a few comparisons. The strings of every locale are
+ * loaded once from the <code>RelativeTime</code> resource bundle, and every relative time string is cached
+ * after its first use, so formatting allocates nothing once the strings of a page have been seen.
+ * <p>
+ * The methods accepting <code>long[]</code> format many times against a single reference time, for example all the
+ * items of a feed against the current time.
+ *
+ * @author Serdar Kuzucu
+ * @see <a href="http://momentjs.com/docs/#/displaying/fromnow/">moment.js fromNow</a>
+ */
+public class RelativeTime {
+    private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
+
+    /**
+     * Average length of a month, as 146097 days of the Gregorian cycle divided by 4800 months.
+     */
+    private static final long MILLIS_PER_MONTH = 146097L * MILLIS_PER_DAY / 4800;
+
+    /**
+     * Upper bounds of the moment.js buckets s, ss, m, mm, h, hh, d, dd, M, MM and y, as durations in milliseconds.
+     * A rounded threshold, such as <code>round(minutes) &lt; 45</code>, is <code>duration &lt; 44.5 minutes</code>.
+     */
+    private static final long[] THRESHOLDS = {
+            44500L,
+            44500L,
+            90 * 1000L,
+            89 * 30 * 1000L,
+            90 * 60 * 1000L,
+            43 * 30 * 60 * 1000L,
+            36 * 60 * 60 * 1000L,
+            51 * 12 * 60 * 60 * 1000L,
+            3 * MILLIS_PER_MONTH / 2,
+            21 * MILLIS_PER_MONTH / 2,
+            18 * MILLIS_PER_MONTH
+    };
+
+    /**
+     * Units of the numbers in the buckets, in the same order.
+     */
+    private static final long[] UNITS = {
+            1000L, 1000L, 60 * 1000L, 60 * 1000L, 60 * 60 * 1000L, 60 * 60 * 1000L,
+            MILLIS_PER_DAY, MILLIS_PER_DAY, MILLIS_PER_MONTH, MILLIS_PER_MONTH, 12 * MILLIS_PER_MONTH, 12 * MILLIS_PER_MONTH
+    };
+
+    private RelativeTime() {
+        // Prevent new instances of utility class
+    }
+
+    /**
+     * Returns the given time relative to the given reference time, in the given locale.
+     * For example, a time 3 minutes before the reference is <code>"3 minutes ago"</code>,
+     * or <code>"3 minutes"</code> without suffix.
+     *
+     * @param millis        time as UTC milliseconds from the epoch
+     * @param reference     reference time as UTC milliseconds from the epoch
+     * @param withoutSuffix true to omit the "in" and "ago" parts of the string
+     * @param locale        locale of the string
+     * @return the relative time string.
+     */
+    public static String humanize(long millis, long reference, boolean withoutSuffix, Locale locale) {
+        return humanize(RelativeTimeStrings.of(locale), millis, reference, withoutSuffix);
+    }
+
+    /**
+     * Returns the given times relative to the given reference time, in the given locale.
+     *
+     * @param millis        times as UTC milliseconds from the epoch
+     * @param reference     reference time as UTC milliseconds from the epoch
+     * @param withoutSuffix true to omit the "in" and "ago" parts of the strings
+     * @param locale        locale of the strings
+     * @return the relative time strings, at the same indexes as the times.
+     * @see #humanize(long, long, boolean, Locale)
+     */
+    public static String[] humanize(long[] millis, long reference, boolean withoutSuffix, Locale locale) {
+        String[] out = new String[millis.length];
+        humanize(millis, reference, withoutSuffix, locale, out);
+        return out;
+    }
+
+    /**
+     * Writes the given times relative to the given reference time, in the given locale, into the given array.
+     *
+     * @param millis        times as UTC milliseconds from the epoch
+     * @param reference     reference time as UTC milliseconds from the epoch
+     * @param withoutSuffix true to omit the "in" and "ago" parts of the strings
+     * @param locale        locale of the strings
+     * @param out           array to write the relative time strings, at the same indexes as the times
+     * @see #humanize(long, long, boolean, Locale)
+     */
+    public static void humanize(long[] millis, long reference, boolean withoutSuffix, Locale locale, String[] out) {
+        RelativeTimeStrings strings = RelativeTimeStrings.of(locale);
+        for (int i = 0; i < millis.length; i++) {
+            out[i] = humanize(strings, millis[i], reference, withoutSuffix);
+        }
+    }
+
+    /**
+     * Returns the given time as a calendar string relative to the day of the given reference time, in the given locale.
+     * For example, <code>"Today at 2:30 PM"</code>, <code>"Last Monday at 9:00 AM"</code>, or the date for the times
+     * a week or more away from the reference.
+     *
+     * @param millis    time as UTC milliseconds from the epoch
+     * @param reference reference time as UTC milliseconds from the epoch
+     * @param zone      time zone of the days
+     * @param locale    locale of the string
+     * @return the calendar string.
+     * @see <a href="http://momentjs.com/docs/#/displaying/calendar-time/">moment.js calendar</a>
+     */
+    public static String calendar(long millis, long reference, TimeZone zone, Locale locale) {
+        return calendar(RelativeTimeStrings.of(locale), millis, startOfLocalDay(reference, zone), zone);
+    }
+
+    /**
+     * Returns the given times as calendar strings relative to the day of the given reference time, in the given locale.
+     *
+     * @param millis    times as UTC milliseconds from the epoch
+     * @param reference reference time as UTC milliseconds from the epoch
+     * @param zone      time zone of the days
+     * @param locale    locale of the strings
+     * @return the calendar strings, at the same indexes as the times.
+     * @see #calendar(long, long, TimeZone, Locale)
+     */
+    public static String[] calendar(long[] millis, long reference, TimeZone zone, Locale locale) {
+        RelativeTimeStrings strings = RelativeTimeStrings.of(locale);
+        long referenceDay = startOfLocalDay(reference, zone);
+        String[] out = new String[millis.length];
+        for (int i = 0; i < millis.length; i++) {
+            out[i] = calendar(strings, millis[i], referenceDay, zone);
+        }
+        return out;
+    }
+
+    private static String humanize(RelativeTimeStrings strings, long millis, long reference, boolean withoutSuffix) {
+        long difference = millis - reference;
+        long duration = Math.abs(difference);
+        if (duration < 0) {
+            duration = Long.MAX_VALUE;
+        }
+
+        int bucket = 0;
+        while (bucket < THRESHOLDS.length && duration >= THRESHOLDS[bucket]) {
+            bucket++;
+        }
+        long unit = UNITS[bucket];
+        long count = duration / unit + (duration % unit >= unit / 2 ? 1 : 0);
+
+        int variant = withoutSuffix ? WITHOUT_SUFFIX : difference > 0 ? FUTURE : PAST;
+        return strings.relativeTime(bucket, count, variant);
+    }
+
+    private static String calendar(RelativeTimeStrings strings, long millis, long referenceDay, TimeZone zone) {
+        long local = millis + getOffset(zone, millis);
+        long difference = local - referenceDay;
+        int kind;
+        if (difference < -6 * MILLIS_PER_DAY) {
+            kind = SAME_ELSE;
+        } else if (difference < -MILLIS_PER_DAY) {
+            kind = LAST_WEEK;
+        } else if (difference < 0) {
+            kind = LAST_DAY;
+        } else if (difference < MILLIS_PER_DAY) {
+            kind = SAME_DAY;
+        } else if (difference < 2 * MILLIS_PER_DAY) {
+            kind = NEXT_DAY;
+        } else if (difference < 7 * MILLIS_PER_DAY) {
+            kind = NEXT_WEEK;
+        } else {
+            kind = SAME_ELSE;
+        }
+
+        long days = floorDiv(local, MILLIS_PER_DAY);
+        int minuteOfDay = (int) ((local - days * MILLIS_PER_DAY) / 60000);
+        // 1970-01-01 was a Thursday, day 5 of Calendar.DAY_OF_WEEK
+        int dayOfWeek = (int) floorMod(days + 4, 7) + 1;
+        return strings.calendar(kind, days * MILLIS_PER_DAY, minuteOfDay, dayOfWeek);
+    }
+
+    private static long startOfLocalDay(long millis, TimeZone zone) {
+        return floorDiv(millis + getOffset(zone, millis), MILLIS_PER_DAY) * MILLIS_PER_DAY;
+    }
+}
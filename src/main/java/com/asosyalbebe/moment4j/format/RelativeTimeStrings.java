@@ -0,0 +1,208 @@
+package com.asosyalbebe.moment4j.format;
+
+import java.text.DateFormatSymbols;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The relative time strings of a locale, loaded once from the <code>RelativeTime</code> resource bundle.
+ * <p>
+ * Every string is built on the first use and kept, so that formatting the same relative time again
+ * returns the same <code>String</code> instance. Strings are immutable, so the caches are filled without locking;
+ * two threads may build the same string at the same time, and either of them is kept.
+ *
+ * @author Serdar Kuzucu
+ */
+final class RelativeTimeStrings {
+    static final int FUTURE = 0;
+    static final int PAST = 1;
+    static final int WITHOUT_SUFFIX = 2;
+
+    static final int SAME_DAY = 0;
+    static final int NEXT_DAY = 1;
+    static final int NEXT_WEEK = 2;
+    static final int LAST_DAY = 3;
+    static final int LAST_WEEK = 4;
+    static final int SAME_ELSE = 5;
+
+    private static final String BUNDLE_NAME = "com.asosyalbebe.moment4j.format.RelativeTime";
+    private static final String[] BUCKET_KEYS = {"s", "ss", "m", "mm", "h", "hh", "d", "dd", "M", "MM", "y", "yy"};
+    private static final String[] CALENDAR_KEYS = {"sameDay", "nextDay", "nextWeek", "lastDay", "lastWeek", "sameElse"};
+    private static final int MAX_CACHED_COUNT = 128;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+    private static final ConcurrentMap<Locale, RelativeTimeStrings> CACHE = new ConcurrentHashMap<>();
+
+    private final Locale locale;
+    private final String future;
+    private final String past;
+    private final String[] buckets = new String[BUCKET_KEYS.length];
+    private final String[][][] cache = new String[3][BUCKET_KEYS.length][];
+    private final String[][] calendarParts = new String[CALENDAR_KEYS.length][];
+    private final int[][] calendarArguments = new int[CALENDAR_KEYS.length][];
+    private final String timePattern;
+    private final String[] times = new String[MINUTES_PER_DAY];
+    private final String[] weekdays;
+    private final ThreadLocal<SimpleDateFormat> dateFormat;
+
+    private RelativeTimeStrings(final Locale locale) {
+        this.locale = locale;
+        final ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE_NAME, locale,
+                ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES));
+        this.future = bundle.getString("future");
+        this.past = bundle.getString("past");
+        for (int i = 0; i < BUCKET_KEYS.length; i++) {
+            buckets[i] = bundle.getString(BUCKET_KEYS[i]);
+            for (int variant = 0; variant < 3; variant++) {
+                // Buckets with even indexes have no number, and need a single string
+                cache[variant][i] = new String[i % 2 == 0 ? 1 : MAX_CACHED_COUNT];
+            }
+        }
+        for (int i = 0; i < CALENDAR_KEYS.length; i++) {
+            compileTemplate(i, bundle.getString(CALENDAR_KEYS[i]));
+        }
+        this.timePattern = bundle.getString("timeFormat");
+        this.weekdays = DateFormatSymbols.getInstance(locale).getWeekdays();
+        this.dateFormat = new ThreadLocal<SimpleDateFormat>() {
+            @Override
+            protected SimpleDateFormat initialValue() {
+                SimpleDateFormat format = new SimpleDateFormat(bundle.getString("dateFormat"), locale);
+                format.setTimeZone(UTC);
+                return format;
+            }
+        };
+    }
+
+    static RelativeTimeStrings of(Locale locale) {
+        RelativeTimeStrings strings = CACHE.get(locale);
+        if (strings == null) {
+            strings = new RelativeTimeStrings(locale);
+            RelativeTimeStrings previous = CACHE.putIfAbsent(locale, strings);
+            if (previous != null) {
+                strings = previous;
+            }
+        }
+        return strings;
+    }
+
+    /**
+     * @return whether the strings of the given locale are in the cache, for tests.
+     */
+    static boolean isCached(Locale locale) {
+        return CACHE.containsKey(locale);
+    }
+
+    /**
+     * Returns the relative time string of the given bucket.
+     *
+     * @param bucket  index of the bucket in the order of moment.js: s, ss, m, mm, h, hh, d, dd, M, MM, y, yy
+     * @param count   number of units, ignored for the buckets without a number
+     * @param variant {@link #FUTURE}, {@link #PAST} or {@link #WITHOUT_SUFFIX}
+     */
+    String relativeTime(int bucket, long count, int variant) {
+        String[] strings = cache[variant][bucket];
+        int index = bucket % 2 == 0 ? 0 : (int) Math.min(count, MAX_CACHED_COUNT);
+        if (index == MAX_CACHED_COUNT) {
+            return buildRelativeTime(bucket, count, variant);
+        }
+        String string = strings[index];
+        if (string == null) {
+            string = buildRelativeTime(bucket, count, variant);
+            strings[index] = string;
+        }
+        return string;
+    }
+
+    /**
+     * Returns the calendar string of the given kind.
+     *
+     * @param kind        one of {@link #SAME_DAY}, {@link #NEXT_DAY}, {@link #NEXT_WEEK}, {@link #LAST_DAY},
+     *                    {@link #LAST_WEEK} and {@link #SAME_ELSE}
+     * @param dayStart    start of the local day as milliseconds from 1970-01-01 00:00 in the same wall clock
+     * @param minuteOfDay minutes from the start of the local day
+     * @param dayOfWeek   day of week, like <code>Calendar.DAY_OF_WEEK</code>
+     */
+    String calendar(int kind, long dayStart, int minuteOfDay, int dayOfWeek) {
+        String[] parts = calendarParts[kind];
+        int[] arguments = calendarArguments[kind];
+        if (parts.length == 1 && parts[0].isEmpty() && arguments.length == 1) {
+            // Templates such as "{2}" need no concatenation
+            return argument(arguments[0], dayStart, minuteOfDay, dayOfWeek);
+        }
+        StringBuilder builder = new StringBuilder(32);
+        for (int i = 0; i < parts.length; i++) {
+            builder.append(parts[i]);
+            if (i < arguments.length) {
+                builder.append(argument(arguments[i], dayStart, minuteOfDay, dayOfWeek));
+            }
+        }
+        return builder.toString();
+    }
+
+    private String argument(int argument, long dayStart, int minuteOfDay, int dayOfWeek) {
+        switch (argument) {
+            case 0:
+                return timeOfDay(minuteOfDay);
+            case 1:
+                return weekdays[dayOfWeek];
+            default:
+                return dateFormat.get().format(new Date(dayStart));
+        }
+    }
+
+    private String timeOfDay(int minuteOfDay) {
+        String time = times[minuteOfDay];
+        if (time == null) {
+            SimpleDateFormat format = new SimpleDateFormat(timePattern, locale);
+            format.setTimeZone(UTC);
+            time = format.format(new Date(minuteOfDay * 60000L));
+            times[minuteOfDay] = time;
+        }
+        return time;
+    }
+
+    private String buildRelativeTime(int bucket, long count, int variant) {
+        String text = bucket % 2 == 0 ? buckets[bucket] : buckets[bucket].replace("%d", String.valueOf(count));
+        switch (variant) {
+            case FUTURE:
+                return future.replace("%s", text);
+            case PAST:
+                return past.replace("%s", text);
+            default:
+                return text;
+        }
+    }
+
+    /**
+     * Splits the given template into its literal parts and its <code>{n}</code> arguments.
+     */
+    private void compileTemplate(int kind, String template) {
+        List<String> parts = new ArrayList<>();
+        List<Integer> arguments = new ArrayList<>();
+        int start = 0;
+        int open = template.indexOf('{');
+        while (open >= 0 && open + 2 < template.length() && template.charAt(open + 2) == '}') {
+            parts.add(template.substring(start, open));
+            arguments.add(template.charAt(open + 1) - '0');
+            start = open + 3;
+            open = template.indexOf('{', start);
+        }
+        parts.add(template.substring(start));
+        if (parts.get(parts.size() - 1).isEmpty() && !arguments.isEmpty()) {
+            parts.remove(parts.size() - 1);
+        }
+
+        calendarParts[kind] = parts.toArray(new String[parts.size()]);
+        calendarArguments[kind] = new int[arguments.size()];
+        for (int i = 0; i < arguments.size(); i++) {
+            calendarArguments[kind][i] = arguments.get(i);
+        }
+    }
+}
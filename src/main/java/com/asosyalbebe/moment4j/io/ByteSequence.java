@@ -0,0 +1,43 @@
+package com.asosyalbebe.moment4j.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A <code>CharSequence</code> view of a byte buffer, which maps every byte to the character with the same code,
+ * as <code>ISO-8859-1</code> does. It lets the date parsers read timestamps from buffers without decoding them.
+ * <p>
+ * The indexes of the sequence are the absolute indexes of the buffer, from zero to its limit.
+ *
+ * @author Serdar Kuzucu
+ */
+final class ByteSequence implements CharSequence {
+    private ByteBuffer buffer;
+
+    void wrap(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int length() {
+        return buffer.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            chars[i - start] = charAt(i);
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public String toString() {
+        return subSequence(0, length()).toString();
+    }
+}
@@ -0,0 +1,18 @@
+package com.asosyalbebe.moment4j.io;
+
+/**
+ * Receives the values of a moment column during a scan of {@link MomentColumnReader}.
+ *
+ * @author Serdar Kuzucu
+ */
+public interface ColumnVisitor {
+
+    /**
+     * Called for every value in the scanned range, in the order of the column.
+     *
+     * @param index  index of the value in the column
+     * @param millis the value as UTC milliseconds from the epoch
+     * @return true to continue scanning, false to stop the scan.
+     */
+    boolean visit(long index, long millis);
+}
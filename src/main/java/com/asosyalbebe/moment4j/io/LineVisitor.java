@@ -0,0 +1,23 @@
+package com.asosyalbebe.moment4j.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Receives the lines of a log file found by {@link LogTimestampScanner}.
+ *
+ * @author Serdar Kuzucu
+ */
+public interface LineVisitor {
+
+    /**
+     * Called for every line whose timestamp is in the scanned window, in the order of the file.
+     * <p>
+     * The line buffer is only valid during the call; its contents must be copied to be kept.
+     *
+     * @param offset byte offset of the first character of the line in the file
+     * @param millis timestamp of the line as UTC milliseconds from the epoch
+     * @param line   read-only buffer between the first character of the line and its line terminator
+     * @return true to continue scanning, false to stop the scan.
+     */
+    boolean visit(long offset, long millis, ByteBuffer line);
+}
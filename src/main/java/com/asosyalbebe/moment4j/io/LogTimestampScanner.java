@@ -0,0 +1,356 @@
+package com.asosyalbebe.moment4j.io;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import com.asosyalbebe.moment4j.format.CompiledPattern;
+import com.asosyalbebe.moment4j.util.CivilCalendar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Finds the lines of a log file whose timestamps are in a time window, without decoding the lines into strings.
+ * <p>
+ * The file is read from a channel into a large direct buffer. The timestamp of every line is found either
+ * at a fixed byte offset from the start of the line, or right after the first occurrence of a marker text,
+ * and it is parsed from the buffer with {@link CompiledPattern}. Only the lines in the window are passed to a {@link LineVisitor}.
+ * Lines without a parseable timestamp, such as the lines of a stack trace, are skipped.
+ * <p>
+ * Like <code>Moment#isBetween(long, long)</code>, the window excludes its bounds: a line is visited if
+ * <code>from &lt; timestamp &lt; to</code>.
+ * <p>
+ * When the lines of a file are in timestamp order, {@link #scanSorted(FileChannel, long, long, LineVisitor)}
+ * finds the first line of the window with a binary search over the file, and stops at the first line after the window.
+ * <p>
+ * The file must use an encoding in which the timestamp characters are single bytes, such as <code>UTF-8</code>.
+ * Instances are not thread-safe; create one scanner per thread.
+ *
+ * <pre>
+ * {@code
+ * LogTimestampScanner scanner = LogTimestampScanner.atOffset("yyyy-MM-dd HH:mm:ss,SSS", 0);
+ * try (FileChannel channel = FileChannel.open(path)) {
+ *     scanner.scanSorted(channel, from.valueOf(), to.valueOf(), visitor);
+ * }
+ * }
+ * </pre>
+ *
+ * @author Serdar Kuzucu
+ */
+public class LogTimestampScanner {
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int PROBE_BUFFER_SIZE = 1 << 13;
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+    private final CompiledPattern pattern;
+    private final SimpleDateFormat format;
+    private final TimeZone zone;
+    private final boolean fastPath;
+    private final int offset;
+    private final byte[] marker;
+    private final ByteSequence sequence = new ByteSequence();
+    private final long[] probeResult = new long[2];
+    private ByteBuffer buffer;
+    private ByteBuffer probe;
+
+    private LogTimestampScanner(String pattern, int offset, String marker, TimeZone zone) {
+        this.pattern = CompiledPattern.of(pattern);
+        try {
+            this.format = this.pattern.newSimpleDateFormat();
+        } catch (Exception e) {
+            throw new MomentException("Invalid SimpleDateFormat pattern [" + pattern + "]", e);
+        }
+        this.zone = (TimeZone) zone.clone();
+        this.format.setTimeZone(this.zone);
+        this.fastPath = this.pattern.isCompiled() && CivilCalendar.isGregorian(Locale.getDefault(Locale.Category.FORMAT));
+        this.offset = offset;
+        this.marker = marker == null ? null : marker.getBytes(ISO_8859_1);
+    }
+
+    /**
+     * Creates a scanner for the log lines which start with a timestamp at the given byte offset,
+     * in the default time zone.
+     *
+     * @param pattern <code>SimpleDateFormat</code> pattern of the timestamps
+     * @param offset  byte offset of the timestamp from the start of the line
+     * @return a new scanner.
+     */
+    public static LogTimestampScanner atOffset(String pattern, int offset) {
+        return atOffset(pattern, offset, TimeZone.getDefault());
+    }
+
+    /**
+     * Creates a scanner for the log lines which start with a timestamp at the given byte offset,
+     * in the given time zone.
+     *
+     * @param pattern <code>SimpleDateFormat</code> pattern of the timestamps
+     * @param offset  byte offset of the timestamp from the start of the line
+     * @param zone    time zone of the timestamps
+     * @return a new scanner.
+     */
+    public static LogTimestampScanner atOffset(String pattern, int offset, TimeZone zone) {
+        if (offset < 0) {
+            throw new MomentException("Timestamp offset cannot be negative! " + offset);
+        }
+        return new LogTimestampScanner(pattern, offset, null, zone);
+    }
+
+    /**
+     * Creates a scanner for the log lines whose timestamps follow the first occurrence of the given marker text,
+     * in the default time zone. For example, the marker of the line <code>level=INFO time=2016-03-16T22:15:40</code>
+     * would be <code>"time="</code>.
+     *
+     * @param pattern <code>SimpleDateFormat</code> pattern of the timestamps
+     * @param marker  text right before the timestamp
+     * @return a new scanner.
+     */
+    public static LogTimestampScanner afterMarker(String pattern, String marker) {
+        return afterMarker(pattern, marker, TimeZone.getDefault());
+    }
+
+    /**
+     * Creates a scanner for the log lines whose timestamps follow the first occurrence of the given marker text,
+     * in the given time zone.
+     *
+     * @param pattern <code>SimpleDateFormat</code> pattern of the timestamps
+     * @param marker  text right before the timestamp
+     * @param zone    time zone of the timestamps
+     * @return a new scanner.
+     */
+    public static LogTimestampScanner afterMarker(String pattern, String marker, TimeZone zone) {
+        if (marker == null || marker.isEmpty()) {
+            throw new MomentException("Timestamp marker cannot be empty!");
+        }
+        return new LogTimestampScanner(pattern, 0, marker, zone);
+    }
+
+    /**
+     * Reads all lines of the given channel, and passes the lines whose timestamps are in the given window to the visitor.
+     *
+     * @param channel channel to read the lines from, starting at its current position
+     * @param from    start of the window as UTC milliseconds from the epoch, exclusive
+     * @param to      end of the window as UTC milliseconds from the epoch, exclusive
+     * @param visitor visitor of the lines in the window
+     * @return the number of visited lines.
+     * @throws IOException if the channel cannot be read
+     */
+    public long scan(ReadableByteChannel channel, long from, long to, LineVisitor visitor) throws IOException {
+        return scan(channel, 0, from, to, visitor, false);
+    }
+
+    /**
+     * Finds the lines of the given file whose timestamps are in the given window, and passes them to the visitor.
+     * The lines of the file must be in timestamp order.
+     * <p>
+     * The first line of the window is found with a binary search, and the scan stops at the first line after the window,
+     * so only a small part of a large file is read. The position of the channel is changed by the scan.
+     *
+     * @param channel channel of the file to scan
+     * @param from    start of the window as UTC milliseconds from the epoch, exclusive
+     * @param to      end of the window as UTC milliseconds from the epoch, exclusive
+     * @param visitor visitor of the lines in the window
+     * @return the number of visited lines.
+     * @throws IOException if the file cannot be read
+     */
+    public long scanSorted(FileChannel channel, long from, long to, LineVisitor visitor) throws IOException {
+        long start = seek(channel, from);
+        channel.position(start);
+        return scan(channel, start, from, to, visitor, true);
+    }
+
+    private long scan(ReadableByteChannel channel, long position, long from, long to, LineVisitor visitor,
+                      boolean sorted) throws IOException {
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+        ByteBuffer buffer = this.buffer;
+        buffer.clear();
+        buffer.limit(0);
+        ByteBuffer line = buffer.asReadOnlyBuffer();
+        long lineOffset = position;
+        long visited = 0;
+        boolean eof = false;
+
+        while (true) {
+            int start = buffer.position();
+            int newline = indexOf(buffer, start, buffer.limit(), (byte) '\n');
+            int end;
+            if (newline >= 0) {
+                end = newline;
+            } else if (eof) {
+                if (start == buffer.limit()) {
+                    break;
+                }
+                end = buffer.limit();
+            } else {
+                if (start == 0 && buffer.limit() == buffer.capacity()) {
+                    // The line does not fit into the buffer
+                    ByteBuffer larger = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+                    larger.put(buffer);
+                    this.buffer = buffer = larger;
+                    line = buffer.asReadOnlyBuffer();
+                } else {
+                    buffer.compact();
+                }
+                eof = channel.read(buffer) < 0;
+                buffer.flip();
+                continue;
+            }
+
+            int contentEnd = end > start && buffer.get(end - 1) == '\r' ? end - 1 : end;
+            long millis = timestampOf(buffer, start, contentEnd);
+            if (millis != CompiledPattern.UNRESOLVED) {
+                if (sorted && millis >= to) {
+                    break;
+                }
+                if (millis > from && millis < to) {
+                    line.limit(contentEnd);
+                    line.position(start);
+                    visited++;
+                    if (!visitor.visit(lineOffset, millis, line)) {
+                        break;
+                    }
+                }
+            }
+            int next = newline >= 0 ? newline + 1 : end;
+            lineOffset += next - start;
+            buffer.position(next);
+        }
+        return visited;
+    }
+
+    /**
+     * Returns the offset of a line which is not after the first line of the window in a sorted file:
+     * every line before the returned offset has a timestamp which is not after <code>from</code>.
+     */
+    private long seek(FileChannel channel, long from) throws IOException {
+        long low = 0;
+        long high = channel.size();
+        while (high - low > PROBE_BUFFER_SIZE) {
+            long middle = (low + high) >>> 1;
+            if (!probe(channel, middle, high)) {
+                high = middle;
+            } else if (probeResult[0] <= from) {
+                low = probeResult[1];
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first line with a parseable timestamp which starts between <code>position</code> and <code>limit</code>,
+     * and stores its timestamp and the offset of the next line into <code>probeResult</code>.
+     */
+    private boolean probe(FileChannel channel, long position, long limit) throws IOException {
+        int newline = readLine(channel, position - 1);
+        if (newline < 0 || newline == probe.limit()) {
+            return false;
+        }
+        long lineStart = position + newline;
+        while (lineStart < limit) {
+            int end = readLine(channel, lineStart);
+            if (end < 0) {
+                return false;
+            }
+            int contentEnd = end > 0 && probe.get(end - 1) == '\r' ? end - 1 : end;
+            long millis = timestampOf(probe, 0, contentEnd);
+            long next = lineStart + end + 1;
+            if (millis != CompiledPattern.UNRESOLVED) {
+                probeResult[0] = millis;
+                probeResult[1] = next;
+                return true;
+            }
+            lineStart = next;
+        }
+        return false;
+    }
+
+    /**
+     * Reads the line at the given position of the file into the probe buffer.
+     *
+     * @return index of the line terminator in the probe buffer, the limit of the buffer for the last line of the file,
+     * or -1 if the position is at the end of the file.
+     */
+    private int readLine(FileChannel channel, long position) throws IOException {
+        if (probe == null) {
+            probe = ByteBuffer.allocateDirect(PROBE_BUFFER_SIZE);
+        }
+        while (true) {
+            probe.clear();
+            while (probe.hasRemaining() && channel.read(probe, position + probe.position()) >= 0) {
+                // Fill the probe buffer
+            }
+            probe.flip();
+            if (!probe.hasRemaining()) {
+                return -1;
+            }
+            int newline = indexOf(probe, 0, probe.limit(), (byte) '\n');
+            if (newline >= 0 || probe.limit() < probe.capacity()) {
+                return newline >= 0 ? newline : probe.limit();
+            }
+            probe = ByteBuffer.allocateDirect(probe.capacity() * 2);
+        }
+    }
+
+    private long timestampOf(ByteBuffer buffer, int start, int end) {
+        int timestampStart;
+        if (marker == null) {
+            timestampStart = start + offset;
+        } else {
+            int index = indexOf(buffer, start, end, marker);
+            if (index < 0) {
+                return CompiledPattern.UNRESOLVED;
+            }
+            timestampStart = index + marker.length;
+        }
+        if (timestampStart >= end) {
+            return CompiledPattern.UNRESOLVED;
+        }
+
+        if (fastPath) {
+            sequence.wrap(buffer);
+            long millis = pattern.tryParse(sequence, timestampStart, end, zone);
+            if (millis != CompiledPattern.UNRESOLVED) {
+                return millis;
+            }
+        }
+
+        byte[] bytes = new byte[end - timestampStart];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(timestampStart + i);
+        }
+        Date date = format.parse(new String(bytes, ISO_8859_1), new ParsePosition(0));
+        return date == null ? CompiledPattern.UNRESOLVED : date.getTime();
+    }
+
+    private static int indexOf(ByteBuffer buffer, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(ByteBuffer buffer, int from, int to, byte[] value) {
+        int last = to - value.length;
+        outer:
+        for (int i = from; i <= last; i++) {
+            for (int j = 0; j < value.length; j++) {
+                if (buffer.get(i + j) != value[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
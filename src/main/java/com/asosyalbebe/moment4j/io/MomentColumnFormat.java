@@ -0,0 +1,57 @@
+package com.asosyalbebe.moment4j.io;
+
+/**
+ * Layout of the moment column file, written by {@link MomentColumnWriter} and read by {@link MomentColumnReader}.
+ * <p>
+ * All numbers are big-endian. The file consists of three parts:
+ * <pre>
+ * header (128 bytes, fixed)
+ *   0  int    magic ("M4JC")
+ *   4  short  format version
+ *   6  byte   block codec id
+ *   7  byte   flags (bit 0: values are sorted in non-decreasing order)
+ *   8  long   number of values
+ *   16 long   minimum value
+ *   24 long   maximum value
+ *   32 int    number of values per block
+ *   36 int    number of blocks
+ *   40 long   absolute offset of the block index
+ *   48 short  length of the time zone id
+ *   50 bytes  time zone id in UTF-8, padded with zeros
+ * body
+ *   encoded blocks, one after another
+ * block index (16 bytes per block)
+ *   long first value of the block
+ *   long absolute offset of the block
+ * </pre>
+ *
+ * @author Serdar Kuzucu
+ */
+final class MomentColumnFormat {
+    static final int MAGIC = 0x4D344A43;
+    static final short VERSION = 1;
+
+    static final int HEADER_LENGTH = 128;
+    static final int MAX_ZONE_ID_LENGTH = HEADER_LENGTH - 50;
+    static final int INDEX_ENTRY_LENGTH = 16;
+
+    static final int FLAG_SORTED = 1;
+
+    static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    static final int OFFSET_MAGIC = 0;
+    static final int OFFSET_VERSION = 4;
+    static final int OFFSET_CODEC = 6;
+    static final int OFFSET_FLAGS = 7;
+    static final int OFFSET_COUNT = 8;
+    static final int OFFSET_MIN = 16;
+    static final int OFFSET_MAX = 24;
+    static final int OFFSET_BLOCK_SIZE = 32;
+    static final int OFFSET_BLOCK_COUNT = 36;
+    static final int OFFSET_INDEX = 40;
+    static final int OFFSET_ZONE_LENGTH = 48;
+    static final int OFFSET_ZONE = 50;
+
+    private MomentColumnFormat() {
+    }
+}
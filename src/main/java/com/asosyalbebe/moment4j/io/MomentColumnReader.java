@@ -0,0 +1,353 @@
+package com.asosyalbebe.moment4j.io;
+
+import com.asosyalbebe.moment4j.Moment;
+import com.asosyalbebe.moment4j.codec.BlockCodec;
+import com.asosyalbebe.moment4j.codec.BlockCodecs;
+import com.asosyalbebe.moment4j.fault.MomentException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import static com.asosyalbebe.moment4j.io.MomentColumnFormat.*;
+
+/**
+ * Reads a moment column file written by {@link MomentColumnWriter}.
+ * <p>
+ * The file is memory-mapped with <code>FileChannel.map</code>, so opening a column only reads its header,
+ * and values are decoded from the page cache one block at a time.
+ * Random access with {@link #get(long)} decodes the block containing the value, and keeps it for the next call.
+ * Range scans over sorted columns find their first block with a binary search over the block index.
+ * <p>
+ * Instances are not thread-safe; open or {@link #duplicate()} one reader per thread to read a column concurrently.
+ *
+ * @author Serdar Kuzucu
+ * @see MomentColumnFormat
+ */
+public class MomentColumnReader implements Closeable {
+    private static final long SEGMENT_LENGTH = 1L << 30;
+
+    private final FileChannel channel;
+    private final TimeZone zone;
+    private final BlockCodec codec;
+    private final long count;
+    private final long min;
+    private final long max;
+    private final boolean sorted;
+    private final int blockSize;
+    private final int blockCount;
+    private final ByteBuffer index;
+    private final MappedByteBuffer[] segments;
+    private final long[] block;
+    private int cachedBlock = -1;
+
+    private MomentColumnReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        if (channel.size() < HEADER_LENGTH) {
+            throw new MomentException("File is too short to be a moment column: " + channel.size() + " bytes");
+        }
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_LENGTH);
+        if (header.getInt(OFFSET_MAGIC) != MAGIC) {
+            throw new MomentException("File is not a moment column!");
+        }
+        if (header.getShort(OFFSET_VERSION) != VERSION) {
+            throw new MomentException("Unsupported moment column version: " + header.getShort(OFFSET_VERSION));
+        }
+        this.codec = BlockCodecs.byId(header.get(OFFSET_CODEC));
+        this.sorted = (header.get(OFFSET_FLAGS) & FLAG_SORTED) != 0;
+        this.count = header.getLong(OFFSET_COUNT);
+        this.min = header.getLong(OFFSET_MIN);
+        this.max = header.getLong(OFFSET_MAX);
+        this.blockSize = header.getInt(OFFSET_BLOCK_SIZE);
+        this.blockCount = header.getInt(OFFSET_BLOCK_COUNT);
+        long indexOffset = header.getLong(OFFSET_INDEX);
+
+        byte[] zoneId = new byte[header.getShort(OFFSET_ZONE_LENGTH)];
+        header.position(OFFSET_ZONE);
+        header.get(zoneId);
+        this.zone = TimeZone.getTimeZone(new String(zoneId, Charset.forName("UTF-8")));
+
+        long indexLength = (long) blockCount * INDEX_ENTRY_LENGTH;
+        if (indexLength > Integer.MAX_VALUE) {
+            throw new MomentException("Block index is too large to be mapped: " + blockCount + " blocks");
+        }
+        this.index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, indexLength);
+
+        // Segments overlap by the maximum length of an encoded block, so every block is inside a single segment
+        long bodyLength = indexOffset - HEADER_LENGTH;
+        long overlap = codec.maxEncodedLength(blockSize);
+        int segmentCount = (int) ((bodyLength + SEGMENT_LENGTH - 1) / SEGMENT_LENGTH);
+        this.segments = new MappedByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long start = HEADER_LENGTH + i * SEGMENT_LENGTH;
+            long length = Math.min(SEGMENT_LENGTH + overlap, indexOffset - start);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        }
+        this.block = new long[blockSize];
+    }
+
+    private MomentColumnReader(MomentColumnReader source) {
+        this.channel = source.channel;
+        this.zone = source.zone;
+        this.codec = source.codec;
+        this.count = source.count;
+        this.min = source.min;
+        this.max = source.max;
+        this.sorted = source.sorted;
+        this.blockSize = source.blockSize;
+        this.blockCount = source.blockCount;
+        this.index = source.index;
+        this.segments = source.segments;
+        this.block = new long[blockSize];
+    }
+
+    /**
+     * Opens the given moment column file for reading.
+     *
+     * @param file moment column file written by {@link MomentColumnWriter}
+     * @return a new reader of the given file
+     * @throws IOException     if the file cannot be opened or mapped
+     * @throws MomentException if the file is not a moment column file
+     */
+    public static MomentColumnReader open(File file) throws IOException {
+        FileChannel channel = new RandomAccessFile(file, "r").getChannel();
+        try {
+            return new MomentColumnReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a new reader of the same column, which shares the mapped file and decodes its own blocks,
+     * so that another thread can read the column at the same time.
+     * <p>
+     * Both readers share the file channel, which is closed by closing either of them. The mapped memory stays
+     * readable after the channel is closed.
+     *
+     * @return a new reader of the same column.
+     */
+    public MomentColumnReader duplicate() {
+        return new MomentColumnReader(this);
+    }
+
+    /**
+     * @return number of values in the column.
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * @return the time zone recorded in the header of the column.
+     */
+    public TimeZone zone() {
+        return (TimeZone) zone.clone();
+    }
+
+    /**
+     * @return the minimum value of the column, or 0 if the column is empty.
+     */
+    public long min() {
+        return min;
+    }
+
+    /**
+     * @return the maximum value of the column, or 0 if the column is empty.
+     */
+    public long max() {
+        return max;
+    }
+
+    /**
+     * @return true if the values of the column are sorted in non-decreasing order.
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Returns the value at the given index of the column.
+     *
+     * @param index index of the value
+     * @return the value as UTC milliseconds from the epoch.
+     */
+    public long get(long index) {
+        checkIndex(index);
+        int blockIndex = (int) (index / blockSize);
+        loadBlock(blockIndex);
+        return block[(int) (index - (long) blockIndex * blockSize)];
+    }
+
+    /**
+     * Returns the value at the given index of the column as a moment in the time zone of the column.
+     *
+     * @param index index of the value
+     * @return a new moment instance of the value at the given index.
+     */
+    public Moment moment(long index) {
+        Calendar calendar = Calendar.getInstance(zone);
+        calendar.setTimeInMillis(get(index));
+        return Moment.moment(calendar);
+    }
+
+    /**
+     * Copies the values starting at the given index of the column into the given array.
+     *
+     * @param index  index of the first value to read
+     * @param dst    array to copy the values into
+     * @param offset index of <code>dst</code> to copy the first value
+     * @param length number of values to read
+     */
+    public void read(long index, long[] dst, int offset, int length) {
+        if (length == 0) {
+            return;
+        }
+        checkIndex(index);
+        checkIndex(index + length - 1);
+        int copied = 0;
+        while (copied < length) {
+            long current = index + copied;
+            int blockIndex = (int) (current / blockSize);
+            int from = (int) (current - (long) blockIndex * blockSize);
+            loadBlock(blockIndex);
+            int n = Math.min(blockLength(blockIndex) - from, length - copied);
+            System.arraycopy(block, from, dst, offset + copied, n);
+            copied += n;
+        }
+    }
+
+    /**
+     * Visits the values between the given indexes of the column, in order.
+     *
+     * @param fromIndex index of the first value to visit, inclusive
+     * @param toIndex   index of the last value to visit, exclusive
+     * @param visitor   visitor to receive the values
+     */
+    public void scan(long fromIndex, long toIndex, ColumnVisitor visitor) {
+        long current = Math.max(fromIndex, 0L);
+        long end = Math.min(toIndex, count);
+        while (current < end) {
+            int blockIndex = (int) (current / blockSize);
+            long blockStart = (long) blockIndex * blockSize;
+            loadBlock(blockIndex);
+            int last = (int) Math.min(blockLength(blockIndex), end - blockStart);
+            for (int i = (int) (current - blockStart); i < last; i++) {
+                if (!visitor.visit(blockStart + i, block[i])) {
+                    return;
+                }
+            }
+            current = blockStart + last;
+        }
+    }
+
+    /**
+     * Visits the values which are not before <code>fromMillis</code> and before <code>toMillis</code>.
+     * <p>
+     * For sorted columns, the scan starts at the first matching block and stops at the first value
+     * which is not before <code>toMillis</code>. Unsorted columns are scanned entirely.
+     *
+     * @param fromMillis time as UTC milliseconds from the epoch, inclusive
+     * @param toMillis   time as UTC milliseconds from the epoch, exclusive
+     * @param visitor    visitor to receive the matching values
+     */
+    public void scanRange(final long fromMillis, final long toMillis, final ColumnVisitor visitor) {
+        if (count == 0 || fromMillis >= toMillis || fromMillis > max || toMillis <= min) {
+            return;
+        }
+        if (sorted) {
+            scan(lowerBound(fromMillis), count, new ColumnVisitor() {
+                @Override
+                public boolean visit(long index, long millis) {
+                    return millis < toMillis && visitor.visit(index, millis);
+                }
+            });
+        } else {
+            scan(0, count, new ColumnVisitor() {
+                @Override
+                public boolean visit(long index, long millis) {
+                    return millis < fromMillis || millis >= toMillis || visitor.visit(index, millis);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the index of the first value which is not before the given time, in a sorted column.
+     *
+     * @param millis time as UTC milliseconds from the epoch.
+     * @return the index of the first value which is not before the given time,
+     * or the size of the column if all values are before the given time.
+     * @throws MomentException if the column is not sorted
+     */
+    public long lowerBound(long millis) {
+        if (!sorted) {
+            throw new MomentException("lowerBound requires a sorted column!");
+        }
+        int low = 0;
+        int high = blockCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (index.getLong(mid * INDEX_ENTRY_LENGTH) < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low == 0) {
+            return 0;
+        }
+        int blockIndex = low - 1;
+        loadBlock(blockIndex);
+        int from = 0;
+        int to = blockLength(blockIndex);
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (block[mid] < millis) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return (long) blockIndex * blockSize + from;
+    }
+
+    /**
+     * Closes the file channel. The mapped memory is released when the reader is garbage collected.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void loadBlock(int blockIndex) {
+        if (blockIndex == cachedBlock) {
+            return;
+        }
+        long relativeOffset = index.getLong(blockIndex * INDEX_ENTRY_LENGTH + 8) - HEADER_LENGTH;
+        int segment = (int) (relativeOffset / SEGMENT_LENGTH);
+        int position = (int) (relativeOffset - segment * SEGMENT_LENGTH);
+        codec.decode(segments[segment], position, block, 0, blockLength(blockIndex));
+        cachedBlock = blockIndex;
+    }
+
+    private int blockLength(int blockIndex) {
+        return blockIndex == blockCount - 1 ? (int) (count - (long) blockIndex * blockSize) : blockSize;
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= count) {
+            throw new MomentException("Index " + index + " is out of bounds for a column of size " + count);
+        }
+    }
+}
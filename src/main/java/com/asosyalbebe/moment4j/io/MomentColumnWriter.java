@@ -0,0 +1,232 @@
+package com.asosyalbebe.moment4j.io;
+
+import com.asosyalbebe.moment4j.Moment;
+import com.asosyalbebe.moment4j.codec.BlockCodec;
+import com.asosyalbebe.moment4j.codec.DeltaVarintCodec;
+import com.asosyalbebe.moment4j.fault.MomentException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.TimeZone;
+
+import static com.asosyalbebe.moment4j.io.MomentColumnFormat.*;
+
+/**
+ * Writes time values into a moment column file which can be memory-mapped by {@link MomentColumnReader}.
+ * <p>
+ * Values are buffered into blocks, and every full block is encoded with a {@link BlockCodec} and appended to the file.
+ * The block index and the header are written when the writer is closed, so the file is not readable before that.
+ *
+ * <pre>
+ * {@code
+ * try (MomentColumnWriter writer = new MomentColumnWriter(file, TimeZone.getDefault())) {
+ *     for (Moment moment : moments) {
+ *         writer.write(moment);
+ *     }
+ * }
+ * }
+ * </pre>
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @author Serdar Kuzucu
+ * @see MomentColumnFormat
+ */
+public class MomentColumnWriter implements Closeable {
+    private final FileChannel channel;
+    private final TimeZone zone;
+    private final BlockCodec codec;
+    private final int blockSize;
+    private final long[] block;
+    private final ByteBuffer encodeBuffer;
+
+    private int blockLength;
+    private long[] indexFirstValues = new long[64];
+    private long[] indexOffsets = new long[64];
+    private int blockCount;
+    private long position = HEADER_LENGTH;
+
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    private long last = Long.MIN_VALUE;
+    private boolean sorted = true;
+    private boolean closed;
+
+    /**
+     * Creates a writer which encodes blocks of 1024 values with {@link DeltaVarintCodec}.
+     *
+     * @param file file to be created or overwritten
+     * @param zone time zone to be recorded in the header of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public MomentColumnWriter(File file, TimeZone zone) throws IOException {
+        this(file, zone, DEFAULT_BLOCK_SIZE, DeltaVarintCodec.INSTANCE);
+    }
+
+    /**
+     * Creates a writer which encodes blocks of the given size with the given codec.
+     *
+     * @param file      file to be created or overwritten
+     * @param zone      time zone to be recorded in the header of the file
+     * @param blockSize number of values in each block. Larger blocks compress better, smaller blocks make random access faster.
+     * @param codec     codec to encode the blocks
+     * @throws IOException if the file cannot be opened
+     */
+    public MomentColumnWriter(File file, TimeZone zone, int blockSize, BlockCodec codec) throws IOException {
+        if (blockSize <= 0) {
+            throw new MomentException("Block size must be positive! You provided " + blockSize);
+        }
+        if (zone.getID().getBytes(Charset.forName("UTF-8")).length > MAX_ZONE_ID_LENGTH) {
+            throw new MomentException("Time zone id is too long: " + zone.getID());
+        }
+        this.zone = zone;
+        this.codec = codec;
+        this.blockSize = blockSize;
+        this.block = new long[blockSize];
+        this.encodeBuffer = ByteBuffer.allocate(codec.maxEncodedLength(blockSize));
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        randomAccessFile.setLength(0);
+        this.channel = randomAccessFile.getChannel();
+    }
+
+    /**
+     * Appends the given time value to the column.
+     *
+     * @param millis time as UTC milliseconds from the epoch.
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(long millis) throws IOException {
+        if (closed) {
+            throw new MomentException("Writer is closed!");
+        }
+        if (millis < last) {
+            sorted = false;
+        }
+        last = millis;
+        if (millis < min) {
+            min = millis;
+        }
+        if (millis > max) {
+            max = millis;
+        }
+        count++;
+        block[blockLength++] = millis;
+        if (blockLength == blockSize) {
+            flushBlock();
+        }
+    }
+
+    /**
+     * Appends the time value of the given moment to the column.
+     *
+     * @param moment moment to be written
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(Moment moment) throws IOException {
+        write(moment.valueOf());
+    }
+
+    /**
+     * Appends the given time values to the column.
+     *
+     * @param values array of times as UTC milliseconds from the epoch.
+     * @param offset index of the first value to write
+     * @param length number of values to write
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(long[] values, int offset, int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            write(values[i]);
+        }
+    }
+
+    /**
+     * Writes the last block, the block index and the header, and closes the file.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (blockLength > 0) {
+                flushBlock();
+            }
+            writeIndex();
+            writeHeader();
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockCount == indexOffsets.length) {
+            indexOffsets = Arrays.copyOf(indexOffsets, blockCount << 1);
+            indexFirstValues = Arrays.copyOf(indexFirstValues, blockCount << 1);
+        }
+        indexFirstValues[blockCount] = block[0];
+        indexOffsets[blockCount] = position;
+        blockCount++;
+
+        encodeBuffer.clear();
+        codec.encode(block, 0, blockLength, encodeBuffer);
+        encodeBuffer.flip();
+        position += writeFully(encodeBuffer, position);
+        blockLength = 0;
+    }
+
+    private void writeIndex() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(INDEX_ENTRY_LENGTH * 4096);
+        long indexPosition = position;
+        for (int i = 0; i < blockCount; i++) {
+            if (buffer.remaining() < INDEX_ENTRY_LENGTH) {
+                buffer.flip();
+                indexPosition += writeFully(buffer, indexPosition);
+                buffer.clear();
+            }
+            buffer.putLong(indexFirstValues[i]);
+            buffer.putLong(indexOffsets[i]);
+        }
+        buffer.flip();
+        writeFully(buffer, indexPosition);
+    }
+
+    private void writeHeader() throws IOException {
+        byte[] zoneId = zone.getID().getBytes(Charset.forName("UTF-8"));
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        header.putInt(OFFSET_MAGIC, MAGIC);
+        header.putShort(OFFSET_VERSION, VERSION);
+        header.put(OFFSET_CODEC, (byte) codec.id());
+        header.put(OFFSET_FLAGS, (byte) (sorted ? FLAG_SORTED : 0));
+        header.putLong(OFFSET_COUNT, count);
+        header.putLong(OFFSET_MIN, count == 0 ? 0L : min);
+        header.putLong(OFFSET_MAX, count == 0 ? 0L : max);
+        header.putInt(OFFSET_BLOCK_SIZE, blockSize);
+        header.putInt(OFFSET_BLOCK_COUNT, blockCount);
+        header.putLong(OFFSET_INDEX, position);
+        header.putShort(OFFSET_ZONE_LENGTH, (short) zoneId.length);
+        header.position(OFFSET_ZONE);
+        header.put(zoneId);
+        header.clear();
+        writeFully(header, 0L);
+    }
+
+    private int writeFully(ByteBuffer buffer, long at) throws IOException {
+        int written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, at + written);
+        }
+        return written;
+    }
+}
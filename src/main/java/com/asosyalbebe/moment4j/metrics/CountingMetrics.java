@@ -0,0 +1,136 @@
+package com.asosyalbebe.moment4j.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link MetricsListener} which counts every call in striped counters, and takes snapshots of the counts.
+ * <p>
+ * Formats, parses and parse failures are counted per pattern. Only the first {@link #MAX_PATTERNS} patterns are
+ * counted separately, the rest are counted together under {@link #OTHER_PATTERNS}, so that generated patterns
+ * cannot grow the counters without bound.
+ *
+ * @author Serdar Kuzucu
+ */
+public class CountingMetrics implements MetricsListener {
+    /**
+     * Maximum number of patterns counted separately.
+     */
+    public static final int MAX_PATTERNS = 1024;
+
+    /**
+     * Key of the counts of the patterns after the first {@link #MAX_PATTERNS}.
+     */
+    public static final String OTHER_PATTERNS = "*";
+
+    private static final Factory[] FACTORIES = Factory.values();
+
+    private final StripedCounter[] creations = new StripedCounter[FACTORIES.length];
+    private final StripedCounter calendars = new StripedCounter();
+    private final StripedCounter clones = new StripedCounter();
+    private final ConcurrentMap<String, PatternCounters> patterns = new ConcurrentHashMap<>();
+
+    public CountingMetrics() {
+        for (int i = 0; i < creations.length; i++) {
+            creations[i] = new StripedCounter();
+        }
+    }
+
+    @Override
+    public void onCreate(Factory factory) {
+        creations[factory.ordinal()].increment();
+    }
+
+    @Override
+    public void onCalendar() {
+        calendars.increment();
+    }
+
+    @Override
+    public void onClone() {
+        clones.increment();
+    }
+
+    @Override
+    public void onFormat(String pattern) {
+        counters(pattern).formats.increment();
+    }
+
+    @Override
+    public void onParse(String pattern) {
+        counters(pattern).parses.increment();
+    }
+
+    @Override
+    public void onParseFailure(String pattern) {
+        counters(pattern).failures.increment();
+    }
+
+    /**
+     * Returns the counts so far. Calls made while the snapshot is taken may or may not be included.
+     *
+     * @return a new snapshot of the counts.
+     */
+    public MetricsSnapshot snapshot() {
+        long[] created = new long[FACTORIES.length];
+        for (int i = 0; i < created.length; i++) {
+            created[i] = creations[i].sum();
+        }
+
+        Map<String, Long> formats = new HashMap<>();
+        Map<String, Long> parses = new HashMap<>();
+        Map<String, Long> failures = new HashMap<>();
+        for (Map.Entry<String, PatternCounters> entry : patterns.entrySet()) {
+            PatternCounters counters = entry.getValue();
+            putIfPositive(formats, entry.getKey(), counters.formats.sum());
+            putIfPositive(parses, entry.getKey(), counters.parses.sum());
+            putIfPositive(failures, entry.getKey(), counters.failures.sum());
+        }
+        return new MetricsSnapshot(created, calendars.sum(), clones.sum(), formats, parses, failures);
+    }
+
+    /**
+     * Sets all the counts to zero.
+     */
+    public void reset() {
+        for (StripedCounter counter : creations) {
+            counter.reset();
+        }
+        calendars.reset();
+        clones.reset();
+        patterns.clear();
+    }
+
+    private PatternCounters counters(String pattern) {
+        String key = pattern == null ? "null" : pattern;
+        PatternCounters counters = patterns.get(key);
+        if (counters == null) {
+            if (patterns.size() >= MAX_PATTERNS) {
+                key = OTHER_PATTERNS;
+                counters = patterns.get(key);
+            }
+            if (counters == null) {
+                counters = new PatternCounters();
+                PatternCounters previous = patterns.putIfAbsent(key, counters);
+                if (previous != null) {
+                    counters = previous;
+                }
+            }
+        }
+        return counters;
+    }
+
+    private static void putIfPositive(Map<String, Long> map, String key, long value) {
+        if (value > 0) {
+            map.put(key, value);
+        }
+    }
+
+    private static final class PatternCounters {
+        final StripedCounter formats = new StripedCounter();
+        final StripedCounter parses = new StripedCounter();
+        final StripedCounter failures = new StripedCounter();
+    }
+}
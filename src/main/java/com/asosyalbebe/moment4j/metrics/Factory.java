@@ -0,0 +1,43 @@
+package com.asosyalbebe.moment4j.metrics;
+
+/**
+ * The ways of creating a moment, counted by {@link MetricsListener#onCreate(Factory)}.
+ *
+ * @author Serdar Kuzucu
+ */
+public enum Factory {
+    /**
+     * <code>moment()</code>, the current time.
+     */
+    NOW,
+
+    /**
+     * <code>moment(String, String)</code> and <code>moment(String, String, Locale)</code>.
+     */
+    STRING,
+
+    /**
+     * <code>moment(Calendar)</code>.
+     */
+    CALENDAR,
+
+    /**
+     * <code>moment(Date)</code>.
+     */
+    DATE,
+
+    /**
+     * <code>moment(long)</code>, and the moments of the java.time bridge.
+     */
+    MILLIS,
+
+    /**
+     * <code>moment(int[])</code>.
+     */
+    ARRAY,
+
+    /**
+     * <code>moment(Moment)</code>.
+     */
+    MOMENT
+}
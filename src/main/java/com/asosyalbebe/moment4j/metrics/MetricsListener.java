@@ -0,0 +1,51 @@
+package com.asosyalbebe.moment4j.metrics;
+
+/**
+ * Receives the calls of the hot paths of moment4j, once installed with {@link MomentMetrics#install(MetricsListener)}.
+ * <p>
+ * Listeners are called on the thread doing the work, from many threads at the same time,
+ * so they must be thread-safe and fast. {@link CountingMetrics} counts every call.
+ *
+ * @author Serdar Kuzucu
+ */
+public interface MetricsListener {
+
+    /**
+     * Called when a moment is created by one of the <code>moment(...)</code> factories.
+     *
+     * @param factory the factory which created the moment
+     */
+    void onCreate(Factory factory);
+
+    /**
+     * Called when a moment allocates a <code>Calendar</code>, which happens for every new moment,
+     * clone and <code>toCalendar()</code>.
+     */
+    void onCalendar();
+
+    /**
+     * Called when a moment is cloned.
+     */
+    void onClone();
+
+    /**
+     * Called when a moment is formatted.
+     *
+     * @param pattern the pattern of the format
+     */
+    void onFormat(String pattern);
+
+    /**
+     * Called when a string is parsed into a moment, whether it succeeds or not.
+     *
+     * @param pattern the pattern of the parse
+     */
+    void onParse(String pattern);
+
+    /**
+     * Called when a string cannot be parsed, just before the <code>MomentException</code> is thrown.
+     *
+     * @param pattern the pattern of the parse
+     */
+    void onParseFailure(String pattern);
+}
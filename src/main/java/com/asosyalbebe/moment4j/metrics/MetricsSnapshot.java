@@ -0,0 +1,88 @@
+package com.asosyalbebe.moment4j.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The counts of a {@link CountingMetrics} at some point in time.
+ *
+ * @author Serdar Kuzucu
+ */
+public class MetricsSnapshot {
+    private final long[] created;
+    private final long calendars;
+    private final long clones;
+    private final Map<String, Long> formats;
+    private final Map<String, Long> parses;
+    private final Map<String, Long> parseFailures;
+
+    MetricsSnapshot(long[] created, long calendars, long clones,
+                    Map<String, Long> formats, Map<String, Long> parses, Map<String, Long> parseFailures) {
+        this.created = created;
+        this.calendars = calendars;
+        this.clones = clones;
+        this.formats = Collections.unmodifiableMap(formats);
+        this.parses = Collections.unmodifiableMap(parses);
+        this.parseFailures = Collections.unmodifiableMap(parseFailures);
+    }
+
+    /**
+     * @param factory the factory
+     * @return the number of moments created by the given factory.
+     */
+    public long created(Factory factory) {
+        return created[factory.ordinal()];
+    }
+
+    /**
+     * @return the number of moments created by all the factories.
+     */
+    public long created() {
+        long sum = 0;
+        for (long count : created) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    /**
+     * @return the number of calendars allocated by moments.
+     */
+    public long calendars() {
+        return calendars;
+    }
+
+    /**
+     * @return the number of cloned moments.
+     */
+    public long clones() {
+        return clones;
+    }
+
+    /**
+     * @return the number of formats per pattern, without the patterns never formatted.
+     */
+    public Map<String, Long> formats() {
+        return formats;
+    }
+
+    /**
+     * @return the number of parses per pattern, including the failed ones, without the patterns never parsed.
+     */
+    public Map<String, Long> parses() {
+        return parses;
+    }
+
+    /**
+     * @return the number of failed parses per pattern, without the patterns which never failed.
+     */
+    public Map<String, Long> parseFailures() {
+        return parseFailures;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsSnapshot{ created=" + created() + ", calendars=" + calendars + ", clones=" + clones
+                + ", formats=" + formats + ", parses=" + parses + ", parseFailures=" + parseFailures + " }";
+    }
+}
@@ -0,0 +1,78 @@
+package com.asosyalbebe.moment4j.metrics;
+
+/**
+ * Installs the {@link MetricsListener} which is called by the hot paths of moment4j,
+ * and the {@link TimingListener} which receives the durations of parses, formats and zone conversions.
+ * <p>
+ * No listener is installed by default. The hot paths then read a single volatile field and find it null,
+ * so metrics cost nothing unless installed. The operations are timed only while a timing listener is installed.
+ *
+ * <pre>
+ * {@code
+ * CountingMetrics metrics = new CountingMetrics();
+ * MomentMetrics.install(metrics);
+ * ...
+ * MetricsSnapshot snapshot = metrics.snapshot();
+ * }
+ * </pre>
+ *
+ * @author Serdar Kuzucu
+ */
+public final class MomentMetrics {
+    private static volatile MetricsListener listener;
+    private static volatile TimingListener timing;
+
+    private MomentMetrics() {
+        // Prevent new instances of utility class
+    }
+
+    /**
+     * Installs the given listener, replacing the previous one.
+     *
+     * @param listener listener to call, or null to remove the installed one
+     */
+    public static void install(MetricsListener listener) {
+        MomentMetrics.listener = listener;
+    }
+
+    /**
+     * Removes the installed listener.
+     */
+    public static void uninstall() {
+        listener = null;
+    }
+
+    /**
+     * Returns the installed listener.
+     *
+     * @return the installed listener, or null if metrics are disabled.
+     */
+    public static MetricsListener listener() {
+        return listener;
+    }
+
+    /**
+     * Installs the given timing listener, replacing the previous one.
+     *
+     * @param timing listener to call, or null to remove the installed one
+     */
+    public static void installTiming(TimingListener timing) {
+        MomentMetrics.timing = timing;
+    }
+
+    /**
+     * Removes the installed timing listener.
+     */
+    public static void uninstallTiming() {
+        timing = null;
+    }
+
+    /**
+     * Returns the installed timing listener.
+     *
+     * @return the installed timing listener, or null if operations are not timed.
+     */
+    public static TimingListener timing() {
+        return timing;
+    }
+}
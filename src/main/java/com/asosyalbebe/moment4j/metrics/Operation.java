@@ -0,0 +1,24 @@
+package com.asosyalbebe.moment4j.metrics;
+
+/**
+ * The operations timed by {@link TimingListener#onOperation(Operation, String, int, long, boolean)}.
+ *
+ * @author Serdar Kuzucu
+ */
+public enum Operation {
+    /**
+     * <code>moment(String, String)</code> and <code>moment(String, String, Locale)</code>.
+     */
+    PARSE,
+
+    /**
+     * <code>format(String)</code> and <code>format(String, Locale)</code>.
+     */
+    FORMAT,
+
+    /**
+     * Conversions between moments and the zoned date and times of the java.time bridge,
+     * which load the rules of the time zone on first use.
+     */
+    ZONE_CONVERSION
+}
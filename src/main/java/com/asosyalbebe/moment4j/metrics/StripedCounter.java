@@ -0,0 +1,54 @@
+package com.asosyalbebe.moment4j.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A counter split into cells, so that threads incrementing it at the same time mostly update different cells,
+ * like <code>java.util.concurrent.atomic.LongAdder</code> of Java 8.
+ * <p>
+ * Every thread uses the cell chosen by the hash of its id. The cells are 64 bytes apart, so that two cells
+ * do not share a cache line. The sum is not an atomic snapshot when the counter is updated concurrently.
+ *
+ * @author Serdar Kuzucu
+ */
+final class StripedCounter {
+    private static final int PADDING = 8;
+    private static final int STRIPES = stripes();
+
+    private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+
+    void increment() {
+        cells.getAndIncrement(index());
+    }
+
+    void add(long value) {
+        cells.getAndAdd(index(), value);
+    }
+
+    long sum() {
+        long sum = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    void reset() {
+        for (int i = 0; i < STRIPES; i++) {
+            cells.set(i * PADDING, 0);
+        }
+    }
+
+    private static int index() {
+        long id = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return ((int) (id >>> 32) & (STRIPES - 1)) * PADDING;
+    }
+
+    /**
+     * Returns the power of two at least twice the number of processors, up to 64.
+     */
+    private static int stripes() {
+        int processors = Math.min(Runtime.getRuntime().availableProcessors(), 32);
+        return Integer.highestOneBit(processors * 2 - 1) << 1;
+    }
+}
@@ -0,0 +1,24 @@
+package com.asosyalbebe.moment4j.metrics;
+
+/**
+ * Receives the durations of parses, formats and zone conversions, once installed with
+ * {@link MomentMetrics#installTiming(TimingListener)}.
+ * <p>
+ * Every operation is reported, so listeners interested in slow operations compare the duration with
+ * their own threshold. Listeners are called on the thread doing the work, and must be thread-safe and fast.
+ *
+ * @author Serdar Kuzucu
+ */
+public interface TimingListener {
+
+    /**
+     * Called when an operation ends, successfully or not.
+     *
+     * @param operation      the operation
+     * @param pattern        the pattern of parses and formats, or the time zone ID of zone conversions
+     * @param length         the length of the parsed text, or of the formatted text; 0 for failed formats and zone conversions
+     * @param durationNanos  the duration of the operation in nanoseconds
+     * @param success        false if the operation threw an exception
+     */
+    void onOperation(Operation operation, String pattern, int length, long durationNanos, boolean success);
+}
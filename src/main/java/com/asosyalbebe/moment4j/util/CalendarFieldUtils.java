@@ -0,0 +1,89 @@
+package com.asosyalbebe.moment4j.util;
+
+import com.asosyalbebe.moment4j.Moment;
+
+import java.util.Calendar;
+
+/**
+ * Static helper methods to do arithmetic on time values by using calendar fields as units
+ *
+ * @author Serdar Kuzucu
+ */
+public class CalendarFieldUtils {
+    public static final long MILLIS_PER_SECOND = 1000L;
+    public static final long MILLIS_PER_MINUTE = 60L * MILLIS_PER_SECOND;
+    public static final long MILLIS_PER_HOUR = 60L * MILLIS_PER_MINUTE;
+    public static final long MILLIS_PER_DAY = 24L * MILLIS_PER_HOUR;
+
+    private CalendarFieldUtils() {
+        // Prevent new instances of utility class
+    }
+
+    /**
+     * Returns the length of one unit of the given calendar field in milliseconds,
+     * if the unit has a fixed length regardless of the time zone and the date.
+     * <p>
+     * <code>Calendar.add</code> treats hours, minutes, seconds and milliseconds as elapsed time,
+     * so these units have a fixed length. Days, weeks, months and years may be longer or shorter
+     * because of daylight saving time and calendar rules, so <code>-1</code> is returned for them.
+     *
+     * @param calendarField the calendar field. For example, <code>Calendar.MINUTE</code>
+     * @return length of one unit in milliseconds, or <code>-1</code> if the unit does not have a fixed length.
+     */
+    public static long fixedMillis(int calendarField) {
+        switch (calendarField) {
+            case Calendar.MILLISECOND:
+                return 1L;
+            case Calendar.SECOND:
+                return MILLIS_PER_SECOND;
+            case Calendar.MINUTE:
+                return MILLIS_PER_MINUTE;
+            case Calendar.HOUR:
+            case Calendar.HOUR_OF_DAY:
+                return MILLIS_PER_HOUR;
+            default:
+                return -1L;
+        }
+    }
+
+    /**
+     * Adds the specified amount of time to the given time value, with the same semantics as
+     * <code>Moment.moment(millis).add(amount, calendarField).valueOf()</code>.
+     * <p>
+     * Units with a fixed length are added arithmetically without creating a moment instance.
+     *
+     * @param millis        time as UTC milliseconds from the epoch.
+     * @param amount        the amount of date or time to be added to the field.
+     * @param calendarField the calendar field.
+     * @return the resulting time as UTC milliseconds from the epoch.
+     * @see Moment#add(int, int)
+     */
+    public static long add(long millis, int amount, int calendarField) {
+        long unit = fixedMillis(calendarField);
+        if (unit > 0) {
+            return millis + amount * unit;
+        }
+        return Moment.moment(millis).add(amount, calendarField).valueOf();
+    }
+
+    /**
+     * Returns the start of the unit of time containing the given time value, with the same semantics as
+     * <code>Moment.moment(millis).startOf(calendarField).valueOf()</code>.
+     *
+     * @param millis        time as UTC milliseconds from the epoch.
+     * @param calendarField unit of time whose start time will be returned.
+     * @return the start of the unit of time as UTC milliseconds from the epoch.
+     * @see Moment#startOf(int)
+     */
+    public static long startOf(long millis, int calendarField) {
+        if (calendarField == Calendar.MILLISECOND) {
+            return millis;
+        }
+        if (calendarField == Calendar.SECOND) {
+            // Zone offsets never have a sub-second part, so seconds can be truncated in UTC
+            long remainder = millis % MILLIS_PER_SECOND;
+            return remainder < 0 ? millis - remainder - MILLIS_PER_SECOND : millis - remainder;
+        }
+        return Moment.moment(millis).startOf(calendarField).valueOf();
+    }
+}
@@ -0,0 +1,310 @@
+package com.asosyalbebe.moment4j.util;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.asosyalbebe.moment4j.util.CalendarFieldUtils.*;
+
+/**
+ * Static helper methods to convert between date fields and time values arithmetically,
+ * with the same results as a lenient <code>java.util.GregorianCalendar</code>.
+ * <p>
+ * The arithmetic follows the proleptic Gregorian calendar, so it is only valid after the Gregorian cutover
+ * (October 15, 1582). Callers must check {@link #isGregorian(long)} and fall back to <code>Calendar</code> otherwise.
+ *
+ * @author Serdar Kuzucu
+ */
+public class CivilCalendar {
+    /**
+     * Returned by the methods of this class when the result cannot be computed arithmetically,
+     * and <code>Calendar</code> has to be used instead.
+     */
+    public static final long UNRESOLVED = Long.MIN_VALUE;
+
+    /**
+     * The first day of the Gregorian calendar (1582-10-15) as UTC milliseconds from the epoch.
+     */
+    public static final long GREGORIAN_CUTOVER_MILLIS = -12219292800000L;
+
+    /**
+     * The largest time value computed by this class, around the year 30000. Later times are left to <code>Calendar</code>.
+     */
+    public static final long MAX_MILLIS = 1000000000000000L;
+
+    private static final ConcurrentMap<Locale, Boolean> GREGORIAN_LOCALES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Locale, Integer> FIRST_DAYS_OF_WEEK = new ConcurrentHashMap<>();
+
+    private CivilCalendar() {
+        // Prevent new instances of utility class
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to the given date of the proleptic Gregorian calendar.
+     *
+     * @param year  the year
+     * @param month the month, from 1 to 12
+     * @param day   the day of month, from 1 to 31
+     * @return number of days since the epoch; negative for the dates before the epoch.
+     */
+    public static long daysFromCivil(long year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Returns the date of the proleptic Gregorian calendar which is the given number of days after 1970-01-01.
+     * This is the inverse of {@link #daysFromCivil(long, int, int)}.
+     * <p>
+     * The date is returned as a single number in the form <code>yyyyMMdd</code>, that is
+     * <code>year * 10000 + month * 100 + day</code> with the month from 1 to 12, for years after the cutover.
+     *
+     * @param days number of days since the epoch
+     * @return the date as <code>year * 10000 + month * 100 + day</code>.
+     */
+    public static long civilFromDays(long days) {
+        long z = days + 719468;
+        long era = floorDiv(z, 146097);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * Returns the ISO 8601 day of week of the given number of days after 1970-01-01, from 1 for Monday to 7 for Sunday.
+     *
+     * @param days number of days since the epoch
+     * @return the ISO day of week, from 1 to 7.
+     */
+    public static int isoDayOfWeek(long days) {
+        // 1970-01-01 was a Thursday, ISO day 4
+        return (int) floorMod(days + 3, 7) + 1;
+    }
+
+    /**
+     * Returns the ISO 8601 week date of the given number of days after 1970-01-01.
+     * <p>
+     * ISO weeks start on Monday, and belong to the week-based year of their Thursday, so the first week of a year
+     * is the week with January 4. The first days of January may be in the last week of the previous week-based year,
+     * and the last days of December in the first week of the next one. The weeks follow the proleptic Gregorian calendar.
+     * <p>
+     * The week date is returned as a single number in the form <code>YYYYwwD</code>, that is
+     * <code>weekYear * 1000 + week * 10 + dayOfWeek</code>, with the week from 1 to 53 and the day of week from 1 to 7.
+     *
+     * @param days number of days since the epoch
+     * @return the week date as <code>weekYear * 1000 + week * 10 + dayOfWeek</code>.
+     * @see #daysFromIsoWeekDate(long, int, int)
+     */
+    public static long isoWeekDate(long days) {
+        int dayOfWeek = isoDayOfWeek(days);
+        long thursday = days - dayOfWeek + 4;
+        long weekYear = floorDiv(civilFromDays(thursday), 10000);
+        long week = (thursday - daysFromCivil(weekYear, 1, 1)) / 7 + 1;
+        return weekYear * 1000 + week * 10 + dayOfWeek;
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to the given ISO 8601 week date.
+     * This is the inverse of {@link #isoWeekDate(long)}.
+     * <p>
+     * Out of range values bubble up, so week 0 is the last week of the previous week-based year,
+     * and day of week 8 is the Monday of the next week.
+     *
+     * @param weekYear  the ISO week-based year
+     * @param week      the week of the week-based year, from 1 to 53
+     * @param dayOfWeek the ISO day of week, from 1 for Monday to 7 for Sunday
+     * @return number of days since the epoch; negative for the dates before the epoch.
+     */
+    public static long daysFromIsoWeekDate(long weekYear, int week, int dayOfWeek) {
+        long january4 = daysFromCivil(weekYear, 1, 4);
+        long firstMonday = january4 - isoDayOfWeek(january4) + 1;
+        return firstMonday + (week - 1L) * 7 + (dayOfWeek - 1L);
+    }
+
+    /**
+     * Returns the number of ISO 8601 weeks in the given week-based year, which is 52 or 53.
+     *
+     * @param weekYear the ISO week-based year
+     * @return 53 if the year has a week 53, otherwise 52.
+     */
+    public static int isoWeeksInYear(long weekYear) {
+        return (int) ((daysFromIsoWeekDate(weekYear + 1, 1, 1) - daysFromIsoWeekDate(weekYear, 1, 1)) / 7);
+    }
+
+    /**
+     * Returns the number of days from the start of the week to the given number of days after 1970-01-01,
+     * for weeks starting on the given day.
+     *
+     * @param days           number of days since the epoch
+     * @param firstDayOfWeek the first day of the week, like <code>Calendar.DAY_OF_WEEK</code>, such as <code>Calendar.SUNDAY</code>
+     * @return the days since the start of the week, from 0 to 6.
+     */
+    public static int daysIntoWeek(long days, int firstDayOfWeek) {
+        // 1970-01-01 was a Thursday, day 5 of Calendar.DAY_OF_WEEK
+        return (int) floorMod(days + 4 - (firstDayOfWeek - 1), 7);
+    }
+
+    /**
+     * Returns the first day of the week of <code>Calendar.getInstance(locale)</code>,
+     * such as <code>Calendar.SUNDAY</code> in the US and <code>Calendar.MONDAY</code> in most of Europe.
+     *
+     * @param locale the locale of the week
+     * @return the first day of the week, like <code>Calendar.DAY_OF_WEEK</code>.
+     */
+    public static int firstDayOfWeek(Locale locale) {
+        Integer firstDayOfWeek = FIRST_DAYS_OF_WEEK.get(locale);
+        if (firstDayOfWeek == null) {
+            firstDayOfWeek = Calendar.getInstance(locale).getFirstDayOfWeek();
+            FIRST_DAYS_OF_WEEK.putIfAbsent(locale, firstDayOfWeek);
+        }
+        return firstDayOfWeek;
+    }
+
+    /**
+     * Returns the local time value of the given date and time fields, as a lenient <code>Calendar</code> computes it.
+     * Out of range values bubble up to the larger fields, so <code>month</code> 12 is January of the next year
+     * and <code>day</code> 0 is the last day of the previous month.
+     *
+     * @param year   the year
+     * @param month  the month, zero indexed like <code>Calendar.MONTH</code>
+     * @param day    the day of month
+     * @param hour   the hour of day
+     * @param minute the minutes
+     * @param second the seconds
+     * @param millis the milliseconds
+     * @return the wall clock time as milliseconds from 1970-01-01 00:00 in the same wall clock.
+     */
+    public static long localMillis(int year, int month, int day, int hour, int minute, int second, int millis) {
+        long days = daysFromCivil(year + floorDiv(month, 12), (int) floorMod(month, 12) + 1, 1) + (day - 1L);
+        return days * MILLIS_PER_DAY + hour * MILLIS_PER_HOUR + minute * MILLIS_PER_MINUTE
+                + second * MILLIS_PER_SECOND + millis;
+    }
+
+    /**
+     * Returns true if the given time value is far enough after the Gregorian cutover to be computed arithmetically.
+     * One day of margin is kept, so the method can be used with local and UTC time values alike.
+     *
+     * @param millis time value in milliseconds from the epoch
+     * @return true if the given time value is in the Gregorian calendar.
+     */
+    public static boolean isGregorian(long millis) {
+        return millis >= GREGORIAN_CUTOVER_MILLIS + MILLIS_PER_DAY;
+    }
+
+    /**
+     * Returns true if <code>Calendar.getInstance(locale)</code> creates a <code>GregorianCalendar</code>.
+     * Some locales, such as <code>th_TH</code>, use other calendar systems, whose fields cannot be computed by this class.
+     *
+     * @param locale the locale to check
+     * @return true if the given locale uses the Gregorian calendar.
+     */
+    public static boolean isGregorian(Locale locale) {
+        Boolean gregorian = GREGORIAN_LOCALES.get(locale);
+        if (gregorian == null) {
+            gregorian = Calendar.getInstance(locale).getClass() == GregorianCalendar.class;
+            GREGORIAN_LOCALES.putIfAbsent(locale, gregorian);
+        }
+        return gregorian;
+    }
+
+    /**
+     * Converts the given wall clock time of the given time zone to UTC milliseconds from the epoch.
+     * <p>
+     * If the zone offset changes within a day of the given time, the wall clock time may be skipped or repeated.
+     * Such times are resolved with the rules of <code>Calendar</code> when the <code>java.time</code> engine is available,
+     * otherwise {@link #UNRESOLVED} is returned for them.
+     *
+     * @param localMillis wall clock time as milliseconds from 1970-01-01 00:00 in the same wall clock
+     * @param zone        the time zone of the wall clock
+     * @return time as UTC milliseconds from the epoch, or {@link #UNRESOLVED}.
+     */
+    public static long localToUtc(long localMillis, TimeZone zone) {
+        if (!isGregorian(localMillis) || localMillis > MAX_MILLIS) {
+            return UNRESOLVED;
+        }
+        return ZoneEngine.INSTANCE.localToUtc(localMillis, zone);
+    }
+
+    /**
+     * Returns the offset of the given time zone from UTC at the given time, like <code>TimeZone#getOffset(long)</code>.
+     *
+     * @param zone   the time zone
+     * @param millis time as UTC milliseconds from the epoch
+     * @return the offset in milliseconds to add to UTC to get local time.
+     */
+    public static int getOffset(TimeZone zone, long millis) {
+        return ZoneEngine.INSTANCE.getOffset(zone, millis);
+    }
+
+    /**
+     * Returns true if the offset of the given time zone from UTC never changes, as in <code>UTC</code> or <code>GMT+03:00</code>.
+     *
+     * @param zone the time zone
+     * @return true if the zone has a single offset at all times.
+     */
+    public static boolean isFixedOffset(TimeZone zone) {
+        return ZoneEngine.INSTANCE.isFixedOffset(zone);
+    }
+
+    /**
+     * Returns the start of a period around the given time, in which the offset of the given time zone does not change.
+     * <p>
+     * The period is the time between two offset transitions of the zone, when the zone engine knows them.
+     * Otherwise it may be shorter, down to the given time alone, so callers must handle periods of any length.
+     *
+     * @param zone   the time zone
+     * @param millis time as UTC milliseconds from the epoch
+     * @return the start of the period as UTC milliseconds from the epoch, inclusive.
+     * @see #offsetPeriodEnd(TimeZone, long)
+     */
+    public static long offsetPeriodStart(TimeZone zone, long millis) {
+        return ZoneEngine.INSTANCE.offsetPeriodStart(zone, millis);
+    }
+
+    /**
+     * Returns the end of a period around the given time, in which the offset of the given time zone does not change.
+     *
+     * @param zone   the time zone
+     * @param millis time as UTC milliseconds from the epoch
+     * @return the end of the period as UTC milliseconds from the epoch, exclusive.
+     * @see #offsetPeriodStart(TimeZone, long)
+     */
+    public static long offsetPeriodEnd(TimeZone zone, long millis) {
+        return ZoneEngine.INSTANCE.offsetPeriodEnd(zone, millis);
+    }
+
+    /**
+     * Returns the largest value that is less than or equal to the algebraic quotient, like <code>Math.floorDiv</code> of Java 8.
+     *
+     * @param x the dividend
+     * @param y the divisor
+     * @return the largest value that is less than or equal to <code>x / y</code>.
+     */
+    public static long floorDiv(long x, long y) {
+        long q = x / y;
+        return (x % y != 0 && ((x ^ y) < 0)) ? q - 1 : q;
+    }
+
+    /**
+     * Returns the floor modulus, like <code>Math.floorMod</code> of Java 8. The result has the sign of the divisor.
+     *
+     * @param x the dividend
+     * @param y the divisor
+     * @return <code>x - floorDiv(x, y) * y</code>.
+     */
+    public static long floorMod(long x, long y) {
+        return x - floorDiv(x, y) * y;
+    }
+}
@@ -0,0 +1,62 @@
+package com.asosyalbebe.moment4j.util;
+
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+import static com.asosyalbebe.moment4j.util.CalendarFieldUtils.MILLIS_PER_DAY;
+
+/**
+ * The zone engine of Java 7, using <code>TimeZone</code> only.
+ * <p>
+ * <code>TimeZone</code> cannot tell whether a wall clock time is skipped or repeated, so the wall clock times
+ * within a day of an offset change are left to <code>Calendar</code>. Neither can it tell when the offset changes,
+ * so the offset periods of the zones other than a <code>SimpleTimeZone</code> without daylight saving time
+ * are the given times alone.
+ *
+ * @author Serdar Kuzucu
+ */
+final class LegacyZoneEngine extends ZoneEngine {
+
+    @Override
+    int getOffset(TimeZone zone, long millis) {
+        return zone.getOffset(millis);
+    }
+
+    @Override
+    long localToUtc(long localMillis, TimeZone zone) {
+        int offset = zone.getOffset(localMillis - zone.getRawOffset());
+        long utc = localMillis - offset;
+        if (zone.getOffset(utc) != offset
+                || zone.getOffset(utc - MILLIS_PER_DAY) != offset
+                || zone.getOffset(utc + MILLIS_PER_DAY) != offset) {
+            return CivilCalendar.UNRESOLVED;
+        }
+        return utc;
+    }
+
+    @Override
+    boolean isFixedOffset(TimeZone zone) {
+        return zone instanceof SimpleTimeZone && !zone.useDaylightTime();
+    }
+
+    @Override
+    long offsetPeriodStart(TimeZone zone, long millis) {
+        return isFixedOffset(zone) ? Long.MIN_VALUE : millis;
+    }
+
+    @Override
+    long offsetPeriodEnd(TimeZone zone, long millis) {
+        return isFixedOffset(zone) || millis == Long.MAX_VALUE ? Long.MAX_VALUE : millis + 1;
+    }
+
+    @Override
+    boolean isCached(String zoneId) {
+        // TimeZone instances keep their own rules
+        return false;
+    }
+
+    @Override
+    String name() {
+        return LEGACY;
+    }
+}
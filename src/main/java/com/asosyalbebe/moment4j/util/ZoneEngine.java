@@ -0,0 +1,79 @@
+package com.asosyalbebe.moment4j.util;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+
+import java.util.TimeZone;
+
+/**
+ * Computes time zone offsets for {@link CivilCalendar}.
+ * <p>
+ * The library targets Java 7, where only <code>TimeZone</code> is available. When the library runs on Java 8 or later
+ * and was built with the <code>java8</code> profile, an engine based on <code>java.time.zone.ZoneRules</code> is loaded
+ * by reflection instead. The <code>moment4j.engine</code> system property set to <code>legacy</code> disables it.
+ *
+ * @author Serdar Kuzucu
+ */
+abstract class ZoneEngine {
+    static final String ENGINE_PROPERTY = "moment4j.engine";
+    static final String LEGACY = "legacy";
+
+    private static final String JAVA_TIME_ENGINE = "com.asosyalbebe.moment4j.util.JavaTimeZoneEngine";
+
+    static final ZoneEngine INSTANCE = load();
+
+    /**
+     * @see CivilCalendar#getOffset(TimeZone, long)
+     */
+    abstract int getOffset(TimeZone zone, long millis);
+
+    /**
+     * @see CivilCalendar#localToUtc(long, TimeZone)
+     */
+    abstract long localToUtc(long localMillis, TimeZone zone);
+
+    /**
+     * @see CivilCalendar#isFixedOffset(TimeZone)
+     */
+    abstract boolean isFixedOffset(TimeZone zone);
+
+    /**
+     * @see CivilCalendar#offsetPeriodStart(TimeZone, long)
+     */
+    abstract long offsetPeriodStart(TimeZone zone, long millis);
+
+    /**
+     * @see CivilCalendar#offsetPeriodEnd(TimeZone, long)
+     */
+    abstract long offsetPeriodEnd(TimeZone zone, long millis);
+
+    /**
+     * @return name of the engine, for diagnostics.
+     */
+    abstract String name();
+
+    /**
+     * @return whether the rules of the given zone are in the cache of this engine, for tests.
+     */
+    abstract boolean isCached(String zoneId);
+
+    private static ZoneEngine load() {
+        if (!LEGACY.equals(System.getProperty(ENGINE_PROPERTY))) {
+            Class<?> engine;
+            try {
+                Class.forName("java.time.zone.ZoneRules");
+                engine = Class.forName(JAVA_TIME_ENGINE);
+            } catch (ClassNotFoundException | LinkageError e) {
+                // Java 7, or a build without the java8 profile
+                engine = null;
+            }
+            if (engine != null) {
+                try {
+                    return (ZoneEngine) engine.getDeclaredConstructor().newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new MomentException("Cannot create the java.time zone engine!", e);
+                }
+            }
+        }
+        return new LegacyZoneEngine();
+    }
+}
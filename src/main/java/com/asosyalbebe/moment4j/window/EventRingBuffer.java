@@ -0,0 +1,83 @@
+package com.asosyalbebe.moment4j.window;
+
+/**
+ * A growable circular buffer of events, kept in two parallel primitive arrays.
+ * Timestamps and values are never boxed; the capacity is always a power of two.
+ *
+ * @author Serdar Kuzucu
+ */
+final class EventRingBuffer {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] timestamps;
+    private double[] values;
+    private int head;
+    private int size;
+
+    EventRingBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    EventRingBuffer(int initialCapacity) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < initialCapacity) {
+            capacity <<= 1;
+        }
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+    }
+
+    void addLast(long timestamp, double value) {
+        if (size == timestamps.length) {
+            grow();
+        }
+        int index = (head + size) & (timestamps.length - 1);
+        timestamps[index] = timestamp;
+        values[index] = value;
+        size++;
+    }
+
+    long firstTimestamp() {
+        return timestamps[head];
+    }
+
+    double firstValue() {
+        return values[head];
+    }
+
+    long lastTimestamp() {
+        return timestamps[(head + size - 1) & (timestamps.length - 1)];
+    }
+
+    void removeFirst() {
+        head = (head + 1) & (timestamps.length - 1);
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        int capacity = timestamps.length;
+        long[] newTimestamps = new long[capacity << 1];
+        double[] newValues = new double[capacity << 1];
+        int firstPart = capacity - head;
+        System.arraycopy(timestamps, head, newTimestamps, 0, firstPart);
+        System.arraycopy(timestamps, 0, newTimestamps, firstPart, head);
+        System.arraycopy(values, head, newValues, 0, firstPart);
+        System.arraycopy(values, 0, newValues, firstPart, head);
+        timestamps = newTimestamps;
+        values = newValues;
+        head = 0;
+    }
+}
@@ -0,0 +1,141 @@
+package com.asosyalbebe.moment4j.window;
+
+import com.asosyalbebe.moment4j.Moment;
+import com.asosyalbebe.moment4j.fault.MomentException;
+import com.asosyalbebe.moment4j.util.CalendarFieldUtils;
+
+/**
+ * A session window over a stream of timestamped events.
+ * <p>
+ * A session groups consecutive events which are closer to each other than the given gap,
+ * where the gap is given as an amount of a calendar field, exactly like <code>Moment#add(int, int)</code>.
+ * When an event arrives after <code>last + gap</code>, the current session is closed and
+ * its aggregates are passed to the {@link WindowListener}.
+ * The reported end of a session is the time of its last event plus one millisecond.
+ * <p>
+ * Only the aggregates of the current session are kept, so each event costs O(1) time and no memory.
+ * Timestamps must be added in non-decreasing order. Instances are not thread-safe.
+ *
+ * @author Serdar Kuzucu
+ */
+public class SessionWindow {
+    private final int gapAmount;
+    private final int gapField;
+    private final long fixedGap;
+    private final WindowListener listener;
+
+    private boolean open;
+    private long start;
+    private long last;
+    private long expiry;
+    private long count;
+    private double sum;
+
+    /**
+     * Creates a session window which is closed after the given inactivity gap.
+     *
+     * @param gapAmount length of the inactivity gap in units of the calendar field. Must be positive.
+     * @param gapField  the calendar field used as the unit of the gap. For example, <code>Calendar.MINUTE</code>
+     * @param listener  listener to be notified when a session is closed
+     */
+    public SessionWindow(int gapAmount, int gapField, WindowListener listener) {
+        if (gapAmount <= 0) {
+            throw new MomentException("Gap amount must be positive! You provided " + gapAmount);
+        }
+        if (listener == null) {
+            throw new MomentException("WindowListener parameter cannot be null!");
+        }
+        this.gapAmount = gapAmount;
+        this.gapField = gapField;
+        this.listener = listener;
+        long unit = CalendarFieldUtils.fixedMillis(gapField);
+        this.fixedGap = unit > 0 ? gapAmount * unit : -1L;
+    }
+
+    /**
+     * Adds an event with the given timestamp.
+     *
+     * @param timestamp time as UTC milliseconds from the epoch.
+     * @return this SessionWindow instance for chainability.
+     */
+    public SessionWindow add(long timestamp) {
+        return add(timestamp, 0d);
+    }
+
+    /**
+     * Adds an event with the given timestamp and value.
+     *
+     * @param timestamp time as UTC milliseconds from the epoch.
+     * @param value     value of the event to be aggregated
+     * @return this SessionWindow instance for chainability.
+     */
+    public SessionWindow add(long timestamp, double value) {
+        if (open) {
+            if (timestamp < last) {
+                throw new MomentException("Timestamps must be added in order! " + timestamp + " is before " + last);
+            }
+            if (timestamp >= expiry) {
+                flush();
+            }
+        }
+        boolean newSession = !open;
+        if (newSession) {
+            open = true;
+            start = timestamp;
+        }
+        if (newSession || timestamp != last) {
+            expiry = fixedGap > 0 ? timestamp + fixedGap : CalendarFieldUtils.add(timestamp, gapAmount, gapField);
+        }
+        last = timestamp;
+        count++;
+        sum += value;
+        return this;
+    }
+
+    /**
+     * Adds an event with the time of the given moment.
+     *
+     * @param moment moment of the event
+     * @return this SessionWindow instance for chainability.
+     */
+    public SessionWindow add(Moment moment) {
+        return add(moment.valueOf(), 0d);
+    }
+
+    /**
+     * Adds an event with the time of the given moment and the given value.
+     *
+     * @param moment moment of the event
+     * @param value  value of the event to be aggregated
+     * @return this SessionWindow instance for chainability.
+     */
+    public SessionWindow add(Moment moment, double value) {
+        return add(moment.valueOf(), value);
+    }
+
+    /**
+     * Closes the current session if no event has arrived within the gap before the given time.
+     * This should be called periodically when events may stop arriving.
+     *
+     * @param now time as UTC milliseconds from the epoch.
+     * @return this SessionWindow instance for chainability.
+     */
+    public SessionWindow advance(long now) {
+        if (open && now >= expiry) {
+            flush();
+        }
+        return this;
+    }
+
+    /**
+     * Closes the current session immediately.
+     */
+    public void flush() {
+        if (open && count > 0) {
+            listener.onWindow(start, last + 1, count, sum);
+        }
+        open = false;
+        count = 0;
+        sum = 0d;
+    }
+}
@@ -0,0 +1,201 @@
+package com.asosyalbebe.moment4j.window;
+
+import com.asosyalbebe.moment4j.Moment;
+import com.asosyalbebe.moment4j.fault.MomentException;
+import com.asosyalbebe.moment4j.util.CalendarFieldUtils;
+
+/**
+ * A sliding time window over a stream of timestamped events.
+ * <p>
+ * The window keeps the events whose timestamps are not before <code>newest - span</code>,
+ * where the span is given as an amount of a calendar field, exactly like <code>Moment#subtract(int, int)</code>.
+ * Events are stored in a ring buffer of primitives and evicted incrementally as the window advances,
+ * so each event is added and removed once (O(1) amortized).
+ *
+ * <pre>
+ * {@code
+ * SlidingWindow lastMinute = new SlidingWindow(1, Calendar.MINUTE);
+ * lastMinute.add(System.currentTimeMillis());
+ * if (lastMinute.count() > 100) {
+ *     // rate limit exceeded
+ * }
+ * }
+ * </pre>
+ * <p>
+ * Timestamps must be added in non-decreasing order. Instances are not thread-safe.
+ *
+ * @author Serdar Kuzucu
+ */
+public class SlidingWindow {
+    private final int amount;
+    private final int calendarField;
+    private final long fixedSpan;
+    private final EventRingBuffer events = new EventRingBuffer();
+
+    private double sum;
+    private long lastCutoffSource = Long.MIN_VALUE;
+    private long lastCutoff = Long.MIN_VALUE;
+
+    /**
+     * Creates a sliding window whose span is the given amount of the given calendar field.
+     *
+     * @param amount        length of the window in units of the calendar field. Must be positive.
+     * @param calendarField the calendar field used as the unit of the window. For example, <code>Calendar.MINUTE</code>
+     */
+    public SlidingWindow(int amount, int calendarField) {
+        if (amount <= 0) {
+            throw new MomentException("Window amount must be positive! You provided " + amount);
+        }
+        this.amount = amount;
+        this.calendarField = calendarField;
+        long unit = CalendarFieldUtils.fixedMillis(calendarField);
+        this.fixedSpan = unit > 0 ? amount * unit : -1L;
+    }
+
+    /**
+     * Adds an event with the given timestamp and evicts the events which fall out of the window.
+     *
+     * @param timestamp time as UTC milliseconds from the epoch.
+     * @return this SlidingWindow instance for chainability.
+     */
+    public SlidingWindow add(long timestamp) {
+        return add(timestamp, 0d);
+    }
+
+    /**
+     * Adds an event with the given timestamp and value and evicts the events which fall out of the window.
+     *
+     * @param timestamp time as UTC milliseconds from the epoch.
+     * @param value     value of the event to be aggregated by {@link #sum()}
+     * @return this SlidingWindow instance for chainability.
+     */
+    public SlidingWindow add(long timestamp, double value) {
+        if (!events.isEmpty() && timestamp < events.lastTimestamp()) {
+            throw new MomentException("Timestamps must be added in order! " + timestamp + " is before " + events.lastTimestamp());
+        }
+        events.addLast(timestamp, value);
+        sum += value;
+        evictBefore(cutoff(timestamp));
+        return this;
+    }
+
+    /**
+     * Adds an event with the time of the given moment.
+     *
+     * @param moment moment of the event
+     * @return this SlidingWindow instance for chainability.
+     */
+    public SlidingWindow add(Moment moment) {
+        return add(moment.valueOf(), 0d);
+    }
+
+    /**
+     * Adds an event with the time of the given moment and the given value.
+     *
+     * @param moment moment of the event
+     * @param value  value of the event to be aggregated by {@link #sum()}
+     * @return this SlidingWindow instance for chainability.
+     */
+    public SlidingWindow add(Moment moment, double value) {
+        return add(moment.valueOf(), value);
+    }
+
+    /**
+     * Moves the end of the window to the given time without adding an event,
+     * and evicts the events which fall out of the window.
+     *
+     * @param now time as UTC milliseconds from the epoch.
+     * @return this SlidingWindow instance for chainability.
+     */
+    public SlidingWindow advance(long now) {
+        evictBefore(cutoff(now));
+        return this;
+    }
+
+    /**
+     * Moves the end of the window to the time of the given moment without adding an event.
+     *
+     * @param now the new end of the window
+     * @return this SlidingWindow instance for chainability.
+     * @see #advance(long)
+     */
+    public SlidingWindow advance(Moment now) {
+        return advance(now.valueOf());
+    }
+
+    /**
+     * @return number of events in the window.
+     */
+    public int count() {
+        return events.size();
+    }
+
+    /**
+     * @return sum of the values of the events in the window.
+     */
+    public double sum() {
+        return sum;
+    }
+
+    /**
+     * @return true if there is no event in the window.
+     */
+    public boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    /**
+     * Returns the timestamp of the oldest event in the window.
+     *
+     * @return time as UTC milliseconds from the epoch.
+     * @throws MomentException if the window is empty
+     */
+    public long oldest() {
+        if (events.isEmpty()) {
+            throw new MomentException("Window is empty!");
+        }
+        return events.firstTimestamp();
+    }
+
+    /**
+     * Returns the timestamp of the newest event in the window.
+     *
+     * @return time as UTC milliseconds from the epoch.
+     * @throws MomentException if the window is empty
+     */
+    public long newest() {
+        if (events.isEmpty()) {
+            throw new MomentException("Window is empty!");
+        }
+        return events.lastTimestamp();
+    }
+
+    /**
+     * Removes all events from the window.
+     */
+    public void clear() {
+        events.clear();
+        sum = 0d;
+    }
+
+    private long cutoff(long end) {
+        if (fixedSpan > 0) {
+            return end - fixedSpan;
+        }
+        if (end != lastCutoffSource) {
+            lastCutoff = CalendarFieldUtils.add(end, -amount, calendarField);
+            lastCutoffSource = end;
+        }
+        return lastCutoff;
+    }
+
+    private void evictBefore(long cutoff) {
+        while (!events.isEmpty() && events.firstTimestamp() < cutoff) {
+            sum -= events.firstValue();
+            events.removeFirst();
+        }
+        if (events.isEmpty()) {
+            sum = 0d;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.asosyalbebe.moment4j.window;
+
+import com.asosyalbebe.moment4j.Moment;
+import com.asosyalbebe.moment4j.fault.MomentException;
+import com.asosyalbebe.moment4j.util.CalendarFieldUtils;
+
+/**
+ * A tumbling (fixed, non-overlapping) time window over a stream of timestamped events.
+ * <p>
+ * The first window starts at <code>startOf(calendarField)</code> of the first event,
+ * and every window is <code>add(amount, calendarField)</code> long, exactly like the same operations of {@link Moment}.
+ * When an event arrives after the end of the current window, the current window is closed and
+ * its aggregates are passed to the {@link WindowListener}. Empty windows are skipped.
+ * <p>
+ * Only the aggregates of the current window are kept, so each event costs O(1) time and no memory.
+ * Timestamps must be added in non-decreasing order. Instances are not thread-safe.
+ *
+ * @author Serdar Kuzucu
+ */
+public class TumblingWindow {
+    private final int amount;
+    private final int calendarField;
+    private final long fixedSpan;
+    private final WindowListener listener;
+
+    private boolean open;
+    private long start;
+    private long end;
+    private long count;
+    private double sum;
+
+    /**
+     * Creates a tumbling window whose length is the given amount of the given calendar field.
+     *
+     * @param amount        length of each window in units of the calendar field. Must be positive.
+     * @param calendarField the calendar field used as the unit of the window. For example, <code>Calendar.HOUR</code>
+     * @param listener      listener to be notified when a window is closed
+     */
+    public TumblingWindow(int amount, int calendarField, WindowListener listener) {
+        if (amount <= 0) {
+            throw new MomentException("Window amount must be positive! You provided " + amount);
+        }
+        if (listener == null) {
+            throw new MomentException("WindowListener parameter cannot be null!");
+        }
+        this.amount = amount;
+        this.calendarField = calendarField;
+        this.listener = listener;
+        long unit = CalendarFieldUtils.fixedMillis(calendarField);
+        this.fixedSpan = unit > 0 ? amount * unit : -1L;
+    }
+
+    /**
+     * Adds an event with the given timestamp.
+     *
+     * @param timestamp time as UTC milliseconds from the epoch.
+     * @return this TumblingWindow instance for chainability.
+     */
+    public TumblingWindow add(long timestamp) {
+        return add(timestamp, 0d);
+    }
+
+    /**
+     * Adds an event with the given timestamp and value.
+     *
+     * @param timestamp time as UTC milliseconds from the epoch.
+     * @param value     value of the event to be aggregated
+     * @return this TumblingWindow instance for chainability.
+     */
+    public TumblingWindow add(long timestamp, double value) {
+        if (!open) {
+            start = CalendarFieldUtils.startOf(timestamp, calendarField);
+            end = nextBoundary(start);
+            open = true;
+        } else if (timestamp < start) {
+            throw new MomentException("Timestamps must be added in order! " + timestamp + " is before the current window " + start);
+        } else if (timestamp >= end) {
+            emit();
+            moveTo(timestamp);
+        }
+        count++;
+        sum += value;
+        return this;
+    }
+
+    /**
+     * Adds an event with the time of the given moment.
+     *
+     * @param moment moment of the event
+     * @return this TumblingWindow instance for chainability.
+     */
+    public TumblingWindow add(Moment moment) {
+        return add(moment.valueOf(), 0d);
+    }
+
+    /**
+     * Adds an event with the time of the given moment and the given value.
+     *
+     * @param moment moment of the event
+     * @param value  value of the event to be aggregated
+     * @return this TumblingWindow instance for chainability.
+     */
+    public TumblingWindow add(Moment moment, double value) {
+        return add(moment.valueOf(), value);
+    }
+
+    /**
+     * Closes the current window if it has ended before the given time.
+     * This should be called periodically when events may stop arriving.
+     *
+     * @param now time as UTC milliseconds from the epoch.
+     * @return this TumblingWindow instance for chainability.
+     */
+    public TumblingWindow advance(long now) {
+        if (open && now >= end) {
+            emit();
+            moveTo(now);
+        }
+        return this;
+    }
+
+    /**
+     * Passes the aggregates of the current window to the listener immediately, even if it has not ended yet.
+     * The window keeps its bounds, so the events added later in the same period are passed with the same
+     * start and end, and the windows stay aligned to the first one.
+     */
+    public void flush() {
+        if (open) {
+            emit();
+        }
+    }
+
+    private void emit() {
+        if (count > 0) {
+            listener.onWindow(start, end, count, sum);
+        }
+        count = 0;
+        sum = 0d;
+    }
+
+    private void moveTo(long timestamp) {
+        if (fixedSpan > 0) {
+            start += ((timestamp - start) / fixedSpan) * fixedSpan;
+            end = start + fixedSpan;
+            return;
+        }
+        start = end;
+        end = nextBoundary(start);
+        while (timestamp >= end) {
+            start = end;
+            end = nextBoundary(start);
+        }
+    }
+
+    private long nextBoundary(long windowStart) {
+        return fixedSpan > 0 ? windowStart + fixedSpan : CalendarFieldUtils.add(windowStart, amount, calendarField);
+    }
+}
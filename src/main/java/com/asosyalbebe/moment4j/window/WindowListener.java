@@ -0,0 +1,19 @@
+package com.asosyalbebe.moment4j.window;
+
+/**
+ * Receives the aggregates of the windows closed by {@link TumblingWindow} and {@link SessionWindow}.
+ *
+ * @author Serdar Kuzucu
+ */
+public interface WindowListener {
+
+    /**
+     * Called once for every closed window which contains at least one event.
+     *
+     * @param startMillis start of the window as UTC milliseconds from the epoch, inclusive.
+     * @param endMillis   end of the window as UTC milliseconds from the epoch, exclusive.
+     * @param count       number of events in the window.
+     * @param sum         sum of the values of the events in the window.
+     */
+    void onWindow(long startMillis, long endMillis, long count, double sum);
+}
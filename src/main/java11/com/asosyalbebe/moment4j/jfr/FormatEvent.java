@@ -0,0 +1,16 @@
+package com.asosyalbebe.moment4j.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Formatting a moment slower than the threshold.
+ *
+ * @author Serdar Kuzucu
+ */
+@Name("com.asosyalbebe.moment4j.Format")
+@Label("Moment Format")
+@Description("Formatting a moment slower than the threshold")
+final class FormatEvent extends MomentEvent {
+}
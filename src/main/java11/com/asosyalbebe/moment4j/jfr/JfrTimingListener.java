@@ -0,0 +1,89 @@
+package com.asosyalbebe.moment4j.jfr;
+
+import com.asosyalbebe.moment4j.metrics.MomentMetrics;
+import com.asosyalbebe.moment4j.metrics.Operation;
+import com.asosyalbebe.moment4j.metrics.TimingListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emits Java Flight Recorder events for the parses, formats and zone conversions slower than a threshold.
+ * <p>
+ * The events are named <code>com.asosyalbebe.moment4j.Parse</code>, <code>com.asosyalbebe.moment4j.Format</code> and
+ * <code>com.asosyalbebe.moment4j.ZoneConversion</code>, and are shown in the moment4j category of recordings.
+ * Operations faster than the threshold return after a single comparison.
+ *
+ * <pre>
+ * {@code
+ * MomentMetrics.installTiming(new JfrTimingListener(500, TimeUnit.MICROSECONDS));
+ * }
+ * </pre>
+ *
+ * @author Serdar Kuzucu
+ */
+public class JfrTimingListener implements TimingListener {
+    /**
+     * System property of the default threshold in microseconds.
+     */
+    public static final String THRESHOLD_PROPERTY = "moment4j.jfr.thresholdMicros";
+
+    private static final long DEFAULT_THRESHOLD_MICROS = 1000;
+
+    private final long thresholdNanos;
+
+    /**
+     * Creates a listener with the threshold of the {@link #THRESHOLD_PROPERTY} system property, or 1 millisecond.
+     */
+    public JfrTimingListener() {
+        this(Long.getLong(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD_MICROS), TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * Creates a listener emitting events for the operations taking at least the given time.
+     *
+     * @param threshold minimum duration of the recorded operations, 0 to record all of them
+     * @param unit      unit of the threshold
+     */
+    public JfrTimingListener(long threshold, TimeUnit unit) {
+        this.thresholdNanos = unit.toNanos(threshold);
+    }
+
+    /**
+     * Creates a listener with the default threshold, and installs it.
+     *
+     * @return the installed listener.
+     * @see MomentMetrics#installTiming(TimingListener)
+     */
+    public static JfrTimingListener install() {
+        JfrTimingListener listener = new JfrTimingListener();
+        MomentMetrics.installTiming(listener);
+        return listener;
+    }
+
+    @Override
+    public void onOperation(Operation operation, String pattern, int length, long durationNanos, boolean success) {
+        if (durationNanos < thresholdNanos) {
+            return;
+        }
+
+        MomentEvent event;
+        switch (operation) {
+            case PARSE:
+                event = new ParseEvent();
+                break;
+            case FORMAT:
+                event = new FormatEvent();
+                break;
+            default:
+                event = new ZoneConversionEvent();
+                break;
+        }
+        if (event.shouldCommit()) {
+            event.pattern = pattern;
+            event.length = length;
+            event.elapsed = durationNanos;
+            event.success = success;
+            event.commit();
+        }
+    }
+}
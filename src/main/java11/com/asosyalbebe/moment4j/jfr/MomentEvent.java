@@ -0,0 +1,35 @@
+package com.asosyalbebe.moment4j.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The fields of the moment4j flight recorder events.
+ * <p>
+ * The operations are timed by moment4j before the event is created, so the duration is a field of its own
+ * and the JFR duration of the events is zero.
+ *
+ * @author Serdar Kuzucu
+ */
+@Category("moment4j")
+@StackTrace(true)
+abstract class MomentEvent extends Event {
+    @Label("Pattern")
+    @Description("Pattern of the parse or the format, or time zone ID of the conversion")
+    String pattern;
+
+    @Label("Length")
+    @Description("Length of the parsed or formatted text")
+    int length;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+
+    @Label("Success")
+    boolean success;
+}
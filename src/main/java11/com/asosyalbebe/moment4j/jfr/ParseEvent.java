@@ -0,0 +1,16 @@
+package com.asosyalbebe.moment4j.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Parsing a string into a moment slower than the threshold.
+ *
+ * @author Serdar Kuzucu
+ */
+@Name("com.asosyalbebe.moment4j.Parse")
+@Label("Moment Parse")
+@Description("Parsing a string into a moment slower than the threshold")
+final class ParseEvent extends MomentEvent {
+}
@@ -0,0 +1,16 @@
+package com.asosyalbebe.moment4j.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Converting between a moment and a zoned date and time slower than the threshold.
+ *
+ * @author Serdar Kuzucu
+ */
+@Name("com.asosyalbebe.moment4j.ZoneConversion")
+@Label("Moment Zone Conversion")
+@Description("Converting between a moment and a zoned date and time slower than the threshold")
+final class ZoneConversionEvent extends MomentEvent {
+}
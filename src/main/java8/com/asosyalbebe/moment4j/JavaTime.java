@@ -0,0 +1,271 @@
+package com.asosyalbebe.moment4j;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import com.asosyalbebe.moment4j.metrics.MomentMetrics;
+import com.asosyalbebe.moment4j.metrics.Operation;
+import com.asosyalbebe.moment4j.metrics.TimingListener;
+import com.asosyalbebe.moment4j.util.CivilCalendar;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Converts between moments and the <code>java.time</code> classes of Java 8.
+ * <p>
+ * The conversions pass the time value and the time zone directly, without creating an intermediate
+ * <code>Date</code> or <code>Calendar</code>. The <code>TimeZone</code> of every <code>ZoneId</code>, and the reverse,
+ * are created once and shared.
+ * <p>
+ * <code>java.time</code> uses the proleptic Gregorian calendar for all dates, while the fields of a moment
+ * follow <code>GregorianCalendar</code>, which uses the Julian calendar before October 15, 1582.
+ * Conversions of instants keep the instant, and conversions of local dates and times keep the fields,
+ * so before the cutover they do not agree with each other: <code>LocalDate.of(1500, 3, 1)</code> becomes
+ * a moment on March 1, 1500 of the Julian calendar, which <code>java.time</code> calls March 11, 1500.
+ *
+ * <pre>
+ * {@code
+ * Moment moment = JavaTime.moment(Instant.now());
+ * ZonedDateTime dateTime = JavaTime.toZonedDateTime(moment);
+ * }
+ * </pre>
+ *
+ * @author Serdar Kuzucu
+ */
+public final class JavaTime {
+    private static final ConcurrentMap<ZoneId, TimeZone> TIME_ZONES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Zone> ZONE_IDS = new ConcurrentHashMap<>();
+    private static final int MAX_OFFSET_MILLIS = 18 * 60 * 60 * 1000;
+
+    private JavaTime() {
+        // Prevent new instances of utility class
+    }
+
+    /**
+     * Creates a moment instance for the given instant, in the default time zone.
+     *
+     * @param instant the instant
+     * @return a new moment instance for the given instant.
+     * @throws MomentException if the instant is null.
+     */
+    public static Moment moment(Instant instant) {
+        if (instant == null) {
+            throw new MomentException("Instant parameter cannot be null!");
+        }
+        return Moment.moment(instant.toEpochMilli());
+    }
+
+    /**
+     * Creates a moment instance for the given date and time, in its time zone.
+     *
+     * @param dateTime the date and time
+     * @return a new moment instance for the given date and time.
+     * @throws MomentException if the date and time is null.
+     */
+    public static Moment moment(ZonedDateTime dateTime) {
+        if (dateTime == null) {
+            throw new MomentException("ZonedDateTime parameter cannot be null!");
+        }
+        TimingListener timing = MomentMetrics.timing();
+        if (timing == null) {
+            return Moment.moment(dateTime.toInstant().toEpochMilli(), toTimeZone(dateTime.getZone()));
+        }
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Moment moment = Moment.moment(dateTime.toInstant().toEpochMilli(), toTimeZone(dateTime.getZone()));
+            success = true;
+            return moment;
+        } finally {
+            timing.onOperation(Operation.ZONE_CONVERSION, dateTime.getZone().getId(), 0,
+                    System.nanoTime() - start, success);
+        }
+    }
+
+    /**
+     * Creates a moment instance for the given temporal object, such as an <code>Instant</code>,
+     * <code>OffsetDateTime</code>, <code>ZonedDateTime</code>, <code>LocalDateTime</code> or <code>LocalDate</code>.
+     * <p>
+     * The time zone of the temporal object is kept. Local dates and times are taken in the default time zone,
+     * and a date without time is taken at the start of the day. Temporal objects with an instant keep their instant,
+     * and the others keep their fields, which are Julian dates of the moment before the Gregorian cutover.
+     *
+     * @param temporal the temporal object
+     * @return a new moment instance for the given temporal object.
+     * @throws MomentException if the temporal object has neither an instant nor a date.
+     */
+    public static Moment moment(TemporalAccessor temporal) {
+        if (temporal == null) {
+            throw new MomentException("TemporalAccessor parameter cannot be null!");
+        }
+        ZoneId zone = temporal.query(TemporalQueries.zone());
+        TimeZone timeZone = zone == null ? TimeZone.getDefault() : toTimeZone(zone);
+
+        if (temporal.isSupported(ChronoField.INSTANT_SECONDS)) {
+            long millis = Math.addExact(Math.multiplyExact(temporal.getLong(ChronoField.INSTANT_SECONDS), 1000L),
+                    temporal.getLong(ChronoField.MILLI_OF_SECOND));
+            return Moment.moment(millis, timeZone);
+        }
+
+        LocalDate date = temporal.query(TemporalQueries.localDate());
+        if (date == null) {
+            throw new MomentException("Cannot create a moment from " + temporal + " which has no date!");
+        }
+        LocalTime time = temporal.query(TemporalQueries.localTime());
+        if (time == null) {
+            time = LocalTime.MIDNIGHT;
+        }
+        return Moment.moment(0L, timeZone).with(date.getYear(), date.getMonthValue() - 1, date.getDayOfMonth(),
+                time.getHour(), time.getMinute(), time.getSecond(), time.getNano() / 1000000);
+    }
+
+    /**
+     * Returns the instant of the given moment.
+     *
+     * @param moment the moment
+     * @return the instant of the given moment.
+     * @throws MomentException if the moment is null.
+     */
+    public static Instant toInstant(Moment moment) {
+        if (moment == null) {
+            throw new MomentException("Moment parameter cannot be null!");
+        }
+        return Instant.ofEpochMilli(moment.valueOf());
+    }
+
+    /**
+     * Returns the date and time of the given moment in its time zone.
+     *
+     * @param moment the moment
+     * @return the date and time of the given moment.
+     * @throws MomentException if the moment is null.
+     */
+    public static ZonedDateTime toZonedDateTime(Moment moment) {
+        if (moment == null) {
+            throw new MomentException("Moment parameter cannot be null!");
+        }
+        TimingListener timing = MomentMetrics.timing();
+        if (timing == null) {
+            return ZonedDateTime.ofInstant(toInstant(moment), toZoneId(moment.timeZone()));
+        }
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            ZonedDateTime dateTime = ZonedDateTime.ofInstant(toInstant(moment), toZoneId(moment.timeZone()));
+            success = true;
+            return dateTime;
+        } finally {
+            timing.onOperation(Operation.ZONE_CONVERSION, moment.timeZone().getID(), 0,
+                    System.nanoTime() - start, success);
+        }
+    }
+
+    /**
+     * Returns the wall clock date and time of the given moment, with the same fields as the moment itself.
+     * <p>
+     * Before the Gregorian cutover, these are the fields of the Julian calendar, as in
+     * {@link #moment(TemporalAccessor)}, and differ from the fields of {@link #toZonedDateTime(Moment)}.
+     *
+     * @param moment the moment
+     * @return the local date and time of the given moment.
+     * @throws MomentException if the moment is null.
+     */
+    public static LocalDateTime toLocalDateTime(Moment moment) {
+        if (moment == null) {
+            throw new MomentException("Moment parameter cannot be null!");
+        }
+        long millis = moment.valueOf();
+        long local = Math.addExact(millis, CivilCalendar.getOffset(moment.timeZone(), millis));
+        if (CivilCalendar.isGregorian(local)) {
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(local, 1000L), (int) Math.floorMod(local, 1000L) * 1000000,
+                    ZoneOffset.UTC);
+        }
+
+        Calendar calendar = moment.toCalendar();
+        int year = calendar.get(Calendar.YEAR);
+        if (calendar.get(Calendar.ERA) == GregorianCalendar.BC) {
+            year = 1 - year;
+        }
+        return LocalDateTime.of(year, calendar.get(Calendar.MONTH) + 1, calendar.get(Calendar.DAY_OF_MONTH),
+                calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE), calendar.get(Calendar.SECOND),
+                calendar.get(Calendar.MILLISECOND) * 1000000);
+    }
+
+    /**
+     * Returns the shared <code>TimeZone</code> of the given zone, which must not be modified.
+     */
+    static TimeZone toTimeZone(ZoneId zone) {
+        TimeZone timeZone = TIME_ZONES.get(zone);
+        if (timeZone == null) {
+            timeZone = TimeZone.getTimeZone(zone);
+            TIME_ZONES.putIfAbsent(zone, timeZone);
+        }
+        return timeZone;
+    }
+
+    /**
+     * Returns the zone of the given time zone. Only the IDs of the time zone database are cached, and time zones
+     * with other rules under such an ID, or with an unknown ID, are converted to their fixed offset.
+     */
+    static ZoneId toZoneId(TimeZone timeZone) {
+        String id = timeZone.getID();
+        Zone cached = ZONE_IDS.get(id);
+        if (cached == null) {
+            TimeZone shared = TimeZone.getTimeZone(id);
+            ZoneId zone = shared.getID().equals(id) ? regionId(shared) : null;
+            if (zone == null) {
+                return toZoneOffset(timeZone);
+            }
+            cached = new Zone(shared, zone);
+            ZONE_IDS.putIfAbsent(id, cached);
+        }
+        if (cached.timeZone != timeZone && !cached.timeZone.hasSameRules(timeZone)) {
+            return toZoneOffset(timeZone);
+        }
+        return cached.zone;
+    }
+
+    private static ZoneId regionId(TimeZone timeZone) {
+        try {
+            return timeZone.toZoneId();
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static ZoneOffset toZoneOffset(TimeZone timeZone) {
+        int offset = timeZone.getRawOffset();
+        if (!CivilCalendar.isFixedOffset(timeZone) || offset % 1000 != 0 || Math.abs(offset) > MAX_OFFSET_MILLIS) {
+            throw new MomentException("Time zone " + timeZone.getID() + " has no java.time equivalent!");
+        }
+        return ZoneOffset.ofTotalSeconds(offset / 1000);
+    }
+
+    /**
+     * A time zone of the database, and its zone.
+     */
+    private static final class Zone {
+        final TimeZone timeZone;
+        final ZoneId zone;
+
+        Zone(TimeZone timeZone, ZoneId zone) {
+            this.timeZone = timeZone;
+            this.zone = zone;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.asosyalbebe.moment4j;
+
+import java.util.Optional;
+import java.util.stream.Collector;
+
+/**
+ * Collectors of moment streams, which read the time value of every moment once.
+ * <p>
+ * <code>Collectors.minBy</code> and <code>Collectors.maxBy</code> compare the current best moment again with every
+ * element; these collectors keep its time value instead.
+ *
+ * <pre>
+ * {@code
+ * Optional<Moment> latest = moments.stream().collect(MomentCollectors.max());
+ * MomentStatistics statistics = moments.parallelStream().collect(MomentCollectors.statistics());
+ * }
+ * </pre>
+ *
+ * @author Serdar Kuzucu
+ */
+public final class MomentCollectors {
+
+    private MomentCollectors() {
+        // Prevent new instances of utility class
+    }
+
+    /**
+     * Returns a collector of the minimum (most distant past) moment. If more than one moment is the minimum,
+     * the first of them is collected.
+     *
+     * @return a collector of the minimum moment, or an empty optional for an empty stream.
+     */
+    public static Collector<Moment, ?, Optional<Moment>> min() {
+        return Collector.of(Best::new, Best::addMin, Best::combineMin, Best::toOptional);
+    }
+
+    /**
+     * Returns a collector of the maximum (most distant future) moment. If more than one moment is the maximum,
+     * the first of them is collected.
+     *
+     * @return a collector of the maximum moment, or an empty optional for an empty stream.
+     */
+    public static Collector<Moment, ?, Optional<Moment>> max() {
+        return Collector.of(Best::new, Best::addMax, Best::combineMax, Best::toOptional);
+    }
+
+    /**
+     * Returns a collector of the statistics of the moments.
+     *
+     * @return a collector of the statistics of the moments.
+     */
+    public static Collector<Moment, ?, MomentStatistics> statistics() {
+        return Collector.of(MomentStatistics::new, MomentStatistics::add, MomentStatistics::combine,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * The best moment so far, with its time value.
+     */
+    private static final class Best {
+        private Moment moment;
+        private long value;
+
+        void addMin(Moment candidate) {
+            long candidateValue = candidate.valueOf();
+            if (moment == null || candidateValue < value) {
+                moment = candidate;
+                value = candidateValue;
+            }
+        }
+
+        void addMax(Moment candidate) {
+            long candidateValue = candidate.valueOf();
+            if (moment == null || candidateValue > value) {
+                moment = candidate;
+                value = candidateValue;
+            }
+        }
+
+        Best combineMin(Best other) {
+            return other.moment != null && (moment == null || other.value < value) ? other : this;
+        }
+
+        Best combineMax(Best other) {
+            return other.moment != null && (moment == null || other.value > value) ? other : this;
+        }
+
+        Optional<Moment> toOptional() {
+            return Optional.ofNullable(moment);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.asosyalbebe.moment4j;
+
+import com.asosyalbebe.moment4j.io.MomentColumnReader;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.TimeZone;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams of the moments of ranges and moment columns, which split in constant time for parallel streams.
+ * <p>
+ * The spliterators of these streams are indexes from a start to an end. They split at the middle index, and compute
+ * the moments of their part from its index, without reading the moments before it. They are
+ * <code>SIZED</code>, <code>SUBSIZED</code> and <code>ORDERED</code>, and ranges and sorted columns are also
+ * <code>SORTED</code>, so a parallel stream splits them evenly over the threads of the fork/join pool,
+ * and skips sorting them again.
+ *
+ * <pre>
+ * {@code
+ * long weekdays = MomentStreams.stream(minutes).parallel().filter(m -> m.days() != Calendar.SUNDAY).count();
+ * long max = MomentStreams.values(column).parallel().max().getAsLong();
+ * }
+ * </pre>
+ *
+ * @author Serdar Kuzucu
+ */
+public final class MomentStreams {
+    /**
+     * Number of values read at once from a column.
+     */
+    private static final int CHUNK = 1024;
+
+    private MomentStreams() {
+        // Prevent new instances of utility class
+    }
+
+    /**
+     * Returns a sequential stream of the moments of the given range, in the time zone of the range.
+     *
+     * @param range the range of moments
+     * @return a new stream of the moments of the range, which may be made parallel.
+     */
+    public static Stream<Moment> stream(MomentRange range) {
+        return StreamSupport.stream(new MomentSpliterator(range, 0, range.size()), false);
+    }
+
+    /**
+     * Returns a sequential stream of the times of the moments of the given range.
+     *
+     * @param range the range of moments
+     * @return a new stream of the times as UTC milliseconds from the epoch, which may be made parallel.
+     */
+    public static LongStream values(MomentRange range) {
+        return StreamSupport.longStream(new RangeSpliterator(range, 0, range.size()), false);
+    }
+
+    /**
+     * Returns a sequential stream of the values of the given moment column.
+     * <p>
+     * Every part of a parallel stream reads the column with its own duplicate of the reader. The stream must be used
+     * before the reader is closed.
+     *
+     * @param column reader of the moment column
+     * @return a new stream of the values as UTC milliseconds from the epoch, which may be made parallel.
+     * @see MomentColumnReader#duplicate()
+     */
+    public static LongStream values(MomentColumnReader column) {
+        return StreamSupport.longStream(new ColumnSpliterator(column, 0, column.size()), false);
+    }
+
+    /**
+     * The indexes of a range, from <code>index</code> to <code>end</code>, exclusive.
+     */
+    private abstract static class IndexSpliterator<S extends IndexSpliterator<S>> {
+        long index;
+        final long end;
+
+        IndexSpliterator(long index, long end) {
+            this.index = index;
+            this.end = end;
+        }
+
+        abstract S prefix(long from, long to);
+
+        public S trySplit() {
+            long middle = (index + end) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            S prefix = prefix(index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        public long estimateSize() {
+            return end - index;
+        }
+
+        public long getExactSizeIfKnown() {
+            return end - index;
+        }
+    }
+
+    private static final class RangeSpliterator extends IndexSpliterator<RangeSpliterator> implements Spliterator.OfLong {
+        private final MomentRange range;
+
+        RangeSpliterator(MomentRange range, long index, long end) {
+            super(index, end);
+            this.range = range;
+        }
+
+        @Override
+        RangeSpliterator prefix(long from, long to) {
+            return new RangeSpliterator(range, from, to);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(range.valueAt(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            long to = end;
+            for (long i = index; i < to; i++) {
+                action.accept(range.valueAt(i));
+            }
+            index = to;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | ORDERED | SORTED | DISTINCT | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super Long> getComparator() {
+            return null;
+        }
+    }
+
+    private static final class MomentSpliterator extends IndexSpliterator<MomentSpliterator> implements Spliterator<Moment> {
+        private final MomentRange range;
+        private final TimeZone zone;
+
+        MomentSpliterator(MomentRange range, long index, long end) {
+            super(index, end);
+            this.range = range;
+            this.zone = range.zone();
+        }
+
+        @Override
+        MomentSpliterator prefix(long from, long to) {
+            return new MomentSpliterator(range, from, to);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Moment> action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(Moment.moment(range.valueAt(index++), zone));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Moment> action) {
+            long to = end;
+            for (long i = index; i < to; i++) {
+                action.accept(Moment.moment(range.valueAt(i), zone));
+            }
+            index = to;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | ORDERED | SORTED | DISTINCT | NONNULL;
+        }
+
+        @Override
+        public Comparator<? super Moment> getComparator() {
+            // Moments are sorted in their natural order
+            return null;
+        }
+    }
+
+    private static final class ColumnSpliterator extends IndexSpliterator<ColumnSpliterator> implements Spliterator.OfLong {
+        private final MomentColumnReader column;
+        private MomentColumnReader reader;
+        private long[] chunk;
+
+        ColumnSpliterator(MomentColumnReader column, long index, long end) {
+            super(index, end);
+            this.column = column;
+        }
+
+        @Override
+        ColumnSpliterator prefix(long from, long to) {
+            return new ColumnSpliterator(column, from, to);
+        }
+
+        /**
+         * Returns the reader of this part, duplicated on first use, in the thread which traverses the part.
+         */
+        private MomentColumnReader reader() {
+            if (reader == null) {
+                reader = column.duplicate();
+            }
+            return reader;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(reader().get(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            if (chunk == null) {
+                chunk = new long[(int) Math.min(CHUNK, Math.max(end - index, 1))];
+            }
+            while (index < end) {
+                int length = (int) Math.min(chunk.length, end - index);
+                reader().read(index, chunk, 0, length);
+                index += length;
+                for (int i = 0; i < length; i++) {
+                    action.accept(chunk[i]);
+                }
+            }
+        }
+
+        @Override
+        public int characteristics() {
+            int characteristics = SIZED | SUBSIZED | ORDERED | NONNULL | IMMUTABLE;
+            return column.isSorted() ? characteristics | SORTED : characteristics;
+        }
+
+        @Override
+        public Comparator<? super Long> getComparator() {
+            if (!column.isSorted()) {
+                throw new IllegalStateException();
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.asosyalbebe.moment4j.util;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The zone engine of Java 8 and later, using the immutable <code>ZoneRules</code> of <code>java.time</code>.
+ * <p>
+ * Unlike <code>TimeZone</code>, <code>ZoneRules</code> knows the transition of a skipped or repeated wall clock time,
+ * so such times are resolved here with the rules of <code>Calendar</code>: the offset before a gap,
+ * and the offset after an overlap.
+ * <p>
+ * <code>TimeZone</code> ignores the local mean time of the zones before 1900, and uses simpler rules after 2037 for some
+ * zones. The times outside of that range, and the zones with custom rules, are left to the legacy engine, so the
+ * results are always those of <code>TimeZone</code>.
+ *
+ * @author Serdar Kuzucu
+ */
+final class JavaTimeZoneEngine extends ZoneEngine {
+    /**
+     * 1900-01-03 00:00 UTC, two days after the first day of <code>TimeZone</code> data.
+     */
+    private static final long MIN_MILLIS = -2208816000000L;
+
+    /**
+     * 2037-01-01 00:00 UTC.
+     */
+    private static final long MAX_MILLIS = 2114380800000L;
+
+    private final ZoneEngine legacy = new LegacyZoneEngine();
+    private final ConcurrentMap<String, Zone> zones = new ConcurrentHashMap<>();
+
+    @Override
+    int getOffset(TimeZone zone, long millis) {
+        ZoneRules rules = millis >= MIN_MILLIS && millis < MAX_MILLIS ? rules(zone) : null;
+        if (rules == null) {
+            return legacy.getOffset(zone, millis);
+        }
+        return rules.getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds() * 1000;
+    }
+
+    @Override
+    long localToUtc(long localMillis, TimeZone zone) {
+        ZoneRules rules = localMillis >= MIN_MILLIS && localMillis < MAX_MILLIS ? rules(zone) : null;
+        if (rules == null) {
+            return legacy.localToUtc(localMillis, zone);
+        }
+
+        LocalDateTime local = LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000L),
+                (int) Math.floorMod(localMillis, 1000L) * 1000000, ZoneOffset.UTC);
+        ZoneOffsetTransition transition = rules.getTransition(local);
+        ZoneOffset offset;
+        if (transition == null) {
+            offset = rules.getOffset(local);
+        } else if (transition.isGap()) {
+            offset = transition.getOffsetBefore();
+        } else {
+            offset = transition.getOffsetAfter();
+        }
+        return localMillis - offset.getTotalSeconds() * 1000L;
+    }
+
+    @Override
+    boolean isFixedOffset(TimeZone zone) {
+        ZoneRules rules = rules(zone);
+        if (rules == null) {
+            return legacy.isFixedOffset(zone);
+        }
+        return rules.isFixedOffset() && !zone.useDaylightTime();
+    }
+
+    @Override
+    long offsetPeriodStart(TimeZone zone, long millis) {
+        ZoneRules rules = millis >= MIN_MILLIS && millis < MAX_MILLIS ? rules(zone) : null;
+        if (rules == null) {
+            return legacy.offsetPeriodStart(zone, millis);
+        }
+        // The transitions before the next millisecond, including a transition at the given time
+        ZoneOffsetTransition transition = rules.previousTransition(Instant.ofEpochMilli(millis + 1));
+        return transition == null ? MIN_MILLIS : Math.max(transition.toEpochSecond() * 1000, MIN_MILLIS);
+    }
+
+    @Override
+    long offsetPeriodEnd(TimeZone zone, long millis) {
+        ZoneRules rules = millis >= MIN_MILLIS && millis < MAX_MILLIS ? rules(zone) : null;
+        if (rules == null) {
+            return legacy.offsetPeriodEnd(zone, millis);
+        }
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochMilli(millis));
+        return transition == null ? MAX_MILLIS : Math.min(transition.toEpochSecond() * 1000, MAX_MILLIS);
+    }
+
+    @Override
+    boolean isCached(String zoneId) {
+        return zones.containsKey(zoneId);
+    }
+
+    @Override
+    String name() {
+        return "java.time";
+    }
+
+    /**
+     * Returns the rules of the given zone, or null if its rules are not those of the time zone database.
+     */
+    private ZoneRules rules(TimeZone zone) {
+        String id = zone.getID();
+        Zone cached = zones.get(id);
+        if (cached == null) {
+            cached = new Zone(TimeZone.getTimeZone(id), load(id));
+            zones.putIfAbsent(id, cached);
+        }
+        if (cached.rules == null || (cached.zone != zone && !cached.zone.hasSameRules(zone))) {
+            return null;
+        }
+        return cached.rules;
+    }
+
+    private static ZoneRules load(String id) {
+        try {
+            return ZoneId.of(id, ZoneId.SHORT_IDS).getRules();
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A time zone of the database, and its rules; null if <code>java.time</code> does not know the zone.
+     */
+    private static final class Zone {
+        final TimeZone zone;
+        final ZoneRules rules;
+
+        Zone(TimeZone zone, ZoneRules rules) {
+            this.zone = zone;
+            this.rules = rules;
+        }
+    }
+}
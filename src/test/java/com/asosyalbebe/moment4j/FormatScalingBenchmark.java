@@ -0,0 +1,124 @@
+package com.asosyalbebe.moment4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+
+/**
+ * Prints the throughput of formatting and parsing with shared patterns from 1 to 64 threads, as a scaling curve
+ * of the shared caches. {@link MomentConcurrencyTest} checks the results of the same work. It runs from the
+ * command line, on an otherwise idle machine:
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.asosyalbebe.moment4j.FormatScalingBenchmark
+ * </pre>
+ */
+public class FormatScalingBenchmark {
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 5;
+    private static final int OPERATIONS = 200000;
+    private static final int INPUTS = 256;
+
+    private static final String[] PATTERNS = {
+            "yyyy-MM-dd HH:mm:ss.SSS",
+            "dd MMMM yyyy, EEEE",
+            "MMM d, yyyy h:mm a",
+            "yyyy-MM-dd'T'HH:mm:ss z",
+            "YYYY-'W'ww-u"
+    };
+    private static final Locale[] LOCALES = {Locale.ENGLISH, new Locale("tr"), new Locale("ar", "EG")};
+
+    private static final long[] MILLIS = new long[INPUTS];
+    private static final String[][][] FORMATTED = new String[PATTERNS.length][LOCALES.length][INPUTS];
+
+    // Keeps the results alive, so that the compiler cannot drop the work
+    private static volatile long sink;
+
+    public static void main(String[] args) throws Exception {
+        for (int i = 0; i < INPUTS; i++) {
+            // 1950 to 2050, in whole seconds
+            MILLIS[i] = -631152000000L + i * 12327187000L;
+        }
+        for (int p = 0; p < PATTERNS.length; p++) {
+            for (int l = 0; l < LOCALES.length; l++) {
+                for (int i = 0; i < INPUTS; i++) {
+                    FORMATTED[p][l][i] = moment(MILLIS[i]).format(PATTERNS[p], LOCALES[l]);
+                }
+            }
+        }
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            run(Runtime.getRuntime().availableProcessors());
+        }
+
+        for (int threads : THREADS) {
+            // The fastest round is the one least disturbed by garbage collection and other processes
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                best = Math.min(best, run(threads));
+            }
+            System.out.println(String.format("%2d threads %,10.0f ops/ms",
+                    threads, (double) threads * OPERATIONS * 1000000 / best));
+        }
+    }
+
+    /**
+     * Runs the given number of threads at the same time, each formatting and parsing all the patterns and locales
+     * from its own starting point, and returns the nanoseconds from the start to the last thread finishing.
+     */
+    private static long run(int threads) throws Exception {
+        final CountDownLatch ready = new CountDownLatch(threads);
+        final CountDownLatch go = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int seed = t;
+                results.add(executor.submit(new Callable<Long>() {
+                    @Override
+                    public Long call() throws InterruptedException {
+                        ready.countDown();
+                        go.await();
+                        return hammer(seed);
+                    }
+                }));
+            }
+            ready.await();
+            long start = System.nanoTime();
+            go.countDown();
+
+            for (Future<Long> result : results) {
+                sink += result.get();
+            }
+            return System.nanoTime() - start;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long hammer(int seed) {
+        long sink = 0;
+        Moment moment = moment(0L);
+        for (int n = 0; n < OPERATIONS; n++) {
+            int operation = seed * 7919 + n;
+            int p = operation % PATTERNS.length;
+            int l = (operation / PATTERNS.length) % LOCALES.length;
+            int i = (operation / (PATTERNS.length * LOCALES.length)) % INPUTS;
+
+            if (n % 2 == 0) {
+                sink += moment.reset(MILLIS[i]).format(PATTERNS[p], LOCALES[l]).length();
+            } else {
+                sink += moment(FORMATTED[p][l][i], PATTERNS[p], LOCALES[l]).valueOf();
+            }
+        }
+        return sink;
+    }
+}
@@ -0,0 +1,816 @@
+package com.asosyalbebe.moment4j;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Checks the bytes allocated by every public method of <code>Moment</code> against its budget.
+ * <p>
+ * Every operation is first run enough times to be compiled, then measured with the allocation counter of
+ * the current thread. The budgets are the allocations on HotSpot 17 with some room for other versions,
+ * so exceeding one means an operation allocates an object more than it used to. The zero budgets rely on
+ * the escape analysis of the C2 compiler, so the test only runs on HotSpot, and is skipped on other JVMs
+ * and on JVMs which cannot count the allocations of a thread.
+ */
+public class MomentAllocationTest {
+    private static final int WARMUP = 20000;
+    private static final int ITERATIONS = 2000;
+    private static final int ROUNDS = 3;
+    private static final long REFERENCE = 1458085572532L;
+
+    private static com.sun.management.ThreadMXBean threads;
+    private static long sink;
+
+    private final Moment moment = moment(REFERENCE);
+    private final Moment other = moment(REFERENCE + 3600000L);
+    private final Moment mutable = moment(REFERENCE);
+    private final Date date = new Date(REFERENCE + 3600000L);
+    private final Calendar calendar = moment(REFERENCE + 3600000L).toCalendar();
+    private final List<Moment> moments = Arrays.asList(moment, other, moment(REFERENCE - 1000L));
+    private final Iterable<Moment> iterable = new ArrayDeque<>(moments);
+    private final long[] millis = {REFERENCE, REFERENCE + 1000L, REFERENCE - 1000L};
+    private final int[] array = {2016, 2, 15, 23, 36, 12, 532};
+
+    @BeforeClass
+    public static void setUpClass() {
+        // OpenJDK builds of HotSpot are named "OpenJDK 64-Bit Server VM", Oracle builds "Java HotSpot(TM) ..."
+        String vmName = System.getProperty("java.vm.name", "");
+        assumeTrue(vmName.contains("HotSpot") || vmName.startsWith("OpenJDK"));
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        assumeTrue(threads.isThreadAllocatedMemoryEnabled());
+    }
+
+    @Test
+    public void test_Accessors() {
+        assertWithinBudget(
+                new Operation("valueOf", 0) {
+                    long run() {
+                        return moment.valueOf();
+                    }
+                },
+                new Operation("unix", 0) {
+                    long run() {
+                        return moment.unix();
+                    }
+                },
+                new Operation("milliseconds()", 0) {
+                    long run() {
+                        return moment.milliseconds();
+                    }
+                },
+                new Operation("seconds()", 0) {
+                    long run() {
+                        return moment.seconds();
+                    }
+                },
+                new Operation("minutes()", 0) {
+                    long run() {
+                        return moment.minutes();
+                    }
+                },
+                new Operation("hours()", 0) {
+                    long run() {
+                        return moment.hours();
+                    }
+                },
+                new Operation("dates()", 0) {
+                    long run() {
+                        return moment.dates();
+                    }
+                },
+                new Operation("days()", 0) {
+                    long run() {
+                        return moment.days();
+                    }
+                },
+                new Operation("months()", 0) {
+                    long run() {
+                        return moment.months();
+                    }
+                },
+                new Operation("years()", 0) {
+                    long run() {
+                        return moment.years();
+                    }
+                },
+                new Operation("dayOfYear()", 0) {
+                    long run() {
+                        return moment.dayOfYear();
+                    }
+                },
+                new Operation("isoWeekday()", 0) {
+                    long run() {
+                        return moment.isoWeekday();
+                    }
+                },
+                new Operation("isoWeek()", 0) {
+                    long run() {
+                        return moment.isoWeek();
+                    }
+                },
+                new Operation("isoWeekYear()", 0) {
+                    long run() {
+                        return moment.isoWeekYear();
+                    }
+                },
+                new Operation("isoWeeksInYear()", 0) {
+                    long run() {
+                        return moment.isoWeeksInYear();
+                    }
+                },
+                new Operation("get", 0) {
+                    long run() {
+                        return moment.get(Calendar.MONTH);
+                    }
+                },
+                new Operation("get(ISO_WEEK)", 0) {
+                    long run() {
+                        return moment.get(Moment.ISO_WEEK);
+                    }
+                },
+                new Operation("isLeapYear", 0) {
+                    long run() {
+                        return moment.isLeapYear() ? 1 : 0;
+                    }
+                },
+                new Operation("hashCode", 0) {
+                    long run() {
+                        return moment.hashCode();
+                    }
+                },
+                new Operation("equals", 0) {
+                    long run() {
+                        return moment.equals(other) ? 1 : 0;
+                    }
+                },
+                new Operation("compareTo", 0) {
+                    long run() {
+                        return moment.compareTo(other);
+                    }
+                });
+    }
+
+    @Test
+    public void test_Comparisons() {
+        assertWithinBudget(
+                new Operation("isBefore(Moment)", 0) {
+                    long run() {
+                        return moment.isBefore(other) ? 1 : 0;
+                    }
+                },
+                new Operation("isBefore(Date)", 0) {
+                    long run() {
+                        return moment.isBefore(date) ? 1 : 0;
+                    }
+                },
+                new Operation("isBefore(Calendar)", 0) {
+                    long run() {
+                        return moment.isBefore(calendar) ? 1 : 0;
+                    }
+                },
+                new Operation("isBefore(long)", 0) {
+                    long run() {
+                        return moment.isBefore(REFERENCE) ? 1 : 0;
+                    }
+                },
+                new Operation("isAfter(Moment)", 0) {
+                    long run() {
+                        return moment.isAfter(other) ? 1 : 0;
+                    }
+                },
+                new Operation("isAfter(Date)", 0) {
+                    long run() {
+                        return moment.isAfter(date) ? 1 : 0;
+                    }
+                },
+                new Operation("isAfter(Calendar)", 0) {
+                    long run() {
+                        return moment.isAfter(calendar) ? 1 : 0;
+                    }
+                },
+                new Operation("isAfter(long)", 0) {
+                    long run() {
+                        return moment.isAfter(REFERENCE) ? 1 : 0;
+                    }
+                },
+                new Operation("isSame(Moment)", 0) {
+                    long run() {
+                        return moment.isSame(other) ? 1 : 0;
+                    }
+                },
+                new Operation("isSame(Date)", 0) {
+                    long run() {
+                        return moment.isSame(date) ? 1 : 0;
+                    }
+                },
+                new Operation("isSame(Calendar)", 0) {
+                    long run() {
+                        return moment.isSame(calendar) ? 1 : 0;
+                    }
+                },
+                new Operation("isSame(long)", 0) {
+                    long run() {
+                        return moment.isSame(REFERENCE) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrBefore(Moment)", 0) {
+                    long run() {
+                        return moment.isSameOrBefore(other) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrBefore(Date)", 0) {
+                    long run() {
+                        return moment.isSameOrBefore(date) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrBefore(Calendar)", 0) {
+                    long run() {
+                        return moment.isSameOrBefore(calendar) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrBefore(long)", 0) {
+                    long run() {
+                        return moment.isSameOrBefore(REFERENCE) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrAfter(Moment)", 0) {
+                    long run() {
+                        return moment.isSameOrAfter(other) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrAfter(Date)", 0) {
+                    long run() {
+                        return moment.isSameOrAfter(date) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrAfter(Calendar)", 0) {
+                    long run() {
+                        return moment.isSameOrAfter(calendar) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrAfter(long)", 0) {
+                    long run() {
+                        return moment.isSameOrAfter(REFERENCE) ? 1 : 0;
+                    }
+                },
+                new Operation("isBetween(Moment, Moment)", 0) {
+                    long run() {
+                        return moment.isBetween(moment, other) ? 1 : 0;
+                    }
+                },
+                new Operation("isBetween(Date, Date)", 0) {
+                    long run() {
+                        return moment.isBetween(date, date) ? 1 : 0;
+                    }
+                },
+                new Operation("isBetween(Calendar, Calendar)", 0) {
+                    long run() {
+                        return moment.isBetween(calendar, calendar) ? 1 : 0;
+                    }
+                },
+                new Operation("isBetween(long, long)", 0) {
+                    long run() {
+                        return moment.isBetween(REFERENCE, REFERENCE + 1000L) ? 1 : 0;
+                    }
+                },
+                new Operation("max(Moment...)", 32) {
+                    long run() {
+                        return System.identityHashCode(Moment.max(moment, other));
+                    }
+                },
+                new Operation("max(Collection)", 0) {
+                    long run() {
+                        return System.identityHashCode(Moment.max(moments));
+                    }
+                },
+                new Operation("max(Iterable)", 64) {
+                    long run() {
+                        return System.identityHashCode(Moment.max(iterable));
+                    }
+                },
+                new Operation("maxValue(long[])", 0) {
+                    long run() {
+                        return Moment.maxValue(millis);
+                    }
+                },
+                new Operation("min(Moment...)", 32) {
+                    long run() {
+                        return System.identityHashCode(Moment.min(moment, other));
+                    }
+                },
+                new Operation("min(Collection)", 0) {
+                    long run() {
+                        return System.identityHashCode(Moment.min(moments));
+                    }
+                },
+                new Operation("min(Iterable)", 64) {
+                    long run() {
+                        return System.identityHashCode(Moment.min(iterable));
+                    }
+                },
+                new Operation("minValue(long[])", 0) {
+                    long run() {
+                        return Moment.minValue(millis);
+                    }
+                });
+    }
+
+    @Test
+    public void test_FieldComparisons() {
+        assertWithinBudget(
+                new Operation("isBefore(Moment, field)", 800) {
+                    long run() {
+                        return moment.isBefore(other, Calendar.DAY_OF_MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isBefore(Date, field)", 800) {
+                    long run() {
+                        return moment.isBefore(date, Calendar.DAY_OF_MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isBefore(Calendar, field)", 800) {
+                    long run() {
+                        return moment.isBefore(calendar, Calendar.DAY_OF_MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isBefore(long, field)", 800) {
+                    long run() {
+                        return moment.isBefore(REFERENCE, Calendar.DAY_OF_MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isAfter(Moment, field)", 800) {
+                    long run() {
+                        return moment.isAfter(other, Calendar.HOUR_OF_DAY) ? 1 : 0;
+                    }
+                },
+                new Operation("isAfter(Date, field)", 800) {
+                    long run() {
+                        return moment.isAfter(date, Calendar.HOUR_OF_DAY) ? 1 : 0;
+                    }
+                },
+                new Operation("isAfter(Calendar, field)", 800) {
+                    long run() {
+                        return moment.isAfter(calendar, Calendar.HOUR_OF_DAY) ? 1 : 0;
+                    }
+                },
+                new Operation("isAfter(long, field)", 800) {
+                    long run() {
+                        return moment.isAfter(REFERENCE, Calendar.HOUR_OF_DAY) ? 1 : 0;
+                    }
+                },
+                new Operation("isSame(Moment, field)", 1600) {
+                    long run() {
+                        return moment.isSame(other, Calendar.DAY_OF_MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isSame(Date, field)", 1600) {
+                    long run() {
+                        return moment.isSame(date, Calendar.DAY_OF_MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isSame(Calendar, field)", 1600) {
+                    long run() {
+                        return moment.isSame(calendar, Calendar.DAY_OF_MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isSame(long, field)", 1600) {
+                    long run() {
+                        return moment.isSame(REFERENCE, Calendar.DAY_OF_MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrBefore(Moment, field)", 2400) {
+                    long run() {
+                        return moment.isSameOrBefore(other, Calendar.MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrBefore(Date, field)", 2400) {
+                    long run() {
+                        return moment.isSameOrBefore(date, Calendar.MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrBefore(Calendar, field)", 2400) {
+                    long run() {
+                        return moment.isSameOrBefore(calendar, Calendar.MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrBefore(long, field)", 2400) {
+                    long run() {
+                        return moment.isSameOrBefore(REFERENCE, Calendar.MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrAfter(Moment, field)", 2400) {
+                    long run() {
+                        return moment.isSameOrAfter(other, Calendar.MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrAfter(Date, field)", 2400) {
+                    long run() {
+                        return moment.isSameOrAfter(date, Calendar.MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrAfter(Calendar, field)", 2400) {
+                    long run() {
+                        return moment.isSameOrAfter(calendar, Calendar.MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isSameOrAfter(long, field)", 2400) {
+                    long run() {
+                        return moment.isSameOrAfter(REFERENCE, Calendar.MONTH) ? 1 : 0;
+                    }
+                },
+                new Operation("isBetween(Moment, Moment, field)", 800) {
+                    long run() {
+                        return moment.isBetween(moment, other, Calendar.YEAR) ? 1 : 0;
+                    }
+                },
+                new Operation("isBetween(Date, Date, field)", 800) {
+                    long run() {
+                        return moment.isBetween(date, date, Calendar.YEAR) ? 1 : 0;
+                    }
+                },
+                new Operation("isBetween(Calendar, Calendar, field)", 800) {
+                    long run() {
+                        return moment.isBetween(calendar, calendar, Calendar.YEAR) ? 1 : 0;
+                    }
+                },
+                new Operation("isBetween(long, long, field)", 800) {
+                    long run() {
+                        return moment.isBetween(REFERENCE, REFERENCE + 1000L, Calendar.YEAR) ? 1 : 0;
+                    }
+                });
+    }
+
+    @Test
+    public void test_Mutations() {
+        assertWithinBudget(
+                new Operation("add", 0) {
+                    long run() {
+                        return mutable.add(1, Calendar.HOUR_OF_DAY).valueOf();
+                    }
+                },
+                new Operation("subtract", 0) {
+                    long run() {
+                        return mutable.subtract(1, Calendar.HOUR_OF_DAY).valueOf();
+                    }
+                },
+                new Operation("startOf(DAY_OF_MONTH)", 0) {
+                    long run() {
+                        return mutable.reset(REFERENCE).startOf(Calendar.DAY_OF_MONTH).valueOf();
+                    }
+                },
+                new Operation("startOf(WEEK_OF_YEAR)", 32) {
+                    long run() {
+                        return mutable.reset(REFERENCE).startOf(Calendar.WEEK_OF_YEAR).valueOf();
+                    }
+                },
+                new Operation("startOf(ISO_WEEK)", 32) {
+                    long run() {
+                        return mutable.reset(REFERENCE).startOf(Moment.ISO_WEEK).valueOf();
+                    }
+                },
+                new Operation("startOf(YEAR)", 0) {
+                    long run() {
+                        return mutable.reset(REFERENCE).startOf(Calendar.YEAR).valueOf();
+                    }
+                },
+                new Operation("endOf(MONTH)", 0) {
+                    long run() {
+                        return mutable.reset(REFERENCE).endOf(Calendar.MONTH).valueOf();
+                    }
+                },
+                new Operation("endOf(YEAR)", 0) {
+                    long run() {
+                        return mutable.reset(REFERENCE).endOf(Calendar.YEAR).valueOf();
+                    }
+                },
+                new Operation("endOf(DAY_OF_MONTH)", 0) {
+                    long run() {
+                        return mutable.reset(REFERENCE).endOf(Calendar.DAY_OF_MONTH).valueOf();
+                    }
+                },
+                new Operation("endOf(HOUR_OF_DAY)", 0) {
+                    long run() {
+                        return mutable.reset(REFERENCE).endOf(Calendar.HOUR_OF_DAY).valueOf();
+                    }
+                },
+                new Operation("endOf(ISO_WEEK)", 32) {
+                    long run() {
+                        return mutable.reset(REFERENCE).endOf(Moment.ISO_WEEK).valueOf();
+                    }
+                },
+                new Operation("endOf(MILLISECOND)", 0) {
+                    long run() {
+                        return mutable.reset(REFERENCE).endOf(Calendar.MILLISECOND).valueOf();
+                    }
+                },
+                new Operation("with", 128) {
+                    long run() {
+                        return mutable.with(2016, 2, 15, 23, 36, 12, 532).valueOf();
+                    }
+                },
+                new Operation("milliseconds(int)", 0) {
+                    long run() {
+                        return mutable.milliseconds(532).valueOf();
+                    }
+                },
+                new Operation("seconds(int)", 0) {
+                    long run() {
+                        return mutable.seconds(12).valueOf();
+                    }
+                },
+                new Operation("minutes(int)", 0) {
+                    long run() {
+                        return mutable.minutes(36).valueOf();
+                    }
+                },
+                new Operation("hours(int)", 0) {
+                    long run() {
+                        return mutable.hours(10).valueOf();
+                    }
+                },
+                new Operation("dates(int)", 0) {
+                    long run() {
+                        return mutable.dates(15).valueOf();
+                    }
+                },
+                new Operation("days(int)", 0) {
+                    long run() {
+                        return mutable.days(Calendar.TUESDAY).valueOf();
+                    }
+                },
+                new Operation("months(int)", 0) {
+                    long run() {
+                        return mutable.months(Calendar.MARCH).valueOf();
+                    }
+                },
+                new Operation("years(int)", 0) {
+                    long run() {
+                        return mutable.years(2016).valueOf();
+                    }
+                },
+                new Operation("dayOfYear(int)", 0) {
+                    long run() {
+                        return mutable.dayOfYear(75).valueOf();
+                    }
+                },
+                new Operation("isoWeekday(int)", 32) {
+                    long run() {
+                        return mutable.isoWeekday(2).valueOf();
+                    }
+                },
+                new Operation("isoWeek(int)", 32) {
+                    long run() {
+                        return mutable.isoWeek(11).valueOf();
+                    }
+                },
+                new Operation("isoWeekYear(int)", 32) {
+                    long run() {
+                        return mutable.isoWeekYear(2016).valueOf();
+                    }
+                },
+                new Operation("set", 0) {
+                    long run() {
+                        return mutable.set(Calendar.MINUTE, 30).valueOf();
+                    }
+                },
+                new Operation("reset", 0) {
+                    long run() {
+                        return mutable.reset(REFERENCE).valueOf();
+                    }
+                });
+    }
+
+    @Test
+    public void test_Conversions() {
+        assertWithinBudget(
+                new Operation("format(String)", 320) {
+                    long run() {
+                        return moment.format("yyyy-MM-dd HH:mm:ss.SSS").length();
+                    }
+                },
+                new Operation("format", 320) {
+                    long run() {
+                        return moment.format("yyyy-MM-dd HH:mm:ss.SSS", Locale.ENGLISH).length();
+                    }
+                },
+                new Operation("format with names", 320) {
+                    long run() {
+                        return moment.format("dd MMMM yyyy, EEEE", Locale.ENGLISH).length();
+                    }
+                },
+                new Operation("fromNow()", 0) {
+                    long run() {
+                        return moment.fromNow().length();
+                    }
+                },
+                new Operation("fromNow(boolean)", 0) {
+                    long run() {
+                        return moment.fromNow(true).length();
+                    }
+                },
+                new Operation("from", 0) {
+                    long run() {
+                        return moment.from(other).length();
+                    }
+                },
+                new Operation("from(Moment, boolean)", 0) {
+                    long run() {
+                        return moment.from(other, true).length();
+                    }
+                },
+                new Operation("toNow()", 0) {
+                    long run() {
+                        return moment.toNow().length();
+                    }
+                },
+                new Operation("toNow(boolean)", 0) {
+                    long run() {
+                        return moment.toNow(true).length();
+                    }
+                },
+                new Operation("to(Moment)", 0) {
+                    long run() {
+                        return moment.to(other).length();
+                    }
+                },
+                new Operation("to(Moment, boolean)", 0) {
+                    long run() {
+                        return moment.to(other, true).length();
+                    }
+                },
+                new Operation("calendar()", 800) {
+                    long run() {
+                        return moment.calendar().length();
+                    }
+                },
+                new Operation("calendar(Moment)", 200) {
+                    long run() {
+                        return moment.calendar(other).length();
+                    }
+                },
+                new Operation("toString", 800) {
+                    long run() {
+                        return moment.toString().length();
+                    }
+                },
+                new Operation("toDate", 32) {
+                    long run() {
+                        return moment.toDate().getTime();
+                    }
+                },
+                new Operation("toCalendar", 700) {
+                    long run() {
+                        return moment.toCalendar().getTimeInMillis();
+                    }
+                },
+                new Operation("toArray", 64) {
+                    long run() {
+                        return moment.toArray()[0];
+                    }
+                });
+    }
+
+    @Test
+    public void test_Validation() {
+        assertWithinBudget(
+                new Operation("isLeapYear(int)", 0) {
+                    long run() {
+                        return Moment.isLeapYear(2016) ? 1 : 0;
+                    }
+                },
+                new Operation("isValid", 0) {
+                    long run() {
+                        return Moment.isValid(array) ? 1 : 0;
+                    }
+                },
+                new Operation("validate(int[])", 0) {
+                    long run() {
+                        return Moment.validate(array);
+                    }
+                },
+                new Operation("validate(int...)", 0) {
+                    long run() {
+                        return Moment.validate(2016, 2, 15, 23, 36, 12, 532);
+                    }
+                });
+    }
+
+    @Test
+    public void test_Factories() {
+        assertWithinBudget(
+                new Operation("moment()", 900) {
+                    long run() {
+                        return moment().valueOf();
+                    }
+                },
+                new Operation("moment(long)", 900) {
+                    long run() {
+                        return moment(REFERENCE).valueOf();
+                    }
+                },
+                new Operation("moment(Date)", 900) {
+                    long run() {
+                        return moment(date).valueOf();
+                    }
+                },
+                new Operation("moment(Calendar)", 800) {
+                    long run() {
+                        return moment(calendar).valueOf();
+                    }
+                },
+                new Operation("moment(int[])", 1000) {
+                    long run() {
+                        return moment(array).valueOf();
+                    }
+                },
+                new Operation("moment(int[], boolean)", 1000) {
+                    long run() {
+                        return moment(array, true).valueOf();
+                    }
+                },
+                new Operation("moment(String, String)", 1000) {
+                    long run() {
+                        return moment("2016-03-15 23:36:12.532", "yyyy-MM-dd HH:mm:ss.SSS").valueOf();
+                    }
+                },
+                new Operation("moment(String, String, Locale)", 900) {
+                    long run() {
+                        return moment("2016-03-15 23:36:12.532", "yyyy-MM-dd HH:mm:ss.SSS", Locale.ENGLISH).valueOf();
+                    }
+                },
+                new Operation("moment(Moment)", 900) {
+                    long run() {
+                        return moment(moment).valueOf();
+                    }
+                },
+                new Operation("clone", 800) {
+                    long run() {
+                        return moment.clone().valueOf();
+                    }
+                });
+    }
+
+    private static void assertWithinBudget(Operation... operations) {
+        List<String> exceeded = new ArrayList<>();
+        for (Operation operation : operations) {
+            long bytes = bytesPerOperation(operation);
+            if (bytes > operation.budget) {
+                exceeded.add(operation.name + " allocated " + bytes + " bytes, budget is " + operation.budget);
+            }
+        }
+        assertTrue(exceeded.toString(), exceeded.isEmpty());
+    }
+
+    /**
+     * Returns the fewest bytes allocated per run in a few rounds, so that a single allocation outside the operation,
+     * such as a recompilation in the middle of a round, is not counted against it.
+     */
+    private static long bytesPerOperation(Operation operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += operation.run();
+        }
+
+        long thread = Thread.currentThread().getId();
+        long overhead = -threads.getThreadAllocatedBytes(thread) + threads.getThreadAllocatedBytes(thread);
+        long bytes = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS && bytes > operation.budget; round++) {
+            long before = threads.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += operation.run();
+            }
+            long after = threads.getThreadAllocatedBytes(thread);
+            bytes = Math.min(bytes, Math.max(0, after - before - overhead) / ITERATIONS);
+        }
+        return bytes;
+    }
+
+    private abstract static class Operation {
+        final String name;
+        final long budget;
+
+        Operation(String name, long budget) {
+            this.name = name;
+            this.budget = budget;
+        }
+
+        abstract long run();
+    }
+}
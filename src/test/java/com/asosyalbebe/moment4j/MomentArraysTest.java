@@ -0,0 +1,206 @@
+package com.asosyalbebe.moment4j;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+public class MomentArraysTest {
+    private static final TimeZone[] ZONES = {
+            TimeZone.getTimeZone("UTC"),
+            TimeZone.getTimeZone("GMT+03:30"),
+            new SimpleTimeZone(5 * 3600000, "Custom"),
+            TimeZone.getTimeZone("Europe/Istanbul"),
+            TimeZone.getTimeZone("America/New_York"),
+            TimeZone.getTimeZone("Australia/Lord_Howe"),
+            TimeZone.getTimeZone("America/Sao_Paulo")
+    };
+
+    private static final int[] ADD_FIELDS = {
+            Calendar.MILLISECOND, Calendar.SECOND, Calendar.MINUTE, Calendar.HOUR, Calendar.HOUR_OF_DAY,
+            Calendar.DAY_OF_MONTH, Calendar.DAY_OF_YEAR, Calendar.DAY_OF_WEEK, Calendar.WEEK_OF_YEAR,
+            Calendar.MONTH, Calendar.YEAR, Calendar.AM_PM, Moment.ISO_WEEK, Moment.ISO_DAY_OF_WEEK
+    };
+
+    private static final int[] START_OF_FIELDS = {
+            Calendar.MILLISECOND, Calendar.SECOND, Calendar.MINUTE, Calendar.HOUR_OF_DAY, Calendar.DAY_OF_MONTH,
+            Calendar.WEEK_OF_YEAR, Calendar.MONTH, Calendar.YEAR, Moment.ISO_WEEK, Moment.ISO_WEEK_YEAR
+    };
+
+    private static final long HOUR = 3600000L;
+
+    @Test
+    public void test_AddLikeMoment() {
+        for (TimeZone zone : ZONES) {
+            long[] times = times(zone.getID().hashCode());
+            for (int field : ADD_FIELDS) {
+                for (int value : new int[]{1, -1, 3, 0, 400}) {
+                    long[] out = new long[times.length];
+                    MomentArrays.add(times, value, field, zone, out);
+                    for (int i = 0; i < times.length; i++) {
+                        long expected = Moment.moment(times[i], zone).add(value, field).valueOf();
+                        assertEquals(zone.getID() + " " + field + " " + value + " " + times[i], expected, out[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_SubtractLikeMoment() {
+        TimeZone zone = TimeZone.getTimeZone("Europe/Istanbul");
+        long[] times = times(1);
+        long[] out = times.clone();
+        MomentArrays.subtract(out, 2, Calendar.DAY_OF_MONTH, zone, out);
+        for (int i = 0; i < times.length; i++) {
+            assertEquals(Moment.moment(times[i], zone).subtract(2, Calendar.DAY_OF_MONTH).valueOf(), out[i]);
+        }
+    }
+
+    @Test
+    public void test_StartOfLikeMoment() {
+        for (TimeZone zone : ZONES) {
+            long[] times = times(zone.getID().hashCode());
+            for (int field : START_OF_FIELDS) {
+                long[] out = new long[times.length];
+                MomentArrays.startOf(times, field, zone, out);
+                for (int i = 0; i < times.length; i++) {
+                    long expected = Moment.moment(times[i], zone).startOf(field).valueOf();
+                    assertEquals(zone.getID() + " " + field + " " + times[i], expected, out[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_StartOfWeekInLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.GERMANY);
+        try {
+            TimeZone zone = TimeZone.getTimeZone("Europe/Berlin");
+            long[] times = times(11);
+            long[] out = new long[times.length];
+            MomentArrays.startOf(times, Calendar.WEEK_OF_YEAR, zone, out);
+            for (int i = 0; i < times.length; i++) {
+                Moment expected = Moment.moment(times[i], zone).startOf(Calendar.WEEK_OF_YEAR);
+                assertEquals(Calendar.MONDAY, expected.days());
+                assertEquals(expected.valueOf(), out[i]);
+            }
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void test_ToLocalAndFromLocal() {
+        TimeZone utc = TimeZone.getTimeZone("UTC");
+        for (TimeZone zone : ZONES) {
+            long[] times = times(zone.getID().hashCode());
+            long[] local = new long[times.length];
+            long[] back = new long[times.length];
+            MomentArrays.toLocal(times, zone, local);
+            MomentArrays.fromLocal(local, zone, back);
+            for (int i = 0; i < times.length; i++) {
+                assertEquals(times[i] + zone.getOffset(times[i]), local[i]);
+
+                int[] fields = Moment.moment(local[i], utc).toArray();
+                Moment expected = Moment.moment(0, zone).with(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6]);
+                assertEquals(zone.getID() + " " + times[i], expected.valueOf(), back[i]);
+            }
+        }
+    }
+
+    @Test
+    public void test_FromLocalKeepsWallClock() {
+        long[] times = {Moment.moment(new int[]{2016, 2, 15, 23, 36, 12, 532}).valueOf()};
+        MomentArrays.toLocal(times, TimeZone.getDefault(), times);
+        MomentArrays.fromLocal(times, TimeZone.getTimeZone("Asia/Tokyo"), times);
+
+        Moment tokyo = Moment.moment(times[0], TimeZone.getTimeZone("Asia/Tokyo"));
+        assertArrayEquals(new int[]{2016, 2, 15, 23, 36, 12, 532}, tokyo.toArray());
+    }
+
+    @Test
+    public void test_Buffers() {
+        TimeZone zone = TimeZone.getTimeZone("America/New_York");
+        long[] times = times(7);
+        long[] expected = new long[times.length];
+        MomentArrays.startOf(times, Calendar.HOUR_OF_DAY, zone, expected);
+
+        LongBuffer direct = ByteBuffer.allocateDirect(times.length * 8).asLongBuffer();
+        direct.put(times).flip();
+        MomentArrays.startOf(direct, Calendar.HOUR_OF_DAY, zone, direct);
+        assertEquals(times.length, direct.position());
+        for (int i = 0; i < times.length; i++) {
+            assertEquals(expected[i], direct.get(i));
+        }
+
+        LongBuffer in = LongBuffer.wrap(times, 10, 100);
+        LongBuffer out = LongBuffer.allocate(200);
+        out.position(50);
+        MomentArrays.startOf(in, Calendar.HOUR_OF_DAY, zone, out);
+        assertEquals(110, in.position());
+        assertEquals(150, out.position());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(expected[10 + i], out.get(50 + i));
+        }
+    }
+
+    @Test
+    public void test_InPlace() {
+        TimeZone zone = TimeZone.getTimeZone("Australia/Lord_Howe");
+        long[] times = times(3);
+        long[] expected = new long[times.length];
+        MomentArrays.add(times, 1, Calendar.DAY_OF_MONTH, zone, expected);
+        MomentArrays.add(times, 1, Calendar.DAY_OF_MONTH, zone, times);
+        assertArrayEquals(expected, times);
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_ShortOutput() {
+        MomentArrays.add(new long[10], 1, Calendar.DAY_OF_MONTH, TimeZone.getDefault(), new long[9]);
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_UnknownStartOfField() {
+        MomentArrays.startOf(new long[1], Calendar.ERA, TimeZone.getDefault(), new long[1]);
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_NullZone() {
+        MomentArrays.toLocal(new long[1], null, new long[1]);
+    }
+
+    /**
+     * Sorted times every three hours over a few years, which cross every transition, random times from 1500 to 2500,
+     * and the times around the transitions.
+     */
+    private static long[] times(long seed) {
+        Random random = new Random(seed);
+        long start = Moment.moment(new int[]{2015, 9, 1, 0, 0, 0, 0}).valueOf();
+        long[] hourly = new long[3 * 365 * 8];
+        for (int i = 0; i < hourly.length; i++) {
+            hourly[i] = start + i * 3 * HOUR + random.nextInt(3 * 60 * 60000);
+        }
+
+        long min = -14831769600000L;
+        long max = 16725225600000L;
+        long[] randomTimes = new long[1500];
+        for (int i = 0; i < randomTimes.length; i++) {
+            randomTimes[i] = min + (long) (random.nextDouble() * (max - min));
+        }
+
+        long[] times = Arrays.copyOf(hourly, hourly.length + randomTimes.length);
+        System.arraycopy(randomTimes, 0, times, hourly.length, randomTimes.length);
+        return times;
+    }
+}
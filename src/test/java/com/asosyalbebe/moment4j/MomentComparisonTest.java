@@ -1,9 +1,16 @@
 package com.asosyalbebe.moment4j;
 
+import com.asosyalbebe.moment4j.fault.MomentException;
 import org.junit.Test;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.TimeZone;
 
 import static com.asosyalbebe.moment4j.Moment.moment;
 import static org.hamcrest.Matchers.*;
@@ -980,5 +987,64 @@ public class MomentComparisonTest {
 
         assertFalse(m1.equals(m2.toDate()));
         assertFalse(m1.equals(m2.toDate()));
+
+        assertEquals(Long.valueOf(m1.valueOf()).hashCode(), m1.hashCode());
+        assertEquals(Long.valueOf(-1234567890123L).hashCode(), moment(-1234567890123L).hashCode());
+        assertTrue(moment(1000L).equals(moment(1000L, TimeZone.getTimeZone("Asia/Tokyo"))));
+    }
+
+    @Test
+    public void test_max_and_min_of_collections() {
+        Moment first = moment(1000L);
+        Moment second = moment(3000L);
+        Moment third = moment(2000L);
+        Moment sameAsSecond = moment(3000L);
+        List<Moment> moments = Arrays.asList(first, second, third, sameAsSecond);
+
+        assertSame(second, Moment.max(moments));
+        assertSame(first, Moment.min(moments));
+        assertSame(second, Moment.max(new LinkedList<>(moments)));
+        assertSame(first, Moment.min(new LinkedList<>(moments)));
+        assertSame(second, Moment.max((Iterable<Moment>) new ArrayDeque<>(moments)));
+        assertSame(first, Moment.min((Iterable<Moment>) new ArrayDeque<>(moments)));
+    }
+
+    @Test
+    public void test_max_and_min_of_empty_collections() {
+        long before = System.currentTimeMillis();
+        Moment[] results = {
+                Moment.max(Collections.<Moment>emptyList()),
+                Moment.min(Collections.<Moment>emptyList()),
+                Moment.max((Iterable<Moment>) null),
+                Moment.min((List<Moment>) null),
+                Moment.max((Iterable<Moment>) new ArrayDeque<Moment>())
+        };
+        long after = System.currentTimeMillis();
+
+        // Like the varargs versions, empty collections return the current date
+        for (Moment result : results) {
+            assertThat(result.valueOf(), greaterThanOrEqualTo(before));
+            assertThat(result.valueOf(), lessThanOrEqualTo(after));
+        }
+    }
+
+    @Test
+    public void test_maxValue_and_minValue_of_long_array() {
+        long[] millis = {5L, -3L, 12L, 7L, Long.MIN_VALUE + 1};
+
+        assertEquals(12L, Moment.maxValue(millis));
+        assertEquals(Long.MIN_VALUE + 1, Moment.minValue(millis));
+        assertEquals(Long.MIN_VALUE, Moment.maxValue(new long[]{Long.MIN_VALUE}));
+        assertEquals(Long.MAX_VALUE, Moment.minValue(new long[]{Long.MAX_VALUE}));
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_maxValue_of_empty_array() {
+        Moment.maxValue(new long[0]);
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_minValue_of_null_array() {
+        Moment.minValue(null);
     }
 }
@@ -0,0 +1,154 @@
+package com.asosyalbebe.moment4j;
+
+import com.asosyalbebe.moment4j.format.CompiledPattern;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Formats and parses with shared patterns from 1 to 64 threads, and compares every result with the result
+ * of a new <code>SimpleDateFormat</code> computed up front on a single thread.
+ * <p>
+ * The patterns cover the compiled fast paths, and the <code>SimpleDateFormat</code> fallbacks of
+ * time zone letters, week fields and locales without ASCII digits, whose instances are confined to a thread.
+ * {@link FormatScalingBenchmark} measures the throughput of the same work by thread count.
+ */
+public class MomentConcurrencyTest {
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+    private static final int OPERATIONS = 1000;
+    private static final int INPUTS = 256;
+
+    private static final String[] PATTERNS = {
+            "yyyy-MM-dd HH:mm:ss.SSS",
+            "dd MMMM yyyy, EEEE",
+            "MMM d, yyyy h:mm a",
+            "yyyy-MM-dd'T'HH:mm:ss z",
+            "YYYY-'W'ww-u"
+    };
+    private static final Locale[] LOCALES = {Locale.ENGLISH, new Locale("tr"), new Locale("ar", "EG")};
+
+    private static final long[] MILLIS = new long[INPUTS];
+    private static final String[][][] FORMATTED = new String[PATTERNS.length][LOCALES.length][INPUTS];
+    private static final long[][][] PARSED = new long[PATTERNS.length][LOCALES.length][INPUTS];
+
+    @BeforeClass
+    public static void setUpClass() throws ParseException {
+        Random random = new Random(2016);
+        for (int i = 0; i < INPUTS; i++) {
+            // 1950 to 2050, in whole milliseconds
+            MILLIS[i] = -631152000000L + (long) (random.nextDouble() * 3155760000000L);
+        }
+        for (int p = 0; p < PATTERNS.length; p++) {
+            for (int l = 0; l < LOCALES.length; l++) {
+                SimpleDateFormat format = new SimpleDateFormat(PATTERNS[p], LOCALES[l]);
+                for (int i = 0; i < INPUTS; i++) {
+                    FORMATTED[p][l][i] = format.format(new Date(MILLIS[i]));
+                    PARSED[p][l][i] = new SimpleDateFormat(PATTERNS[p], LOCALES[l]).parse(FORMATTED[p][l][i]).getTime();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_FormatAndParseMatchSingleThreadedResults() throws Exception {
+        for (int threads : THREADS) {
+            assertEquals("Mismatches with " + threads + " threads", 0, run(threads));
+        }
+    }
+
+    /**
+     * Runs the given number of threads at the same time, each formatting and parsing all the patterns and locales
+     * from its own starting point, and returns the number of results different from the single-threaded ones.
+     */
+    private static int run(int threads) throws Exception {
+        final CountDownLatch ready = new CountDownLatch(threads);
+        final CountDownLatch go = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int seed = t;
+                results.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws InterruptedException {
+                        ready.countDown();
+                        go.await();
+                        return hammer(seed);
+                    }
+                }));
+            }
+            ready.await();
+            go.countDown();
+
+            int mismatches = 0;
+            for (Future<Integer> result : results) {
+                mismatches += result.get(60, TimeUnit.SECONDS);
+            }
+            return mismatches;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int hammer(int seed) {
+        int mismatches = 0;
+        Moment moment = moment(0L);
+        for (int n = 0; n < OPERATIONS; n++) {
+            int operation = seed * 7919 + n;
+            int p = operation % PATTERNS.length;
+            int l = (operation / PATTERNS.length) % LOCALES.length;
+            int i = (operation / (PATTERNS.length * LOCALES.length)) % INPUTS;
+
+            if (n % 2 == 0) {
+                String text = moment.reset(MILLIS[i]).format(PATTERNS[p], LOCALES[l]);
+                if (!text.equals(FORMATTED[p][l][i])) {
+                    mismatches++;
+                }
+            } else {
+                long millis = moment(FORMATTED[p][l][i], PATTERNS[p], LOCALES[l]).valueOf();
+                if (millis != PARSED[p][l][i]) {
+                    mismatches++;
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    @Test
+    public void test_FallbackFormatIsConfinedToThread() throws Exception {
+        final String pattern = "yyyy-MM-dd z";
+        final SimpleDateFormat mine = CompiledPattern.of(pattern)
+                .simpleDateFormat(Locale.ENGLISH, TimeZone.getDefault());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            SimpleDateFormat theirs = executor.submit(new Callable<SimpleDateFormat>() {
+                @Override
+                public SimpleDateFormat call() {
+                    return CompiledPattern.of(pattern)
+                            .simpleDateFormat(Locale.ENGLISH, TimeZone.getDefault());
+                }
+            }).get();
+            assertTrue(mine != theirs);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -3,8 +3,12 @@ package com.asosyalbebe.moment4j;
 import com.asosyalbebe.moment4j.fault.MomentException;
 import org.junit.Test;
 
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Locale;
 
 import static com.asosyalbebe.moment4j.Moment.moment;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
@@ -44,6 +48,32 @@ public class MomentConstructionTest {
         assertEquals(532, calendar.get(Calendar.MILLISECOND));
     }
 
+    @Test
+    public void test_FormatConstructor_AcrossGregorianCutover() throws ParseException {
+        // The 400th day of December 1581 is in 1583, ten days later than in the proleptic Gregorian calendar
+        assertEquals(new SimpleDateFormat("yyyy-MM-dd").parse("1581-12-400").getTime(),
+                moment("1581-12-400", "yyyy-MM-dd").valueOf());
+    }
+
+    @Test
+    public void test_FormatConstructor_WithLocale() {
+        Moment moment = moment("15 Mart 2016 23:36", "dd MMMM yyyy HH:mm", new Locale("tr", "TR"));
+        Calendar calendar = moment.toCalendar();
+
+        assertEquals(2016, calendar.get(Calendar.YEAR));
+        assertEquals(2, calendar.get(Calendar.MONTH));
+        assertEquals(15, calendar.get(Calendar.DAY_OF_MONTH));
+        assertEquals(23, calendar.get(Calendar.HOUR_OF_DAY));
+        assertEquals(36, calendar.get(Calendar.MINUTE));
+
+        assertTrue(moment.isSame(moment("15 MAR 2016 23:36", "dd MMM yyyy HH:mm", Locale.US)));
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_FormatConstructor_WithLocale_IllegalDate_MomentException() {
+        moment("15 March 2016", "dd MMMM yyyy", new Locale("tr", "TR"));
+    }
+
     @Test(expected = MomentException.class)
     public void test_FormatConstructor_IllegalPattern_MomentException() {
         String dateFormat = "yyyy-MM-dd ASDFG HH:mm:ss.SSS";
@@ -130,6 +160,85 @@ public class MomentConstructionTest {
         moment(array);
     }
 
+    @Test
+    public void test_StrictArrayConstructor() {
+        int[] array = new int[]{2016, 1, 29, 23, 59, 59, 999};
+
+        assertArrayEquals(array, moment(array, true).toArray());
+        assertArrayEquals(new int[]{2015, 2, 1, 0, 0, 0, 0}, moment(new int[]{2015, 1, 29, 0, 0, 0, 0}, false).toArray());
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_StrictArrayConstructor_InvalidDate() {
+        moment(new int[]{2015, 1, 29, 0, 0, 0, 0}, true);
+    }
+
+    @Test
+    public void test_Validate() {
+        assertEquals(Moment.VALID, Moment.validate(new int[]{2016, 1, 29, 13, 32, 25, 125}));
+        assertEquals(Moment.VALID, Moment.validate(new int[]{2000, 1, 29, 0, 0, 0, 0}));
+        assertEquals(Moment.VALID, Moment.validate(new int[]{2015, 11, 31, 23, 59, 59, 999}));
+        assertEquals(Calendar.DAY_OF_MONTH, Moment.validate(new int[]{2015, 1, 29, 13, 32, 25, 125}));
+        assertEquals(Calendar.DAY_OF_MONTH, Moment.validate(new int[]{1900, 1, 29, 13, 32, 25, 125}));
+        assertEquals(Calendar.DAY_OF_MONTH, Moment.validate(new int[]{2016, 0, 32, 0, 0, 0, 0}));
+        assertEquals(Calendar.DAY_OF_MONTH, Moment.validate(new int[]{2016, 3, 31, 0, 0, 0, 0}));
+        assertEquals(Calendar.DAY_OF_MONTH, Moment.validate(new int[]{2016, 3, 0, 0, 0, 0, 0}));
+        assertEquals(Calendar.YEAR, Moment.validate(new int[]{0, 0, 1, 0, 0, 0, 0}));
+        assertEquals(Calendar.MONTH, Moment.validate(new int[]{2016, 12, 1, 0, 0, 0, 0}));
+        assertEquals(Calendar.MONTH, Moment.validate(new int[]{2016, -1, 1, 0, 0, 0, 0}));
+        assertEquals(Calendar.HOUR_OF_DAY, Moment.validate(new int[]{2016, 0, 1, 24, 0, 0, 0}));
+        assertEquals(Calendar.MINUTE, Moment.validate(new int[]{2016, 0, 1, 0, 60, 0, 0}));
+        assertEquals(Calendar.SECOND, Moment.validate(new int[]{2016, 0, 1, 0, 0, -1, 0}));
+        assertEquals(Calendar.MILLISECOND, Moment.validate(new int[]{2016, 0, 1, 0, 0, 0, 1000}));
+
+        assertTrue(Moment.isValid(new int[]{2016, 1, 29, 13, 32, 25, 125}));
+        assertFalse(Moment.isValid(new int[]{2015, 1, 29, 13, 32, 25, 125}));
+    }
+
+    @Test
+    public void test_ValidateAroundGregorianCutover() {
+        assertEquals(Moment.VALID, Moment.validate(new int[]{1582, 9, 4, 0, 0, 0, 0}));
+        assertEquals(Calendar.DAY_OF_MONTH, Moment.validate(new int[]{1582, 9, 5, 0, 0, 0, 0}));
+        assertEquals(Calendar.DAY_OF_MONTH, Moment.validate(new int[]{1582, 9, 14, 0, 0, 0, 0}));
+        assertEquals(Moment.VALID, Moment.validate(new int[]{1582, 9, 15, 0, 0, 0, 0}));
+
+        // Julian leap years before the cutover
+        assertEquals(Moment.VALID, Moment.validate(new int[]{1500, 1, 29, 0, 0, 0, 0}));
+        assertEquals(Calendar.DAY_OF_MONTH, Moment.validate(new int[]{1700, 1, 29, 0, 0, 0, 0}));
+
+        assertArrayEquals(new int[]{1500, 1, 29, 0, 0, 0, 0}, moment(new int[]{1500, 1, 29, 0, 0, 0, 0}, true).toArray());
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_StrictArrayConstructor_SkippedDate() {
+        moment(new int[]{1582, 9, 10, 0, 0, 0, 0}, true);
+    }
+
+    @Test
+    public void test_IsValidInvalidArray() {
+        assertFalse(Moment.isValid(null));
+        assertFalse(Moment.isValid(new int[]{2016, 2, 15}));
+        assertFalse(Moment.isValid(new int[]{2016, 2, 15, 23, 31, 15, 231, 21}));
+    }
+
+    @Test
+    public void test_ValidateAgreesWithLenientCalendar() {
+        for (int year : new int[]{1, 4, 100, 1500, 1581, 1582, 1583, 1600, 1700, 1900, 1996, 2000, 2015, 2016, 2100}) {
+            for (int month = 0; month < 12; month++) {
+                for (int date = 1; date <= 32; date++) {
+                    int[] array = new int[]{year, month, date, 12, 0, 0, 0};
+                    boolean rolledOver = !Arrays.equals(array, moment(array).toArray());
+                    assertEquals(!rolledOver, Moment.isValid(array));
+                }
+            }
+        }
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_ValidateInvalidLengthArray() {
+        Moment.validate(new int[]{2016, 2, 15});
+    }
+
     @Test
     public void test_MomentConstructor() {
         Moment moment1 = moment();
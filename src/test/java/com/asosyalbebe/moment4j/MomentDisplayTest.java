@@ -3,6 +3,9 @@ package com.asosyalbebe.moment4j;
 import com.asosyalbebe.moment4j.fault.MomentException;
 import org.junit.Test;
 
+import java.util.Calendar;
+import java.util.Locale;
+
 import static com.asosyalbebe.moment4j.Moment.moment;
 import static org.junit.Assert.*;
 
@@ -18,6 +21,15 @@ public class MomentDisplayTest {
         assertEquals(expectedResult, moment.format(dateFormat));
     }
 
+    @Test
+    public void test_format_withLocale() {
+        Moment moment = moment().years(2016).months(2).dates(16).hours(22).minutes(12).seconds(32).milliseconds(321);
+
+        assertEquals("16 Mart 2016, Çarşamba", moment.format("dd MMMM yyyy, EEEE", new Locale("tr", "TR")));
+        assertEquals("Wed, 16 Mar 2016 10:12 PM", moment.format("EEE, dd MMM yyyy hh:mm a", Locale.US));
+        assertEquals("Mittwoch, 16. März 2016", moment.format("EEEE, dd. MMMM yyyy", Locale.GERMANY));
+    }
+
     @Test
     public void test_format_shouldThrowMomentExceptionWhenInvalidFormatIsProvided() {
         Moment moment = moment().years(2038).months(3).dates(21).hours(22).minutes(12).seconds(32).milliseconds(321);
@@ -50,4 +62,47 @@ public class MomentDisplayTest {
 
         assertEquals(expectedResult, moment.toString());
     }
+
+    @Test
+    public void test_fromNow_shouldReturnRelativeTime() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+        try {
+            assertEquals("3 minutes ago", moment().subtract(3, Calendar.MINUTE).fromNow());
+            assertEquals("in 2 days", moment().add(2, Calendar.DAY_OF_MONTH).fromNow());
+            assertEquals("an hour", moment().subtract(1, Calendar.HOUR_OF_DAY).fromNow(true));
+            assertEquals("in 3 minutes", moment().subtract(3, Calendar.MINUTE).toNow());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void test_from_shouldReturnTimeRelativeToGivenMoment() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+        try {
+            Moment reference = moment(1458122400000L);
+            assertEquals("a day ago", moment(1458122400000L).subtract(1, Calendar.DAY_OF_MONTH).from(reference));
+            assertEquals("in a day", moment(1458122400000L).subtract(1, Calendar.DAY_OF_MONTH).to(reference));
+            assertEquals("5 months", moment(1458122400000L).add(5, Calendar.MONTH).from(reference, true));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void test_calendar_shouldReturnCalendarTimeRelativeToGivenMoment() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+        try {
+            Moment reference = moment(new int[]{2016, 2, 16, 10, 0, 0, 0});
+            assertEquals("Tomorrow at 2:30 PM", moment(new int[]{2016, 2, 17, 14, 30, 0, 0}).calendar(reference));
+            assertEquals("Last Monday at 8:00 AM", moment(new int[]{2016, 2, 14, 8, 0, 0, 0}).calendar(reference));
+            assertEquals("03/01/2016", moment(new int[]{2016, 2, 1, 8, 0, 0, 0}).calendar(reference));
+            assertTrue(moment().calendar().startsWith("Today at "));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
@@ -2,7 +2,14 @@ package com.asosyalbebe.moment4j;
 
 import org.junit.Test;
 
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
 import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 
@@ -90,4 +97,230 @@ public class MomentGetterSetterTest {
         assertSame(moment, returned);
         assertEquals(312, returned.dayOfYear());
     }
+
+    @Test
+    public void test_IsoWeekdaySetterGetter() {
+        // 2016-03-27 was a Sunday
+        Moment moment = moment(new int[]{2016, 2, 27, 23, 36, 12, 532});
+        assertEquals(7, moment.isoWeekday());
+
+        Moment returned = moment.isoWeekday(1);
+        assertSame(moment, returned);
+        assertArrayEquals(new int[]{2016, 2, 21, 23, 36, 12, 532}, moment.toArray());
+        assertEquals(1, moment.isoWeekday());
+        assertEquals(Calendar.MONDAY, moment.days());
+
+        moment.isoWeekday(8);
+        assertArrayEquals(new int[]{2016, 2, 28, 23, 36, 12, 532}, moment.toArray());
+    }
+
+    @Test
+    public void test_IsoWeekSetterGetter() {
+        Moment moment = moment(new int[]{2016, 0, 1, 10, 0, 0, 0});
+        assertEquals(53, moment.isoWeek());
+        assertEquals(2015, moment.isoWeekYear());
+        assertEquals(2016, moment.years());
+        assertEquals(53, moment.isoWeeksInYear());
+
+        Moment returned = moment.isoWeek(10);
+        assertSame(moment, returned);
+        assertEquals(10, moment.isoWeek());
+        assertEquals(5, moment.isoWeekday());
+        assertArrayEquals(new int[]{2015, 2, 6, 10, 0, 0, 0}, moment.toArray());
+
+        moment.set(Moment.ISO_WEEK, 53);
+        assertEquals(53, moment.get(Moment.ISO_WEEK));
+        assertArrayEquals(new int[]{2016, 0, 1, 10, 0, 0, 0}, moment.toArray());
+    }
+
+    @Test
+    public void test_IsoWeekYearSetterGetter() {
+        // Friday of week 53 of 2015
+        Moment moment = moment(new int[]{2016, 0, 1, 10, 0, 0, 0});
+
+        Moment returned = moment.isoWeekYear(2020);
+        assertSame(moment, returned);
+        assertEquals(2020, moment.get(Moment.ISO_WEEK_YEAR));
+        assertEquals(53, moment.isoWeek());
+        assertEquals(5, moment.get(Moment.ISO_DAY_OF_WEEK));
+        assertArrayEquals(new int[]{2021, 0, 1, 10, 0, 0, 0}, moment.toArray());
+
+        // 2021 has no week 53
+        moment.isoWeekYear(2021);
+        assertEquals(52, moment.isoWeek());
+        assertEquals(52, moment.isoWeeksInYear());
+        assertArrayEquals(new int[]{2021, 11, 31, 10, 0, 0, 0}, moment.toArray());
+    }
+
+    @Test
+    public void test_IsoWeekFieldsMatchIsoCalendar() {
+        Random random = new Random(50);
+        String[] zones = {"UTC", "Europe/Istanbul", "America/New_York", "Pacific/Apia", "Asia/Kathmandu"};
+        for (String zone : zones) {
+            Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone(zone));
+            calendar.setFirstDayOfWeek(Calendar.MONDAY);
+            calendar.setMinimalDaysInFirstWeek(4);
+            for (int i = 0; i < 2000; i++) {
+                // From 1583 to 2500
+                calendar.setTimeInMillis(-12180000000000L + (long) (random.nextDouble() * 29000000000000L));
+                Moment moment = moment(calendar.getTimeInMillis(), TimeZone.getTimeZone(zone));
+
+                assertEquals(calendar.get(Calendar.WEEK_OF_YEAR), moment.isoWeek());
+                assertEquals(calendar.getWeekYear(), moment.isoWeekYear());
+                assertEquals(calendar.getWeeksInWeekYear(), moment.isoWeeksInYear());
+                assertEquals((calendar.get(Calendar.DAY_OF_WEEK) + 5) % 7 + 1, moment.isoWeekday());
+            }
+        }
+    }
+
+    @Test
+    public void test_IsoWeekFieldsOfOtherCalendars() {
+        // Weeks are proleptic Gregorian, whatever the calendar system of the moment
+        Calendar buddhist = Calendar.getInstance(TimeZone.getTimeZone("UTC"), new Locale("th", "TH"));
+        buddhist.setTimeInMillis(1458000000000L);
+        Moment moment = moment(buddhist);
+        assertEquals(2016, moment.isoWeekYear());
+        assertEquals(11, moment.isoWeek());
+        assertEquals(2, moment.isoWeekday());
+
+        moment.isoWeek(12);
+        assertEquals(1458000000000L + 7 * 86400000L, moment.valueOf());
+    }
+
+    @Test
+    public void test_GettersMatchCalendarFields() {
+        Random random = new Random(33);
+        String[] zones = {"UTC", "Europe/Istanbul", "America/New_York", "Australia/Lord_Howe", "Asia/Kathmandu"};
+        for (String zone : zones) {
+            Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone(zone));
+            for (int i = 0; i < 2000; i++) {
+                // From 1583 to 2500
+                calendar.setTimeInMillis(-12180000000000L + (long) (random.nextDouble() * 29000000000000L));
+                Moment moment = moment(calendar);
+
+                assertArrayEquals(fields(calendar), moment.toArray());
+                assertEquals(calendar.get(Calendar.DAY_OF_WEEK), moment.days());
+                assertEquals(calendar.get(Calendar.DAY_OF_YEAR), moment.dayOfYear());
+                assertEquals(calendar.get(Calendar.DAY_OF_YEAR), moment.get(Calendar.DAY_OF_YEAR));
+            }
+        }
+    }
+
+    @Test
+    public void test_GettersAfterChanges() {
+        Moment moment = moment(new int[]{2016, 1, 28, 23, 59, 59, 999});
+        assertEquals(28, moment.dates());
+
+        moment.add(1, Calendar.MILLISECOND);
+        assertArrayEquals(new int[]{2016, 1, 29, 0, 0, 0, 0}, moment.toArray());
+        assertEquals(Calendar.MONDAY, moment.days());
+        assertEquals(60, moment.dayOfYear());
+
+        moment.years(2017);
+        assertArrayEquals(new int[]{2017, 2, 1, 0, 0, 0, 0}, moment.toArray());
+
+        moment.startOf(Calendar.YEAR);
+        assertArrayEquals(new int[]{2017, 0, 1, 0, 0, 0, 0}, moment.toArray());
+        assertEquals("Moment{ 2017/01/01 00:00:00.000 }", moment.toString());
+    }
+
+    @Test
+    public void test_GettersOfOtherCalendars() {
+        Calendar julian = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        julian.clear();
+        julian.set(1500, Calendar.MARCH, 1, 12, 0, 0);
+        assertArrayEquals(fields(julian), moment(julian).toArray());
+
+        Calendar buddhist = Calendar.getInstance(TimeZone.getTimeZone("UTC"), new Locale("th", "TH"));
+        buddhist.setTimeInMillis(1458000000000L);
+        assertArrayEquals(fields(buddhist), moment(buddhist).toArray());
+    }
+
+    @Test
+    public void test_WithSetsAllFields() {
+        Moment moment = moment();
+        Moment returned = moment.with(2015, 0, 31, 13, 32, 25, 125);
+
+        assertSame(moment, returned);
+        assertArrayEquals(new int[]{2015, 0, 31, 13, 32, 25, 125}, moment.toArray());
+
+        // Out of range values bubble up like the setters
+        assertArrayEquals(new int[]{2016, 2, 1, 0, 0, 0, 0}, moment.with(2015, 13, 29, 23, 59, 59, 1000).toArray());
+        assertArrayEquals(new int[]{2014, 11, 31, 0, 0, 0, 0}, moment.with(2015, 0, 0, 0, 0, 0, 0).toArray());
+    }
+
+    @Test
+    public void test_WithMatchesCalendar() {
+        Random random = new Random(34);
+        String[] zones = {"UTC", "Europe/Istanbul", "America/New_York", "Australia/Lord_Howe", "America/Sao_Paulo"};
+        for (String zone : zones) {
+            Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone(zone));
+            Moment moment = moment(calendar);
+            for (int i = 0; i < 5000; i++) {
+                int year = 1583 + random.nextInt(1000);
+                int month = random.nextInt(14) - 1;
+                int date = random.nextInt(33);
+                int hour = random.nextInt(25);
+                int minute = random.nextInt(61);
+                int second = random.nextInt(61);
+                int millisecond = random.nextInt(1001);
+
+                calendar.set(year, month, date, hour, minute, second);
+                calendar.set(Calendar.MILLISECOND, millisecond);
+                moment.with(year, month, date, hour, minute, second, millisecond);
+
+                assertEquals(calendar.getTimeInMillis(), moment.valueOf());
+            }
+        }
+    }
+
+    @Test
+    public void test_WithMatchesCalendarAcrossCutover() {
+        Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        Moment moment = moment(calendar);
+
+        calendar.set(1581, 21, 51, -1, 94, 44);
+        calendar.set(Calendar.MILLISECOND, 1869);
+        assertEquals(calendar.getTimeInMillis(), moment.with(1581, 21, 51, -1, 94, 44, 1869).valueOf());
+
+        Random random = new Random(1582);
+        for (int i = 0; i < 5000; i++) {
+            // Lenient fields from 1580 to 1584 carry the dates both ways over October 1582
+            int year = 1580 + random.nextInt(5);
+            int month = random.nextInt(49) - 24;
+            int date = random.nextInt(801) - 400;
+            int hour = random.nextInt(49) - 24;
+            int minute = random.nextInt(121) - 60;
+            int second = random.nextInt(121) - 60;
+            int millisecond = random.nextInt(2001) - 1000;
+
+            calendar.set(year, month, date, hour, minute, second);
+            calendar.set(Calendar.MILLISECOND, millisecond);
+            moment.with(year, month, date, hour, minute, second, millisecond);
+
+            assertEquals(calendar.getTimeInMillis(), moment.valueOf());
+        }
+    }
+
+    @Test
+    public void test_WithInDaylightSavingTransitions() {
+        Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("America/New_York"));
+        Moment moment = moment(calendar);
+
+        // 2016-03-13 02:30 does not exist, and 2016-11-06 01:30 happens twice in New York
+        int[][] times = {{2016, 2, 13, 2, 30, 0, 0}, {2016, 10, 6, 1, 30, 0, 0}, {2016, 2, 12, 26, 30, 0, 0}};
+        for (int[] time : times) {
+            calendar.set(time[0], time[1], time[2], time[3], time[4], time[5]);
+            calendar.set(Calendar.MILLISECOND, time[6]);
+            moment.with(time[0], time[1], time[2], time[3], time[4], time[5], time[6]);
+
+            assertEquals(calendar.getTimeInMillis(), moment.valueOf());
+        }
+    }
+
+    private static int[] fields(Calendar calendar) {
+        return new int[]{calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH), calendar.get(Calendar.DAY_OF_MONTH),
+                calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE), calendar.get(Calendar.SECOND),
+                calendar.get(Calendar.MILLISECOND)};
+    }
 }
@@ -4,8 +4,10 @@ import com.asosyalbebe.moment4j.fault.MomentException;
 import org.junit.Test;
 
 import java.util.Calendar;
+import java.util.Locale;
 
 import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
@@ -151,6 +153,48 @@ public class MomentManipulationTest {
         assertEquals(expected.valueOf(), moment.valueOf());
     }
 
+    @Test
+    public void test_startOf_WEEK_OF_YEAR_InLocale() {
+        // Weeks start on Monday in Germany
+        Calendar calendar = Calendar.getInstance(Locale.GERMANY);
+        calendar.clear();
+        calendar.set(2016, Calendar.MARCH, 27, 23, 36, 12);
+        Moment moment = moment(calendar);
+        moment.startOf(Calendar.WEEK_OF_YEAR);
+
+        assertArrayEquals(new int[]{2016, 2, 21, 0, 0, 0, 0}, moment.toArray());
+    }
+
+    @Test
+    public void test_startOf_ISO_WEEK() {
+        String dateFormat = "yyyy-MM-dd HH:mm:ss.SSS";
+        String date = "2016-03-27 23:36:12.532";
+
+        Moment moment = moment(date, dateFormat);
+        moment.startOf(Moment.ISO_WEEK);
+
+        date = "2016-03-21 00:00:00.00";
+        Moment expected = moment(date, dateFormat);
+
+        assertEquals(expected.valueOf(), moment.valueOf());
+        assertEquals(expected.valueOf(), moment.startOf(Moment.ISO_WEEK).valueOf());
+    }
+
+    @Test
+    public void test_startOf_ISO_WEEK_YEAR() {
+        String dateFormat = "yyyy-MM-dd HH:mm:ss.SSS";
+        String date = "2016-01-01 23:36:12.532";
+
+        Moment moment = moment(date, dateFormat);
+        moment.startOf(Moment.ISO_WEEK_YEAR);
+
+        // The first Monday of ISO week-based year 2015
+        date = "2014-12-29 00:00:00.00";
+        Moment expected = moment(date, dateFormat);
+
+        assertEquals(expected.valueOf(), moment.valueOf());
+    }
+
     @Test
     public void test_startOf_DAY_OF_YEAR() {
         String dateFormat = "yyyy-MM-dd HH:mm:ss.SSS";
@@ -294,6 +338,31 @@ public class MomentManipulationTest {
         assertEquals(expected.valueOf(), moment.valueOf());
     }
 
+    @Test
+    public void test_endOf_ISO_WEEK() {
+        String dateFormat = "yyyy-MM-dd HH:mm:ss.SSS";
+        String date = "2016-03-21 10:36:12.532";
+
+        Moment moment = moment(date, dateFormat);
+        moment.endOf(Moment.ISO_WEEK);
+
+        date = "2016-03-27 23:59:59.999";
+        Moment expected = moment(date, dateFormat);
+
+        assertEquals(expected.valueOf(), moment.valueOf());
+    }
+
+    @Test
+    public void test_add_ISO_WEEK_YEAR() {
+        // 2016-01-01 is the Friday of week 53 of 2015, and 2016 has no week 53
+        Moment moment = moment(new int[]{2016, 0, 1, 10, 0, 0, 0});
+        moment.add(1, Moment.ISO_WEEK_YEAR);
+        assertArrayEquals(new int[]{2016, 11, 30, 10, 0, 0, 0}, moment.toArray());
+
+        moment.subtract(2, Moment.ISO_WEEK).add(3, Moment.ISO_DAY_OF_WEEK);
+        assertArrayEquals(new int[]{2016, 11, 19, 10, 0, 0, 0}, moment.toArray());
+    }
+
     @Test
     public void test_endOf_DAY_OF_WEEK() {
         String dateFormat = "yyyy-MM-dd HH:mm:ss.SSS";
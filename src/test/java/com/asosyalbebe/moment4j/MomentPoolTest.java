@@ -0,0 +1,146 @@
+package com.asosyalbebe.moment4j;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Calendar;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class MomentPoolTest {
+    private static final long REFERENCE = 1458085572532L;
+
+    private long sink;
+
+    @Test
+    public void test_Reset() {
+        Moment moment = moment(new int[]{2016, 2, 15, 10, 20, 30, 400});
+        assertEquals(15, moment.dates());
+
+        Moment returned = moment.reset(moment(new int[]{2017, 5, 1, 8, 0, 0, 0}).valueOf());
+
+        assertSame(moment, returned);
+        assertArrayEquals(new int[]{2017, 5, 1, 8, 0, 0, 0}, moment.toArray());
+        assertEquals(1458000000000L, moment.reset(1458000000000L).valueOf());
+    }
+
+    @Test
+    public void test_AcquireReusesReleasedMoments() {
+        MomentPool pool = new MomentPool(2);
+        Moment first = pool.acquire(1000L);
+        Moment second = pool.acquire(2000L);
+        assertNotSame(first, second);
+        assertEquals(1000L, first.valueOf());
+        assertEquals(2000L, second.valueOf());
+
+        first.add(1, Calendar.HOUR_OF_DAY);
+        pool.release(first);
+        assertEquals(1, pool.size());
+
+        Moment third = pool.acquire(3000L);
+        assertSame(first, third);
+        assertEquals(3000L, third.valueOf());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void test_ReleaseDropsMomentsWhenFull() {
+        MomentPool pool = new MomentPool(1);
+        pool.release(moment());
+        pool.release(moment());
+        pool.release(null);
+
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void test_ForCurrentThread() throws InterruptedException {
+        final MomentPool pool = MomentPool.forCurrentThread();
+        assertSame(pool, MomentPool.forCurrentThread());
+
+        final MomentPool[] other = new MomentPool[1];
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                other[0] = MomentPool.forCurrentThread();
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertNotSame(pool, other[0]);
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_InvalidCapacity() {
+        new MomentPool(0);
+    }
+
+    @Test
+    public void test_PoolAllocatesLessThanNewMoments() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        assumeTrue(threads.isThreadAllocatedMemoryEnabled());
+
+        final MomentPool pool = new MomentPool();
+        final Moment reused = moment(REFERENCE);
+
+        long created = bytesPerHour(threads, new Hour() {
+            long start(long millis) {
+                return moment(millis).startOf(Calendar.HOUR_OF_DAY).valueOf();
+            }
+        });
+        long pooled = bytesPerHour(threads, new Hour() {
+            long start(long millis) {
+                Moment moment = pool.acquire(millis);
+                try {
+                    return moment.startOf(Calendar.HOUR_OF_DAY).valueOf();
+                } finally {
+                    pool.release(moment);
+                }
+            }
+        });
+        long reset = bytesPerHour(threads, new Hour() {
+            long start(long millis) {
+                return reused.reset(millis).startOf(Calendar.HOUR_OF_DAY).valueOf();
+            }
+        });
+
+        // A new moment allocates a Calendar and its field arrays, a pooled or reset moment reuses them
+        String message = "moment(long): " + created + " bytes, pool: " + pooled + " bytes, reset: " + reset + " bytes";
+        assertTrue(message, created >= 500);
+        assertTrue(message, pooled * 10 < created);
+        assertTrue(message, reset * 10 < created);
+    }
+
+    /**
+     * Returns the bytes allocated by the given operation per handled timestamp, after it has been compiled.
+     */
+    private long bytesPerHour(com.sun.management.ThreadMXBean threads, Hour hour) {
+        for (int i = 0; i < 20000; i++) {
+            sink += hour.start(REFERENCE + i * 1000L);
+        }
+        long thread = Thread.currentThread().getId();
+        int iterations = 5000;
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < iterations; i++) {
+            sink += hour.start(REFERENCE + i * 1000L);
+        }
+        return (threads.getThreadAllocatedBytes(thread) - before) / iterations;
+    }
+
+    private abstract static class Hour {
+        abstract long start(long millis);
+    }
+}
@@ -0,0 +1,111 @@
+package com.asosyalbebe.moment4j;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+public class MomentRangeTest {
+    private static final TimeZone ISTANBUL = TimeZone.getTimeZone("Europe/Istanbul");
+    private static final TimeZone NEW_YORK = TimeZone.getTimeZone("America/New_York");
+
+    @Test
+    public void test_FixedSteps() {
+        long start = Moment.moment(new int[]{2016, 0, 1, 0, 0, 0, 0}).valueOf();
+        long end = Moment.moment(new int[]{2017, 0, 1, 0, 0, 0, 0}).valueOf();
+        MomentRange minutes = MomentRange.of(start, end, 1, Calendar.MINUTE, TimeZone.getDefault());
+
+        assertEquals((end - start) / 60000, minutes.size());
+        assertEquals(start, minutes.valueAt(0));
+        assertEquals(end - 60000, minutes.valueAt(minutes.size() - 1));
+
+        MomentRange fiveMinutes = MomentRange.of(start, start + 12 * 60000 + 1, 5, Calendar.MINUTE, TimeZone.getDefault());
+        assertEquals(3, fiveMinutes.size());
+        assertEquals(start + 10 * 60000, fiveMinutes.valueAt(2));
+    }
+
+    @Test
+    public void test_DaysKeepWallClockAcrossDaylightSavingTime() {
+        long start = Moment.moment(0, NEW_YORK).with(2016, 2, 10, 2, 30, 0, 0).valueOf();
+        long end = Moment.moment(0, NEW_YORK).with(2016, 3, 10, 0, 0, 0, 0).valueOf();
+        MomentRange days = MomentRange.of(start, end, 1, Calendar.DAY_OF_MONTH, NEW_YORK);
+
+        assertEquals(31, days.size());
+        for (int i = 0; i < days.size(); i++) {
+            assertEquals(Moment.moment(start, NEW_YORK).add(i, Calendar.DAY_OF_MONTH).valueOf(), days.valueAt(i));
+        }
+        // March 13 has no 2:30, which Calendar moves to 1:30, but the next days have it again
+        assertEquals(1, days.get(3).hours());
+        assertEquals(2, days.get(4).hours());
+        assertEquals(30, days.get(4).minutes());
+    }
+
+    @Test
+    public void test_MonthsKeepDayOfMonth() {
+        long start = Moment.moment(0, ISTANBUL).with(2016, 0, 31, 10, 0, 0, 0).valueOf();
+        long end = Moment.moment(0, ISTANBUL).with(2017, 0, 1, 0, 0, 0, 0).valueOf();
+        MomentRange months = MomentRange.of(start, end, 1, Calendar.MONTH, ISTANBUL);
+
+        assertEquals(12, months.size());
+        assertArrayEquals(new int[]{2016, 1, 29, 10, 0, 0, 0}, months.get(1).toArray());
+        assertArrayEquals(new int[]{2016, 2, 31, 10, 0, 0, 0}, months.get(2).toArray());
+        assertArrayEquals(new int[]{2016, 11, 31, 10, 0, 0, 0}, months.get(11).toArray());
+    }
+
+    @Test
+    public void test_SizeMatchesStepping() {
+        long start = Moment.moment(0, NEW_YORK).with(2015, 9, 30, 23, 59, 0, 0).valueOf();
+        int[] fields = {Calendar.HOUR_OF_DAY, Calendar.DAY_OF_MONTH, Calendar.WEEK_OF_YEAR, Calendar.MONTH, Calendar.YEAR};
+        int[] steps = {7, 3, 2, 5, 1};
+        for (int f = 0; f < fields.length; f++) {
+            long end = start + 3L * 366 * 24 * 3600000;
+            MomentRange range = MomentRange.of(start, end, steps[f], fields[f], NEW_YORK);
+            long count = 0;
+            while (Moment.moment(start, NEW_YORK).add((int) count * steps[f], fields[f]).valueOf() < end) {
+                count++;
+            }
+            assertEquals(count, range.size());
+        }
+    }
+
+    @Test
+    public void test_IteratorAndToArray() {
+        MomentRange range = MomentRange.of(1000, 1000 + 10 * 86400000L, 1, Calendar.DAY_OF_MONTH, ISTANBUL);
+        List<Long> values = new ArrayList<>();
+        for (Moment moment : range) {
+            values.add(moment.valueOf());
+        }
+        long[] array = range.toArray();
+        assertEquals(10, values.size());
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(array[i], values.get(i).longValue());
+        }
+    }
+
+    @Test
+    public void test_Empty() {
+        assertTrue(MomentRange.of(1000, 1000, 1, Calendar.SECOND, ISTANBUL).isEmpty());
+        assertEquals(0, MomentRange.of(1000, 0, 1, Calendar.MONTH, ISTANBUL).size());
+        assertFalse(MomentRange.of(1000, 1001, 1, Calendar.YEAR, ISTANBUL).isEmpty());
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_IndexOutOfBounds() {
+        MomentRange.of(0, 10000, 1, Calendar.SECOND, ISTANBUL).valueAt(10);
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_NonPositiveStep() {
+        MomentRange.of(0, 10000, 0, Calendar.SECOND, ISTANBUL);
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_UnsupportedField() {
+        MomentRange.of(0, 10000, 1, Calendar.AM_PM, ISTANBUL);
+    }
+}
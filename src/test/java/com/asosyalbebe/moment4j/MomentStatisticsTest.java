@@ -0,0 +1,71 @@
+package com.asosyalbebe.moment4j;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.*;
+
+public class MomentStatisticsTest {
+
+    @Test
+    public void test_statistics() {
+        MomentStatistics statistics = MomentStatistics.of(new long[]{2000L, 4000L, 4000L, 4000L, 5000L, 5000L, 7000L, 9000L});
+
+        assertEquals(8L, statistics.count());
+        assertEquals(2000L, statistics.min());
+        assertEquals(9000L, statistics.max());
+        assertEquals(7000L, statistics.span());
+        assertEquals(5000d, statistics.mean(), 1e-9);
+        assertEquals(2000d, statistics.standardDeviation(), 1e-9);
+    }
+
+    @Test
+    public void test_statistics_of_moments() {
+        MomentStatistics statistics = MomentStatistics.of(Arrays.asList(moment(1458000000000L), moment(1458000060000L)));
+
+        assertEquals(2L, statistics.count());
+        assertEquals(60000L, statistics.span());
+        assertEquals(1458000030000d, statistics.mean(), 1e-3);
+        assertEquals(30000d, statistics.standardDeviation(), 1e-3);
+    }
+
+    @Test
+    public void test_combine() {
+        Random random = new Random(39);
+        long[] millis = new long[1000];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = 1458000000000L + random.nextInt(1000000000);
+        }
+        MomentStatistics expected = MomentStatistics.of(millis);
+
+        MomentStatistics combined = new MomentStatistics();
+        for (int start = 0; start < millis.length; start += 300) {
+            combined.combine(MomentStatistics.of(Arrays.copyOfRange(millis, start, Math.min(start + 300, millis.length))));
+        }
+        combined.combine(new MomentStatistics());
+
+        assertEquals(expected.count(), combined.count());
+        assertEquals(expected.min(), combined.min());
+        assertEquals(expected.max(), combined.max());
+        assertEquals(expected.mean(), combined.mean(), 1e-3);
+        assertEquals(expected.standardDeviation(), combined.standardDeviation(), 1e-3);
+    }
+
+    @Test
+    public void test_empty() {
+        MomentStatistics statistics = new MomentStatistics();
+
+        assertTrue(statistics.isEmpty());
+        assertEquals(0L, statistics.span());
+        assertEquals(0d, statistics.standardDeviation(), 0d);
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_empty_min() {
+        new MomentStatistics().min();
+    }
+}
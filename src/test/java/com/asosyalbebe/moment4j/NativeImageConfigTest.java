@@ -0,0 +1,78 @@
+package com.asosyalbebe.moment4j;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Checks that the GraalVM native-image configuration names classes and bundles which exist.
+ */
+public class NativeImageConfigTest {
+    private static final String CONFIG = "META-INF/native-image/com.asosyalbebe/moment4j/";
+    private static final Pattern NAME = Pattern.compile("\"name\"\\s*:\\s*\"([^\"<]+)\"");
+
+    @Test
+    public void test_ReflectionConfigNamesExistingClasses() throws Exception {
+        assumeTrue(isPresent("java.time.zone.ZoneRules"));
+
+        List<String> names = names(CONFIG + "reflect-config.json");
+        assertFalse(names.isEmpty());
+        for (String name : names) {
+            Class.forName(name);
+        }
+    }
+
+    @Test
+    public void test_ResourceConfigNamesExistingBundles() throws Exception {
+        List<String> names = names(CONFIG + "resource-config.json");
+        assertFalse(names.isEmpty());
+        for (String name : names) {
+            assertNotNull(ResourceBundle.getBundle(name, Locale.ROOT));
+            assertNotNull(ResourceBundle.getBundle(name, new Locale("tr")));
+        }
+    }
+
+    private static List<String> names(String resource) throws IOException {
+        InputStream input = NativeImageConfigTest.class.getClassLoader().getResourceAsStream(resource);
+        assertNotNull(resource, input);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = input.read(buffer)) > 0) {
+                bytes.write(buffer, 0, read);
+            }
+        } finally {
+            input.close();
+        }
+
+        List<String> names = new ArrayList<>();
+        Matcher matcher = NAME.matcher(new String(bytes.toByteArray(), Charset.forName("UTF-8")));
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+        }
+        return names;
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.asosyalbebe.moment4j;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import com.asosyalbebe.moment4j.util.CivilCalendar;
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.*;
+
+public class PreciseMomentTest {
+
+    @Test
+    public void test_OfEpochSecond() {
+        PreciseMoment moment = PreciseMoment.ofEpochSecond(1458000000L, 123456789);
+
+        assertEquals(1458000000L, moment.epochSecond());
+        assertEquals(123456789, moment.nanoOfSecond());
+        assertEquals(1458000000123L, moment.valueOf());
+        assertEquals(123, moment.milliseconds());
+        assertEquals(456, moment.microseconds());
+        assertEquals(789, moment.nanoseconds());
+
+        PreciseMoment adjusted = PreciseMoment.ofEpochSecond(1458000001L, -876543211);
+        assertTrue(moment.isSame(adjusted));
+    }
+
+    @Test
+    public void test_BeforeEpoch() {
+        PreciseMoment moment = PreciseMoment.ofEpochNanos(-1L);
+
+        assertEquals(-1L, moment.epochSecond());
+        assertEquals(999999999, moment.nanoOfSecond());
+        assertEquals(-1L, moment.valueOf());
+        assertEquals(-1L, moment.toEpochNanos());
+        assertEquals(-1L, moment.toEpochMicros());
+        assertTrue(PreciseMoment.ofEpochMicros(-1L).isBefore(moment));
+    }
+
+    @Test
+    public void test_EpochMicrosRoundTrip() {
+        Random random = new Random(38);
+        for (int i = 0; i < 10000; i++) {
+            long micros = random.nextLong() / 16;
+            assertEquals(micros, PreciseMoment.ofEpochMicros(micros).toEpochMicros());
+
+            long nanos = random.nextLong();
+            assertEquals(nanos, PreciseMoment.ofEpochNanos(nanos).toEpochNanos());
+            assertEquals(CivilCalendar.floorDiv(nanos, 1000), PreciseMoment.ofEpochNanos(nanos).toEpochMicros());
+        }
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_EpochNanosOverflow() {
+        PreciseMoment.ofEpochSecond(10000000000L, 0).toEpochNanos();
+    }
+
+    @Test
+    public void test_AddSubMillisecondUnits() {
+        PreciseMoment moment = PreciseMoment.ofEpochNanos(1458000000123999999L);
+
+        moment.add(1, TimeUnit.NANOSECONDS);
+        assertEquals(1458000000124000000L, moment.toEpochNanos());
+
+        moment.add(999, TimeUnit.MICROSECONDS);
+        assertEquals(1458000000124999000L, moment.toEpochNanos());
+
+        moment.subtract(2, TimeUnit.MICROSECONDS);
+        assertEquals(1458000000124997000L, moment.toEpochNanos());
+
+        moment.subtract(1500, TimeUnit.NANOSECONDS).add(1, TimeUnit.SECONDS);
+        assertEquals(1458000001124995500L, moment.toEpochNanos());
+    }
+
+    @Test
+    public void test_AddMatchesNanosArithmetic() {
+        Random random = new Random(380);
+        TimeUnit[] units = {TimeUnit.NANOSECONDS, TimeUnit.MICROSECONDS, TimeUnit.MILLISECONDS, TimeUnit.SECONDS};
+        long nanos = 1458000000123456789L;
+        PreciseMoment moment = PreciseMoment.ofEpochNanos(nanos);
+        for (int i = 0; i < 10000; i++) {
+            TimeUnit unit = units[random.nextInt(units.length)];
+            long amount = random.nextInt(2000001) - 1000000;
+            moment.add(amount, unit);
+            nanos += unit.toNanos(amount);
+            assertEquals(nanos, moment.toEpochNanos());
+        }
+    }
+
+    @Test
+    public void test_CalendarFieldsKeepNanos() {
+        PreciseMoment moment = PreciseMoment.of(moment(new int[]{2016, 0, 31, 10, 20, 30, 400})).add(5, TimeUnit.MICROSECONDS);
+
+        moment.add(1, Calendar.MONTH);
+        assertArrayEquals(new int[]{2016, 1, 29, 10, 20, 30, 400}, moment.toMoment().toArray());
+        assertEquals(5, moment.microseconds());
+
+        moment.startOf(Calendar.DATE);
+        assertArrayEquals(new int[]{2016, 1, 29, 0, 0, 0, 0}, moment.toMoment().toArray());
+        assertEquals(0, moment.nanoOfSecond());
+    }
+
+    @Test
+    public void test_StartOfTimeUnit() {
+        PreciseMoment moment = PreciseMoment.ofEpochNanos(1458000000123456789L);
+
+        assertEquals(1458000000123456789L, moment.clone().startOf(TimeUnit.NANOSECONDS).toEpochNanos());
+        assertEquals(1458000000123456000L, moment.clone().startOf(TimeUnit.MICROSECONDS).toEpochNanos());
+        assertEquals(1458000000123000000L, moment.clone().startOf(TimeUnit.MILLISECONDS).toEpochNanos());
+        assertEquals(1458000000000000000L, moment.clone().startOf(TimeUnit.SECONDS).toEpochNanos());
+        assertEquals(moment(1458000000000L).startOf(Calendar.DATE).valueOf() * 1000000L,
+                moment.clone().startOf(TimeUnit.DAYS).toEpochNanos());
+    }
+
+    @Test
+    public void test_Comparison() {
+        PreciseMoment first = PreciseMoment.ofEpochNanos(1458000000123456789L);
+        PreciseMoment second = PreciseMoment.ofEpochNanos(1458000000123456790L);
+
+        assertTrue(first.isBefore(second));
+        assertTrue(second.isAfter(first));
+        assertFalse(first.isSame(second));
+        assertEquals(-1, first.compareTo(second));
+        assertEquals(first, second.clone().subtract(1, TimeUnit.NANOSECONDS));
+        assertEquals(first.hashCode(), second.clone().subtract(1, TimeUnit.NANOSECONDS).hashCode());
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void test_Format() {
+        PreciseMoment moment = PreciseMoment.of(moment(new int[]{2016, 2, 15, 10, 20, 30, 12})).add(3456, TimeUnit.NANOSECONDS);
+
+        assertEquals("2016-03-15 10:20:30.012003456", moment.format("yyyy-MM-dd HH:mm:ss.SSSSSSSSS"));
+        assertEquals("10:20:30.012003", moment.format("HH:mm:ss.SSSSSS"));
+        assertEquals("30.0120", moment.format("ss.SSSS"));
+        assertEquals("30.012", moment.format("ss.SSS"));
+        assertEquals("30.012003456000", moment.format("ss.SSSSSSSSSSSS"));
+        assertEquals("15 Mar 2016 10:20:30.012003 'z'", moment.format("dd MMM yyyy HH:mm:ss.SSSSSS '''z'''", Locale.US));
+        assertEquals("PreciseMoment{ 2016/03/15 10:20:30.012003456 }", moment.toString());
+    }
+}
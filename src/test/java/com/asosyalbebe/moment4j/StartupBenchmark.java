@@ -0,0 +1,28 @@
+package com.asosyalbebe.moment4j;
+
+import java.util.Locale;
+
+/**
+ * Measures the time from the start of <code>main</code> to the first formatted moment, and to the second one.
+ * It must run in a new JVM, such as from {@link StartupBenchmarkTest} or the command line:
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.asosyalbebe.moment4j.StartupBenchmark
+ * </pre>
+ */
+public class StartupBenchmark {
+    private static final String PATTERN = "yyyy-MM-dd HH:mm:ss.SSS";
+
+    public static void main(String[] args) {
+        long start = System.nanoTime();
+        String first = Moment.moment(1458085572532L).format(PATTERN, Locale.ENGLISH);
+        long firstNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        String second = Moment.moment(1458085572533L).format(PATTERN, Locale.ENGLISH);
+        long secondNanos = System.nanoTime() - start;
+
+        System.out.println("first " + first + " " + firstNanos / 1000 + " us");
+        System.out.println("second " + second + " " + secondNanos / 1000 + " us");
+    }
+}
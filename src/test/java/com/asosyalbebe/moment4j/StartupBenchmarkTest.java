@@ -0,0 +1,43 @@
+package com.asosyalbebe.moment4j;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs {@link StartupBenchmark} in a new JVM and checks the moments it formats.
+ */
+public class StartupBenchmarkTest {
+
+    @Test
+    public void test_TimeToFirstFormat() throws Exception {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                "-Duser.timezone=UTC", StartupBenchmark.class.getName());
+        builder.redirectErrorStream(true);
+        Process process = builder.start();
+
+        List<String> lines = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), "UTF-8"));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        } finally {
+            reader.close();
+        }
+        assertEquals(lines.toString(), 0, process.waitFor());
+
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0), lines.get(0).startsWith("first 2016-03-15 23:46:12.532 "));
+        assertTrue(lines.get(1), lines.get(1).startsWith("second 2016-03-15 23:46:12.533 "));
+    }
+}
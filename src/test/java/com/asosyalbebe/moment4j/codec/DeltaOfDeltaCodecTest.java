@@ -0,0 +1,54 @@
+package com.asosyalbebe.moment4j.codec;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.*;
+
+public class DeltaOfDeltaCodecTest {
+
+    @Test
+    public void shouldRoundTripBlockAtUnalignedPosition() {
+        Random random = new Random(3);
+        long[] values = new long[1024];
+        long time = 1458074172000L;
+        for (int i = 0; i < values.length; i++) {
+            time += random.nextInt(5) == 0 ? random.nextInt(100000) : 1000;
+            values[i] = time;
+        }
+
+        DeltaOfDeltaCodec codec = DeltaOfDeltaCodec.INSTANCE;
+        ByteBuffer buffer = ByteBuffer.allocate(3 + codec.maxEncodedLength(values.length));
+        buffer.position(3);
+        codec.encode(values, 0, values.length, buffer);
+        assertThat(buffer.position(), lessThanOrEqualTo(buffer.capacity()));
+
+        long[] decoded = new long[values.length];
+        codec.decode(buffer, 3, decoded, 0, values.length);
+        assertArrayEquals(values, decoded);
+    }
+
+    @Test
+    public void shouldFitWorstCaseIntoMaxEncodedLength() {
+        long[] values = new long[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 2 == 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+
+        DeltaOfDeltaCodec codec = DeltaOfDeltaCodec.INSTANCE;
+        ByteBuffer buffer = ByteBuffer.allocate(codec.maxEncodedLength(values.length));
+        codec.encode(values, 0, values.length, buffer);
+
+        long[] decoded = new long[values.length];
+        codec.decode(buffer, 0, decoded, 0, values.length);
+        assertArrayEquals(values, decoded);
+    }
+
+    @Test
+    public void byId_shouldReturnTheCodec() {
+        assertSame(DeltaOfDeltaCodec.INSTANCE, BlockCodecs.byId(DeltaOfDeltaCodec.ID));
+    }
+}
@@ -0,0 +1,102 @@
+package com.asosyalbebe.moment4j.codec;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.*;
+
+public class DeltaOfDeltaEncoderTest {
+
+    @Test
+    public void shouldTakeOneBitPerValueForRegularIntervals() {
+        DeltaOfDeltaEncoder encoder = new DeltaOfDeltaEncoder();
+        long time = 1458074172000L;
+        for (int i = 0; i < 10000; i++) {
+            encoder.add(time + i * 1000L);
+        }
+
+        CompressedMomentSeries series = encoder.toSeries();
+        assertEquals(10000, series.size());
+        // 64 bits for the first value, 4 + 12 bits for the first delta, 1 bit for each following value
+        assertEquals(64 + 16 + 9998, series.bitLength());
+        assertThat(series.sizeInBytes() * 20, lessThan(10000 * 8L));
+    }
+
+    @Test
+    public void shouldRoundTripJitteredValues() {
+        Random random = new Random(7);
+        long[] values = new long[5000];
+        long time = 1458074172000L;
+        for (int i = 0; i < values.length; i++) {
+            time += 1000 + random.nextInt(20) - 10;
+            values[i] = time;
+        }
+        assertArrayEquals(values, encode(values).toArray());
+    }
+
+    @Test
+    public void shouldRoundTripEveryPrefixLength() {
+        long[] values = {0L, 0L, 1L, 70L, 300L, 3000L, 5000000000L, -5000000000L, Long.MAX_VALUE, Long.MIN_VALUE, 42L};
+        assertArrayEquals(values, encode(values).toArray());
+    }
+
+    @Test
+    public void shouldRoundTripRandomValues() {
+        Random random = new Random(11);
+        long[] values = new long[2000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+        }
+        assertArrayEquals(values, encode(values).toArray());
+    }
+
+    @Test
+    public void iteratorShouldReturnValuesInOrder() {
+        DeltaOfDeltaEncoder encoder = new DeltaOfDeltaEncoder();
+        encoder.add(moment(1000L)).add(2000L).add(3500L);
+
+        DeltaOfDeltaDecoder decoder = encoder.toSeries().iterator();
+        assertTrue(decoder.hasNext());
+        assertEquals(1000L, decoder.next());
+        assertEquals(2000L, decoder.next());
+        assertEquals(3500L, decoder.next());
+        assertFalse(decoder.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void iteratorShouldThrowWhenExhausted() {
+        DeltaOfDeltaDecoder decoder = new DeltaOfDeltaEncoder().add(1L).toSeries().iterator();
+        decoder.next();
+        decoder.next();
+    }
+
+    @Test
+    public void resetShouldDiscardEncodedValues() {
+        DeltaOfDeltaEncoder encoder = new DeltaOfDeltaEncoder();
+        encoder.add(5L).add(Long.MAX_VALUE).add(-3L);
+        encoder.reset();
+        encoder.add(10L).add(20L);
+
+        assertEquals(2, encoder.count());
+        assertArrayEquals(new long[]{10L, 20L}, encoder.toSeries().toArray());
+    }
+
+    @Test
+    public void emptySeriesShouldHaveNoValues() {
+        CompressedMomentSeries series = new DeltaOfDeltaEncoder().toSeries();
+        assertEquals(0, series.size());
+        assertEquals(0, series.toArray().length);
+    }
+
+    private static CompressedMomentSeries encode(long[] values) {
+        DeltaOfDeltaEncoder encoder = new DeltaOfDeltaEncoder();
+        for (long value : values) {
+            encoder.add(value);
+        }
+        return encoder.toSeries();
+    }
+}
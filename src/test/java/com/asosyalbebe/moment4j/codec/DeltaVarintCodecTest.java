@@ -0,0 +1,80 @@
+package com.asosyalbebe.moment4j.codec;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.*;
+
+public class DeltaVarintCodecTest {
+
+    @Test
+    public void shouldRoundTripSortedValues() {
+        long[] values = new long[1000];
+        long time = 1458074172532L;
+        for (int i = 0; i < values.length; i++) {
+            time += 1000;
+            values[i] = time;
+        }
+
+        ByteBuffer buffer = encode(values);
+        assertThat(buffer.limit(), lessThan(8 + 2 * values.length));
+        assertArrayEquals(values, decode(buffer, values.length));
+    }
+
+    @Test
+    public void shouldRoundTripExtremeValues() {
+        long[] values = {Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1L, 1L, Long.MAX_VALUE, Long.MIN_VALUE};
+        assertArrayEquals(values, decode(encode(values), values.length));
+    }
+
+    @Test
+    public void shouldRoundTripRandomValues() {
+        Random random = new Random(42);
+        long[] values = new long[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+        }
+        assertArrayEquals(values, decode(encode(values), values.length));
+    }
+
+    @Test
+    public void shouldDecodeFromAbsolutePosition() {
+        long[] values = {10L, 20L, 15L};
+        ByteBuffer buffer = ByteBuffer.allocate(5 + DeltaVarintCodec.INSTANCE.maxEncodedLength(values.length));
+        buffer.position(5);
+        DeltaVarintCodec.INSTANCE.encode(values, 0, values.length, buffer);
+
+        int position = buffer.position();
+        long[] decoded = new long[4];
+        DeltaVarintCodec.INSTANCE.decode(buffer, 5, decoded, 1, values.length);
+        assertArrayEquals(new long[]{0L, 10L, 20L, 15L}, decoded);
+        assertEquals(position, buffer.position());
+    }
+
+    @Test
+    public void byId_shouldReturnTheCodec() {
+        assertSame(DeltaVarintCodec.INSTANCE, BlockCodecs.byId(DeltaVarintCodec.ID));
+    }
+
+    @Test(expected = MomentException.class)
+    public void byId_shouldThrowForUnknownId() {
+        BlockCodecs.byId(99);
+    }
+
+    private static ByteBuffer encode(long[] values) {
+        ByteBuffer buffer = ByteBuffer.allocate(DeltaVarintCodec.INSTANCE.maxEncodedLength(values.length));
+        DeltaVarintCodec.INSTANCE.encode(values, 0, values.length, buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static long[] decode(ByteBuffer buffer, int count) {
+        long[] decoded = new long[count];
+        DeltaVarintCodec.INSTANCE.decode(buffer, 0, decoded, 0, count);
+        return decoded;
+    }
+}
@@ -0,0 +1,89 @@
+package com.asosyalbebe.moment4j.collection;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MomentMapTest {
+
+    @Test
+    public void test_PutGetRemove() {
+        MomentMap<String> map = new MomentMap<>();
+        assertTrue(map.isEmpty());
+
+        assertNull(map.put(1000L, "first"));
+        assertEquals("first", map.put(moment(1000L), "second"));
+        assertEquals("second", map.get(1000L));
+        assertEquals("second", map.get(moment(1000L)));
+        assertNull(map.get(2000L));
+        assertEquals(1, map.size());
+
+        assertNull(map.put(2000L, null));
+        assertTrue(map.containsKey(2000L));
+        assertNull(map.get(2000L));
+        assertEquals(2, map.size());
+
+        assertEquals("second", map.remove(moment(1000L)));
+        assertFalse(map.containsKey(1000L));
+        assertNull(map.remove(1000L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void test_EpochKey() {
+        MomentMap<String> map = new MomentMap<>();
+        assertNull(map.put(0L, "epoch"));
+        assertNull(map.put(-1L, "before"));
+        assertEquals("epoch", map.get(0L));
+        assertEquals("before", map.get(-1L));
+
+        long[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(new long[]{-1L, 0L}, keys);
+
+        assertEquals("epoch", map.remove(0L));
+        assertFalse(map.containsKey(0L));
+        assertNull(map.get(0L));
+    }
+
+    @Test
+    public void test_MatchesHashMap() {
+        Random random = new Random(7);
+        MomentMap<Integer> map = new MomentMap<>(16);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 200000; i++) {
+            long millis = (random.nextInt(5000) - 2500) * 1000L;
+            switch (random.nextInt(4)) {
+                case 0:
+                case 1:
+                    assertEquals(expected.put(millis, i), map.put(millis, i));
+                    break;
+                case 2:
+                    assertEquals(expected.remove(millis), map.remove(millis));
+                    break;
+                default:
+                    assertEquals(expected.get(millis), map.get(millis));
+                    assertEquals(expected.containsKey(millis), map.containsKey(millis));
+                    break;
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (long key : map.keys()) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0L));
+    }
+}
@@ -0,0 +1,108 @@
+package com.asosyalbebe.moment4j.collection;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MomentSetTest {
+
+    @Test
+    public void test_AddContainsRemove() {
+        MomentSet set = new MomentSet();
+        assertTrue(set.isEmpty());
+
+        assertTrue(set.add(1000L));
+        assertFalse(set.add(1000L));
+        assertFalse(set.add(moment(1000L)));
+        assertTrue(set.add(moment(2000L)));
+        assertTrue(set.contains(moment(2000L)));
+        assertFalse(set.contains(3000L));
+        assertEquals(2, set.size());
+
+        assertTrue(set.remove(1000L));
+        assertFalse(set.remove(1000L));
+        assertFalse(set.contains(1000L));
+        assertTrue(set.remove(moment(2000L)));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void test_EpochAndNegativeTimes() {
+        MomentSet set = new MomentSet();
+        assertFalse(set.contains(0L));
+        assertTrue(set.add(0L));
+        assertFalse(set.add(0L));
+        assertTrue(set.add(-1L));
+        assertTrue(set.add(Long.MIN_VALUE));
+        assertTrue(set.add(Long.MAX_VALUE));
+        assertEquals(4, set.size());
+
+        long[] values = set.toArray();
+        Arrays.sort(values);
+        assertArrayEquals(new long[]{Long.MIN_VALUE, -1L, 0L, Long.MAX_VALUE}, values);
+
+        assertTrue(set.remove(0L));
+        assertFalse(set.contains(0L));
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    public void test_MatchesHashSet() {
+        Random random = new Random(42);
+        MomentSet set = new MomentSet();
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 200000; i++) {
+            // Whole minutes of a few days collide often, and exercise growing and removing in long clusters
+            long millis = 1458000000000L + random.nextInt(10000) * 60000L;
+            switch (random.nextInt(3)) {
+                case 0:
+                case 1:
+                    assertEquals(expected.add(millis), set.add(millis));
+                    break;
+                default:
+                    assertEquals(expected.remove(millis), set.remove(millis));
+                    break;
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        for (int i = 0; i < 10000; i++) {
+            long millis = 1458000000000L + i * 60000L;
+            assertEquals(expected.contains(millis), set.contains(millis));
+        }
+
+        long[] values = set.toArray();
+        assertEquals(expected.size(), values.length);
+        for (long value : values) {
+            assertTrue(expected.contains(value));
+        }
+    }
+
+    @Test
+    public void test_Clear() {
+        MomentSet set = new MomentSet(100);
+        for (long i = 0; i < 100; i++) {
+            set.add(i * 1000L);
+        }
+        assertEquals(100, set.size());
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0L));
+        assertFalse(set.contains(5000L));
+        assertEquals(0, set.toArray().length);
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_NegativeExpectedSize() {
+        new MomentSet(-1);
+    }
+}
@@ -0,0 +1,105 @@
+package com.asosyalbebe.moment4j.format;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.*;
+
+public class BulkParserTest {
+
+    @Test
+    public void shouldParseLikeMomentAndReportFailures() {
+        String pattern = "yyyy-MM-dd HH:mm:ss";
+        List<String> input = randomDates(pattern, 20000, new Random(1));
+        Set<Integer> invalid = new HashSet<>(Arrays.asList(0, 63, 64, 4095, 4096, 12345, 19999));
+        for (int index : invalid) {
+            input.set(index, "invalid " + index);
+        }
+        input.set(100, null);
+
+        long[] out = new long[input.size()];
+        BitSet failures = BulkParser.parse(input, pattern, out);
+
+        assertEquals(invalid.size() + 1, failures.cardinality());
+        assertTrue(failures.get(100));
+        for (int i = 0; i < input.size(); i++) {
+            if (invalid.contains(i) || i == 100) {
+                assertTrue(failures.get(i));
+                assertEquals(0L, out[i]);
+            } else {
+                assertFalse(failures.get(i));
+                assertEquals(moment(input.get(i), pattern).valueOf(), out[i]);
+            }
+        }
+    }
+
+    @Test
+    public void shouldParsePatternsWithoutCompiledParser() {
+        String pattern = "dd MMM yyyy HH:mm";
+        List<String> input = randomDates(pattern, 5000, new Random(2));
+        long[] out = new long[input.size()];
+        BitSet failures = BulkParser.parse(input.toArray(new String[input.size()]), pattern, out);
+
+        assertTrue(failures.isEmpty());
+        for (int i = 0; i < input.size(); i++) {
+            assertEquals(moment(input.get(i), pattern).valueOf(), out[i]);
+        }
+    }
+
+    @Test
+    public void shouldParseSequentialLists() {
+        String pattern = "yyyyMMddHHmmss";
+        List<String> input = new LinkedList<>(randomDates(pattern, 9000, new Random(3)));
+        long[] out = new long[input.size()];
+        assertTrue(BulkParser.parse(input, pattern, out).isEmpty());
+        assertEquals(moment(input.get(8999), pattern).valueOf(), out[8999]);
+    }
+
+    @Test
+    public void shouldParseIterables() {
+        String pattern = "yyyy-MM-dd";
+        final List<String> input = randomDates(pattern, 300000, new Random(4));
+        input.set(299999, "invalid");
+        Iterable<String> iterable = new Iterable<String>() {
+            @Override
+            public java.util.Iterator<String> iterator() {
+                return input.iterator();
+            }
+        };
+
+        long[] out = new long[input.size()];
+        BitSet failures = BulkParser.parse(iterable, pattern, out);
+        assertEquals(1, failures.cardinality());
+        assertTrue(failures.get(299999));
+        assertEquals(moment(input.get(0), pattern).valueOf(), out[0]);
+        assertEquals(moment(input.get(299998), pattern).valueOf(), out[299998]);
+    }
+
+    @Test(expected = MomentException.class)
+    public void shouldThrowForInvalidPattern() {
+        BulkParser.parse(new String[]{"2016"}, "invalidformat", new long[1]);
+    }
+
+    @Test(expected = MomentException.class)
+    public void shouldThrowForShortOutputArray() {
+        BulkParser.parse(new String[]{"2016", "2017"}, "yyyy", new long[1]);
+    }
+
+    private static List<String> randomDates(String pattern, int count, Random random) {
+        List<String> dates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            dates.add(moment(1000000000000L + (random.nextLong() % 1000000000000L)).format(pattern));
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,198 @@
+package com.asosyalbebe.moment4j.format;
+
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+public class CompiledPatternTest {
+    private static final TimeZone ISTANBUL = TimeZone.getTimeZone("Europe/Istanbul");
+
+    @Test
+    public void shouldCompileCommonNumericPatterns() {
+        assertTrue(CompiledPattern.of("yyyy-MM-dd HH:mm:ss.SSS").isCompiled());
+        assertTrue(CompiledPattern.of("yyyyMMddHHmmss").isCompiled());
+        assertTrue(CompiledPattern.of("dd/MM/yyyy'T'kk:mm").isCompiled());
+    }
+
+    @Test
+    public void shouldNotCompileOtherPatterns() {
+        assertFalse(CompiledPattern.of("yy-MM-dd").isCompiled());
+        assertFalse(CompiledPattern.of("EEE, dd MMM yyyy").isCompiled());
+        assertFalse(CompiledPattern.of("yyyy-MM-dd HH:mm z").isCompiled());
+        assertFalse(CompiledPattern.of("yyyy-MM-dd hh:mm a").isCompiled());
+        assertFalse(CompiledPattern.of("yyyy-MM-dd 'unterminated").isCompiled());
+    }
+
+    @Test
+    public void shouldReturnTheSameInstanceForTheSamePattern() {
+        assertSame(CompiledPattern.of("yyyy/MM/dd"), CompiledPattern.of("yyyy/MM/dd"));
+    }
+
+    @Test
+    public void shouldMatchSimpleDateFormatForRandomDates() throws ParseException {
+        String[] patterns = {"yyyy-MM-dd HH:mm:ss.SSS", "yyyyMMddHHmmssSSS", "dd.MM.yyyy kk:mm", "yyyy-MM-dd'T'HH:mm:ss"};
+        Random random = new Random(17);
+        for (String pattern : patterns) {
+            CompiledPattern compiledPattern = CompiledPattern.of(pattern);
+            SimpleDateFormat format = new SimpleDateFormat(pattern);
+            format.setTimeZone(ISTANBUL);
+            for (int i = 0; i < 5000; i++) {
+                String text = format.format(new Date(random.nextLong() % 4000000000000L + 1000000000000L));
+                long millis = compiledPattern.tryParse(text, ISTANBUL);
+                if (millis != CompiledPattern.UNRESOLVED) {
+                    assertEquals(pattern + " " + text, format.parse(text).getTime(), millis);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldMatchLenientSimpleDateFormatForOutOfRangeFields() throws ParseException {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+        format.setTimeZone(ISTANBUL);
+        CompiledPattern compiledPattern = CompiledPattern.of("yyyy-MM-dd HH:mm");
+        for (String text : new String[]{"2015-13-01 10:00", "2015-02-30 25:61", "2016-00-00 00:00", "2016-1-2 3:4"}) {
+            assertEquals(text, format.parse(text).getTime(), compiledPattern.tryParse(text, ISTANBUL));
+        }
+    }
+
+    @Test
+    public void shouldLeaveYearsUpToTheCutoverToSimpleDateFormat() throws ParseException {
+        CompiledPattern compiledPattern = CompiledPattern.of("yyyy-MM-dd");
+        assertEquals(CompiledPattern.UNRESOLVED, compiledPattern.tryParse("1581-12-400", ISTANBUL));
+        assertEquals(CompiledPattern.UNRESOLVED, compiledPattern.tryParse("1582-10-15", ISTANBUL));
+
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+        format.setTimeZone(ISTANBUL);
+        assertEquals(format.parse("1583-01-01").getTime(), compiledPattern.tryParse("1583-01-01", ISTANBUL));
+    }
+
+    @Test
+    public void shouldIgnoreTextAfterTheLastField() throws ParseException {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+        format.setTimeZone(ISTANBUL);
+        assertEquals(format.parse("2016-03-16 trailing").getTime(), CompiledPattern.of("yyyy-MM-dd").tryParse("2016-03-16 trailing", ISTANBUL));
+    }
+
+    @Test
+    public void shouldParseRegionOfText() throws ParseException {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        format.setTimeZone(ISTANBUL);
+        String line = "[INFO] 2016-03-16 22:15:40 started";
+        assertEquals(format.parse("2016-03-16 22:15:40").getTime(),
+                CompiledPattern.of("yyyy-MM-dd HH:mm:ss").tryParse(line, 7, 26, ISTANBUL));
+    }
+
+    @Test
+    public void shouldNotResolveInputItCannotParseExactly() {
+        CompiledPattern compiledPattern = CompiledPattern.of("yyyy-MM-dd");
+        assertEquals(CompiledPattern.UNRESOLVED, compiledPattern.tryParse("2016/03/16", ISTANBUL));
+        assertEquals(CompiledPattern.UNRESOLVED, compiledPattern.tryParse(" 2016-03-16", ISTANBUL));
+        assertEquals(CompiledPattern.UNRESOLVED, compiledPattern.tryParse("-2016-03-16", ISTANBUL));
+        assertEquals(CompiledPattern.UNRESOLVED, compiledPattern.tryParse("2016-03-", ISTANBUL));
+        assertEquals(CompiledPattern.UNRESOLVED, compiledPattern.tryParse("", ISTANBUL));
+        assertEquals(CompiledPattern.UNRESOLVED, CompiledPattern.of("yyyyMMdd").tryParse("201603", ISTANBUL));
+        assertEquals(CompiledPattern.UNRESOLVED, CompiledPattern.of("dd MMM yyyy").tryParse("16 Mrz 2016", ISTANBUL));
+    }
+
+    @Test
+    public void shouldFormatFractionsOfSecond() {
+        TimeZone utc = TimeZone.getTimeZone("UTC");
+        long millis = 1458037230012L;
+
+        assertEquals("10:20:30.012003456", CompiledPattern.of("HH:mm:ss.SSSSSSSSS").format(millis, 3456, utc, Locale.US));
+        assertEquals("10:20:30.012", CompiledPattern.of("HH:mm:ss.SSS").format(millis, 3456, utc, Locale.US));
+        assertEquals("10:20:30.0012", CompiledPattern.of("HH:mm:ss.SSSS").format(millis, utc, Locale.US));
+
+        // Patterns with time zones, and locales with other digits, are formatted by SimpleDateFormat
+        assertEquals("10:20:30.012003 UTC", CompiledPattern.of("HH:mm:ss.SSSSSS z").format(millis, 3456, utc, Locale.US));
+        assertEquals("30.012003 'x'", CompiledPattern.of("ss.SSSSSS '''x'''").format(millis, 3456, utc, Locale.US));
+        Locale thai = new Locale("th", "TH", "TH");
+        assertEquals(new SimpleDateFormat("ss", thai).format(new Date(millis)) + ".012003",
+                CompiledPattern.of("ss.SSSSSS").format(millis, 3456, utc, thai));
+        assertEquals("59.999999", CompiledPattern.of("ss.SSSSSS").format(-1L, 999999, utc, Locale.US));
+    }
+
+    @Test
+    public void shouldParseDaylightSavingTransitionsLikeSimpleDateFormat() throws ParseException {
+        TimeZone newYork = TimeZone.getTimeZone("America/New_York");
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+        format.setTimeZone(newYork);
+        for (String text : new String[]{"2016-03-13 02:30", "2016-11-06 01:30"}) {
+            long millis = CompiledPattern.of("yyyy-MM-dd HH:mm").tryParse(text, newYork);
+            // Left to SimpleDateFormat on Java 7
+            if (millis != CompiledPattern.UNRESOLVED) {
+                assertEquals(format.parse(text).getTime(), millis);
+            }
+        }
+    }
+
+    @Test
+    public void shouldParseMonthNamesLikeSimpleDateFormat() throws ParseException {
+        Locale[] locales = {Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("tr", "TR"), new Locale("ru", "RU")};
+        String[] patterns = {"dd MMM yyyy HH:mm", "MMMM d, yyyy", "dd-MMM-yyyy"};
+        Random random = new Random(23);
+        for (Locale locale : locales) {
+            for (String pattern : patterns) {
+                SimpleDateFormat format = new SimpleDateFormat(pattern, locale);
+                format.setTimeZone(ISTANBUL);
+                CompiledPattern compiledPattern = CompiledPattern.of(pattern);
+                for (int i = 0; i < 500; i++) {
+                    String text = format.format(new Date(1000000000000L + random.nextLong() % 1000000000000L));
+                    for (String variant : new String[]{text, text.toUpperCase(locale), text.toLowerCase(locale)}) {
+                        long millis = compiledPattern.tryParse(variant, 0, variant.length(), ISTANBUL, locale);
+                        if (millis != CompiledPattern.UNRESOLVED) {
+                            assertEquals(locale + " " + variant, format.parse(variant).getTime(), millis);
+                        }
+                    }
+                }
+            }
+        }
+        assertEquals(parse("dd MMM yyyy", "16 Mar 2016"), CompiledPattern.of("dd MMM yyyy").tryParse("16 Mar 2016", 0, 11, ISTANBUL, Locale.US));
+    }
+
+    @Test
+    public void shouldFormatLikeSimpleDateFormatInAllLocales() {
+        String[] patterns = {
+                "yyyy-MM-dd HH:mm:ss.SSS", "EEEE, d MMMM yyyy G", "EEE, dd MMM yy hh:mm a", "K:mm a, D. 'day' u F",
+                "kk 'o''clock' S SSSS y yyyyy", "MMMMM M LL", "MMMM", "'in' MMM"
+        };
+        Random random = new Random(29);
+        long[] times = new long[40];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = random.nextLong() % 20000000000000L;
+        }
+        times[0] = -12219292800000L;
+        times[1] = 0L;
+        for (Locale locale : Locale.getAvailableLocales()) {
+            for (String pattern : patterns) {
+                SimpleDateFormat format = new SimpleDateFormat(pattern, locale);
+                format.setTimeZone(ISTANBUL);
+                CompiledPattern compiledPattern = CompiledPattern.of(pattern);
+                for (long time : times) {
+                    assertEquals(locale + " " + pattern, format.format(new Date(time)), compiledPattern.format(time, ISTANBUL, locale));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldCompileFormatsWithoutZonesAndWeeks() {
+        assertTrue(CompiledPattern.of("EEE, dd MMM yyyy hh:mm:ss a").isFormatCompiled());
+        assertFalse(CompiledPattern.of("yyyy-MM-dd HH:mm z").isFormatCompiled());
+        assertFalse(CompiledPattern.of("YYYY-'W'ww").isFormatCompiled());
+    }
+
+    private static long parse(String pattern, String text) throws ParseException {
+        SimpleDateFormat format = new SimpleDateFormat(pattern, Locale.US);
+        format.setTimeZone(ISTANBUL);
+        return format.parse(text).getTime();
+    }
+}
@@ -0,0 +1,89 @@
+package com.asosyalbebe.moment4j.format;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.*;
+
+public class MultiPatternParserTest {
+    private static final String[] PATTERNS = {
+            "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd", "dd/MM/yyyy", "dd.MM.yyyy HH:mm", "MMM d, yyyy", "yyyyMMdd"
+    };
+
+    private final MultiPatternParser parser = new MultiPatternParser(Locale.ENGLISH, PATTERNS);
+
+    @Test
+    public void test_ParseByShape() {
+        assertEquals(moment("2016-03-15 23:36:12", "yyyy-MM-dd HH:mm:ss").valueOf(), parser.parse("2016-03-15 23:36:12"));
+        assertEquals(moment("2016-03-15", "yyyy-MM-dd").valueOf(), parser.parse("2016-03-15"));
+        assertEquals(moment("15/03/2016", "dd/MM/yyyy").valueOf(), parser.parse("15/03/2016"));
+        assertEquals(moment("15.03.2016 23:36", "dd.MM.yyyy HH:mm").valueOf(), parser.parse("15.03.2016 23:36"));
+        assertEquals(moment("20160315", "yyyyMMdd").valueOf(), parser.parse("20160315"));
+    }
+
+    @Test
+    public void test_ParseVariableWidth() {
+        assertEquals(moment("Mar 5, 2016", "MMM d, yyyy", Locale.ENGLISH).valueOf(), parser.parse("Mar 5, 2016"));
+        assertEquals(moment("Mar 15, 2016", "MMM d, yyyy", Locale.ENGLISH).valueOf(), parser.parse("Mar 15, 2016"));
+    }
+
+    @Test
+    public void test_ParseTolerantShape() {
+        assertEquals(moment("05/03/2016", "dd/MM/yyyy").valueOf(), parser.parse("5/3/2016"));
+    }
+
+    @Test
+    public void test_ParseWholeText() {
+        MultiPatternParser dateOnly = new MultiPatternParser("yyyy-MM-dd");
+        assertEquals(CompiledPattern.UNRESOLVED, dateOnly.tryParse("2016-03-15 10:20"));
+        assertEquals(CompiledPattern.UNRESOLVED, dateOnly.tryParse("2016-03-15x"));
+        assertEquals(CompiledPattern.UNRESOLVED, dateOnly.tryParse(""));
+        assertEquals(CompiledPattern.UNRESOLVED, dateOnly.tryParse(null));
+    }
+
+    @Test
+    public void test_SourceRemembersLastPattern() {
+        MultiPatternParser.Source source = parser.source();
+        assertNull(source.lastPattern());
+
+        source.parse("Mar 5, 2016");
+        assertEquals("MMM d, yyyy", source.lastPattern());
+        assertEquals(moment("Apr 12, 2017", "MMM d, yyyy", Locale.ENGLISH).valueOf(), source.parse("Apr 12, 2017"));
+        assertEquals("MMM d, yyyy", source.lastPattern());
+
+        source.parse("2016-03-15");
+        assertEquals("yyyy-MM-dd", source.lastPattern());
+
+        assertEquals(CompiledPattern.UNRESOLVED, source.tryParse("not a date"));
+        assertEquals("yyyy-MM-dd", source.lastPattern());
+    }
+
+    @Test
+    public void test_Patterns() {
+        assertEquals(Arrays.asList(PATTERNS), parser.patterns());
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_ParseFailure() {
+        parser.parse("not a date");
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_SourceParseFailure() {
+        parser.source().parse("tomorrow");
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_InvalidPattern() {
+        new MultiPatternParser("yyyy-MM-dd", "invalid");
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_NoPatterns() {
+        new MultiPatternParser();
+    }
+}
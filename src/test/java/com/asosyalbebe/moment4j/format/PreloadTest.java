@@ -0,0 +1,30 @@
+package com.asosyalbebe.moment4j.format;
+
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PreloadTest {
+    // Used by no other test, so that they are not in the caches before this test
+    private static final String PATTERN = "'preload' dd.MM.yyyy HH:mm";
+    private static final Locale LOCALE = new Locale("fi", "FI");
+
+    @Test
+    public void test_PreloadPatterns() {
+        assertFalse(CompiledPattern.isCached(PATTERN));
+        Preload.patterns(PATTERN);
+        assertTrue(CompiledPattern.isCached(PATTERN));
+    }
+
+    @Test
+    public void test_PreloadLocales() {
+        assertFalse(LocaleSymbols.isCached(LOCALE));
+        assertFalse(RelativeTimeStrings.isCached(LOCALE));
+        Preload.locales(LOCALE);
+        assertTrue(LocaleSymbols.isCached(LOCALE));
+        assertTrue(RelativeTimeStrings.isCached(LOCALE));
+    }
+}
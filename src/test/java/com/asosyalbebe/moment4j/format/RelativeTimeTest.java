@@ -0,0 +1,111 @@
+package com.asosyalbebe.moment4j.format;
+
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+public class RelativeTimeTest {
+    private static final long NOW = 1458122400000L;
+    private static final long SECOND = 1000L;
+    private static final long MINUTE = 60 * SECOND;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long DAY = 24 * HOUR;
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    @Test
+    public void shouldUseMomentJsThresholds() {
+        assertRelative("a few seconds ago", 0);
+        assertRelative("in a few seconds", 44 * SECOND);
+        assertRelative("a minute ago", -45 * SECOND);
+        assertRelative("in a minute", 89 * SECOND);
+        assertRelative("in 2 minutes", 90 * SECOND);
+        assertRelative("44 minutes ago", -44 * MINUTE);
+        assertRelative("an hour ago", -45 * MINUTE);
+        assertRelative("in an hour", 89 * MINUTE);
+        assertRelative("in 2 hours", 90 * MINUTE);
+        assertRelative("21 hours ago", -21 * HOUR);
+        assertRelative("a day ago", -22 * HOUR);
+        assertRelative("in a day", 35 * HOUR);
+        assertRelative("in 2 days", 36 * HOUR);
+        assertRelative("25 days ago", -25 * DAY);
+        assertRelative("a month ago", -26 * DAY);
+        assertRelative("in a month", 45 * DAY);
+        assertRelative("in 2 months", 46 * DAY);
+        assertRelative("10 months ago", -319 * DAY);
+        assertRelative("a year ago", -345 * DAY);
+        assertRelative("in a year", 547 * DAY);
+        assertRelative("in 2 years", 548 * DAY);
+        assertRelative("in 300 years", 300 * 365 * DAY + 73 * DAY);
+    }
+
+    @Test
+    public void shouldOmitSuffix() {
+        assertEquals("3 minutes", RelativeTime.humanize(NOW - 3 * MINUTE, NOW, true, Locale.US));
+        assertEquals("a day", RelativeTime.humanize(NOW + DAY, NOW, true, Locale.US));
+    }
+
+    @Test
+    public void shouldReturnCachedStrings() {
+        String first = RelativeTime.humanize(NOW - 3 * MINUTE, NOW, false, Locale.US);
+        String second = RelativeTime.humanize(NOW - 3 * MINUTE - 10 * SECOND, NOW, false, Locale.US);
+        assertSame(first, second);
+    }
+
+    @Test
+    public void shouldUseLocaleStrings() {
+        assertEquals("3 dakika önce", RelativeTime.humanize(NOW - 3 * MINUTE, NOW, false, new Locale("tr", "TR")));
+        assertEquals("bir gün sonra", RelativeTime.humanize(NOW + DAY, NOW, false, new Locale("tr")));
+        assertEquals("in 3 minutes", RelativeTime.humanize(NOW + 3 * MINUTE, NOW, false, Locale.FRANCE));
+    }
+
+    @Test
+    public void bulkHumanizeShouldMatchSingleValues() {
+        long[] millis = {NOW, NOW - 5 * MINUTE, NOW + 3 * DAY, NOW - 400 * DAY};
+        String[] strings = RelativeTime.humanize(millis, NOW, false, Locale.US);
+        for (int i = 0; i < millis.length; i++) {
+            assertEquals(RelativeTime.humanize(millis[i], NOW, false, Locale.US), strings[i]);
+        }
+    }
+
+    @Test
+    public void shouldFormatCalendarTimes() {
+        // NOW is Wednesday, 2016-03-16 10:00 UTC
+        assertCalendar("Today at 2:30 PM", NOW + 4 * HOUR + 30 * MINUTE);
+        assertCalendar("Today at 12:00 AM", NOW - 10 * HOUR);
+        assertCalendar("Tomorrow at 9:05 AM", NOW + 23 * HOUR + 5 * MINUTE);
+        assertCalendar("Saturday at 10:00 AM", NOW + 3 * DAY);
+        assertCalendar("Yesterday at 11:59 PM", NOW - 10 * HOUR - MINUTE);
+        assertCalendar("Last Sunday at 10:00 AM", NOW - 3 * DAY);
+        assertCalendar("Last Thursday at 10:00 AM", NOW - 6 * DAY);
+        assertCalendar("03/09/2016", NOW - 7 * DAY);
+        assertCalendar("03/23/2016", NOW + 7 * DAY);
+    }
+
+    @Test
+    public void shouldFormatCalendarTimesInTheGivenZone() {
+        TimeZone istanbul = TimeZone.getTimeZone("Europe/Istanbul");
+        // 2016-03-16 22:30 UTC is 2016-03-17 00:30 in Istanbul
+        assertEquals("Tomorrow at 12:30 AM", RelativeTime.calendar(NOW + 12 * HOUR + 30 * MINUTE, NOW, istanbul, Locale.US));
+        assertEquals("yarın saat 00:30", RelativeTime.calendar(NOW + 12 * HOUR + 30 * MINUTE, NOW, istanbul, new Locale("tr")));
+    }
+
+    @Test
+    public void bulkCalendarShouldMatchSingleValues() {
+        long[] millis = {NOW, NOW - 2 * DAY, NOW + 3 * DAY, NOW - 40 * DAY};
+        String[] strings = RelativeTime.calendar(millis, NOW, UTC, Locale.US);
+        for (int i = 0; i < millis.length; i++) {
+            assertEquals(RelativeTime.calendar(millis[i], NOW, UTC, Locale.US), strings[i]);
+        }
+    }
+
+    private static void assertRelative(String expected, long difference) {
+        assertEquals(expected, RelativeTime.humanize(NOW + difference, NOW, false, Locale.US));
+    }
+
+    private static void assertCalendar(String expected, long millis) {
+        assertEquals(expected, RelativeTime.calendar(millis, NOW, UTC, Locale.US));
+    }
+}
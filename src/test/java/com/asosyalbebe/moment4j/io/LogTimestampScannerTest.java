@@ -0,0 +1,219 @@
+package com.asosyalbebe.moment4j.io;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+public class LogTimestampScannerTest {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final TimeZone ZONE = TimeZone.getTimeZone("Europe/Istanbul");
+    private static final String PATTERN = "yyyy-MM-dd HH:mm:ss.SSS";
+    private static final long START = 1458074172000L;
+    private static final int LINES = 50000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldVisitLinesInsideTheWindow() throws IOException {
+        File file = writeLog();
+        long from = START + 1000 * 1000L;
+        long to = START + 1500 * 1000L;
+
+        Recorder recorder = new Recorder();
+        try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+            long visited = LogTimestampScanner.atOffset(PATTERN, 0, ZONE).scan(channel, from, to, recorder);
+            assertEquals(recorder.lines.size(), visited);
+        }
+        assertEquals(expectedLines(file, from, to), recorder.lines);
+        // The trace line of the excluded start second, and three lines for each of the following 499 seconds
+        assertEquals(1 + 499 * 3, recorder.lines.size());
+    }
+
+    @Test
+    public void sortedScanShouldVisitTheSameLines() throws IOException {
+        File file = writeLog();
+        long[][] windows = {
+                {START + 25000 * 1000L, START + 25100 * 1000L},
+                {START - 1, START + 10 * 1000L},
+                {START + (LINES - 10) * 1000L, START + (LINES + 10) * 1000L},
+                {START + 1234567L, START + 1234568L},
+                {START - 100000L, START - 1000L}
+        };
+        for (long[] window : windows) {
+            Recorder sorted = new Recorder();
+            Recorder unsorted = new Recorder();
+            try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+                LogTimestampScanner scanner = LogTimestampScanner.atOffset(PATTERN, 0, ZONE);
+                scanner.scanSorted(channel, window[0], window[1], sorted);
+                channel.position(0);
+                scanner.scan(channel, window[0], window[1], unsorted);
+            }
+            assertEquals(expectedLines(file, window[0], window[1]), unsorted.lines);
+            assertEquals(unsorted.lines, sorted.lines);
+            assertEquals(unsorted.offsets, sorted.offsets);
+        }
+    }
+
+    @Test
+    public void shouldFindTimestampsAfterMarker() throws IOException {
+        File file = folder.newFile();
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(("level=INFO time=2016-03-16 22:15:40.000 msg=first\n"
+                    + "level=WARN thread=main time=2016-03-16 22:15:41.500 msg=second\r\n"
+                    + "no timestamp here\n"
+                    + "level=INFO time=16 Mar 2016 msg=unparseable\n"
+                    + "level=INFO time=2016-03-16 22:15:43.000 msg=last").getBytes(UTF_8));
+        }
+        Recorder recorder = new Recorder();
+        try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+            LogTimestampScanner.afterMarker(PATTERN, "time=", ZONE).scan(channel, Long.MIN_VALUE, Long.MAX_VALUE, recorder);
+        }
+        assertEquals(Arrays.asList(
+                "level=INFO time=2016-03-16 22:15:40.000 msg=first",
+                "level=WARN thread=main time=2016-03-16 22:15:41.500 msg=second",
+                "level=INFO time=2016-03-16 22:15:43.000 msg=last"), recorder.lines);
+        assertEquals(parse("2016-03-16 22:15:41.500"), (long) recorder.millis.get(1));
+    }
+
+    @Test
+    public void shouldParsePatternsWithoutCompiledParser() throws IOException {
+        File file = folder.newFile();
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write("[16 Mar 2016 22:15] a\n[17 Mar 2016 22:15] b\n[18 Mar 2016 22:15] c\n".getBytes(UTF_8));
+        }
+        Recorder recorder = new Recorder();
+        try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+            LogTimestampScanner.afterMarker("dd MMM yyyy HH:mm", "[", ZONE).scan(channel,
+                    parse("2016-03-17 00:00:00.000"), Long.MAX_VALUE, recorder);
+        }
+        assertEquals(Arrays.asList("[17 Mar 2016 22:15] b", "[18 Mar 2016 22:15] c"), recorder.lines);
+    }
+
+    @Test
+    public void shouldReadLinesLongerThanTheBuffer() throws IOException {
+        File file = folder.newFile();
+        char[] filler = new char[3 << 20];
+        Arrays.fill(filler, 'x');
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(("2016-03-16 22:15:40.000 " + new String(filler) + "\n2016-03-16 22:15:41.000 short\n").getBytes(UTF_8));
+        }
+        Recorder recorder = new Recorder();
+        try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+            LogTimestampScanner.atOffset(PATTERN, 0, ZONE).scanSorted(channel, Long.MIN_VALUE, Long.MAX_VALUE, recorder);
+        }
+        assertEquals(2, recorder.lines.size());
+        assertEquals(24 + filler.length, recorder.lines.get(0).length());
+        assertEquals(25L + filler.length, (long) recorder.offsets.get(1));
+    }
+
+    @Test
+    public void shouldStopWhenVisitorReturnsFalse() throws IOException {
+        File file = writeLog();
+        final List<Long> visited = new ArrayList<>();
+        try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+            LogTimestampScanner.atOffset(PATTERN, 0, ZONE).scan(channel, Long.MIN_VALUE, Long.MAX_VALUE, new LineVisitor() {
+                @Override
+                public boolean visit(long offset, long millis, ByteBuffer line) {
+                    visited.add(millis);
+                    return visited.size() < 5;
+                }
+            });
+        }
+        assertEquals(5, visited.size());
+    }
+
+    @Test(expected = MomentException.class)
+    public void shouldThrowForInvalidPattern() {
+        LogTimestampScanner.atOffset("invalidformat", 0);
+    }
+
+    @Test(expected = MomentException.class)
+    public void shouldThrowForEmptyMarker() {
+        LogTimestampScanner.afterMarker(PATTERN, "");
+    }
+
+    /**
+     * Writes a sorted log with three lines per second, a stack trace every ten seconds, Windows line endings, and no line terminator after the last line.
+     */
+    private File writeLog() throws IOException {
+        SimpleDateFormat format = new SimpleDateFormat(PATTERN);
+        format.setTimeZone(ZONE);
+        StringBuilder log = new StringBuilder();
+        for (int i = 0; i < LINES; i++) {
+            String timestamp = format.format(new Date(START + i * 1000L));
+            log.append(timestamp).append(" INFO  [main] request ").append(i).append('\n');
+            log.append(timestamp).append(" DEBUG [worker-").append(i % 8).append("] done\r\n");
+            if (i % 10 == 0) {
+                log.append("java.lang.IllegalStateException: failed\n\tat com.example.Foo.bar(Foo.java:42)\n");
+            }
+            log.append(format.format(new Date(START + i * 1000L + 500))).append(" TRACE tick");
+            if (i < LINES - 1) {
+                log.append('\n');
+            }
+        }
+        File file = folder.newFile();
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(log.toString().getBytes(UTF_8));
+        }
+        return file;
+    }
+
+    private static List<String> expectedLines(File file, long from, long to) throws IOException {
+        List<String> lines = new ArrayList<>();
+        byte[] bytes = java.nio.file.Files.readAllBytes(file.toPath());
+        for (String line : new String(bytes, UTF_8).split("\r?\n")) {
+            if (line.length() < PATTERN.length() || !Character.isDigit(line.charAt(0))) {
+                continue;
+            }
+            long millis = parse(line.substring(0, PATTERN.length()));
+            if (millis > from && millis < to) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private static long parse(String text) {
+        SimpleDateFormat format = new SimpleDateFormat(PATTERN);
+        format.setTimeZone(ZONE);
+        try {
+            return format.parse(text).getTime();
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static class Recorder implements LineVisitor {
+        final List<String> lines = new ArrayList<>();
+        final List<Long> offsets = new ArrayList<>();
+        final List<Long> millis = new ArrayList<>();
+
+        @Override
+        public boolean visit(long offset, long millis, ByteBuffer line) {
+            byte[] bytes = new byte[line.remaining()];
+            line.get(bytes);
+            lines.add(new String(bytes, UTF_8));
+            offsets.add(offset);
+            this.millis.add(millis);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.asosyalbebe.moment4j.io;
+
+import com.asosyalbebe.moment4j.codec.DeltaOfDeltaCodec;
+import com.asosyalbebe.moment4j.codec.DeltaVarintCodec;
+import com.asosyalbebe.moment4j.fault.MomentException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.*;
+
+public class MomentColumnReaderTest {
+    private static final long START = 1458074172000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReadHeader() throws IOException {
+        File file = writeSorted(2500, 10);
+
+        try (MomentColumnReader reader = MomentColumnReader.open(file)) {
+            assertEquals(2500, reader.size());
+            assertEquals(START, reader.min());
+            assertEquals(START + 2499 * 1000L, reader.max());
+            assertTrue(reader.isSorted());
+            assertEquals("Europe/Istanbul", reader.zone().getID());
+        }
+    }
+
+    @Test
+    public void shouldReadValuesByRandomAccess() throws IOException {
+        File file = writeSorted(2500, 100);
+
+        try (MomentColumnReader reader = MomentColumnReader.open(file)) {
+            assertEquals(START + 1234 * 1000L, reader.get(1234));
+            assertEquals(START, reader.get(0));
+            assertEquals(START + 2499 * 1000L, reader.get(2499));
+            assertEquals(START + 99 * 1000L, reader.get(99));
+            assertEquals(START + 100 * 1000L, reader.get(100));
+        }
+    }
+
+    @Test
+    public void shouldReadMomentsInTheZoneOfTheColumn() throws IOException {
+        File file = writeSorted(10, 4);
+
+        try (MomentColumnReader reader = MomentColumnReader.open(file)) {
+            assertTrue(reader.moment(5).isSame(START + 5000L));
+            assertEquals("Europe/Istanbul", reader.moment(5).toCalendar().getTimeZone().getID());
+        }
+    }
+
+    @Test
+    public void shouldReadRangesAcrossBlocks() throws IOException {
+        File file = writeSorted(1000, 64);
+
+        try (MomentColumnReader reader = MomentColumnReader.open(file)) {
+            long[] values = new long[200];
+            reader.read(50, values, 0, values.length);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(START + (50 + i) * 1000L, values[i]);
+            }
+        }
+    }
+
+    @Test
+    public void shouldScanTimeRangeOfSortedColumn() throws IOException {
+        File file = writeSorted(1000, 64);
+
+        try (MomentColumnReader reader = MomentColumnReader.open(file)) {
+            RecordingVisitor visitor = new RecordingVisitor();
+            reader.scanRange(START + 100500L, START + 200000L, visitor);
+
+            assertEquals(99, visitor.indexes.size());
+            assertEquals(101L, (long) visitor.indexes.get(0));
+            assertEquals(199L, (long) visitor.indexes.get(98));
+            assertEquals(START + 101000L, (long) visitor.values.get(0));
+        }
+    }
+
+    @Test
+    public void shouldFindLowerBound() throws IOException {
+        File file = writeSorted(1000, 64);
+
+        try (MomentColumnReader reader = MomentColumnReader.open(file)) {
+            assertEquals(0L, reader.lowerBound(Long.MIN_VALUE));
+            assertEquals(0L, reader.lowerBound(START));
+            assertEquals(64L, reader.lowerBound(START + 64000L));
+            assertEquals(65L, reader.lowerBound(START + 64001L));
+            assertEquals(1000L, reader.lowerBound(Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    public void shouldScanTimeRangeOfUnsortedColumn() throws IOException {
+        File file = folder.newFile();
+        try (MomentColumnWriter writer = new MomentColumnWriter(file, TimeZone.getTimeZone("UTC"), 3, DeltaVarintCodec.INSTANCE)) {
+            writer.write(new long[]{50L, 10L, 40L, 20L, 30L, 60L, 5L}, 0, 7);
+        }
+
+        try (MomentColumnReader reader = MomentColumnReader.open(file)) {
+            assertFalse(reader.isSorted());
+            assertEquals(5L, reader.min());
+            assertEquals(60L, reader.max());
+
+            RecordingVisitor visitor = new RecordingVisitor();
+            reader.scanRange(10L, 50L, visitor);
+            assertEquals(4, visitor.values.size());
+            assertEquals(10L, (long) visitor.values.get(0));
+            assertEquals(40L, (long) visitor.values.get(1));
+            assertEquals(20L, (long) visitor.values.get(2));
+            assertEquals(30L, (long) visitor.values.get(3));
+        }
+    }
+
+    @Test
+    public void shouldReadColumnEncodedWithDeltaOfDelta() throws IOException {
+        File file = folder.newFile();
+        try (MomentColumnWriter writer = new MomentColumnWriter(file, TimeZone.getTimeZone("UTC"), 100, DeltaOfDeltaCodec.INSTANCE)) {
+            for (int i = 0; i < 1000; i++) {
+                writer.write(START + i * 1000L);
+            }
+        }
+
+        try (MomentColumnReader reader = MomentColumnReader.open(file)) {
+            assertEquals(START + 567000L, reader.get(567));
+            assertEquals(600L, reader.lowerBound(START + 600000L));
+        }
+    }
+
+    @Test
+    public void shouldStopScanWhenVisitorReturnsFalse() throws IOException {
+        File file = writeSorted(100, 8);
+
+        try (MomentColumnReader reader = MomentColumnReader.open(file)) {
+            final List<Long> visited = new ArrayList<>();
+            reader.scan(0, 100, new ColumnVisitor() {
+                @Override
+                public boolean visit(long index, long millis) {
+                    visited.add(index);
+                    return index < 20;
+                }
+            });
+            assertEquals(21, visited.size());
+        }
+    }
+
+    @Test
+    public void shouldReadEmptyColumn() throws IOException {
+        File file = folder.newFile();
+        new MomentColumnWriter(file, TimeZone.getTimeZone("UTC")).close();
+
+        try (MomentColumnReader reader = MomentColumnReader.open(file)) {
+            assertEquals(0, reader.size());
+            RecordingVisitor visitor = new RecordingVisitor();
+            reader.scanRange(Long.MIN_VALUE, Long.MAX_VALUE, visitor);
+            assertTrue(visitor.values.isEmpty());
+        }
+    }
+
+    @Test(expected = MomentException.class)
+    public void shouldThrowForIndexOutOfBounds() throws IOException {
+        File file = writeSorted(10, 4);
+
+        try (MomentColumnReader reader = MomentColumnReader.open(file)) {
+            reader.get(10);
+        }
+    }
+
+    @Test(expected = MomentException.class)
+    public void shouldRejectFilesWhichAreNotMomentColumns() throws IOException {
+        File file = folder.newFile();
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[256]);
+        }
+        MomentColumnReader.open(file);
+    }
+
+    private File writeSorted(int count, int blockSize) throws IOException {
+        File file = folder.newFile();
+        try (MomentColumnWriter writer = new MomentColumnWriter(file, TimeZone.getTimeZone("Europe/Istanbul"), blockSize, DeltaVarintCodec.INSTANCE)) {
+            for (int i = 0; i < count; i++) {
+                if (i % 2 == 0) {
+                    writer.write(START + i * 1000L);
+                } else {
+                    writer.write(moment(START + i * 1000L));
+                }
+            }
+        }
+        return file;
+    }
+
+    private static class RecordingVisitor implements ColumnVisitor {
+        final List<Long> indexes = new ArrayList<>();
+        final List<Long> values = new ArrayList<>();
+
+        @Override
+        public boolean visit(long index, long millis) {
+            indexes.add(index);
+            values.add(millis);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.asosyalbebe.moment4j.metrics;
+
+import com.asosyalbebe.moment4j.Moment;
+import com.asosyalbebe.moment4j.fault.MomentException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MomentMetricsTest {
+    private final CountingMetrics metrics = new CountingMetrics();
+
+    @Before
+    public void setUp() {
+        MomentMetrics.install(metrics);
+    }
+
+    @After
+    public void tearDown() {
+        MomentMetrics.uninstall();
+        MomentMetrics.uninstallTiming();
+    }
+
+    @Test
+    public void test_CountsCreationsPerFactory() {
+        moment();
+        moment(1000L);
+        moment(2000L);
+        moment(new Date());
+        moment(Calendar.getInstance());
+        moment(new int[]{2016, 2, 15, 10, 20, 30, 400});
+        moment(moment(3000L));
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.created(Factory.NOW));
+        assertEquals(3, snapshot.created(Factory.MILLIS));
+        assertEquals(1, snapshot.created(Factory.DATE));
+        assertEquals(1, snapshot.created(Factory.CALENDAR));
+        assertEquals(1, snapshot.created(Factory.ARRAY));
+        assertEquals(1, snapshot.created(Factory.MOMENT));
+        assertEquals(0, snapshot.created(Factory.STRING));
+        assertEquals(8, snapshot.created());
+        assertEquals(8, snapshot.calendars());
+    }
+
+    @Test
+    public void test_CountsClonesAndCalendars() {
+        Moment moment = moment(1000L);
+        moment.clone();
+        moment.clone();
+        moment.toCalendar();
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(2, snapshot.clones());
+        assertEquals(4, snapshot.calendars());
+        assertEquals(1, snapshot.created());
+    }
+
+    @Test
+    public void test_CountsFormatsAndParsesPerPattern() {
+        Moment moment = moment("2016-03-15", "yyyy-MM-dd");
+        moment.format("yyyy-MM-dd");
+        moment.format("yyyy-MM-dd");
+        moment.format("HH:mm");
+        try {
+            moment("not a date", "yyyy-MM-dd");
+            fail("Expected a parse failure");
+        } catch (MomentException expected) {
+            // Counted as a parse and a failure
+        }
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(Long.valueOf(2), snapshot.parses().get("yyyy-MM-dd"));
+        assertEquals(Long.valueOf(1), snapshot.parseFailures().get("yyyy-MM-dd"));
+        assertEquals(Long.valueOf(2), snapshot.formats().get("yyyy-MM-dd"));
+        assertEquals(Long.valueOf(1), snapshot.formats().get("HH:mm"));
+        assertFalse(snapshot.parses().containsKey("HH:mm"));
+        assertEquals(1, snapshot.created(Factory.STRING));
+    }
+
+    @Test
+    public void test_PatternsAfterTheLimitAreCountedTogether() {
+        for (int i = 0; i < CountingMetrics.MAX_PATTERNS + 10; i++) {
+            metrics.onFormat("'" + i + "'");
+        }
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(CountingMetrics.MAX_PATTERNS + 1, snapshot.formats().size());
+        assertEquals(Long.valueOf(10), snapshot.formats().get(CountingMetrics.OTHER_PATTERNS));
+    }
+
+    @Test
+    public void test_ResetAndUninstall() {
+        moment(1000L).format("yyyy");
+        metrics.reset();
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(0, snapshot.created());
+        assertEquals(0, snapshot.calendars());
+        assertEquals(0, snapshot.formats().size());
+
+        assertSame(metrics, MomentMetrics.listener());
+        MomentMetrics.uninstall();
+        assertNull(MomentMetrics.listener());
+        moment(1000L);
+        assertEquals(0, metrics.snapshot().created());
+    }
+
+    @Test
+    public void test_TimesParsesAndFormats() {
+        final List<String> operations = new ArrayList<>();
+        MomentMetrics.installTiming(new TimingListener() {
+            @Override
+            public void onOperation(Operation operation, String pattern, int length, long durationNanos, boolean success) {
+                assertTrue(durationNanos >= 0);
+                operations.add(operation + " " + pattern + " " + length + " " + success);
+            }
+        });
+
+        moment("15/03/2016", "dd/MM/yyyy").format("yyyy");
+        try {
+            moment("?", "dd/MM/yyyy");
+            fail("Expected a parse failure");
+        } catch (MomentException expected) {
+            // Timed as a failed parse
+        }
+
+        assertEquals(Arrays.asList("PARSE dd/MM/yyyy 10 true", "FORMAT yyyy 4 true", "PARSE dd/MM/yyyy 1 false"), operations);
+    }
+}
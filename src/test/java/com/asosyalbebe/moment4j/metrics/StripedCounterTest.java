@@ -0,0 +1,38 @@
+package com.asosyalbebe.moment4j.metrics;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class StripedCounterTest {
+
+    @Test
+    public void test_SumOfConcurrentIncrements() throws InterruptedException {
+        final StripedCounter counter = new StripedCounter();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 100000; j++) {
+                        counter.increment();
+                    }
+                    counter.add(5);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(8 * 100005L, counter.sum());
+
+        counter.reset();
+        assertEquals(0, counter.sum());
+    }
+}
@@ -0,0 +1,53 @@
+package com.asosyalbebe.moment4j.util;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.assertEquals;
+
+public class CalendarFieldUtilsTest {
+
+    @Test
+    public void fixedMillis_shouldReturnLengthOfFixedUnits() {
+        assertEquals(1L, CalendarFieldUtils.fixedMillis(Calendar.MILLISECOND));
+        assertEquals(1000L, CalendarFieldUtils.fixedMillis(Calendar.SECOND));
+        assertEquals(60000L, CalendarFieldUtils.fixedMillis(Calendar.MINUTE));
+        assertEquals(3600000L, CalendarFieldUtils.fixedMillis(Calendar.HOUR));
+        assertEquals(3600000L, CalendarFieldUtils.fixedMillis(Calendar.HOUR_OF_DAY));
+    }
+
+    @Test
+    public void fixedMillis_shouldReturnMinusOneForCalendarUnits() {
+        assertEquals(-1L, CalendarFieldUtils.fixedMillis(Calendar.DATE));
+        assertEquals(-1L, CalendarFieldUtils.fixedMillis(Calendar.WEEK_OF_YEAR));
+        assertEquals(-1L, CalendarFieldUtils.fixedMillis(Calendar.MONTH));
+        assertEquals(-1L, CalendarFieldUtils.fixedMillis(Calendar.YEAR));
+    }
+
+    @Test
+    public void add_shouldMatchMomentAdd() {
+        long millis = moment("2016-01-31 10:20:30.400", "yyyy-MM-dd HH:mm:ss.SSS").valueOf();
+        int[] fields = {Calendar.MILLISECOND, Calendar.SECOND, Calendar.MINUTE, Calendar.HOUR_OF_DAY,
+                Calendar.DATE, Calendar.MONTH, Calendar.YEAR};
+
+        for (int field : fields) {
+            assertEquals(moment(millis).add(3, field).valueOf(), CalendarFieldUtils.add(millis, 3, field));
+            assertEquals(moment(millis).subtract(7, field).valueOf(), CalendarFieldUtils.add(millis, -7, field));
+        }
+    }
+
+    @Test
+    public void startOf_shouldMatchMomentStartOf() {
+        long[] values = {moment("2016-01-31 10:20:30.400", "yyyy-MM-dd HH:mm:ss.SSS").valueOf(), -1L, -1001L, 0L};
+        int[] fields = {Calendar.MILLISECOND, Calendar.SECOND, Calendar.MINUTE, Calendar.HOUR_OF_DAY,
+                Calendar.DATE, Calendar.MONTH, Calendar.YEAR};
+
+        for (long millis : values) {
+            for (int field : fields) {
+                assertEquals(moment(millis).startOf(field).valueOf(), CalendarFieldUtils.startOf(millis, field));
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.asosyalbebe.moment4j.util;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+public class CivilCalendarTest {
+
+    @Test
+    public void daysFromCivilShouldMatchKnownDates() {
+        assertEquals(0L, CivilCalendar.daysFromCivil(1970, 1, 1));
+        assertEquals(-1L, CivilCalendar.daysFromCivil(1969, 12, 31));
+        assertEquals(11016L, CivilCalendar.daysFromCivil(2000, 2, 29));
+        assertEquals(-141427L, CivilCalendar.daysFromCivil(1582, 10, 15));
+    }
+
+    @Test
+    public void localMillisShouldMatchLenientCalendar() {
+        GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        Random random = new Random(3);
+        for (int i = 0; i < 10000; i++) {
+            int year = 1600 + random.nextInt(800);
+            int month = random.nextInt(30) - 5;
+            int day = random.nextInt(70) - 5;
+            int hour = random.nextInt(30);
+            int minute = random.nextInt(70);
+            int second = random.nextInt(70);
+            int millis = random.nextInt(1100);
+
+            calendar.clear();
+            calendar.set(year, month, day, hour, minute, second);
+            calendar.set(Calendar.MILLISECOND, millis);
+            assertEquals(calendar.getTimeInMillis(), CivilCalendar.localMillis(year, month, day, hour, minute, second, millis));
+        }
+    }
+
+    @Test
+    public void localToUtcShouldMatchCalendarOrBeUnresolved() {
+        String[] zones = {"Europe/Istanbul", "America/New_York", "Asia/Kolkata", "Australia/Lord_Howe"};
+        Random random = new Random(5);
+        for (String zoneId : zones) {
+            TimeZone zone = TimeZone.getTimeZone(zoneId);
+            GregorianCalendar calendar = new GregorianCalendar(zone);
+            int resolved = 0;
+            for (int i = 0; i < 5000; i++) {
+                int year = 1900 + random.nextInt(200);
+                int month = random.nextInt(12);
+                int day = 1 + random.nextInt(28);
+                int hour = random.nextInt(24);
+                int minute = random.nextInt(60);
+
+                long utc = CivilCalendar.localToUtc(CivilCalendar.localMillis(year, month, day, hour, minute, 0, 0), zone);
+                if (utc == CivilCalendar.UNRESOLVED) {
+                    continue;
+                }
+                resolved++;
+                calendar.clear();
+                calendar.set(year, month, day, hour, minute);
+                assertEquals(zoneId + " " + year + "-" + month + "-" + day + " " + hour + ":" + minute, calendar.getTimeInMillis(), utc);
+            }
+            assertTrue(resolved > 4500);
+        }
+    }
+
+    @Test
+    public void localToUtcShouldResolveTimesNearOffsetTransitionsLikeCalendar() {
+        TimeZone zone = TimeZone.getTimeZone("America/New_York");
+        GregorianCalendar calendar = new GregorianCalendar(zone);
+        // 2016-03-13 02:30 does not exist in New York, and 2016-11-06 01:30 exists twice
+        int[][] times = {{2016, 2, 13, 2, 30}, {2016, 10, 6, 1, 30}};
+        for (int[] time : times) {
+            long utc = CivilCalendar.localToUtc(CivilCalendar.localMillis(time[0], time[1], time[2], time[3], time[4], 0, 0), zone);
+            if (ZoneEngine.INSTANCE instanceof LegacyZoneEngine) {
+                assertEquals(CivilCalendar.UNRESOLVED, utc);
+            } else {
+                calendar.clear();
+                calendar.set(time[0], time[1], time[2], time[3], time[4]);
+                assertEquals(calendar.getTimeInMillis(), utc);
+            }
+        }
+    }
+
+    @Test
+    public void localToUtcShouldNotResolveTimesBeforeGregorianCutover() {
+        TimeZone zone = TimeZone.getTimeZone("UTC");
+        assertEquals(CivilCalendar.UNRESOLVED, CivilCalendar.localToUtc(CivilCalendar.localMillis(1582, 9, 4, 0, 0, 0, 0), zone));
+        assertFalse(CivilCalendar.isGregorian(CivilCalendar.GREGORIAN_CUTOVER_MILLIS - 1));
+    }
+
+    @Test
+    public void isGregorianShouldDetectLocaleCalendarSystem() {
+        assertTrue(CivilCalendar.isGregorian(Locale.US));
+        assertFalse(CivilCalendar.isGregorian(new Locale("th", "TH")));
+        assertFalse(CivilCalendar.isGregorian(new Locale("ja", "JP", "JP")));
+    }
+
+    @Test
+    public void isoWeekDateShouldMatchKnownDates() {
+        assertEquals(1970014L, CivilCalendar.isoWeekDate(0));
+        assertEquals(2009011L, CivilCalendar.isoWeekDate(CivilCalendar.daysFromCivil(2008, 12, 29)));
+        assertEquals(2009537L, CivilCalendar.isoWeekDate(CivilCalendar.daysFromCivil(2010, 1, 3)));
+        assertEquals(2004536L, CivilCalendar.isoWeekDate(CivilCalendar.daysFromCivil(2005, 1, 1)));
+        assertEquals(2020534L, CivilCalendar.isoWeekDate(CivilCalendar.daysFromCivil(2020, 12, 31)));
+        assertEquals(53, CivilCalendar.isoWeeksInYear(2020));
+        assertEquals(52, CivilCalendar.isoWeeksInYear(2021));
+    }
+
+    @Test
+    public void isoWeekDateShouldMatchIsoCalendar() {
+        GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        calendar.setFirstDayOfWeek(Calendar.MONDAY);
+        calendar.setMinimalDaysInFirstWeek(4);
+        long first = CivilCalendar.daysFromCivil(1600, 1, 1);
+        long last = CivilCalendar.daysFromCivil(2400, 1, 1);
+        for (long days = first; days < last; days++) {
+            calendar.setTimeInMillis(days * 86400000L);
+            long weekDate = CivilCalendar.isoWeekDate(days);
+            int dayOfWeek = (calendar.get(Calendar.DAY_OF_WEEK) + 5) % 7 + 1;
+
+            assertEquals(calendar.getWeekYear() * 1000L + calendar.get(Calendar.WEEK_OF_YEAR) * 10 + dayOfWeek, weekDate);
+            assertEquals(days, CivilCalendar.daysFromIsoWeekDate(weekDate / 1000, (int) (weekDate % 1000 / 10), dayOfWeek));
+        }
+    }
+
+    @Test
+    public void daysFromIsoWeekDateShouldBeLenient() {
+        long monday = CivilCalendar.daysFromIsoWeekDate(2016, 1, 1);
+        assertEquals(CivilCalendar.daysFromCivil(2016, 1, 4), monday);
+        assertEquals(monday - 1, CivilCalendar.daysFromIsoWeekDate(2016, 1, 0));
+        assertEquals(monday + 7, CivilCalendar.daysFromIsoWeekDate(2016, 1, 8));
+        assertEquals(CivilCalendar.daysFromIsoWeekDate(2015, 53, 1), CivilCalendar.daysFromIsoWeekDate(2016, 0, 1));
+    }
+
+    @Test
+    public void daysIntoWeekShouldFollowTheFirstDayOfWeek() {
+        // 2016-03-27 was a Sunday
+        long sunday = CivilCalendar.daysFromCivil(2016, 3, 27);
+        assertEquals(0, CivilCalendar.daysIntoWeek(sunday, Calendar.SUNDAY));
+        assertEquals(6, CivilCalendar.daysIntoWeek(sunday, Calendar.MONDAY));
+        assertEquals(1, CivilCalendar.daysIntoWeek(sunday, Calendar.SATURDAY));
+        assertEquals(7, CivilCalendar.isoDayOfWeek(sunday));
+
+        assertEquals(Calendar.SUNDAY, CivilCalendar.firstDayOfWeek(Locale.US));
+        assertEquals(Calendar.MONDAY, CivilCalendar.firstDayOfWeek(Locale.GERMANY));
+    }
+}
@@ -0,0 +1,98 @@
+package com.asosyalbebe.moment4j.util;
+
+import com.asosyalbebe.moment4j.format.Preload;
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+import static com.asosyalbebe.moment4j.util.CalendarFieldUtils.MILLIS_PER_DAY;
+import static com.asosyalbebe.moment4j.util.CalendarFieldUtils.MILLIS_PER_MINUTE;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeFalse;
+
+public class ZoneEngineTest {
+    private static final long YEAR_2015 = CivilCalendar.daysFromCivil(2015, 1, 1) * MILLIS_PER_DAY;
+    private static final long YEAR_2018 = CivilCalendar.daysFromCivil(2018, 1, 1) * MILLIS_PER_DAY;
+    private static final int MILLIS_PER_HOUR = 60 * 60 * 1000;
+
+    @Test
+    public void engineShouldMatchTimeZoneOffsets() {
+        Random random = new Random(36);
+        for (String id : TimeZone.getAvailableIDs()) {
+            TimeZone zone = TimeZone.getTimeZone(id);
+            for (int i = 0; i < 100; i++) {
+                // From 1583 to 2400
+                long millis = -12180000000000L + (long) (random.nextDouble() * 25800000000000L);
+                assertEquals(id + " " + millis, zone.getOffset(millis), CivilCalendar.getOffset(zone, millis));
+            }
+        }
+    }
+
+    @Test
+    public void selectedEngineShouldMatchCalendarAroundTransitions() {
+        assertEnginesMatchCalendarAroundTransitions(ZoneEngine.INSTANCE);
+    }
+
+    @Test
+    public void legacyEngineShouldMatchCalendarAroundTransitions() {
+        assertEnginesMatchCalendarAroundTransitions(new LegacyZoneEngine());
+    }
+
+    @Test
+    public void customZonesShouldUseTheirOwnRules() {
+        TimeZone custom = new SimpleTimeZone(3 * MILLIS_PER_HOUR, "America/New_York");
+        assertEquals(3L * MILLIS_PER_HOUR, CivilCalendar.getOffset(custom, YEAR_2015));
+        assertEquals(YEAR_2015 - 3L * MILLIS_PER_HOUR, CivilCalendar.localToUtc(YEAR_2015, custom));
+
+        TimeZone unknown = new SimpleTimeZone(-MILLIS_PER_HOUR * 3 / 2, "Moment4j/Unknown");
+        assertEquals(-MILLIS_PER_HOUR * 3 / 2, CivilCalendar.getOffset(unknown, YEAR_2015));
+    }
+
+    @Test
+    public void preloadShouldCacheZoneRules() {
+        assumeFalse(LegacyZoneEngine.class == ZoneEngine.INSTANCE.getClass());
+
+        // A custom zone, not one of the available IDs that the other tests of this class load
+        String id = "GMT+05:45";
+        assertFalse(ZoneEngine.INSTANCE.isCached(id));
+        Preload.zones(id);
+        assertTrue(ZoneEngine.INSTANCE.isCached(id));
+    }
+
+    /**
+     * Finds the offset changes of every zone from 2015 to 2017, and converts the wall clock times around them.
+     */
+    private static void assertEnginesMatchCalendarAroundTransitions(ZoneEngine engine) {
+        for (String id : TimeZone.getAvailableIDs()) {
+            TimeZone zone = TimeZone.getTimeZone(id);
+            GregorianCalendar calendar = new GregorianCalendar(zone);
+            for (long day = YEAR_2015; day < YEAR_2018; day += MILLIS_PER_DAY) {
+                if (zone.getOffset(day) == zone.getOffset(day + MILLIS_PER_DAY)) {
+                    continue;
+                }
+                long local = day + zone.getOffset(day);
+                for (long wall = local - MILLIS_PER_DAY; wall <= local + 2 * MILLIS_PER_DAY; wall += 15 * MILLIS_PER_MINUTE) {
+                    long utc = engine.localToUtc(wall, zone);
+                    if (utc == CivilCalendar.UNRESOLVED) {
+                        // Only the legacy engine leaves the times around transitions to Calendar
+                        assertEquals(ZoneEngine.LEGACY, engine.name());
+                    } else {
+                        assertEquals(id + " " + wall, calendarMillis(calendar, wall), utc);
+                    }
+                }
+            }
+        }
+    }
+
+    private static long calendarMillis(Calendar calendar, long wall) {
+        long date = CivilCalendar.civilFromDays(CivilCalendar.floorDiv(wall, MILLIS_PER_DAY));
+        int minuteOfDay = (int) (CivilCalendar.floorMod(wall, MILLIS_PER_DAY) / MILLIS_PER_MINUTE);
+        calendar.clear();
+        calendar.set((int) (date / 10000), (int) (date / 100 % 100) - 1, (int) (date % 100), minuteOfDay / 60, minuteOfDay % 60);
+        return calendar.getTimeInMillis();
+    }
+}
@@ -0,0 +1,55 @@
+package com.asosyalbebe.moment4j.window;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import org.junit.Test;
+
+import java.util.Calendar;
+
+import static org.junit.Assert.assertEquals;
+
+public class SessionWindowTest {
+
+    @Test
+    public void shouldCloseSessionAfterInactivityGap() {
+        TumblingWindowTest.RecordingListener listener = new TumblingWindowTest.RecordingListener();
+        SessionWindow window = new SessionWindow(30, Calendar.SECOND, listener);
+
+        window.add(0L, 1).add(20000L, 1).add(49999L, 1);
+        assertEquals(0, listener.windows.size());
+
+        window.add(80000L, 5);
+        assertEquals(1, listener.windows.size());
+        assertSession(listener.windows.get(0), 0L, 50000L, 3);
+
+        window.advance(109999L);
+        assertEquals(1, listener.windows.size());
+
+        window.advance(110000L);
+        assertEquals(2, listener.windows.size());
+        assertSession(listener.windows.get(1), 80000L, 80001L, 1);
+    }
+
+    @Test
+    public void flushShouldEmitOpenSession() {
+        TumblingWindowTest.RecordingListener listener = new TumblingWindowTest.RecordingListener();
+        SessionWindow window = new SessionWindow(1, Calendar.MINUTE, listener);
+
+        window.add(1000L).add(1000L).add(2000L);
+        window.flush();
+        window.flush();
+
+        assertEquals(1, listener.windows.size());
+        assertSession(listener.windows.get(0), 1000L, 2001L, 3);
+    }
+
+    @Test(expected = MomentException.class)
+    public void shouldRejectOutOfOrderTimestamps() {
+        new SessionWindow(1, Calendar.MINUTE, new TumblingWindowTest.RecordingListener()).add(1000L).add(999L);
+    }
+
+    private static void assertSession(long[] window, long start, long end, long count) {
+        assertEquals(start, window[0]);
+        assertEquals(end, window[1]);
+        assertEquals(count, window[2]);
+    }
+}
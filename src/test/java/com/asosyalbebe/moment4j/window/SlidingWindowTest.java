@@ -0,0 +1,93 @@
+package com.asosyalbebe.moment4j.window;
+
+import com.asosyalbebe.moment4j.Moment;
+import com.asosyalbebe.moment4j.fault.MomentException;
+import org.junit.Test;
+
+import java.util.Calendar;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.*;
+
+public class SlidingWindowTest {
+
+    @Test
+    public void shouldEvictEventsOlderThanTheSpan() {
+        SlidingWindow window = new SlidingWindow(1, Calendar.MINUTE);
+
+        window.add(0L, 1).add(30000L, 2).add(60000L, 3);
+        assertEquals(3, window.count());
+        assertEquals(6d, window.sum(), 0d);
+
+        window.add(60001L, 4);
+        assertEquals(3, window.count());
+        assertEquals(9d, window.sum(), 0d);
+        assertEquals(30000L, window.oldest());
+        assertEquals(60001L, window.newest());
+    }
+
+    @Test
+    public void shouldEvictOnAdvanceWithoutAddingAnEvent() {
+        SlidingWindow window = new SlidingWindow(10, Calendar.SECOND);
+
+        window.add(1000L).add(5000L);
+        window.advance(14000L);
+        assertEquals(1, window.count());
+
+        window.advance(20000L);
+        assertTrue(window.isEmpty());
+        assertEquals(0d, window.sum(), 0d);
+    }
+
+    @Test
+    public void shouldGrowBeyondInitialCapacity() {
+        SlidingWindow window = new SlidingWindow(1, Calendar.HOUR);
+
+        for (int i = 0; i < 1000; i++) {
+            window.add(i * 1000L, 1);
+        }
+        assertEquals(1000, window.count());
+        assertEquals(0L, window.oldest());
+
+        window.add(3600000L + 500000L, 1);
+        assertEquals(501, window.count());
+        assertEquals(500000L, window.oldest());
+    }
+
+    @Test
+    public void shouldUseCalendarSemanticsForCalendarUnits() {
+        String pattern = "yyyy-MM-dd";
+        SlidingWindow window = new SlidingWindow(1, Calendar.MONTH);
+
+        window.add(moment("2016-01-31", pattern));
+        window.add(moment("2016-02-29", pattern));
+        window.add(moment("2016-03-29", pattern));
+        assertEquals(2, window.count());
+        assertEquals(moment("2016-02-29", pattern).valueOf(), window.oldest());
+    }
+
+    @Test
+    public void shouldAcceptMoments() {
+        Moment now = moment();
+        SlidingWindow window = new SlidingWindow(5, Calendar.SECOND);
+
+        window.add(now.clone().subtract(6, Calendar.SECOND), 1).add(now, 2);
+        assertEquals(1, window.count());
+        assertEquals(2d, window.sum(), 0d);
+    }
+
+    @Test(expected = MomentException.class)
+    public void shouldRejectOutOfOrderTimestamps() {
+        new SlidingWindow(1, Calendar.MINUTE).add(1000L).add(999L);
+    }
+
+    @Test(expected = MomentException.class)
+    public void shouldRejectNonPositiveAmount() {
+        new SlidingWindow(0, Calendar.MINUTE);
+    }
+
+    @Test(expected = MomentException.class)
+    public void oldestShouldThrowWhenEmpty() {
+        new SlidingWindow(1, Calendar.MINUTE).oldest();
+    }
+}
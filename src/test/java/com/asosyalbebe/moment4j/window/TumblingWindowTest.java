@@ -0,0 +1,100 @@
+package com.asosyalbebe.moment4j.window;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.assertEquals;
+
+public class TumblingWindowTest {
+
+    @Test
+    public void shouldEmitClosedWindowsAlignedToStartOfUnit() {
+        RecordingListener listener = new RecordingListener();
+        TumblingWindow window = new TumblingWindow(1, Calendar.SECOND, listener);
+
+        window.add(1200L, 1).add(1900L, 2).add(2000L, 3).add(5500L, 4);
+        assertEquals(2, listener.windows.size());
+        assertWindow(listener.windows.get(0), 1000L, 2000L, 2, 3d);
+        assertWindow(listener.windows.get(1), 2000L, 3000L, 1, 3d);
+
+        window.flush();
+        assertEquals(3, listener.windows.size());
+        assertWindow(listener.windows.get(2), 5000L, 6000L, 1, 4d);
+    }
+
+    @Test
+    public void shouldKeepAlignmentForMultipleUnits() {
+        RecordingListener listener = new RecordingListener();
+        TumblingWindow window = new TumblingWindow(10, Calendar.SECOND, listener);
+
+        window.add(3000L).add(35000L).advance(45000L);
+        assertEquals(2, listener.windows.size());
+        assertWindow(listener.windows.get(0), 3000L, 13000L, 1, 0d);
+        assertWindow(listener.windows.get(1), 33000L, 43000L, 1, 0d);
+    }
+
+    @Test
+    public void shouldUseCalendarSemanticsForCalendarUnits() {
+        String pattern = "yyyy-MM-dd HH:mm";
+        RecordingListener listener = new RecordingListener();
+        TumblingWindow window = new TumblingWindow(1, Calendar.MONTH, listener);
+
+        window.add(moment("2016-02-10 10:00", pattern));
+        window.add(moment("2016-02-29 23:59", pattern));
+        window.add(moment("2016-04-01 00:00", pattern));
+        window.flush();
+
+        assertEquals(2, listener.windows.size());
+        assertWindow(listener.windows.get(0),
+                moment("2016-02-01 00:00", pattern).valueOf(), moment("2016-03-01 00:00", pattern).valueOf(), 2, 0d);
+        assertWindow(listener.windows.get(1),
+                moment("2016-04-01 00:00", pattern).valueOf(), moment("2016-05-01 00:00", pattern).valueOf(), 1, 0d);
+    }
+
+    @Test
+    public void shouldKeepWindowBoundsAfterFlush() {
+        RecordingListener listener = new RecordingListener();
+        TumblingWindow window = new TumblingWindow(15, Calendar.MINUTE, listener);
+
+        // [10:07, 10:22), flushed at 10:10, then an event at 10:12 of the same window
+        window.add(36420000L, 1).flush();
+        window.add(36720000L, 2).advance(37320000L);
+
+        assertEquals(2, listener.windows.size());
+        assertWindow(listener.windows.get(0), 36420000L, 37320000L, 1, 1d);
+        assertWindow(listener.windows.get(1), 36420000L, 37320000L, 1, 2d);
+    }
+
+    @Test(expected = MomentException.class)
+    public void shouldRejectTimestampsBeforeCurrentWindowAfterFlush() {
+        TumblingWindow window = new TumblingWindow(1, Calendar.SECOND, new RecordingListener()).add(5000L);
+        window.flush();
+        window.add(4999L);
+    }
+
+    @Test(expected = MomentException.class)
+    public void shouldRejectTimestampsBeforeCurrentWindow() {
+        new TumblingWindow(1, Calendar.SECOND, new RecordingListener()).add(5000L).add(4999L);
+    }
+
+    private static void assertWindow(long[] window, long start, long end, long count, double sum) {
+        assertEquals(start, window[0]);
+        assertEquals(end, window[1]);
+        assertEquals(count, window[2]);
+        assertEquals(sum, Double.longBitsToDouble(window[3]), 0d);
+    }
+
+    static class RecordingListener implements WindowListener {
+        final List<long[]> windows = new ArrayList<>();
+
+        @Override
+        public void onWindow(long startMillis, long endMillis, long count, double sum) {
+            windows.add(new long[]{startMillis, endMillis, count, Double.doubleToLongBits(sum)});
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.asosyalbebe.moment4j.jfr;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import com.asosyalbebe.moment4j.metrics.MomentMetrics;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class JfrTimingListenerTest {
+
+    @After
+    public void tearDown() {
+        MomentMetrics.uninstallTiming();
+    }
+
+    @Test
+    public void test_RecordsOperationsAboveThreshold() throws IOException {
+        MomentMetrics.installTiming(new JfrTimingListener(0, TimeUnit.NANOSECONDS));
+        List<RecordedEvent> events = record(new Runnable() {
+            @Override
+            public void run() {
+                moment("2016-03-15", "yyyy-MM-dd").format("dd/MM/yyyy");
+                try {
+                    moment("not a date", "yyyy-MM-dd");
+                    fail("Expected a parse failure");
+                } catch (MomentException expected) {
+                    // Recorded as a failed parse
+                }
+            }
+        });
+
+        List<RecordedEvent> parses = byName(events, "com.asosyalbebe.moment4j.Parse");
+        assertEquals(2, parses.size());
+        assertEquals("yyyy-MM-dd", parses.get(0).getString("pattern"));
+        assertEquals(10, parses.get(0).getInt("length"));
+        assertTrue(parses.get(0).getBoolean("success"));
+        assertFalse(parses.get(1).getBoolean("success"));
+
+        List<RecordedEvent> formats = byName(events, "com.asosyalbebe.moment4j.Format");
+        assertEquals(1, formats.size());
+        assertEquals("dd/MM/yyyy", formats.get(0).getString("pattern"));
+        assertEquals(10, formats.get(0).getInt("length"));
+        assertTrue(formats.get(0).getLong("elapsed") >= 0);
+    }
+
+    @Test
+    public void test_SkipsOperationsBelowThreshold() throws IOException {
+        MomentMetrics.installTiming(new JfrTimingListener(1, TimeUnit.HOURS));
+        List<RecordedEvent> events = record(new Runnable() {
+            @Override
+            public void run() {
+                moment("2016-03-15", "yyyy-MM-dd").format("dd/MM/yyyy");
+            }
+        });
+        assertEquals(0, byName(events, "com.asosyalbebe.moment4j.Parse").size());
+        assertEquals(0, byName(events, "com.asosyalbebe.moment4j.Format").size());
+    }
+
+    private static List<RecordedEvent> record(Runnable runnable) throws IOException {
+        Path file = Files.createTempFile("moment4j", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable("com.asosyalbebe.moment4j.Parse");
+                recording.enable("com.asosyalbebe.moment4j.Format");
+                recording.start();
+                runnable.run();
+                recording.stop();
+                recording.dump(file);
+            }
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<RecordedEvent> byName(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> result = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,165 @@
+package com.asosyalbebe.moment4j;
+
+import com.asosyalbebe.moment4j.fault.MomentException;
+import com.asosyalbebe.moment4j.metrics.MomentMetrics;
+import com.asosyalbebe.moment4j.metrics.Operation;
+import com.asosyalbebe.moment4j.metrics.TimingListener;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class JavaTimeTest {
+    private static final ZoneId ISTANBUL = ZoneId.of("Europe/Istanbul");
+
+    @Test
+    public void test_FromInstant() {
+        Instant instant = Instant.ofEpochMilli(1458000000123L);
+        Moment moment = JavaTime.moment(instant);
+
+        assertEquals(1458000000123L, moment.valueOf());
+        assertEquals(instant, JavaTime.toInstant(moment));
+    }
+
+    @Test
+    public void test_FromZonedDateTime() {
+        ZonedDateTime dateTime = ZonedDateTime.of(2016, 3, 15, 10, 20, 30, 400000000, ISTANBUL);
+        Moment moment = JavaTime.moment(dateTime);
+
+        assertEquals(dateTime.toInstant().toEpochMilli(), moment.valueOf());
+        assertArrayEquals(new int[]{2016, 2, 15, 10, 20, 30, 400}, moment.toArray());
+        assertEquals(dateTime, JavaTime.toZonedDateTime(moment));
+        assertSame(JavaTime.moment(dateTime).timeZone(), moment.timeZone());
+    }
+
+    @Test
+    public void test_FromTemporalAccessor() {
+        OffsetDateTime offsetDateTime = OffsetDateTime.of(2016, 3, 15, 10, 20, 30, 400000000, ZoneOffset.ofHours(5));
+        Moment moment = JavaTime.moment(offsetDateTime);
+        assertEquals(offsetDateTime.toInstant().toEpochMilli(), moment.valueOf());
+        assertArrayEquals(new int[]{2016, 2, 15, 10, 20, 30, 400}, moment.toArray());
+
+        Moment local = JavaTime.moment(LocalDateTime.of(2016, 3, 15, 10, 20, 30, 400000000));
+        assertArrayEquals(new int[]{2016, 2, 15, 10, 20, 30, 400}, local.toArray());
+        assertEquals(moment(new int[]{2016, 2, 15, 10, 20, 30, 400}).valueOf(), local.valueOf());
+
+        Moment date = JavaTime.moment(LocalDate.of(2016, 3, 15));
+        assertArrayEquals(new int[]{2016, 2, 15, 0, 0, 0, 0}, date.toArray());
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_FromTemporalAccessorWithoutDate() {
+        JavaTime.moment(LocalTime.NOON);
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_FromNullZonedDateTime() {
+        JavaTime.moment((ZonedDateTime) null);
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_ToZonedDateTimeOfNull() {
+        JavaTime.toZonedDateTime(null);
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_FromNullInstant() {
+        JavaTime.moment((Instant) null);
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_ToInstantOfNull() {
+        JavaTime.toInstant(null);
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_ToLocalDateTimeOfNull() {
+        JavaTime.toLocalDateTime(null);
+    }
+
+    @Test
+    public void test_ToZonedDateTimeOfCustomZones() {
+        Moment plant = moment(Calendar.getInstance(new SimpleTimeZone(3600000, "Plant/Local")));
+        assertEquals(ZoneOffset.ofHours(1), JavaTime.toZonedDateTime(plant).getZone());
+
+        // Other rules under an ID of the database are not mistaken for the zone of the database
+        Moment newYork = moment(Calendar.getInstance(TimeZone.getTimeZone("America/New_York")));
+        Moment fake = moment(Calendar.getInstance(new SimpleTimeZone(3 * 3600000, "America/New_York")));
+        assertEquals(ZoneId.of("America/New_York"), JavaTime.toZonedDateTime(newYork).getZone());
+        assertEquals(ZoneOffset.ofHours(3), JavaTime.toZonedDateTime(fake).getZone());
+        assertEquals(fake.valueOf(), JavaTime.toZonedDateTime(fake).toInstant().toEpochMilli());
+    }
+
+    @Test(expected = MomentException.class)
+    public void test_ToZonedDateTimeOfCustomDaylightSavingZone() {
+        SimpleTimeZone zone = new SimpleTimeZone(3600000, "Plant/Summer",
+                Calendar.MARCH, -1, Calendar.SUNDAY, 3600000, Calendar.OCTOBER, -1, Calendar.SUNDAY, 3600000);
+        JavaTime.toZonedDateTime(moment(Calendar.getInstance(zone)));
+    }
+
+    @Test
+    public void test_ToLocalDateTime() {
+        Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("America/New_York"));
+        calendar.setTimeInMillis(1458000000123L);
+        Moment moment = moment(calendar);
+
+        LocalDateTime local = JavaTime.toLocalDateTime(moment);
+        assertEquals(LocalDateTime.of(2016, 3, 14, 20, 0, 0, 123000000), local);
+        assertEquals(JavaTime.toZonedDateTime(moment).toLocalDateTime(), local);
+    }
+
+    @Test
+    public void test_LocalDateTimeBeforeGregorianCutover() {
+        LocalDate date = LocalDate.of(1500, 3, 1);
+        Moment moment = JavaTime.moment(date);
+        assertArrayEquals(new int[]{1500, 2, 1, 0, 0, 0, 0}, moment.toArray());
+        assertEquals(date.atStartOfDay(), JavaTime.toLocalDateTime(moment));
+
+        // The instant is the same, but java.time counts its days in the proleptic Gregorian calendar
+        assertEquals(LocalDateTime.of(1500, 3, 11, 0, 0), JavaTime.toZonedDateTime(moment).toLocalDateTime());
+
+        for (LocalDateTime local : new LocalDateTime[]{LocalDateTime.of(1582, 10, 4, 23, 59, 59, 999000000),
+                LocalDateTime.of(1582, 10, 15, 0, 0), LocalDateTime.of(1, 1, 1, 12, 0), LocalDateTime.of(-44, 3, 15, 12, 0)}) {
+            assertEquals(local, JavaTime.toLocalDateTime(JavaTime.moment(local)));
+        }
+    }
+
+    @Test
+    public void shouldTimeZoneConversions() {
+        final List<String> zones = new ArrayList<>();
+        MomentMetrics.installTiming(new TimingListener() {
+            @Override
+            public void onOperation(Operation operation, String pattern, int length, long durationNanos, boolean success) {
+                assertEquals(Operation.ZONE_CONVERSION, operation);
+                assertTrue(success);
+                zones.add(pattern);
+            }
+        });
+        try {
+            Moment moment = JavaTime.moment(ZonedDateTime.of(2016, 3, 15, 10, 0, 0, 0, ZoneId.of("Asia/Tokyo")));
+            JavaTime.toZonedDateTime(moment);
+        } finally {
+            MomentMetrics.uninstallTiming();
+        }
+        assertEquals(Arrays.asList("Asia/Tokyo", "Asia/Tokyo"), zones);
+    }
+}
@@ -0,0 +1,52 @@
+package com.asosyalbebe.moment4j;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static com.asosyalbebe.moment4j.Moment.moment;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class MomentCollectorsTest {
+
+    @Test
+    public void test_MinAndMax() {
+        List<Moment> moments = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            moments.add(moment(1458000000000L + (i * 7919L) % 10007));
+        }
+        Moment min = Moment.min(moments);
+        Moment max = Moment.max(moments);
+
+        assertSame(min, moments.stream().collect(MomentCollectors.min()).get());
+        assertSame(max, moments.stream().collect(MomentCollectors.max()).get());
+        assertSame(min, moments.parallelStream().collect(MomentCollectors.min()).get());
+        assertSame(max, moments.parallelStream().collect(MomentCollectors.max()).get());
+    }
+
+    @Test
+    public void test_Empty() {
+        Optional<Moment> min = Collections.<Moment>emptyList().stream().collect(MomentCollectors.min());
+        assertFalse(min.isPresent());
+        assertEquals(0L, Collections.<Moment>emptyList().stream().collect(MomentCollectors.statistics()).count());
+    }
+
+    @Test
+    public void test_Statistics() {
+        List<Moment> moments = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            moments.add(moment(1458000000000L + i * 1000L));
+        }
+        MomentStatistics statistics = moments.parallelStream().collect(MomentCollectors.statistics());
+
+        assertEquals(10000L, statistics.count());
+        assertEquals(9999000L, statistics.span());
+        assertEquals(1458000000000d + 4999500d, statistics.mean(), 1e-3);
+        assertEquals(MomentStatistics.of(moments).standardDeviation(), statistics.standardDeviation(), 1e-3);
+    }
+}
@@ -0,0 +1,92 @@
+package com.asosyalbebe.moment4j;
+
+import com.asosyalbebe.moment4j.io.MomentColumnReader;
+import com.asosyalbebe.moment4j.io.MomentColumnWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Calendar;
+import java.util.Spliterator;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class MomentStreamsTest {
+    private static final TimeZone ISTANBUL = TimeZone.getTimeZone("Europe/Istanbul");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void test_ParallelRangeMatchesSequential() {
+        long start = Moment.moment(0, ISTANBUL).with(2014, 0, 1, 0, 0, 0, 0).valueOf();
+        long end = Moment.moment(0, ISTANBUL).with(2016, 0, 1, 0, 0, 0, 0).valueOf();
+        MomentRange minutes = MomentRange.of(start, end, 1, Calendar.MINUTE, ISTANBUL);
+
+        assertEquals(minutes.size(), MomentStreams.values(minutes).parallel().count());
+        assertEquals(MomentStreams.values(minutes).sum(), MomentStreams.values(minutes).parallel().sum());
+        assertArrayEquals(minutes.toArray(), MomentStreams.values(minutes).parallel().toArray());
+
+        long sundays = MomentStreams.stream(minutes).filter(m -> m.days() == Calendar.SUNDAY).count();
+        assertEquals(sundays, MomentStreams.stream(minutes).parallel().filter(m -> m.days() == Calendar.SUNDAY).count());
+        // 104 Sundays, one of which was 25 hours long
+        assertEquals(104 * 24 * 60 + 60, sundays);
+    }
+
+    @Test
+    public void test_ParallelDaysMatchRange() {
+        long start = Moment.moment(0, ISTANBUL).with(1990, 0, 31, 1, 30, 0, 0).valueOf();
+        MomentRange days = MomentRange.of(start, start + 40L * 365 * 86400000, 1, Calendar.DAY_OF_MONTH, ISTANBUL);
+        assertArrayEquals(days.toArray(), MomentStreams.stream(days).parallel().mapToLong(Moment::valueOf).toArray());
+    }
+
+    @Test
+    public void test_RangeSpliterator() {
+        MomentRange range = MomentRange.of(0, 1000000, 1, Calendar.SECOND, ISTANBUL);
+        Spliterator.OfLong spliterator = MomentStreams.values(range).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.SORTED));
+        assertNull(spliterator.getComparator());
+        assertEquals(1000, spliterator.getExactSizeIfKnown());
+
+        Spliterator.OfLong prefix = spliterator.trySplit();
+        assertEquals(500, prefix.getExactSizeIfKnown());
+        assertEquals(500, spliterator.getExactSizeIfKnown());
+        prefix.tryAdvance((long value) -> assertEquals(0, value));
+        spliterator.tryAdvance((long value) -> assertEquals(500000, value));
+
+        Spliterator<Moment> moments = MomentStreams.stream(range).spliterator();
+        assertTrue(moments.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.SORTED));
+        assertNull(moments.getComparator());
+    }
+
+    @Test
+    public void test_EmptyRange() {
+        MomentRange range = MomentRange.of(1000, 0, 1, Calendar.SECOND, ISTANBUL);
+        assertEquals(0, MomentStreams.values(range).parallel().count());
+        assertNull(MomentStreams.values(range).spliterator().trySplit());
+    }
+
+    @Test
+    public void test_ParallelColumn() throws Exception {
+        File file = folder.newFile("column.m4c");
+        long[] values = new long[100000];
+        try (MomentColumnWriter writer = new MomentColumnWriter(file, ISTANBUL)) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = 1458000000000L + i * 60000L + (i % 7) * 1000;
+                writer.write(values[i]);
+            }
+        }
+
+        try (MomentColumnReader column = MomentColumnReader.open(file)) {
+            assertArrayEquals(values, MomentStreams.values(column).parallel().toArray());
+            assertEquals(values[values.length - 1], MomentStreams.values(column).parallel().max().getAsLong());
+            assertEquals(values.length, (long) MomentStreams.values(column).parallel().boxed().collect(Collectors.counting()));
+
+            Spliterator.OfLong spliterator = MomentStreams.values(column).spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED | Spliterator.SORTED));
+        }
+    }
+}